@@ -0,0 +1,147 @@
+package exploration.common;
+
+import legacy.map.Direction;
+import legacy.map.IFixture;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.TileType;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.terrain.Forest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExplorationModel#move} in a session with many subordinate
+ * maps, each holding its own copy of every unit, as when a turn's
+ * exploration results are being applied to every player's map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveBenchmark {
+	/**
+	 * The number of rows (and columns) in each map.
+	 */
+	@Param("200")
+	public int size = 200;
+
+	/**
+	 * The number of subordinate maps.
+	 */
+	@Param("12")
+	public int subordinateMaps = 12;
+
+	private static final int ROUTE_LENGTH = 10;
+
+	private ExplorationModel model = new ExplorationModel(new LegacyMap(new MapDimensionsImpl(0, 0, 2),
+			new LegacyPlayerCollection(), 0));
+
+	private IMutableLegacyMap createMap() {
+		final IMutableLegacyMap retval = new LegacyMap(new MapDimensionsImpl(size, size, 2),
+				new LegacyPlayerCollection(), 0);
+		for (final Point point : retval.getLocations()) {
+			retval.setBaseTerrain(point, TileType.Plains);
+		}
+		return retval;
+	}
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() {
+		final Player player = new PlayerImpl(1, "one");
+		final Random random = new Random(size);
+		final IMutableLegacyMap main = createMap();
+		final List<IMutableLegacyMap> subMaps = new ArrayList<>();
+		for (int i = 0; i < subordinateMaps; i++) {
+			subMaps.add(createMap());
+		}
+		int id = 0;
+		final Unit mover = new Unit(player, "explorers", "mover", id++);
+		final Point start = new Point(size / 2, size / 2);
+		main.addFixture(start, mover);
+		for (final IMutableLegacyMap subMap : subMaps) {
+			subMap.addFixture(start, mover.copy(IFixture.CopyBehavior.KEEP));
+		}
+		for (final Point point : main.getLocations()) {
+			if (random.nextInt(4) == 0) {
+				main.addFixture(point, new Forest("elm", false, id++));
+			}
+			// Units, some of them near the mover's path.
+			if (random.nextInt(20) == 0) {
+				final Unit unit = new Unit(player, "workers", "unit", id++);
+				main.addFixture(point, unit);
+				for (final IMutableLegacyMap subMap : subMaps) {
+					subMap.addFixture(point, unit.copy(IFixture.CopyBehavior.KEEP));
+				}
+			}
+		}
+		final ExplorationModel temp = new ExplorationModel(main);
+		for (final IMutableLegacyMap subMap : subMaps) {
+			temp.addSubordinateMap(subMap);
+		}
+		temp.setSelectedUnit(mover);
+		model = temp;
+	}
+
+	/**
+	 * One step east and one back west, so every invocation starts where the last did.
+	 */
+	@Benchmark
+	public double stepAndBack() throws TraversalImpossibleException {
+		return model.move(Direction.East, Speed.Normal).doubleValue() +
+				model.move(Direction.West, Speed.Normal).doubleValue();
+	}
+
+	/**
+	 * Ten steps east and ten back west, one step at a time.
+	 */
+	@Benchmark
+	public double routeByStep() throws TraversalImpossibleException {
+		double retval = 0.0;
+		for (int i = 0; i < ROUTE_LENGTH; i++) {
+			retval += model.move(Direction.East, Speed.Normal).doubleValue();
+		}
+		for (int i = 0; i < ROUTE_LENGTH; i++) {
+			retval += model.move(Direction.West, Speed.Normal).doubleValue();
+		}
+		return retval;
+	}
+
+	/**
+	 * The same route as {@link #routeByStep}, in two calls to {@link ExplorationModel#moveAlong}.
+	 */
+	@Benchmark
+	public double routeInBatch() throws TraversalImpossibleException {
+		final Point start = model.getSelectedUnitLocation();
+		final List<Point> out = new ArrayList<>();
+		final List<Point> back = new ArrayList<>();
+		for (int i = 1; i <= ROUTE_LENGTH; i++) {
+			out.add(new Point(start.row(), start.column() + i));
+			back.add(new Point(start.row(), start.column() + ROUTE_LENGTH - i));
+		}
+		return model.moveAlong(out, Speed.Normal, (p, cost) -> false).cost() +
+				model.moveAlong(back, Speed.Normal, (p, cost) -> false).cost();
+	}
+}
@@ -0,0 +1,99 @@
+package exploration.common;
+
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Point;
+import legacy.map.River;
+import legacy.map.TileType;
+import legacy.map.fixtures.terrain.Forest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Pathfinder#getTravelDistance} on a generated map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathfinderBenchmark {
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param("500")
+	public int size = 500;
+
+	private IMutableLegacyMap map = new LegacyMap(new MapDimensionsImpl(0, 0, 2), new LegacyPlayerCollection(), 0);
+
+	private Point[] destinations = new Point[0];
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() {
+		final IMutableLegacyMap temp = new LegacyMap(new MapDimensionsImpl(size, size, 2),
+				new LegacyPlayerCollection(), 0);
+		final Random random = new Random(size);
+		final TileType[] land = {TileType.Plains, TileType.Steppe, TileType.Desert, TileType.Jungle,
+				TileType.Tundra, TileType.Swamp};
+		int id = 0;
+		for (final Point point : temp.getLocations()) {
+			temp.setBaseTerrain(point, random.nextInt(10) == 0 ? TileType.Ocean :
+					land[random.nextInt(land.length)]);
+			if (random.nextInt(8) == 0) {
+				temp.setMountainous(point, true);
+			}
+			if (random.nextInt(5) == 0) {
+				temp.addFixture(point, new Forest("elm", false, id++));
+			}
+			if (random.nextInt(20) == 0) {
+				temp.addRivers(point, River.values()[random.nextInt(River.values().length)]);
+			}
+		}
+		// Make sure the start and the destinations are on land.
+		temp.setBaseTerrain(new Point(0, 0), TileType.Plains);
+		destinations = new Point[32];
+		for (int i = 0; i < destinations.length; i++) {
+			destinations[i] = new Point(random.nextInt(size), random.nextInt(size));
+			temp.setBaseTerrain(destinations[i], TileType.Plains);
+		}
+		map = temp;
+	}
+
+	/**
+	 * A single query, across half the map, with nothing cached.
+	 */
+	@Benchmark
+	public int coldQuery() {
+		return new PathfinderImpl(map).getTravelDistance(new Point(0, 0), new Point(size / 2, size / 2))
+				.getValue0();
+	}
+
+	/**
+	 * Many queries from the same starting point, as when computing the distance to every village.
+	 */
+	@Benchmark
+	public long queriesFromOneSource() {
+		final Pathfinder pather = new PathfinderImpl(map);
+		long retval = 0;
+		for (final Point destination : destinations) {
+			retval += pather.getTravelDistance(new Point(0, 0), destination).getValue0();
+		}
+		return retval;
+	}
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package exploration.common;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,116 @@
+package legacy.dbio;
+
+import common.xmlio.Warning;
+import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.SyntheticMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures writing a generated map to, and reading it from, an SQLite
+ * database with {@link SPDatabaseWriter} and {@link SPDatabaseReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatabaseBenchmark {
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param({"50", "150"})
+	public int size = 50;
+
+	/**
+	 * The average number of fixtures per tile.
+	 */
+	@Param("1.5")
+	public double density = 1.5;
+
+	private ILegacyMap map = new LegacyMap(new MapDimensionsImpl(0, 0, 2), new LegacyPlayerCollection(), 0);
+
+	private Path directory = Path.of("");
+
+	/**
+	 * A database holding the map, for the read benchmark.
+	 */
+	private Path written = Path.of("");
+
+	/**
+	 * How many databases the write benchmark has written, so each write is to a new file.
+	 */
+	private int count = 0;
+
+	private final SPDatabaseReader reader = new SPDatabaseReader();
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() throws IOException {
+		map = new SyntheticMap(size, size, density, 4, 20, 5).generate();
+		directory = Files.createTempDirectory("sp-benchmark");
+		written = directory.resolve("read.db");
+		new SPDatabaseWriter().write(written, map);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (final Stream<Path> files = Files.walk(directory)) {
+			for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	/**
+	 * Remove the databases the write benchmark wrote in the last iteration.
+	 */
+	@TearDown(Level.Iteration)
+	public void removeWritten() throws IOException {
+		for (int i = 0; i < count; i++) {
+			Files.deleteIfExists(directory.resolve("write-%d.db".formatted(i)));
+		}
+		count = 0;
+	}
+
+	/**
+	 * Write the whole map to a new database.
+	 */
+	@Benchmark
+	public void write() throws IOException {
+		new SPDatabaseWriter().write(directory.resolve("write-%d.db".formatted(count++)), map);
+	}
+
+	/**
+	 * Read the whole map from a database.
+	 */
+	@Benchmark
+	public IMutableLegacyMap read() throws IOException {
+		final IMutableLegacyMap retval = reader.readMap(written, Warning.IGNORE);
+		reader.clearCache();
+		return retval;
+	}
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package legacy.dbio;
+
+import org.jspecify.annotations.NullMarked;
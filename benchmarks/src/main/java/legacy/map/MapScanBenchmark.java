@@ -0,0 +1,116 @@
+package legacy.map;
+
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.terrain.Forest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares full-map scans of the hash-based {@link LegacyMap} against the array-backed {@link DenseLegacyMap}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapScanBenchmark {
+	/**
+	 * Which implementation to test.
+	 */
+	@Param({"LegacyMap", "DenseLegacyMap"})
+	public String implementation = "LegacyMap";
+
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param({"200", "500"})
+	public int size = 200;
+
+	private ILegacyMap map = new LegacyMap(new MapDimensionsImpl(0, 0, 2), new LegacyPlayerCollection(), 0);
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() {
+		final MapDimensions dimensions = new MapDimensionsImpl(size, size, 2);
+		final LegacyMapFactory factory = switch (implementation) {
+			case "DenseLegacyMap" -> DenseLegacyMap::new;
+			default -> LegacyMap::new;
+		};
+		final IMutableLegacyMap temp = factory.create(dimensions, new LegacyPlayerCollection(), 0);
+		final Random random = new Random(size);
+		final TileType[] types = TileType.values();
+		int id = 0;
+		for (final Point point : temp.getLocations()) {
+			temp.setBaseTerrain(point, types[random.nextInt(types.length)]);
+			if (random.nextInt(8) == 0) {
+				temp.setMountainous(point, true);
+			}
+			if (random.nextInt(4) == 0) {
+				temp.addFixture(point, new Forest("elm", false, id++));
+			}
+			if (random.nextInt(10) == 0) {
+				temp.addFixture(point, new AnimalImpl("deer", false, "wild", id++));
+			}
+		}
+		map = temp;
+	}
+
+	/**
+	 * Visit every location, as the viewer and most drivers do, looking at terrain, mountains, and fixtures.
+	 */
+	@Benchmark
+	public long fullScan() {
+		long retval = 0;
+		for (final Point point : map.getLocations()) {
+			final TileType terrain = map.getBaseTerrain(point);
+			if (Objects.nonNull(terrain)) {
+				retval += terrain.ordinal();
+			}
+			if (map.isMountainous(point)) {
+				retval++;
+			}
+			retval += map.getFixtures(point).size();
+		}
+		return retval;
+	}
+
+	/**
+	 * Visit every location, as {@link #fullScan} does, but from a parallel stream.
+	 */
+	@Benchmark
+	public long parallelScan() {
+		return map.streamLocations().parallel().mapToLong(point -> {
+			long retval = 0;
+			final TileType terrain = map.getBaseTerrain(point);
+			if (Objects.nonNull(terrain)) {
+				retval += terrain.ordinal();
+			}
+			if (map.isMountainous(point)) {
+				retval++;
+			}
+			return retval + map.getFixtures(point).size();
+		}).sum();
+	}
+
+	/**
+	 * Stream every fixture in the map.
+	 */
+	@Benchmark
+	public long streamAllFixtures() {
+		return map.streamAllFixtures().count();
+	}
+}
@@ -0,0 +1,126 @@
+package legacy.map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up every location of a map in a hash table keyed by
+ * {@link Point}, as {@link LegacyMap} and much else does, comparing the
+ * previous hash function against the current one and freshly-allocated
+ * points against those from a {@link PointPool}. Run with "-prof gc" to see
+ * the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointBenchmark {
+	/**
+	 * A point hashed as {@link Point} used to be, where the shift was
+	 * (by operator precedence) by nine plus the column, so most points
+	 * collided.
+	 */
+	private record OldHashPoint(int row, int column) {
+		@SuppressWarnings("OperatorPrecedence")
+		@Override
+		public int hashCode() {
+			return row << 9 + column;
+		}
+	}
+
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param({"100", "300"})
+	public int size = 100;
+
+	private final Map<Point, Integer> table = new HashMap<>();
+
+	private final Map<OldHashPoint, Integer> oldTable = new HashMap<>();
+
+	private PointPool pool = PointPool.forDimensions(new MapDimensionsImpl(0, 0, 2));
+
+	@Setup
+	public void setUp() {
+		pool = PointPool.forDimensions(new MapDimensionsImpl(size, size, 2));
+		table.clear();
+		oldTable.clear();
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				table.put(pool.get(row, column), row + column);
+				oldTable.put(new OldHashPoint(row, column), row + column);
+			}
+		}
+	}
+
+	/**
+	 * Look up every location, with the previous hash function.
+	 */
+	@Benchmark
+	public long scanOldHash() {
+		long retval = 0;
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				retval += Objects.requireNonNull(oldTable.get(new OldHashPoint(row, column)));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Look up every location, allocating a new point for each.
+	 */
+	@Benchmark
+	public long scanAllocating() {
+		long retval = 0;
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				retval += Objects.requireNonNull(table.get(new Point(row, column)));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Look up every location, getting the points from the pool.
+	 */
+	@Benchmark
+	public long scanPooled() {
+		long retval = 0;
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				retval += Objects.requireNonNull(table.get(pool.get(row, column)));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Iterate over every location, as most drivers do, and look each up.
+	 */
+	@Benchmark
+	public long scanIterable() {
+		long retval = 0;
+		for (final Point point : new PointIterable(new MapDimensionsImpl(size, size, 2),
+				PointIterable.IterationDirection.Forwards, PointIterable.IterationOrientation.Horizontal)) {
+			retval += Objects.requireNonNull(table.get(point));
+		}
+		return retval;
+	}
+}
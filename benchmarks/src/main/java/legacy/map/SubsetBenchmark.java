@@ -0,0 +1,91 @@
+package legacy.map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ILegacyMap#isSubset}, as used to check a player's map against the main map, on a generated map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubsetBenchmark {
+	/**
+	 * Which implementation to test.
+	 */
+	@Param({"LegacyMap", "DenseLegacyMap"})
+	public String implementation = "LegacyMap";
+
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param({"100", "300"})
+	public int size = 100;
+
+	/**
+	 * The average number of fixtures per tile.
+	 */
+	@Param("1.5")
+	public double density = 1.5;
+
+	private ILegacyMap mainMap = new LegacyMap(new MapDimensionsImpl(0, 0, 2), new LegacyPlayerCollection(), 0);
+
+	private ILegacyMap playerMap = mainMap;
+
+	private SubsetChecker checker = new SubsetChecker(mainMap);
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() {
+		final LegacyMapFactory factory = switch (implementation) {
+			case "DenseLegacyMap" -> DenseLegacyMap::new;
+			default -> LegacyMap::new;
+		};
+		mainMap = new SyntheticMap(size, size, density, 4, 20, 5).generate(factory);
+		playerMap = mainMap.copy(IFixture.CopyBehavior.ZERO, mainMap.getCurrentPlayer());
+		checker = new SubsetChecker(mainMap);
+	}
+
+	/**
+	 * Check that a player's copy of the map is a subset of the main map.
+	 */
+	@Benchmark
+	public boolean playerMapIsSubset() {
+		return mainMap.isSubset(playerMap, message -> {
+		});
+	}
+
+	/**
+	 * Check that the main map is a subset of itself.
+	 */
+	@Benchmark
+	public boolean mainMapIsSubsetOfItself() {
+		return mainMap.isSubset(mainMap, message -> {
+		});
+	}
+
+	/**
+	 * Check that a player's copy of the map is a subset of the main map,
+	 * reusing the index of the main map as the subset driver does when
+	 * checking several players' maps.
+	 */
+	@Benchmark
+	public boolean playerMapIsSubsetReusingIndex() {
+		return checker.isSubset(playerMap, message -> {
+		});
+	}
+}
@@ -0,0 +1,134 @@
+package legacy.map;
+
+import common.map.fixtures.mobile.worker.WorkerStats;
+import common.map.fixtures.towns.TownStatus;
+import legacy.map.fixtures.Ground;
+import legacy.map.fixtures.TextFixture;
+import legacy.map.fixtures.explorable.Cave;
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.mobile.Worker;
+import legacy.map.fixtures.mobile.worker.Job;
+import legacy.map.fixtures.mobile.worker.Skill;
+import legacy.map.fixtures.resources.CultivationStatus;
+import legacy.map.fixtures.resources.ExposureStatus;
+import legacy.map.fixtures.resources.Grove;
+import legacy.map.fixtures.resources.Mine;
+import legacy.map.fixtures.resources.MineralVein;
+import legacy.map.fixtures.resources.Shrub;
+import legacy.map.fixtures.terrain.Forest;
+import legacy.map.fixtures.terrain.Hill;
+import legacy.map.fixtures.towns.FortressImpl;
+import legacy.map.fixtures.towns.Village;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * A description of a synthetic map for benchmarks, from which the same map
+ * is generated every time, so results are reproducible without real
+ * campaign maps.
+ *
+ * Each tile gets random terrain, perhaps mountains and rivers, and on
+ * average {@link #density} fixtures drawn from the kinds most common in
+ * real maps. Each player gets a fortress (named "HQ") containing one unit,
+ * and further units in the field, each with the given number of workers;
+ * villages belong to an independent player.
+ *
+ * @param rows    The number of rows in the map
+ * @param columns The number of columns in the map
+ * @param density The average number of (non-unit) fixtures per tile
+ * @param players The number of (non-independent) players
+ * @param units   The number of units each player has
+ * @param workers The number of workers in each unit
+ */
+public record SyntheticMap(int rows, int columns, double density, int players, int units, int workers) {
+	private static final TileType[] LAND = {TileType.Plains, TileType.Steppe, TileType.Desert, TileType.Jungle,
+			TileType.Tundra, TileType.Swamp};
+
+	private static final String[] JOBS = {"explorer", "farmer", "miner", "woodcutter", "hunter"};
+
+	/**
+	 * Generate the map, using the given implementation.
+	 */
+	@SuppressWarnings("MagicNumber")
+	public IMutableLegacyMap generate(final LegacyMapFactory factory) {
+		final Random random = new Random(Objects.hash(rows, columns, density, players, units, workers));
+		final LegacyPlayerCollection playerCollection = new LegacyPlayerCollection();
+		final Player independent = new PlayerImpl(0, "independent");
+		playerCollection.add(independent);
+		final Player[] owners = new Player[players];
+		for (int i = 0; i < players; i++) {
+			owners[i] = new PlayerImpl(i + 1, "player " + (i + 1));
+			playerCollection.add(owners[i]);
+		}
+		final IMutableLegacyMap map = factory.create(new MapDimensionsImpl(rows, columns, 2), playerCollection, 10);
+		if (players > 0) {
+			map.setCurrentPlayer(owners[0]);
+		}
+		int id = 0;
+		for (final Point point : map.getLocations()) {
+			if (random.nextInt(10) == 0) {
+				map.setBaseTerrain(point, TileType.Ocean);
+				continue;
+			}
+			map.setBaseTerrain(point, LAND[random.nextInt(LAND.length)]);
+			if (random.nextInt(8) == 0) {
+				map.setMountainous(point, true);
+			}
+			if (random.nextInt(20) == 0) {
+				map.addRivers(point, River.values()[random.nextInt(River.values().length)]);
+			}
+			// Round the expected count up or down at random, so the average comes out right.
+			final int count = (int) density + (random.nextDouble() < density % 1 ? 1 : 0);
+			for (int i = 0; i < count; i++) {
+				map.addFixture(point, switch (random.nextInt(12)) {
+					case 0, 1 -> new Forest("elm", false, id++);
+					case 2 -> new Shrub("briar", id++);
+					case 3 -> new Ground(id++, "loam", ExposureStatus.EXPOSED);
+					case 4 -> new AnimalImpl("deer", false, "wild", id++);
+					case 5 -> new Hill(id++);
+					case 6 -> new Grove(Grove.GroveType.ORCHARD, CultivationStatus.WILD, "apple", id++);
+					case 7 -> new MineralVein("iron", ExposureStatus.HIDDEN, 15, id++);
+					case 8 -> new Mine("gold", TownStatus.Active, id++);
+					case 9 -> new Cave(12, id++);
+					case 10 -> new Village(TownStatus.Active, "village " + id, id++, independent, "human");
+					default -> new TextFixture("Note %d about %s".formatted(i, point), random.nextInt(10));
+				});
+			}
+		}
+		for (final Player owner : owners) {
+			final Point hq = new Point(random.nextInt(rows), random.nextInt(columns));
+			map.setBaseTerrain(hq, TileType.Plains);
+			final FortressImpl fortress = new FortressImpl(owner, "HQ", id++);
+			map.addFixture(hq, fortress);
+			for (int i = 0; i < units; i++) {
+				final Unit unit = new Unit(owner, JOBS[i % JOBS.length] + "s", "unit " + id, id++);
+				unit.setOrders(9, "Explore the area.");
+				unit.setResults(9, "Explored the area.");
+				for (int j = 0; j < workers; j++) {
+					final Worker worker = new Worker("worker " + id, "human", id++,
+							new Job(JOBS[random.nextInt(JOBS.length)], random.nextInt(5) + 1,
+									new Skill("general", random.nextInt(5), random.nextInt(100))));
+					worker.setStats(new WorkerStats(8, 8, random.nextInt(6) + 8, random.nextInt(6) + 8,
+							random.nextInt(6) + 8, random.nextInt(6) + 8, random.nextInt(6) + 8,
+							random.nextInt(6) + 8));
+					unit.addMember(worker);
+				}
+				if (i == 0) {
+					fortress.addMember(unit);
+				} else {
+					map.addFixture(new Point(random.nextInt(rows), random.nextInt(columns)), unit);
+				}
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * Generate the map, using the hash-based implementation.
+	 */
+	public IMutableLegacyMap generate() {
+		return generate(LegacyMap::new);
+	}
+}
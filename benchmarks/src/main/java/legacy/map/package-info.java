@@ -0,0 +1,4 @@
+@NullMarked
+package legacy.map;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,142 @@
+package legacy.xmlio;
+
+import common.xmlio.SPFormatException;
+import common.xmlio.Warning;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.TileType;
+import legacy.map.fixtures.Ground;
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.resources.ExposureStatus;
+import legacy.map.fixtures.resources.Shrub;
+import legacy.map.fixtures.terrain.Forest;
+import legacy.map.fixtures.terrain.Hill;
+import legacy.xmlio.fluidxml.SPCursorReader;
+import legacy.xmlio.fluidxml.SPFluidReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading maps from XML with the event-based {@link SPFluidReader}
+ * against the cursor-based {@link SPCursorReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapReaderBenchmark {
+	/**
+	 * Which implementation to test.
+	 */
+	@Param({"SPFluidReader", "SPCursorReader"})
+	public String implementation = "SPCursorReader";
+
+	/**
+	 * The small real-world map to read, relative to the directory the benchmarks are run from.
+	 */
+	@Param("sample_map.xml")
+	public String sampleMap = "sample_map.xml";
+
+	/**
+	 * How many fixtures to put in the synthetic map.
+	 */
+	@Param("100000")
+	public int fixtures = 100000;
+
+	private IMapReader reader = new SPCursorReader();
+
+	private String sampleXML = "";
+
+	private String syntheticXML = "";
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() throws IOException, XMLStreamException {
+		reader = switch (implementation) {
+			case "SPFluidReader" -> new SPFluidReader();
+			default -> new SPCursorReader();
+		};
+		sampleXML = Files.readString(Paths.get(sampleMap), StandardCharsets.UTF_8);
+		// Leave room for more tiles than we need, so the map always has all the fixtures asked for
+		final int size = (int) Math.ceil(Math.sqrt(fixtures / 2.5));
+		final IMutableLegacyMap map = new LegacyMap(new MapDimensionsImpl(size, size, 2),
+				new LegacyPlayerCollection(), 0);
+		final Player player = new PlayerImpl(1, "player");
+		map.addPlayer(player);
+		map.setCurrentPlayer(player);
+		final Random random = new Random(fixtures);
+		final TileType[] types = TileType.values();
+		int id = 0;
+		outer:
+		for (final Point point : map.getLocations()) {
+			map.setBaseTerrain(point, types[random.nextInt(types.length)]);
+			if (random.nextInt(8) == 0) {
+				map.setMountainous(point, true);
+			}
+			for (int i = 0; i < 5; i++) {
+				if (id >= fixtures) {
+					break outer;
+				}
+				switch (random.nextInt(8)) {
+					case 0 -> map.addFixture(point, new Forest("elm", false, id++));
+					case 1 -> map.addFixture(point, new Shrub("briar", id++));
+					case 2 -> map.addFixture(point, new Ground(id++, "loam", ExposureStatus.EXPOSED));
+					case 3 -> map.addFixture(point, new AnimalImpl("deer", false, "wild", id++));
+					case 4 -> map.addFixture(point, new Hill(id++));
+					case 5 -> {
+						final Unit unit = new Unit(player, "explorers", "unit " + id, id++);
+						unit.setOrders(-1, "Explore the area.");
+						map.addFixture(point, unit);
+					}
+					default -> {
+					}
+				}
+			}
+		}
+		final StringBuilder builder = new StringBuilder();
+		MapIOHelper.WRITER.write(builder::append, map);
+		syntheticXML = builder.toString();
+	}
+
+	/**
+	 * Read the sample map.
+	 */
+	@Benchmark
+	public IMutableLegacyMap readSampleMap() throws SPFormatException, XMLStreamException, IOException {
+		return reader.readMapFromStream(Paths.get(sampleMap), new StringReader(sampleXML), Warning.IGNORE);
+	}
+
+	/**
+	 * Read the synthetic map.
+	 */
+	@Benchmark
+	public IMutableLegacyMap readSyntheticMap() throws SPFormatException, XMLStreamException, IOException {
+		return reader.readMapFromStream(Paths.get(""), new StringReader(syntheticXML), Warning.IGNORE);
+	}
+}
@@ -0,0 +1,75 @@
+package legacy.xmlio;
+
+import legacy.map.ILegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.SyntheticMap;
+import legacy.xmlio.yaxml.YAXMLWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing a generated map to XML with {@link YAXMLWriter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapWriterBenchmark {
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param({"100", "300"})
+	public int size = 100;
+
+	/**
+	 * The average number of fixtures per tile.
+	 */
+	@Param("1.5")
+	public double density = 1.5;
+
+	private ILegacyMap map = new LegacyMap(new MapDimensionsImpl(0, 0, 2), new LegacyPlayerCollection(), 0);
+
+	private final YAXMLWriter writer = new YAXMLWriter();
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() {
+		map = new SyntheticMap(size, size, density, 4, 20, 5).generate();
+	}
+
+	/**
+	 * Write the map, discarding the output.
+	 */
+	@Benchmark
+	public void write() throws IOException {
+		writer.writeSPObject(OutputStream.nullOutputStream(), map);
+	}
+
+	/**
+	 * Write the map into memory, returning its size.
+	 */
+	@Benchmark
+	public int writeToMemory() throws IOException {
+		final ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+		writer.writeSPObject(ostream, map);
+		return ostream.size();
+	}
+}
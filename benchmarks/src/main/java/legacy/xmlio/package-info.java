@@ -0,0 +1,4 @@
+@NullMarked
+package legacy.xmlio;
+
+import org.jspecify.annotations.NullMarked;
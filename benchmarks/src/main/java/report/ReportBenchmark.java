@@ -0,0 +1,93 @@
+package report;
+
+import drivers.common.cli.CLIHelper;
+import drivers.common.cli.ICLIHelper;
+import legacy.map.ILegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.SyntheticMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating the HTML report ({@link ReportGenerator#createReport})
+ * and the tabular reports ({@link TabularReportGenerator#createTabularReports})
+ * on a generated map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+	/**
+	 * The number of rows (and columns) in the map.
+	 */
+	@Param({"100", "300"})
+	public int size = 100;
+
+	/**
+	 * The average number of fixtures per tile.
+	 */
+	@Param("1.5")
+	public double density = 1.5;
+
+	/**
+	 * The number of units each player has.
+	 */
+	@Param("50")
+	public int units = 50;
+
+	/**
+	 * The number of workers in each unit.
+	 */
+	@Param("5")
+	public int workers = 5;
+
+	private ILegacyMap map = new LegacyMap(new MapDimensionsImpl(0, 0, 2), new LegacyPlayerCollection(), 0);
+
+	/**
+	 * A CLI helper that reads nothing and discards whatever it is given.
+	 */
+	private final ICLIHelper cli = new CLIHelper(() -> null, text -> {
+	}, () -> {
+	});
+
+	@SuppressWarnings("MagicNumber")
+	@Setup
+	public void setUp() {
+		map = new SyntheticMap(size, size, density, 4, units, workers).generate();
+	}
+
+	/**
+	 * Generate the HTML report for the map's current player.
+	 */
+	@Benchmark
+	public String createReport() {
+		return ReportGenerator.createReport(map, cli);
+	}
+
+	/**
+	 * Generate all the tabular reports, counting the characters produced.
+	 */
+	@Benchmark
+	public long createTabularReports() throws IOException {
+		final long[] count = {0};
+		TabularReportGenerator.createTabularReports(map, table -> text -> count[0] += text.length(), cli);
+		return count[0];
+	}
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package report;
+
+import org.jspecify.annotations.NullMarked;
@@ -14,9 +14,9 @@ import java.util.Set;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
 import java.util.Collections;
 import java.util.stream.StreamSupport;
 import java.util.stream.Collectors;
@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 import java.util.Optional;
 import java.util.Objects;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.EnumSet;
 
 import drivers.common.SimpleMultiMapModel;
@@ -32,6 +33,7 @@ import drivers.common.SelectionChangeListener;
 import legacy.map.fixtures.FixtureIterable;
 import legacy.map.fixtures.FortressMember;
 import legacy.map.FakeFixture;
+import legacy.map.FixtureLocation;
 import legacy.map.IFixture;
 import legacy.map.Player;
 import legacy.map.HasKind;
@@ -66,7 +68,6 @@ import legacy.map.fixtures.towns.Village;
 import legacy.map.fixtures.towns.IFortress;
 import org.jspecify.annotations.Nullable;
 
-import static java.util.function.Predicate.not;
 import static lovelace.util.MatchingValue.matchingValue;
 
 // TODO: Make sure all methods are still used; at least one driver now uses a different model interface.
@@ -117,24 +118,28 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 						secondFixture.copy(IFixture.CopyBehavior.ZERO));
 	}
 
+	/**
+	 * How far away, in tiles, a watcher can see a unit's motion: anything
+	 * in the 5x5 square centered on the unit's destination.
+	 */
+	private static final double WATCHER_RANGE = Math.sqrt(8);
+
 	/**
 	 * If a unit's motion could be observed by someone allied to another
 	 * (non-independent) player (which at present means the unit is moving
 	 * <em>to</em> a tile two or fewer tiles away from the watcher), print a message saying so to stdout.
 	 */
 	private static void checkAllNearbyWatchers(final ILegacyMap map, final IUnit unit, final Point dest) {
-		final MapDimensions dimensions = map.getDimensions();
 		final String description;
 		if (unit.isIndependent()) {
 			description = "%s (ID #%d)".formatted(unit.getShortDescription(), unit.getId());
 		} else {
 			description = unit.getShortDescription();
 		}
-		new SurroundingPointIterable(dest, dimensions).stream()
-				.flatMap(point -> map.streamFixtures(point).filter(HasOwner.class::isInstance)
-						.map(HasOwner.class::cast).filter(not(HasOwner::isIndependent))
-						.filter(not(matchingValue(unit, HasOwner::owner)))
-						.map(TileFixture.class::cast).map(fix -> Pair.with(point, fix.getShortDescription())))
+		map.fixturesWithin(HasOwner.class, dest, WATCHER_RANGE).stream()
+				.filter(pair -> !pair.getValue1().isIndependent())
+				.filter(pair -> !Objects.equals(unit.owner(), pair.getValue1().owner()))
+				.map(pair -> Pair.with(pair.getValue0(), ((TileFixture) pair.getValue1()).getShortDescription()))
 				.forEach(pair ->
 						System.out.printf("Motion of %s to %s could be observed by %s at %s%n", description, dest,
 								pair.getValue1(), pair.getValue0()));
@@ -154,6 +159,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 						.filter(Predicate.isEqual(unit)).findAny();
 				if (item.isPresent()) {
 					fort.removeMember(item.get());
+					map.markChanged(fort);
 					return;
 				}
 			}
@@ -233,6 +239,19 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		return false;
 	}
 
+	/**
+	 * Whether the given fixture (or anything it contains) matches the one we are searching for, by the same
+	 * rules as {@link #doesLocationHaveFixture}.
+	 */
+	private static boolean isMatchingFixture(final IFixture candidate, final TileFixture fixture) {
+		final Iterable<IFixture> stream = Collections.singleton(candidate);
+		return switch (fixture) {
+			case final IUnit unit -> doesStreamContainUnit(stream, unit);
+			case final IFortress fort -> doesStreamContainFortress(stream, fort);
+			default -> doesStreamContainFixture(stream, fixture);
+		};
+	}
+
 	/**
 	 * Whether the given fixture is at the given location in the given map.
 	 */
@@ -386,12 +405,13 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		};
 	}
 
+	/**
+	 * Remove, from each subordinate map, copies of mobile fixtures near the
+	 * given point that the subordinate map still shows somewhere else, if
+	 * the main map does not also show them there. Copies are found with
+	 * {@link ILegacyMap#locateMobile}, so the subordinate maps are not searched.
+	 */
 	private void fixMovedUnits(final Point base) {
-		final BiFunction<ILegacyMap, TileFixture, Iterable<Pair<Point, TileFixture>>> localFind =
-				(mapParam, target) -> mapParam.streamLocations()
-						.flatMap(l -> mapParam.streamFixtures(l).map(f -> Pair.with(l, f)))
-						.filter(p -> target.equals(p.getValue1())) // TODO: Filter should come earlier
-						.collect(Collectors.toList());
 		// TODO: Unit vision range
 		final Iterable<Point> points = new SurroundingPointIterable(base, getMap().getDimensions(), 2);
 		for (final IMutableLegacyMap submap : getRestrictedSubordinateMaps()) {
@@ -399,15 +419,12 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 			for (final Point point : points) {
 				for (final TileFixture fixture : submap.getFixtures(point)) {
 					if (fixture instanceof MobileFixture) {
-						for (final Pair<Point, TileFixture> pair :
-								localFind.apply(submap, fixture)) {
-							final Point innerPoint = pair.getValue0();
-							final TileFixture match = pair.getValue1();
-							if (!innerPoint.equals(point) &&
-									!getMap().getFixtures(innerPoint)
-											.contains(match)) {
-								submap.removeFixture(innerPoint, match);
-								submap.setStatus(ILegacyMap.ModificationStatus.Modified);
+						for (final FixtureLocation found : submap.locateMobile(fixture.getId())) {
+							final Point innerPoint = found.location();
+							if (found.parents().isEmpty() && fixture.equals(found.fixture()) &&
+									!innerPoint.equals(point) &&
+									!getMap().getFixtures(innerPoint).contains(found.tileFixture())) {
+								submap.removeFixture(innerPoint, found.tileFixture());
 							}
 						}
 					}
@@ -416,6 +433,40 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		}
 	}
 
+	/**
+	 * Whether a unit can move from a tile with the first terrain to one
+	 * with the second: land to land, or ocean to ocean, but not to or
+	 * from unexplored tiles.
+	 */
+	private static boolean isPassable(final @Nullable TileType startingTerrain, final @Nullable TileType terrain) {
+		return Objects.nonNull(terrain) && Objects.nonNull(startingTerrain) &&
+				((SimpleMovementModel.landMovementPossible(terrain) &&
+						TileType.Ocean != startingTerrain) ||
+						(TileType.Ocean == startingTerrain &&
+								terrain == TileType.Ocean));
+	}
+
+	/**
+	 * The cost, in MP, of moving one step from the given point in the
+	 * given direction (to the given destination) at the given speed.
+	 */
+	private double stepCost(final Point point, final Direction direction, final Point dest, final Speed speed) {
+		final int base;
+		if (dest.equals(point)) {
+			base = 1;
+		} else {
+			final Iterable<TileFixture> fixtures = getMap().getFixtures(dest);
+			base = SimpleMovementModel.movementCost(getMap().getBaseTerrain(dest),
+					getMap().streamFixtures(dest)
+							.anyMatch(Forest.class::isInstance),
+					getMap().isMountainous(dest),
+					SimpleMovementModel.riversSpeedTravel(direction,
+							getMap().getRivers(point),
+							getMap().getRivers(dest)), fixtures);
+		}
+		return base * speed.getMpMultiplier();
+	}
+
 	/**
 	 * Move the currently selected unit from its current location one tile
 	 * in the specified direction. Moves the unit in all maps where the
@@ -442,34 +493,15 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		final Point dest = getDestination(point, direction);
 		final TileType terrain = getMap().getBaseTerrain(dest);
 		final TileType startingTerrain = getMap().getBaseTerrain(point);
-		if (Objects.nonNull(terrain) && Objects.nonNull(startingTerrain) &&
-				((SimpleMovementModel.landMovementPossible(terrain) &&
-						TileType.Ocean != startingTerrain) ||
-						(TileType.Ocean == startingTerrain &&
-								terrain == TileType.Ocean))) {
-			final int base;
-			if (dest.equals(point)) {
-				base = 1;
-			} else {
-				final Iterable<TileFixture> fixtures = getMap().getFixtures(dest);
-				base = SimpleMovementModel.movementCost(getMap().getBaseTerrain(dest),
-						getMap().streamFixtures(dest)
-								.anyMatch(Forest.class::isInstance),
-						getMap().isMountainous(dest),
-						SimpleMovementModel.riversSpeedTravel(direction,
-								getMap().getRivers(point),
-								getMap().getRivers(dest)), fixtures);
-			}
-			final double retval = base * speed.getMpMultiplier();
+		if (isPassable(startingTerrain, terrain)) {
+			final double retval = stepCost(point, direction, dest, speed);
 			removeImpl(getRestrictedMap(), point, unit);
 			getRestrictedMap().addFixture(dest, unit);
-			setMapStatus(ILegacyMap.ModificationStatus.Modified);
 			for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 				if (doesLocationHaveFixture(subMap, point, unit)) {
 					ensureTerrain(getMap(), subMap, dest);
 					removeImpl(subMap, point, unit);
 					subMap.addFixture(dest, unit);
-					subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 				}
 			}
 			selection = Pair.with(dest, unit);
@@ -500,13 +532,96 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 			}
 			for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 				ensureTerrain(getMap(), subMap, dest);
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 			fireMovementCost(1);
 			throw new TraversalImpossibleException();
 		}
 	}
 
+	/**
+	 * Move the currently selected unit along the given path, as {@link
+	 * #move} would one step at a time, but checking the whole route first
+	 * and bringing subordinate maps up to date, and notifying listeners,
+	 * only once at the end. Watchers are still checked at every step.
+	 *
+	 * @param path     The points to move through, each adjacent to the one
+	 *                 before; leading points that are where the unit
+	 *                 already is (such as the start of a path from {@link
+	 *                 Pathfinder#getTravelDistance}) are skipped
+	 * @param speed    How hastily the explorer is moving
+	 * @param stopAt   Given a point (after moving to it) and the cost of
+	 *                 the route so far, returns true if the unit should
+	 *                 stop there short of the end of the route
+	 * @throws TraversalImpossibleException if any step of the route is
+	 *                                      impassable, in which case nothing is moved
+	 */
+	@Override
+	public final RouteResult moveAlong(final Iterable<Point> path, final Speed speed,
+	                                   final BiPredicate<Point, Double> stopAt)
+			throws TraversalImpossibleException {
+		final Pair<Point, @Nullable IUnit> local = selection;
+		final Point start = local.getValue0();
+		final IUnit unit = local.getValue1();
+		if (Objects.isNull(unit)) {
+			throw new IllegalStateException("No mover selected");
+		}
+		final List<Direction> directions = new ArrayList<>();
+		final List<Point> steps = new ArrayList<>();
+		Point previous = start;
+		for (final Point next : path) {
+			if (steps.isEmpty() && next.equals(start)) {
+				continue;
+			}
+			final Point from = previous;
+			final Direction direction = Stream.of(Direction.values())
+					.filter(d -> next.equals(getDestination(from, d))).findFirst()
+					.orElseThrow(() -> new IllegalArgumentException(
+							"Step to %s isn't adjacent to %s".formatted(next, from)));
+			if (!isPassable(getMap().getBaseTerrain(from), getMap().getBaseTerrain(next))) {
+				LovelaceLogger.debug("Route from %s is impassable at %s", start, next);
+				throw new TraversalImpossibleException();
+			}
+			directions.add(direction);
+			steps.add(next);
+			previous = next;
+		}
+		if (steps.isEmpty()) {
+			return new RouteResult(start, 0, 0.0, true);
+		}
+		double cost = 0.0;
+		Point current = start;
+		int taken = 0;
+		while (taken < steps.size()) {
+			final Point dest = steps.get(taken);
+			cost += stepCost(current, directions.get(taken), dest, speed);
+			removeImpl(getRestrictedMap(), current, unit);
+			getRestrictedMap().addFixture(dest, unit);
+			checkAllNearbyWatchers(getMap(), unit, dest);
+			current = dest;
+			taken++;
+			if (stopAt.test(dest, cost)) {
+				break;
+			}
+		}
+		final List<Point> visited = steps.subList(0, taken);
+		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
+			if (doesLocationHaveFixture(subMap, start, unit)) {
+				for (final Point point : visited) {
+					ensureTerrain(getMap(), subMap, point);
+				}
+				removeImpl(subMap, start, unit);
+				subMap.addFixture(current, unit);
+			}
+		}
+		for (final Point point : new LinkedHashSet<>(visited)) {
+			fixMovedUnits(point);
+		}
+		selection = Pair.with(current, unit);
+		fireSelectionChange(start, current);
+		fireMovementCost(cost);
+		return new RouteResult(current, taken, cost, taken == steps.size());
+	}
+
 	/**
 	 * Search the main map for the given fixture. Returns the first
 	 * location found (search order is not defined) containing a fixture
@@ -514,6 +629,20 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 	 */
 	@Override
 	public final Point find(final TileFixture fixture) {
+		if (fixture instanceof MobileFixture && fixture.getId() >= 0) {
+			for (final FixtureLocation found : getMap().locateMobile(fixture.getId())) {
+				if (isMatchingFixture(found.fixture(), fixture)) {
+					return found.location();
+				}
+			}
+		}
+		if (fixture.getId() >= 0) {
+			final FixtureLocation found = getMap().findFixture(fixture.getId());
+			if (Objects.nonNull(found) && isMatchingFixture(found.fixture(), fixture)) {
+				return found.location();
+			}
+		}
+		// Fixtures without IDs, and those whose equality does not depend on ID, can only be found by searching.
 		for (final Point point : getMap().getLocations()) {
 			if (doesLocationHaveFixture(getMap(), point, fixture)) {
 				return point;
@@ -522,6 +651,32 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		return Point.INVALID_POINT;
 	}
 
+	/**
+	 * Whether the given map shows the given fixture at the given location,
+	 * or nowhere. If the map has more than one copy of it, one being there
+	 * is enough.
+	 */
+	private static boolean showsAtOrNowhere(final ILegacyMap map, final TileFixture fixture, final Point location) {
+		if (fixture instanceof MobileFixture && fixture.getId() >= 0) {
+			boolean seen = false;
+			for (final FixtureLocation found : map.locateMobile(fixture.getId())) {
+				if (isMatchingFixture(found.fixture(), fixture)) {
+					if (found.location().equals(location)) {
+						return true;
+					}
+					seen = true;
+				}
+			}
+			return !seen;
+		}
+		for (final Point point : map.getLocations()) {
+			if (doesLocationHaveFixture(map, point, fixture)) {
+				return point.equals(location);
+			}
+		}
+		return true;
+	}
+
 	private boolean mapsAgreeOnLocation(final TileFixture unit) {
 		if (unit instanceof final ProxyUnit proxy) {
 			if (proxy.getProxied().isEmpty()) {
@@ -535,14 +690,8 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 			return false;
 		}
 		for (final ILegacyMap subMap : getSubordinateMaps()) {
-			for (final Point point : subMap.getLocations()) {
-				if (doesLocationHaveFixture(subMap, point, unit)) {
-					if (point.equals(mainLoc)) {
-						break;
-					} else {
-						return false;
-					}
-				}
+			if (!showsAtOrNowhere(subMap, unit, mainLoc)) {
+				return false;
 			}
 		}
 		return true;
@@ -650,8 +799,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					for (final IMutableLegacyMap subMap : getRestrictedAllMaps()) {
 						subMap.addFixture(currentPoint, village.copy(subordinate));
 						subordinate = IFixture.CopyBehavior.ZERO;
-						subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
-					}
+						}
 				}
 				final ILegacyMap mainMap = getMap();
 				final Iterable<Point> surroundingPoints =
@@ -739,7 +887,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 			for (final IMutableLegacyMap subMap : getRestrictedAllMaps()) {
 				addToMap.accept(subMap, subsequent);
 				subsequent = IFixture.CopyBehavior.ZERO;
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 			fireMovementCost(4);
 		}
@@ -753,7 +900,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 	public final void addUnitAtLocation(final IUnit unit, final Point location) {
 		for (final IMutableLegacyMap indivMap : getRestrictedAllMaps()) {
 			indivMap.addFixture(location, unit); // FIXME: Check for existing matching unit there already
-			indivMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
 
@@ -782,15 +928,12 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 			for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 				retval = subMap.addFixture(location, matching.copy(zero)) || retval;
 				// We do *not* use the return value because it returns false if an existing fixture was *replaced*
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 
 			if (matching instanceof CacheFixture) {
 				// TODO: make removeFixture() return Boolean, true if anything was removed
 				getRestrictedMap().removeFixture(location, matching);
 				retval = true;
-				// TODO: Throughout, don't bother to set to 'modified' if an earlier mutator method already does so
-				getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 		}
 		return retval;
@@ -804,17 +947,14 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 			if (getMap().isMountainous(location) && !subMap.isMountainous(location)) {
 				subMap.setMountainous(location, true);
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 			final TileType terrain = getMap().getBaseTerrain(location);
 			if (Objects.nonNull(terrain) &&
 					terrain != subMap.getBaseTerrain(location)) {
 				subMap.setBaseTerrain(location, terrain);
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 			if (!getMap().getRivers(location).containsAll(subMap.getRivers(location))) {
 				subMap.addRivers(location, getMap().getRivers(location).toArray(River[]::new));
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 			final Map<Direction, Integer> subRoads = subMap.getRoads(location);
 			if (!getMap().getRoads(location).isEmpty()) { // TODO: Just omit this check?
@@ -823,8 +963,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					if (subRoads.getOrDefault(entry.getKey(), -1) < entry.getValue()) {
 						subMap.setRoadLevel(location, entry.getKey(),
 								entry.getValue());
-						subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
-					}
+						}
 				}
 			}
 		}
@@ -840,7 +979,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 	public final void setSubMapTerrain(final Point location, final @Nullable TileType terrain) {
 		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 			subMap.setBaseTerrain(location, terrain);
-			subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
 
@@ -855,7 +993,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 			// TODO: Make addRivers() return Boolean if this was a change, and only set modified flag in that case
 			subMap.addRivers(location, actualRivers.toArray(River[]::new));
-			subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
 
@@ -870,7 +1007,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 			// TODO: Make removeRivers() return Boolean if this was a change, and only set modified flag in that case
 			subMap.removeRivers(location, rivers);
-			subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
 
@@ -885,7 +1021,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 			// TODO: Make removeFixture() return Boolean if this was a change, and only set modified flag in that case
 			subMap.removeFixture(location, fixture);
-			subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
 
@@ -900,7 +1035,6 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 		for (final IMutableLegacyMap subMap : getRestrictedSubordinateMaps()) {
 			if (subMap.isMountainous(location) != mountainous) {
 				subMap.setMountainous(location, mountainous);
-				subMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 		}
 	}
@@ -936,7 +1070,8 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					matchingNew.isPresent()) {
 				matchingOld.get().removeMember(matchingMember.get());
 				matchingNew.get().addMember(matchingMember.get());
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matchingOld.get());
+				map.markChanged(matchingNew.get());
 			}
 		}
 	}
@@ -1005,6 +1140,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 						.map(IMutableFortress.class::cast).toList()) {
 					if (fort.stream().anyMatch(fixture::equals)) {
 						fort.removeMember((FortressMember) fixture);
+						map.markChanged(fort);
 						any = true;
 						break;
 					}
@@ -1033,7 +1169,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					.findAny();
 			if (matching.isPresent()) {
 				matching.get().addMember(member.copy(IFixture.CopyBehavior.KEEP));
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching.get());
 			}
 		}
 	}
@@ -1065,7 +1201,9 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					if (matching.isPresent()) {
 						any = true;
 						matching.get().setName(newName);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+						// found among the map's fixtures in the stream above.
+						//noinspection CastToIncompatibleInterface
+						map.markChanged((IFixture) matching.get());
 					}
 				}
 				if (!any) {
@@ -1089,7 +1227,9 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					if (matching.isPresent()) {
 						any = true;
 						matching.get().setName(newName);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+						// found among the map's fixtures in the stream above.
+						//noinspection CastToIncompatibleInterface
+						map.markChanged((IFixture) matching.get());
 					}
 				}
 				if (!any) {
@@ -1124,7 +1264,9 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					if (matching.isPresent()) {
 						any = true;
 						matching.get().setKind(newKind);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+						// found among the map's fixtures in the stream above.
+						//noinspection CastToIncompatibleInterface
+						map.markChanged((IFixture) matching.get());
 					}
 				}
 				if (!any) {
@@ -1149,7 +1291,9 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					if (matching.isPresent()) {
 						any = true;
 						matching.get().setKind(newKind);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+						// found among the map's fixtures in the stream above.
+						//noinspection CastToIncompatibleInterface
+						map.markChanged((IFixture) matching.get());
 					}
 				}
 				if (!any) {
@@ -1177,7 +1321,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 				if (matching.isPresent()) { // FIXME: equals() will really not do here ...
 					unit.removeMember(matching.get());
 					dismissedMembers.add(member);
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
+					map.markChanged(unit);
 					break;
 				}
 			}
@@ -1202,7 +1346,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 				if (unit.stream().anyMatch(Predicate.isEqual(existing))) {
 					unit.addMember(sibling.copy(IFixture.CopyBehavior.KEEP));
 					any = true;
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
+					map.markChanged(unit);
 					break;
 				}
 			}
@@ -1232,7 +1376,9 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					map.addPlayer(newOwner);
 				}
 				matching.get().setOwner(map.getPlayers().getPlayer(newOwner.getPlayerId()));
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				// found among the map's fixtures in the stream above.
+				//noinspection CastToIncompatibleInterface
+				map.markChanged((IFixture) matching.get());
 				any = true;
 			}
 		}
@@ -1255,7 +1401,7 @@ public class ExplorationModel extends SimpleMultiMapModel implements IExploratio
 					.findAny();
 			if (matching.isPresent()) {
 				matching.get().sortMembers();
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching.get());
 				any = true;
 			}
 		}
@@ -4,6 +4,7 @@ import legacy.map.IFixture;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiPredicate;
 
 import legacy.map.fixtures.Ground;
 import legacy.map.fixtures.resources.StoneDeposit;
@@ -48,6 +49,22 @@ public interface IExplorationModel extends IMultiMapModel, SelectionChangeSource
 	 */
 	Number move(Direction direction, Speed speed) throws TraversalImpossibleException;
 
+	/**
+	 * Move the currently selected unit along the given route, which may
+	 * begin with the unit's current location, as a series of calls to
+	 * {@link #move} would, except that the whole route is checked before
+	 * anything is moved, and subordinate maps are brought up to date and
+	 * listeners told of the change in location and the total cost only
+	 * once, at the end. The unit stops early at the first point after
+	 * moving to which the given condition, which is also given the total
+	 * cost in MP of the route so far, is true.
+	 *
+	 * @throws TraversalImpossibleException if any step of the route is impassable; nothing is moved
+	 * @throws IllegalArgumentException     if any point in the route is not adjacent to the one before it
+	 */
+	RouteResult moveAlong(Iterable<Point> path, Speed speed, BiPredicate<Point, Double> stopAt)
+			throws TraversalImpossibleException;
+
 	/**
 	 * Given a starting point and a direction, get the next point in that direction.
 	 */
@@ -1,7 +1,8 @@
 package exploration.common;
 
-import java.util.Map;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import legacy.map.ILegacyMap;
 
@@ -9,14 +10,39 @@ public final class PathfinderFactory {
 	private PathfinderFactory() {
 	}
 
-	private static final Map<ILegacyMap, Pathfinder> pathfinderCache = new HashMap<>();
+	/**
+	 * How many maps to keep pathfinders for.
+	 */
+	private static final int MAX_CACHED_PATHFINDERS = 4;
+
+	/**
+	 * Pathfinders for recently-used maps, least-recently-used first. Maps
+	 * are compared by identity, since map equality is expensive to compute
+	 * and map hash codes change as the map is modified.
+	 */
+	private static final List<PathfinderImpl> pathfinderCache = new ArrayList<>(MAX_CACHED_PATHFINDERS + 1);
 
 	/**
 	 * An encapsulation (for ease of importing in the Ceylon version, and
-	 * just in case I decide to do some caching between runs at some point)
-	 * of an implementation of Dijkstra's shortest-path algorithm.
+	 * to allow caching between runs) of an implementation of Dijkstra's
+	 * shortest-path algorithm. Only a few of the most recently used maps'
+	 * pathfinders are kept, and each notices when its map has changed.
 	 */
-	public static Pathfinder pathfinder(final ILegacyMap map) {
-		return pathfinderCache.computeIfAbsent(map, PathfinderImpl::new);
+	public static synchronized Pathfinder pathfinder(final ILegacyMap map) {
+		final Iterator<PathfinderImpl> iter = pathfinderCache.iterator();
+		while (iter.hasNext()) {
+			final PathfinderImpl item = iter.next();
+			if (item.getMap() == map) {
+				iter.remove();
+				pathfinderCache.add(item);
+				return item;
+			}
+		}
+		final PathfinderImpl retval = new PathfinderImpl(map);
+		pathfinderCache.add(retval);
+		if (pathfinderCache.size() > MAX_CACHED_PATHFINDERS) {
+			pathfinderCache.removeFirst();
+		}
+		return retval;
 	}
 }
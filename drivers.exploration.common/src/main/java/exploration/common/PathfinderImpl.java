@@ -2,73 +2,208 @@ package exploration.common;
 
 import lovelace.util.LovelaceLogger;
 import legacy.map.MapDimensions;
-import legacy.map.TileFixture;
-import lovelace.util.SimplePair;
+import legacy.map.River;
+import legacy.map.TileType;
 import org.javatuples.Pair;
 
-import java.util.Collection;
-import java.util.Objects;
-import java.util.Map;
-import java.util.HashSet;
-import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import legacy.map.ILegacyMap;
 import legacy.map.Direction;
 import legacy.map.Point;
 import legacy.map.fixtures.terrain.Forest;
-import org.jspecify.annotations.Nullable;
-
-import java.util.function.Predicate;
-import java.util.Collections;
-import java.util.Optional;
 
+/**
+ * An implementation of Dijkstra's shortest-path algorithm over the tiles of a
+ * map, identified by their index ({@code row * columns + column}) rather than
+ * by {@link Point}.
+ *
+ * Movement costs are computed once per tile, and recomputed only when the map's
+ * {@link ILegacyMap#getRevision revision} changes. The search from each
+ * starting point is kept (in a bounded cache) and resumed, rather than
+ * restarted, when later queries ask about tiles it has not yet reached.
+ */
 /* package */ final class PathfinderImpl implements Pathfinder {
+	/**
+	 * The distance we use for "unreachable."
+	 */
+	private static final int INFINITY = Integer.MAX_VALUE - 1;
+
+	/**
+	 * How many single-source search trees to keep at once.
+	 */
+	private static final int MAX_CACHED_TREES = 8;
+
+	/**
+	 * Bits for the cardinal directions in the river masks.
+	 */
+	private static final int NORTH = 1;
+	private static final int EAST = 2;
+	private static final int SOUTH = 4;
+	private static final int WEST = 8;
+
 	public PathfinderImpl(final ILegacyMap map) {
 		this.map = map;
 		final MapDimensions dims = map.getDimensions();
-		size = dims.rows() * dims.columns();
+		rows = Math.max(dims.rows(), 0);
+		columns = Math.max(dims.columns(), 0);
+		size = rows * columns;
 		LovelaceLogger.debug("Map has %d tiles", size);
-		tentativeDistances = new HashMap<>(size);
+		costWithRiver = new int[size];
+		costWithoutRiver = new int[size];
+		riversOut = new byte[size];
+		riversIn = new byte[size];
 	}
 
 	private final ILegacyMap map;
-	private final Map<SimplePair<Point>, Integer> tentativeDistances;
+	private final int rows;
+	private final int columns;
 	private final int size;
 
-	private static Predicate<Map.Entry<SimplePair<Point>, Integer>> forUs(final Point base,
-																		  final Collection<Point> unvisited) {
-		return entry -> entry.getKey().getFirst().equals(base) &&
-				unvisited.contains(entry.getKey().getSecond());
+	/**
+	 * The cost to enter each tile if a river speeds travel.
+	 */
+	private final int[] costWithRiver;
+
+	/**
+	 * The cost to enter each tile if no river speeds travel.
+	 */
+	private final int[] costWithoutRiver;
+
+	/**
+	 * For each tile, the cardinal directions in which travel <em>leaving</em> it is sped by a river in it.
+	 */
+	private final byte[] riversOut;
+
+	/**
+	 * For each tile, the cardinal directions in which travel <em>entering</em> it is sped by a river in it.
+	 */
+	private final byte[] riversIn;
+
+	/**
+	 * The map revision for which the per-tile costs were computed, or -1 if they have not been.
+	 */
+	private long costsRevision = -1;
+
+	/**
+	 * Search trees, keyed by the index of their starting tile, least-recently-used first.
+	 */
+	private final Map<Integer, SearchTree> trees = new LinkedHashMap<>(MAX_CACHED_TREES * 2, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Integer, SearchTree> eldest) {
+			return size() > MAX_CACHED_TREES;
+		}
+	};
+
+	/**
+	 * The map this is a pathfinder for.
+	 */
+	public ILegacyMap getMap() {
+		return map;
 	}
 
-	private @Nullable Point nextUnvisited(final Point base, final Collection<Point> unvisited) {
-		return tentativeDistances.entrySet().stream().filter(forUs(base, unvisited)).min(Map.Entry.comparingByValue())
-				.map(Map.Entry::getKey).map(SimplePair::getSecond).orElse(null);
+	private static int riversLeaving(final Collection<River> rivers) {
+		int retval = 0;
+		for (final River river : rivers) {
+			retval |= switch (river) {
+				case North -> NORTH;
+				case East -> EAST;
+				case South -> SOUTH;
+				case West -> WEST;
+				case Lake -> 0;
+			};
+		}
+		return retval;
 	}
 
-	private static Direction getDirection(final Point one, final Point two) {
-		if (one.row() < two.row()) {
-			if (one.column() < two.column()) {
+	private static int riversEntering(final Collection<River> rivers) {
+		int retval = 0;
+		for (final River river : rivers) {
+			retval |= switch (river) {
+				case North -> SOUTH;
+				case East -> WEST;
+				case South -> NORTH;
+				case West -> EAST;
+				case Lake -> 0;
+			};
+		}
+		return retval;
+	}
+
+	/**
+	 * The cardinal components of a direction, in the form used in the river masks.
+	 */
+	private static int components(final Direction direction) {
+		return switch (direction) {
+			case North -> NORTH;
+			case Northeast -> NORTH | EAST;
+			case East -> EAST;
+			case Southeast -> SOUTH | EAST;
+			case South -> SOUTH;
+			case Southwest -> SOUTH | WEST;
+			case West -> WEST;
+			case Northwest -> NORTH | WEST;
+			case Nowhere -> 0;
+		};
+	}
+
+	/**
+	 * (Re)compute the cost of entering each tile, if the map has changed since we last did.
+	 */
+	private void ensureCosts() {
+		final long revision = map.getRevision();
+		if (revision == costsRevision) {
+			return;
+		}
+		trees.clear();
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++) {
+				final Point point = new Point(row, column);
+				final int index = row * columns + column;
+				final TileType terrain = map.getBaseTerrain(point);
+				final boolean forest = map.streamFixtures(point).anyMatch(Forest.class::isInstance);
+				final boolean mountain = map.isMountainous(point);
+				costWithRiver[index] = SimpleMovementModel.movementCost(terrain, forest, mountain, true,
+						map.getFixtures(point));
+				costWithoutRiver[index] = SimpleMovementModel.movementCost(terrain, forest, mountain, false,
+						map.getFixtures(point));
+				final Collection<River> rivers = map.getRivers(point);
+				riversOut[index] = (byte) riversLeaving(rivers);
+				riversIn[index] = (byte) riversEntering(rivers);
+			}
+		}
+		costsRevision = revision;
+	}
+
+	private static Direction getDirection(final int oneRow, final int oneColumn, final int twoRow,
+	                                      final int twoColumn) {
+		if (oneRow < twoRow) {
+			if (oneColumn < twoColumn) {
 				return Direction.Northeast;
-			} else if (one.column() == two.column()) {
+			} else if (oneColumn == twoColumn) {
 				return Direction.North;
 			} else {
 				return Direction.Northwest;
 			}
-		} else if (one.row() == two.row()) {
-			if (one.column() < two.column()) {
+		} else if (oneRow == twoRow) {
+			if (oneColumn < twoColumn) {
 				return Direction.East;
-			} else if (one.column() == two.column()) {
+			} else if (oneColumn == twoColumn) {
 				return Direction.Nowhere;
 			} else {
 				return Direction.West;
 			}
 		} else {
-			if (one.column() < two.column()) {
+			if (oneColumn < twoColumn) {
 				return Direction.Southeast;
-			} else if (one.column() == two.column()) {
+			} else if (oneColumn == twoColumn) {
 				return Direction.South;
 			} else {
 				return Direction.Southwest;
@@ -76,110 +211,142 @@ import java.util.Optional;
 		}
 	}
 
-	private static int clampAdd(final int one, final int two) {
-		if (one == 0 || two == 0 || (one > 0 ^ two > 0)) {
-			return one + two;
-		} else if (one > 0 && Integer.MAX_VALUE - one < two) {
-			return Integer.MAX_VALUE;
-		} else if (one < 0 && Integer.MIN_VALUE - one > two) {
-			return Integer.MIN_VALUE;
+	/**
+	 * The cost of moving from one tile to an adjacent one.
+	 */
+	private int edgeCost(final int from, final int to) {
+		final Direction direction = getDirection(from / columns, from % columns, to / columns, to % columns);
+		if ((components(direction) & (riversOut[from] | riversIn[to])) != 0) {
+			return costWithRiver[to];
 		} else {
-			return one + two;
+			return costWithoutRiver[to];
 		}
 	}
 
 	/**
-	 * The shortest-path distance, avoiding obstacles, in MP, between two
-	 * points, using Dijkstra's algorithm.
+	 * The state of Dijkstra's algorithm from a single starting tile, which
+	 * can be resumed until any given tile has been reached.
 	 */
-	@Override
-	public Pair<Integer, Iterable<Point>> getTravelDistance(final Point start, final Point end) {
-		final Collection<Point> unvisited = new HashSet<>(size);
-		for (final Point point : map.getLocations()) {
-			unvisited.add(point);
-			if (!tentativeDistances.containsKey(SimplePair.of(start, point))) {
-				tentativeDistances.put(SimplePair.of(start, point), Integer.MAX_VALUE - 1);
-			}
+	private final class SearchTree {
+		/**
+		 * The best known distance to each tile.
+		 */
+		private final int[] distances = new int[size];
+
+		/**
+		 * The tile from which the best known path reaches each tile, or -1.
+		 */
+		private final int[] predecessors = new int[size];
+
+		/**
+		 * Tiles whose shortest distance is known.
+		 */
+		private final BitSet settled = new BitSet(size);
+
+		/**
+		 * Tentative entries. Stale entries are skipped when they are popped rather than removed eagerly.
+		 */
+		private final TileHeap heap = new TileHeap();
+
+		/**
+		 * Whether every reachable tile has been settled.
+		 */
+		private boolean exhausted = false;
+
+		public SearchTree(final int start) {
+			Arrays.fill(distances, INFINITY);
+			Arrays.fill(predecessors, -1);
+			distances[start] = 0;
+			heap.push(0, start);
 		}
-		tentativeDistances.put(SimplePair.of(start, start), 0);
-		Point current = start;
-		int iterations = 0;
-		final Map<Point, Point> retval = new HashMap<>(size);
-		final Predicate<TileFixture> isForest = Forest.class::isInstance;
-		while (!unvisited.isEmpty()) {
-			iterations++;
-			if (!tentativeDistances.containsKey(SimplePair.of(start, current))) {
-				throw new IllegalStateException("Tentative distance missing");
-			}
-			final int currentDistance = tentativeDistances.get(SimplePair.of(start, current));
-			if (current.equals(end)) {
-				LovelaceLogger.debug("Reached the end after %d iterations",
-						iterations);
-				final List<Point> path = new ArrayList<>(size >> 2);
-				path.add(current);
-				while (retval.containsKey(current)) {
-					path.add(retval.get(current));
-					current = retval.get(current);
+
+		/**
+		 * Continue the search until the given tile is settled or it is proven unreachable.
+		 */
+		public void settleUntil(final int target) {
+			while (!settled.get(target) && !exhausted) {
+				if (heap.isEmpty()) {
+					exhausted = true;
+					break;
 				}
-				Collections.reverse(path);
-				return Pair.with(currentDistance, Collections.unmodifiableList(path));
-			} else if (currentDistance >= (Integer.MAX_VALUE - 1)) {
-				LovelaceLogger.info(
-						"Considering an 'infinite-distance' tile after %d iterations",
-						iterations);
-				return Pair.with(currentDistance, Collections.emptyList());
-			}
-			for (final Point neighbor : new SurroundingPointIterable(current, map.getDimensions(), 1)) {
-				LovelaceLogger.debug("At %s, considering %s", current, neighbor);
-				if (!unvisited.contains(neighbor)) {
-					LovelaceLogger.debug("Already checked, so skipping.");
+				final long entry = heap.pop();
+				final int current = TileHeap.tile(entry);
+				final int currentDistance = TileHeap.distance(entry);
+				if (settled.get(current) || currentDistance > distances[current]) {
 					continue;
+				} else if (currentDistance >= INFINITY) {
+					exhausted = true;
+					break;
 				}
-				if (!tentativeDistances.containsKey(SimplePair.of(start, neighbor))) {
-					throw new IllegalStateException("Missing prior estimate");
-				}
-				final int estimate = tentativeDistances.get(SimplePair.of(start, neighbor));
-				final int tentativeDistance = clampAdd(currentDistance,
-						SimpleMovementModel.movementCost(map.getBaseTerrain(neighbor),
-								map.streamFixtures(neighbor).anyMatch(isForest),
-								map.isMountainous(neighbor),
-								SimpleMovementModel.riversSpeedTravel(
-										getDirection(current, neighbor),
-										map.getRivers(current),
-										map.getRivers(neighbor)),
-								map.getFixtures(neighbor)));
-				LovelaceLogger.debug("Old estimate %d, new estimate %d", estimate,
-						tentativeDistance);
-				if (tentativeDistance < estimate) {
-					LovelaceLogger.debug("Updating path");
-					retval.put(neighbor, current);
-					tentativeDistances.put(SimplePair.of(start, neighbor),
-							tentativeDistance);
-				}
-				if (estimate < 0) {
-					LovelaceLogger.warning("Old estimate at %s was negative",
-							neighbor);
-					return Pair.with(Integer.MAX_VALUE - 1, Collections.emptyList());
-				} else if (tentativeDistance < 0) {
-					LovelaceLogger.warning("Recomputed estimate at %s was negative",
-							neighbor);
-					return Pair.with(Integer.MAX_VALUE - 1, Collections.emptyList());
+				settled.set(current);
+				final int row = current / columns;
+				final int column = current % columns;
+				for (int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+					for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+						if (rowOffset == 0 && columnOffset == 0) {
+							continue;
+						}
+						final int neighborRow = Math.floorMod(row + rowOffset, rows);
+						final int neighborColumn = Math.floorMod(column + columnOffset, columns);
+						final int neighbor = neighborRow * columns + neighborColumn;
+						if (settled.get(neighbor)) {
+							continue;
+						}
+						final long tentative = Math.min((long) currentDistance + edgeCost(current, neighbor),
+								Integer.MAX_VALUE);
+						if (tentative < distances[neighbor]) {
+							distances[neighbor] = (int) tentative;
+							predecessors[neighbor] = current;
+							heap.push(tentative, neighbor);
+						}
+					}
 				}
 			}
-			LovelaceLogger.debug("Finished checking neighbors of %s", current);
-			unvisited.remove(current);
-			final Point next = nextUnvisited(start, unvisited);
-			if (Objects.isNull(next)) {
-				LovelaceLogger.info(
-						"Couldn't find a smallest-estimate unchecked tile after %d iterations",
-						iterations);
-				return Pair.with(Integer.MAX_VALUE - 1, Collections.emptyList());
-			} else {
-				current = next;
+			if (exhausted) {
+				heap.clear();
 			}
 		}
-		LovelaceLogger.info("Apparently ran out of tiles after %d iterations", iterations);
-		return Pair.with(Optional.ofNullable(tentativeDistances.get(SimplePair.of(start, end)))
-				.orElse(Integer.MAX_VALUE - 1), Collections.emptyList());
+
+		public Pair<Integer, Iterable<Point>> pathTo(final int target) {
+			settleUntil(target);
+			if (!settled.get(target)) {
+				return Pair.with(INFINITY, Collections.emptyList());
+			}
+			final List<Point> path = new ArrayList<>();
+			for (int tile = target; tile >= 0; tile = predecessors[tile]) {
+				path.add(new Point(tile / columns, tile % columns));
+			}
+			Collections.reverse(path);
+			return Pair.with(distances[target], Collections.unmodifiableList(path));
+		}
+	}
+
+	/**
+	 * The shortest-path distance, avoiding obstacles, in MP, between two
+	 * points, using Dijkstra's algorithm.
+	 */
+	@Override
+	public synchronized Pair<Integer, Iterable<Point>> getTravelDistance(final Point start, final Point end) {
+		if (start.equals(end)) {
+			return Pair.with(0, Collections.singletonList(start));
+		}
+		final MapDimensions dims = map.getDimensions();
+		if (!dims.contains(start) || !dims.contains(end)) {
+			LovelaceLogger.info("Asked for path from %s to %s, at least one of which is outside the map",
+					start, end);
+			return Pair.with(INFINITY, Collections.emptyList());
+		}
+		ensureCosts();
+		final int startIndex = start.row() * columns + start.column();
+		return trees.computeIfAbsent(startIndex, SearchTree::new)
+				.pathTo(end.row() * columns + end.column());
+	}
+
+	/**
+	 * Discard cached search trees and per-tile costs.
+	 */
+	public synchronized void clearCache() {
+		trees.clear();
+		costsRevision = -1;
 	}
 }
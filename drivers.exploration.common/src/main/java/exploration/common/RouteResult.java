@@ -0,0 +1,14 @@
+package exploration.common;
+
+import legacy.map.Point;
+
+/**
+ * How far {@link IExplorationModel#moveAlong} got.
+ *
+ * @param location  Where the unit ended up
+ * @param steps     How many steps it took
+ * @param cost      The total cost of those steps in MP
+ * @param completed False if the unit stopped short of the end of the route
+ */
+public record RouteResult(Point location, int steps, double cost, boolean completed) {
+}
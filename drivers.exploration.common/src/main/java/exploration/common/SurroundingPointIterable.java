@@ -6,6 +6,7 @@ import java.util.Iterator;
 
 import legacy.map.Point;
 import legacy.map.MapDimensions;
+import legacy.map.PointPool;
 
 import java.util.Spliterator;
 import java.util.stream.Stream;
@@ -23,12 +24,13 @@ public final class SurroundingPointIterable implements Iterable<Point> {
 
 	public SurroundingPointIterable(final Point startingPoint, final MapDimensions dimensions, final int radius) {
 		this.dimensions = dimensions;
+		final PointPool pool = PointPool.forDimensions(dimensions);
 		for (int inner = radius; inner >= 0; inner--) {
 			final int lowerBound = -inner;
 			final int upperBound = inner;
 			for (int row = lowerBound; row <= upperBound; row++) {
 				for (int column = lowerBound; column <= upperBound; column++) {
-					points.add(new Point(roundRow(startingPoint.row() + row),
+					points.add(pool.get(roundRow(startingPoint.row() + row),
 							roundColumn(startingPoint.column() + column)));
 				}
 			}
@@ -0,0 +1,78 @@
+package exploration.common;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of tiles, identified by their index ({@code row * columns
+ * + column}) in a map, each with a non-negative distance. Entries are packed
+ * as (distance &lt;&lt; 32 | tile), so tiles at the same distance come out
+ * in index order.
+ */
+/* package */ final class TileHeap {
+	private long[] heap = new long[16];
+
+	private int size = 0;
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void push(final long distance, final int tile) {
+		if (size == heap.length) {
+			heap = Arrays.copyOf(heap, heap.length * 2);
+		}
+		int child = size++;
+		final long entry = (distance << 32) | tile;
+		while (child > 0) {
+			final int parent = (child - 1) >>> 1;
+			if (heap[parent] <= entry) {
+				break;
+			}
+			heap[child] = heap[parent];
+			child = parent;
+		}
+		heap[child] = entry;
+	}
+
+	/**
+	 * Remove and return the entry with the least distance. Use {@link
+	 * #tile} and {@link #distance} to unpack it.
+	 */
+	public long pop() {
+		final long retval = heap[0];
+		final long last = heap[--size];
+		int parent = 0;
+		while (true) {
+			int child = (parent << 1) + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && heap[child + 1] < heap[child]) {
+				child++;
+			}
+			if (last <= heap[child]) {
+				break;
+			}
+			heap[parent] = heap[child];
+			parent = child;
+		}
+		heap[parent] = last;
+		return retval;
+	}
+
+	/**
+	 * Discard all entries, and the space they took.
+	 */
+	public void clear() {
+		heap = new long[0];
+		size = 0;
+	}
+
+	public static int tile(final long entry) {
+		return (int) entry;
+	}
+
+	public static int distance(final long entry) {
+		return (int) (entry >>> 32);
+	}
+}
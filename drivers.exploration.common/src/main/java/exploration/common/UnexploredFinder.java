@@ -0,0 +1,107 @@
+package exploration.common;
+
+import legacy.map.ILegacyMap;
+import legacy.map.MapDimensions;
+import legacy.map.Point;
+import legacy.map.TileType;
+import org.jspecify.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Finds the nearest "obviously reachable" unexplored tile to a point: one
+ * that can be reached by moving only outward from the point (never to a
+ * tile nearer it than the one before), across explored land, without
+ * crossing water.
+ *
+ * The search is best-first over tile indices ({@code row * columns +
+ * column}), nearest first, measuring distance as {@link
+ * legacy.DistanceComparatorImpl} does, wrapping around the edges of the map.
+ * Since every step leads outward, tiles come off the frontier in order of
+ * distance, so the search stops at the first unexplored tile it reaches;
+ * each tile is added to the frontier at most once. Ties are broken by row
+ * and then column.
+ *
+ * This keeps no state between searches, so it is cheap enough to be asked
+ * again whenever the selection or the map changes.
+ */
+public final class UnexploredFinder {
+	public UnexploredFinder(final ILegacyMap map) {
+		this.map = map;
+	}
+
+	private final ILegacyMap map;
+
+	/**
+	 * The square of the distance between two points, given as coordinates,
+	 * in a map of the given size.
+	 */
+	private static int distance(final int baseRow, final int baseColumn, final int row, final int column,
+	                            final int rows, final int columns) {
+		final int rowDistRaw = Math.abs(row - baseRow);
+		final int colDistRaw = Math.abs(column - baseColumn);
+		final int rowDist = (rowDistRaw > rows / 2) ? rows - rowDistRaw : rowDistRaw;
+		final int colDist = (colDistRaw > columns / 2) ? columns - colDistRaw : colDistRaw;
+		return rowDist * rowDist + colDist * colDist;
+	}
+
+	/**
+	 * The nearest obviously-reachable unexplored tile to the given point,
+	 * or null if there is none.
+	 */
+	public @Nullable Point nearestUnexplored(final Point base) {
+		return nearestUnexplored(base, -1);
+	}
+
+	/**
+	 * The nearest obviously-reachable unexplored tile to the given point
+	 * within the given distance of it, or null if there is none. A
+	 * negative radius means there is no limit.
+	 */
+	public @Nullable Point nearestUnexplored(final Point base, final double radius) {
+		final MapDimensions dims = map.getDimensions();
+		if (!dims.contains(base)) {
+			return null;
+		}
+		final int rows = dims.rows();
+		final int columns = dims.columns();
+		final long limit = (radius < 0) ? Integer.MAX_VALUE : (long) Math.floor(radius * radius);
+		final BitSet enqueued = new BitSet(rows * columns);
+		final TileHeap frontier = new TileHeap();
+		final int start = base.row() * columns + base.column();
+		enqueued.set(start);
+		frontier.push(0, start);
+		while (!frontier.isEmpty()) {
+			final long entry = frontier.pop();
+			final int tile = TileHeap.tile(entry);
+			final int currentDistance = TileHeap.distance(entry);
+			final int row = tile / columns;
+			final int column = tile % columns;
+			final Point current = new Point(row, column);
+			final TileType terrain = map.getBaseTerrain(current);
+			if (Objects.isNull(terrain)) {
+				return current;
+			} else if (TileType.Ocean == terrain) {
+				continue;
+			}
+			for (int dRow = -1; dRow <= 1; dRow++) {
+				for (int dColumn = -1; dColumn <= 1; dColumn++) {
+					final int neighborRow = Math.floorMod(row + dRow, rows);
+					final int neighborColumn = Math.floorMod(column + dColumn, columns);
+					final int neighbor = neighborRow * columns + neighborColumn;
+					if (enqueued.get(neighbor)) {
+						continue;
+					}
+					final int neighborDistance = distance(base.row(), base.column(), neighborRow, neighborColumn,
+							rows, columns);
+					if (neighborDistance >= currentDistance && neighborDistance <= limit) {
+						enqueued.set(neighbor);
+						frontier.push(neighborDistance, neighbor);
+					}
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,117 @@
+package exploration.common;
+
+import drivers.common.SelectionChangeListener;
+import legacy.map.IFixture;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.TileType;
+import legacy.map.fixtures.mobile.IUnit;
+import legacy.map.fixtures.mobile.Unit;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ExplorationModel#moveAlong}.
+ */
+public final class TestMoveAlong {
+	private static IMutableLegacyMap emptyMap() {
+		return new LegacyMap(new MapDimensionsImpl(5, 7, 2), new LegacyPlayerCollection(), 0);
+	}
+
+	/**
+	 * Records the events the model fires.
+	 */
+	private static final class Recorder implements SelectionChangeListener, MovementCostListener {
+		private final List<Point> points = new ArrayList<>();
+		private final List<Number> costs = new ArrayList<>();
+
+		@Override
+		public void selectedPointChanged(final @Nullable Point previousSelection, final Point newSelection) {
+			points.add(newSelection);
+		}
+
+		@Override
+		public void selectedUnitChanged(final @Nullable IUnit previousSelection,
+		                                final @Nullable IUnit newSelection) {
+		}
+
+		@Override
+		public void interactionPointChanged() {
+		}
+
+		@Override
+		public void cursorPointChanged(final @Nullable Point previousCursor, final Point newCursor) {
+		}
+
+		@Override
+		public void deduct(final Number cost) {
+			costs.add(cost);
+		}
+	}
+
+	/**
+	 * Test following a route, stopping early, and refusing an impassable route.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testMoveAlong() throws TraversalImpossibleException {
+		final IMutableLegacyMap main = emptyMap();
+		for (final Point point : main.getLocations()) {
+			main.setBaseTerrain(point, TileType.Plains);
+		}
+		main.setBaseTerrain(new Point(1, 2), TileType.Ocean);
+		final IMutableLegacyMap sub = emptyMap();
+		final Unit unit = new Unit(new PlayerImpl(1, "one"), "explorers", "unit", 1);
+		main.addFixture(new Point(0, 0), unit);
+		sub.addFixture(new Point(0, 0), unit.copy(IFixture.CopyBehavior.KEEP));
+		final ExplorationModel model = new ExplorationModel(main);
+		model.addSubordinateMap(sub);
+		model.setSelectedUnit(unit);
+		final Recorder recorder = new Recorder();
+		model.addSelectionChangeListener(recorder);
+		model.addMovementCostListener(recorder);
+
+		final Iterable<Point> route = new PathfinderImpl(main).getTravelDistance(new Point(0, 0), new Point(0, 3))
+				.getValue1();
+		assertEquals(new RouteResult(new Point(0, 3), 3, 6.0, true),
+				model.moveAlong(route, Speed.Normal, (p, cost) -> false),
+				"Whole route is followed, skipping the starting point");
+		assertEquals(new Point(0, 3), model.getSelectedUnitLocation(), "Selection follows the unit");
+		assertTrue(main.getFixtures(new Point(0, 3)).contains(unit), "Unit moved in main map");
+		assertFalse(main.getFixtures(new Point(0, 0)).contains(unit), "Unit left its starting tile in main map");
+		assertTrue(sub.getFixtures(new Point(0, 3)).contains(unit), "Unit moved in subordinate map");
+		assertFalse(sub.getFixtures(new Point(0, 0)).contains(unit), "Unit left its starting tile in submap");
+		assertEquals(TileType.Plains, sub.getBaseTerrain(new Point(0, 1)), "Terrain along the route is copied");
+		assertEquals(List.of(new Point(0, 3)), recorder.points, "Listeners are told of the move once");
+		assertEquals(List.of(6.0), recorder.costs, "Listeners are told the total cost once");
+
+		final RouteResult stopped = model.moveAlong(List.of(new Point(0, 2), new Point(0, 1), new Point(0, 0)),
+				Speed.Normal, (p, cost) -> new Point(0, 1).equals(p));
+		assertEquals(new RouteResult(new Point(0, 1), 2, 4.0, false), stopped, "Stop condition ends the route early");
+		final RouteResult tired = model.moveAlong(List.of(new Point(0, 2), new Point(0, 3)), Speed.Normal,
+				(p, cost) -> cost >= 2.0);
+		assertEquals(new RouteResult(new Point(0, 2), 1, 2.0, false), tired,
+				"Stop condition is given the cost so far");
+		model.moveAlong(List.of(new Point(0, 1)), Speed.Normal, (p, cost) -> false);
+
+		assertThrows(TraversalImpossibleException.class,
+				() -> model.moveAlong(List.of(new Point(0, 2), new Point(1, 2)), Speed.Normal, (p, cost) -> false),
+				"Impassable route is refused");
+		assertEquals(new Point(0, 1), model.getSelectedUnitLocation(), "Nothing moves when a route is refused");
+		assertThrows(IllegalArgumentException.class,
+				() -> model.moveAlong(List.of(new Point(3, 3)), Speed.Normal, (p, cost) -> false),
+				"Route with a gap is refused");
+	}
+}
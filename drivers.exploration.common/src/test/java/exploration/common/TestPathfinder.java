@@ -0,0 +1,79 @@
+package exploration.common;
+
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Point;
+import legacy.map.River;
+import legacy.map.TileType;
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the shortest-path implementation.
+ */
+public final class TestPathfinder {
+	/**
+	 * Create a map of the given size covered in plains.
+	 */
+	private static IMutableLegacyMap plainsMap(final int rows, final int columns) {
+		final IMutableLegacyMap retval = new LegacyMap(new MapDimensionsImpl(rows, columns, 2),
+				new LegacyPlayerCollection(), 0);
+		for (final Point point : retval.getLocations()) {
+			retval.setBaseTerrain(point, TileType.Plains);
+		}
+		return retval;
+	}
+
+	/**
+	 * Test distances and paths on open terrain, including wrapping around the edge of the map.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testOpenTerrain() {
+		final Pathfinder pather = new PathfinderImpl(plainsMap(5, 7));
+		final Pair<Integer, Iterable<Point>> straight = pather.getTravelDistance(new Point(0, 0), new Point(0, 2));
+		assertEquals(4, straight.getValue0(), "Two plains tiles cost two MP each");
+		assertEquals(List.of(new Point(0, 0), new Point(0, 1), new Point(0, 2)), straight.getValue1(),
+				"Path is the straight line");
+		assertEquals(2, pather.getTravelDistance(new Point(0, 0), new Point(0, 6)).getValue0(),
+				"Paths wrap around the edge of the map");
+		assertEquals(4, pather.getTravelDistance(new Point(0, 0), new Point(2, 2)).getValue0(),
+				"Diagonal moves are allowed");
+		assertEquals(0, pather.getTravelDistance(new Point(3, 3), new Point(3, 3)).getValue0(),
+				"Distance to self is zero");
+	}
+
+	/**
+	 * Test that water blocks movement, that rivers speed it, and that map changes are noticed.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testObstaclesAndChanges() {
+		final IMutableLegacyMap map = plainsMap(5, 5);
+		for (int row = 0; row < 5; row++) {
+			map.setBaseTerrain(new Point(row, 2), TileType.Ocean);
+		}
+		final Pathfinder pather = PathfinderFactory.pathfinder(map);
+		final Pair<Integer, Iterable<Point>> blocked = pather.getTravelDistance(new Point(0, 1), new Point(0, 3));
+		assertEquals(6, blocked.getValue0(), "Path goes around the other way, wrapping around the map");
+		map.setBaseTerrain(new Point(0, 0), TileType.Ocean);
+		map.setBaseTerrain(new Point(1, 0), TileType.Ocean);
+		map.setBaseTerrain(new Point(2, 0), TileType.Ocean);
+		map.setBaseTerrain(new Point(3, 0), TileType.Ocean);
+		map.setBaseTerrain(new Point(4, 0), TileType.Ocean);
+		final Pair<Integer, Iterable<Point>> unreachable = pather.getTravelDistance(new Point(0, 1), new Point(0, 3));
+		assertEquals(Integer.MAX_VALUE - 1, unreachable.getValue0(), "Water on both sides blocks travel");
+		assertFalse(unreachable.getValue1().iterator().hasNext(), "No path when unreachable");
+		map.addRivers(new Point(4, 1), River.South);
+		assertTrue(pather.getTravelDistance(new Point(4, 1), new Point(3, 1)).getValue0() < 2,
+				"Rivers speed travel");
+	}
+}
@@ -0,0 +1,65 @@
+package exploration.common;
+
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Point;
+import legacy.map.TileType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests of {@link UnexploredFinder}.
+ */
+public final class TestUnexploredFinder {
+	/**
+	 * Create a 7x7 map covered in plains except for the given unexplored tiles.
+	 */
+	private static IMutableLegacyMap plainsMap(final Point... unexplored) {
+		final IMutableLegacyMap retval = new LegacyMap(new MapDimensionsImpl(7, 7, 2),
+				new LegacyPlayerCollection(), 0);
+		for (final Point point : retval.getLocations()) {
+			retval.setBaseTerrain(point, TileType.Plains);
+		}
+		for (final Point point : unexplored) {
+			retval.setBaseTerrain(point, null);
+		}
+		return retval;
+	}
+
+	/**
+	 * Test that the nearest unexplored tile is found, wrapping around the edges of the map.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testNearest() {
+		final UnexploredFinder finder = new UnexploredFinder(plainsMap(new Point(0, 3), new Point(6, 6)));
+		assertEquals(new Point(0, 3), finder.nearestUnexplored(new Point(3, 3)), "Nearest tile is found");
+		assertEquals(new Point(6, 6), finder.nearestUnexplored(new Point(0, 0)),
+				"Search wraps around the edges of the map");
+		assertEquals(new Point(0, 3), finder.nearestUnexplored(new Point(0, 3)), "Unexplored start is its own answer");
+		assertNull(new UnexploredFinder(plainsMap()).nearestUnexplored(new Point(3, 3)),
+				"Nothing is found in a fully explored map");
+	}
+
+	/**
+	 * Test the radius limit, and that water stops the search.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testLimits() {
+		final IMutableLegacyMap map = plainsMap(new Point(0, 3));
+		final UnexploredFinder finder = new UnexploredFinder(map);
+		assertNull(finder.nearestUnexplored(new Point(3, 3), 2), "Tiles beyond the radius are not found");
+		assertEquals(new Point(0, 3), finder.nearestUnexplored(new Point(3, 3), 3), "Tile at the radius is found");
+		for (final Point point : new SurroundingPointIterable(new Point(3, 3), map.getDimensions(), 1)) {
+			if (!point.equals(new Point(3, 3))) {
+				map.setBaseTerrain(point, TileType.Ocean);
+			}
+		}
+		assertNull(finder.nearestUnexplored(new Point(3, 3)), "Search does not cross water");
+	}
+}
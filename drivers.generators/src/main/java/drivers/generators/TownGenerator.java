@@ -31,6 +31,7 @@ import common.map.fixtures.towns.TownSize;
 import legacy.map.IFixture;
 import legacy.map.Point;
 import legacy.map.TileType;
+import legacy.map.FixtureLocation;
 import legacy.map.ILegacyMap;
 
 import legacy.map.fixtures.IResourcePile;
@@ -47,7 +48,6 @@ import legacy.map.fixtures.resources.StoneDeposit;
 import legacy.map.fixtures.resources.CacheFixture;
 import legacy.map.fixtures.resources.Shrub;
 
-import exploration.common.SurroundingPointIterable;
 
 import java.util.Random;
 
@@ -168,25 +168,19 @@ import static java.util.function.Predicate.not;
 
 	/**
 	 * Get the fixture in the given map identified by the given ID number.
-	 *
-	 * TODO: search inside fortresses and units
 	 */
 	private static @Nullable IFixture findByID(final ILegacyMap map, final int id) {
-		return map.streamAllFixtures()
-				.filter(f -> f.getId() == id)
-				.findAny().orElse(null);
+		final FixtureLocation found = map.findFixture(id);
+		return Objects.isNull(found) ? null : found.fixture();
 	}
 
 	/**
 	 * Find the location in the given map of the fixture identified
 	 * by the given ID number.
-	 *
-	 * TODO: search inside fortresses and units
 	 */
 	private static @Nullable Point findLocById(final ILegacyMap map, final int id) {
-		return map.streamLocations()
-				.filter(l -> map.streamFixtures(l).anyMatch(f -> f.getId() == id))
-				.findAny().orElse(null);
+		final FixtureLocation found = map.findFixture(id);
+		return Objects.isNull(found) ? null : found.location();
 	}
 
 	/**
@@ -243,19 +237,22 @@ import static java.util.function.Predicate.not;
 	}
 
 	/**
-	 * Find the nearest claimable resources to the given location.
+	 * How far, in tiles, from a town to look for fields it might work.
+	 */
+	private static final double FIELD_RANGE = 10;
+
+	/**
+	 * Find the claimable resources within {@link #FIELD_RANGE} tiles of
+	 * the given location, nearest first.
 	 */
 	private static List<HarvestableFixture> findNearestFields(final ILegacyMap map, final Point location) {
 		final TileType base = map.getBaseTerrain(location);
 		if (Objects.isNull(base)) {
 			return Collections.emptyList();
 		} else {
-			return new SurroundingPointIterable(location,
-					map.getDimensions(), 10).stream().distinct()
-					.filter(l -> bothOrNeitherOcean(base, map.getBaseTerrain(l)))
-					.flatMap(map::streamFixtures)
-					.filter(HarvestableFixture.class::isInstance)
-					.map(HarvestableFixture.class::cast).filter(TownGenerator::isReallyClaimable)
+			return map.fixturesWithin(HarvestableFixture.class, location, FIELD_RANGE).stream()
+					.filter(pair -> bothOrNeitherOcean(base, map.getBaseTerrain(pair.getValue0())))
+					.map(Pair::getValue1).filter(TownGenerator::isReallyClaimable)
 					.collect(Collectors.toList());
 		}
 	}
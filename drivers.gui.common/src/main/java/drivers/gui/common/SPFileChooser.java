@@ -26,7 +26,7 @@ import java.util.Objects;
  */
 public class SPFileChooser extends FileChooser {
 	private static final FileFilter MAP_EXTENSIONS_FILTER = new FileNameExtensionFilter(
-			"Strategic Primer world map files", "map", "xml", "db");
+			"Strategic Primer world map files", "map", "xml", "gz", "db");
 
 	/**
 	 * A factory method for {@link JFileChooser} (or AWT {@link
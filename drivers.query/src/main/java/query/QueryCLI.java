@@ -4,8 +4,6 @@ import legacy.DistanceComparatorImpl;
 import legacy.map.fixtures.IResourcePile;
 import legacy.map.fixtures.towns.CommunityStats;
 
-import java.util.Collection;
-import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,11 +27,7 @@ import legacy.map.MapDimensions;
 import legacy.map.Point;
 import legacy.map.ILegacyMap;
 
-import java.util.LinkedList;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.HashSet;
-import java.util.Deque;
 
 import drivers.common.IDriverModel;
 import drivers.common.ReadOnlyDriver;
@@ -53,6 +47,7 @@ import legacy.map.fixtures.mobile.IWorker;
 import exploration.common.SurroundingPointIterable;
 import exploration.common.PathfinderFactory;
 import exploration.common.Pathfinder;
+import exploration.common.UnexploredFinder;
 
 import legacy.DistanceComparator;
 
@@ -111,6 +106,7 @@ public final class QueryCLI implements ReadOnlyDriver {
 		this.model = model;
 		map = model.getMap();
 		pather = PathfinderFactory.pathfinder(map);
+		unexploredFinder = new UnexploredFinder(map);
 		appletChooser = new AppletChooser<>(cli,
 				new SimpleApplet(() -> fortressInfo(cli.inputPoint("Location of fortress?")),
 						"Show what a player automatically knows about a fortress's tile.",
@@ -129,6 +125,8 @@ public final class QueryCLI implements ReadOnlyDriver {
 
 	private final Pathfinder pather;
 
+	private final UnexploredFinder unexploredFinder;
+
 	/**
 	 * Count the workers belonging to a player.
 	 */
@@ -156,12 +154,10 @@ public final class QueryCLI implements ReadOnlyDriver {
 		if (Objects.isNull(distance)) {
 			return;
 		}
-		for (final Pair<Point, ITownFixture> pair : map.streamLocations()
-				.filter(l -> distance(point, l, map.getDimensions()) <= distance)
-				.sorted(Comparator.comparing(l -> distance(point, l, map.getDimensions())))
-				.flatMap(l -> map.streamFixtures(l).filter(ITownFixture.class::isInstance)
-						.map(ITownFixture.class::cast).filter(t -> Objects.nonNull(t.getPopulation()))
-						.map(f -> Pair.with(l, f))).toList()) {
+		for (final Pair<Point, ITownFixture> pair : map.fixturesWithin(ITownFixture.class, point, distance)) {
+			if (Objects.isNull(pair.getValue1().getPopulation())) {
+				continue;
+			}
 			final Point loc = pair.getValue0();
 			final double delta = distance(point, loc, map.getDimensions());
 			final ITownFixture town = pair.getValue1();
@@ -229,38 +225,6 @@ public final class QueryCLI implements ReadOnlyDriver {
 		}
 	}
 
-	/**
-	 * Find the nearest obviously-reachable unexplored location.
-	 */
-	private @Nullable Point findUnexplored(final Point base) {
-		final Deque<Point> queue = new LinkedList<>();
-		queue.addLast(base);
-		final MapDimensions dimensions = map.getDimensions();
-		final Collection<Point> considered = new HashSet<>();
-		final Collection<Point> retval = new ArrayList<>();
-		while (!queue.isEmpty()) {
-			final Point current = queue.removeFirst();
-			final TileType currentTerrain = map.getBaseTerrain(current);
-			if (considered.contains(current)) {
-				continue;
-			} else if (Objects.isNull(currentTerrain)) {
-				retval.add(current);
-			} else {
-				if (TileType.Ocean != currentTerrain) {
-					final double baseDistance = distance(base, current, dimensions);
-					for (final Point neighbor : new SurroundingPointIterable(current,
-							dimensions, 1)) {
-						if (distance(base, neighbor, dimensions) >= baseDistance) {
-							queue.addLast(neighbor);
-						}
-					}
-				}
-			}
-			considered.add(current);
-		}
-		return retval.stream().min(new DistanceComparatorImpl(base, dimensions)).orElse(null);
-	}
-
 	/**
 	 * Print a list of active towns within the given distance of the given
 	 * base that produce any resources, and what resources they produce.
@@ -321,7 +285,7 @@ public final class QueryCLI implements ReadOnlyDriver {
 	private void findUnexploredCommand() {
 		final Point base = cli.inputPoint("Starting point? ");
 		if (Objects.nonNull(base)) {
-			final Point unexplored = findUnexplored(base);
+			final Point unexplored = unexploredFinder.nearestUnexplored(base);
 			if (Objects.isNull(unexplored)) {
 				cli.println("No unexplored tiles found.");
 			} else {
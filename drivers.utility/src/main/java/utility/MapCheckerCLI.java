@@ -13,26 +13,35 @@ import legacy.map.TileFixture;
 
 import java.io.Serial;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 import java.util.stream.Stream;
 import javax.xml.stream.XMLStreamException;
 
 import lovelace.util.LovelaceLogger;
-import org.javatuples.Pair;
 
 import java.io.IOException;
 import java.nio.file.Paths;
 
 import java.nio.file.Path;
 
+import drivers.common.DriverFailedException;
 import drivers.common.UtilityDriver;
 import drivers.common.EmptyOptions;
 import drivers.common.SPOptions;
@@ -44,6 +53,8 @@ import legacy.map.HasOwner;
 import legacy.map.Point;
 import legacy.map.TileType;
 import legacy.map.ILegacyMap;
+import legacy.map.MapDimensions;
+import legacy.map.PointPool;
 
 import legacy.map.fixtures.mobile.IWorker;
 import legacy.map.fixtures.mobile.AnimalTracks;
@@ -51,6 +62,7 @@ import legacy.map.fixtures.mobile.AnimalTracks;
 import legacy.map.fixtures.mobile.worker.IJob;
 
 import static legacy.map.fixtures.mobile.worker.IJob.SUSPICIOUS_SKILLS;
+import static java.util.function.Predicate.not;
 import static lovelace.util.MatchingValue.matchingValue;
 
 import legacy.map.fixtures.mobile.worker.ISkill;
@@ -418,6 +430,12 @@ public final class MapCheckerCLI implements UtilityDriver {
 	private static final List<MultiFixtureChecker> EXTRA_MULTI_CHECKS = List.of(MapCheckerCLI::acreageChecker,
 			MapCheckerCLI::hillInMountainCheck, MapCheckerCLI::pointlessTracksCheck);
 
+	/**
+	 * How many row-bands to divide the map into for each thread in the
+	 * fork-join pool, so that a thread that finishes early can take more.
+	 */
+	private static final int BANDS_PER_THREAD = 4;
+
 	private static boolean contentCheck(final Checker checker, final @Nullable TileType terrain, final Point context,
 	                                    final Warning warner, final Iterable<? extends IFixture> list) {
 		boolean retval = false;
@@ -448,8 +466,119 @@ public final class MapCheckerCLI implements UtilityDriver {
 		check(file, new Warning(System.out::println, true));
 	}
 
-	@SuppressWarnings("HardcodedFileSeparator")
 	public void check(final Path file, final Warning warner) {
+		check(file, warner, stdout, stderr);
+	}
+
+	/**
+	 * What checking a file found, for the summary printed when checking several.
+	 *
+	 * @param file     The file checked
+	 * @param status   A brief description of the outcome
+	 * @param warnings How many warnings, both from reading the file and from checking its contents, were reported
+	 * @param millis   How long, in milliseconds, reading and checking the file took
+	 */
+	private record Summary(Path file, String status, int warnings, long millis) {
+	}
+
+	/**
+	 * The warnings checking one row-band of the map produced, for each
+	 * check in turn, and whether any check reported anything.
+	 */
+	private record Findings(List<List<Throwable>> warnings, boolean result) {
+	}
+
+	/**
+	 * Run every check on every location in the given row-band of the
+	 * map, recording the warnings they report instead of passing them on.
+	 */
+	private static Findings checkLocations(final ILegacyMap map, final List<Checker> checkers,
+	                                       final boolean checkTracks, final Iterable<Point> locations) {
+		final int count = checkers.size() + EXTRA_MULTI_CHECKS.size() + 1;
+		final List<List<Throwable>> warnings = new ArrayList<>(count);
+		final List<Warning> warners = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final List<Throwable> buffer = new ArrayList<>();
+			warnings.add(buffer);
+			warners.add(new Warning(buffer::add));
+		}
+		final Warning tracksWarner = warners.getLast();
+		boolean result = false;
+		for (final Point location : locations) {
+			final TileType terrain = map.getBaseTerrain(location);
+			final Collection<TileFixture> fixtures = map.getFixtures(location);
+			if (Objects.nonNull(terrain)) {
+				for (int i = 0; i < checkers.size(); i++) {
+					result = contentCheck(checkers.get(i), terrain, location, warners.get(i), fixtures) || result;
+				}
+			}
+			final boolean mountainous = map.isMountainous(location);
+			for (int i = 0; i < EXTRA_MULTI_CHECKS.size(); i++) {
+				result = EXTRA_MULTI_CHECKS.get(i).check(terrain, location, mountainous,
+						warners.get(checkers.size() + i), fixtures) || result;
+			}
+			if (checkTracks && Objects.nonNull(terrain)) {
+				for (final TileFixture fixture : fixtures) {
+					result = animalTracksChecker(terrain, location, fixture, tracksWarner) || result;
+				}
+			}
+		}
+		return new Findings(warnings, result);
+	}
+
+	/**
+	 * The locations in the given rows of the map, in row-major order.
+	 */
+	private static Iterable<Point> rowBand(final ILegacyMap map, final int fromRow, final int toRow) {
+		final PointPool pool = PointPool.forDimensions(map.getDimensions());
+		final int columns = map.getDimensions().columns();
+		return () -> IntStream.range(fromRow * columns, toRow * columns)
+				.mapToObj(index -> pool.get(index / columns, index % columns)).iterator();
+	}
+
+	/**
+	 * Run every check on the contents of the map, in a single pass over
+	 * the map that hands each tile to every check. The map is divided into
+	 * bands of rows that are checked in parallel, with any points outside
+	 * the map's dimensions that have fixtures as a final band, but
+	 * warnings are reported in the same order as if each check had been
+	 * run over the whole map in turn.
+	 *
+	 * @return whether any check reported anything
+	 */
+	private static boolean checkContents(final ILegacyMap map, final boolean checkTracks, final Warning warner) {
+		final List<Checker> checkers = Stream.concat(Stream.<Checker>of(new OwnerChecker(map)::check),
+				EXTRA_CHECKS.stream()).toList();
+		final MapDimensions dimensions = map.getDimensions();
+		final int bandCount = Math.min(dimensions.rows(), BANDS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+		final List<Iterable<Point>> bands = new ArrayList<>(bandCount + 1);
+		for (int i = 0; i < bandCount; i++) {
+			bands.add(rowBand(map, dimensions.rows() * i / bandCount, dimensions.rows() * (i + 1) / bandCount));
+		}
+		bands.add(map.streamLocations().filter(not(dimensions::contains)).toList());
+		final List<Findings> findings = bands.parallelStream()
+				.map(band -> checkLocations(map, checkers, checkTracks, band)).toList();
+		final int count = checkers.size() + EXTRA_MULTI_CHECKS.size() + 1;
+		for (int i = 0; i < count; i++) {
+			for (final Findings band : findings) {
+				for (final Throwable warning : band.warnings().get(i)) {
+					warner.handle(warning);
+				}
+			}
+		}
+		return findings.stream().anyMatch(Findings::result);
+	}
+
+	@SuppressWarnings("HardcodedFileSeparator")
+	private static Summary check(final Path file, final Warning outerWarner, final Consumer<String> stdout,
+	                             final Consumer<String> stderr) {
+		final long start = System.nanoTime();
+		final AtomicInteger warnings = new AtomicInteger(0);
+		final Warning warner = new Warning(warning -> {
+			warnings.incrementAndGet();
+			outerWarner.handle(warning);
+		});
+		final LongSupplier elapsed = () -> (System.nanoTime() - start) / 1_000_000;
 		stdout.accept("Starting " + file);
 		final ILegacyMap map;
 		try {
@@ -458,67 +587,96 @@ public final class MapCheckerCLI implements UtilityDriver {
 			stderr.accept(file + " not found");
 			LovelaceLogger.error("%s not found", file);
 			LovelaceLogger.debug(except, "Full stack trace of file-not-found:");
-			return;
+			return new Summary(file, "not found", warnings.get(), elapsed.getAsLong());
 		} catch (final IOException except) {
 			stderr.accept("I/O error reading " + file);
 			LovelaceLogger.error("I/O error reading %s: %s", file, except.getMessage());
 			LovelaceLogger.debug(except, "Full stack trace of I/O error");
-			return;
+			return new Summary(file, "I/O error", warnings.get(), elapsed.getAsLong());
 		} catch (final XMLStreamException except) {
 			stderr.accept("Malformed XML in " + file);
 			LovelaceLogger.error("Malformed XML in %s: %s", file, except.getMessage());
 			LovelaceLogger.debug(except, "Full stack trace of malformed-XML error");
-			return;
+			return new Summary(file, "malformed XML", warnings.get(), elapsed.getAsLong());
 		} catch (final SPFormatException except) {
 			stderr.accept("SP map format error in " + file);
 			LovelaceLogger.error("SP map format error in %s: %s", file,
 					except.getMessage());
 			LovelaceLogger.debug(except, "Full stack trace of SP map format error:");
-			return;
-		}
-
-		boolean result = false;
-		for (final Checker checker : Stream.concat(Stream.of(new OwnerChecker(map)::check),
-				EXTRA_CHECKS.stream()).toList()) {
-			for (final Point location : map.getLocations()) {
-				if (Objects.nonNull(map.getBaseTerrain(location))) {
-					result = contentCheck(checker, map.getBaseTerrain(location),
-							location, warner, map.getFixtures(location)) || result;
-				}
-			}
-			LovelaceLogger.debug("Finished a check for %s", file);
-		}
-
-		for (final MultiFixtureChecker checker : EXTRA_MULTI_CHECKS) {
-			for (final Point location : map.getLocations()) {
-				result = checker.check(map.getBaseTerrain(location), location, map.isMountainous(location), warner,
-						map.getFixtures(location)) || result;
-			}
+			return new Summary(file, "format error", warnings.get(), elapsed.getAsLong());
 		}
 
-		if (file.toString().contains("world_turn")) {
-			for (final Pair<Point, TileFixture> pair : map.streamLocations()
-					.flatMap(l -> map.streamFixtures(l)
-							.map(f -> Pair.with(l, f))).toList()) {
-				final Point location = pair.getValue0();
-				final TileFixture fixture = pair.getValue1();
-				if (Objects.nonNull(map.getBaseTerrain(location))) {
-					result = animalTracksChecker(map.getBaseTerrain(location),
-							location, fixture, warner) || result;
-				}
-			}
-		}
+		final boolean result = checkContents(map, file.toString().contains("world_turn"), warner);
 
 		LovelaceLogger.debug("Finished with %s", file);
 		if (result) {
 			stdout.accept("... done");
+			return new Summary(file, "errors", warnings.get(), elapsed.getAsLong());
 		} else {
 			stdout.accept("No errors in " + file);
+			return new Summary(file, "no errors", warnings.get(), elapsed.getAsLong());
 		}
 	}
 
+	/**
+	 * Check several files concurrently. So that the output is still
+	 * readable, each file's output is held back until it is finished, and
+	 * then printed in the order the files were given; then we print a
+	 * table of what was found in each file and how long it took.
+	 */
+	private void checkAll(final List<Path> files) throws DriverFailedException {
+		final int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		final List<List<Runnable>> outputs = new ArrayList<>(files.size());
+		final List<Future<Summary>> futures = new ArrayList<>(files.size());
+		final List<Summary> summaries = new ArrayList<>(files.size());
+		try (final ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (final Path file : files) {
+				// Only touched by the task until it finishes, then only by us
+				final List<Runnable> output = new ArrayList<>();
+				outputs.add(output);
+				final Consumer<String> out = line -> output.add(() -> stdout.accept(line));
+				final Consumer<String> err = line -> output.add(() -> stderr.accept(line));
+				futures.add(executor.submit(() -> check(file, new Warning(out, true), out, err)));
+			}
+			try {
+				for (int i = 0; i < files.size(); i++) {
+					final Summary summary = futures.get(i).get();
+					outputs.get(i).forEach(Runnable::run);
+					summaries.add(summary);
+				}
+			} catch (final ExecutionException except) {
+				executor.shutdownNow();
+				throw switch (except.getCause()) {
+					case final RuntimeException cause -> throw cause;
+					case final Error cause -> throw cause;
+					case final Throwable cause -> new DriverFailedException(cause, "Failed to check maps");
+				};
+			} catch (final InterruptedException except) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+				throw new DriverFailedException(except, "Interrupted while checking maps");
+			}
+		}
+		final int width = summaries.stream().map(Summary::file).map(Path::toString).mapToInt(String::length)
+				.max().orElse(0);
+		final String format = "%-" + Math.max(width, 4) + "s  %-13s  %8s  %9s";
+		stdout.accept(format.formatted("File", "Result", "Warnings", "Time (ms)"));
+		long totalTime = 0;
+		int totalWarnings = 0;
+		for (final Summary summary : summaries) {
+			stdout.accept(format.formatted(summary.file(), summary.status(), summary.warnings(), summary.millis()));
+			totalTime += summary.millis();
+			totalWarnings += summary.warnings();
+		}
+		stdout.accept(format.formatted("Total", "", totalWarnings, totalTime));
+	}
+
 	@Override
-	public void startDriver(final String... args) {
-		Arrays.stream(args).map(Paths::get).forEachOrdered(this::check);
+	public void startDriver(final String... args) throws DriverFailedException {
+		if (args.length > 1) {
+			checkAll(Arrays.stream(args).map(Paths::get).toList());
+		} else {
+			Arrays.stream(args).map(Paths::get).forEachOrdered(this::check);
+		}
 	}
 }
@@ -4,27 +4,32 @@ import java.nio.file.Path;
 
 import drivers.common.IMultiMapModel;
 import drivers.common.ReadOnlyDriver;
-import drivers.common.EmptyOptions;
 import drivers.common.SPOptions;
 
 import drivers.common.cli.ICLIHelper;
 
 import legacy.map.ILegacyMap;
+import legacy.map.SubsetChecker;
 
 import java.util.function.Consumer;
 import java.util.Optional;
 
 /**
- * A driver to check whether player maps are subsets of the main map.
+ * A driver to check whether player maps are subsets of the main map. With
+ * the "--fail-fast" option, it stops checking each map at the first
+ * difference that makes it not a subset.
  */
 public final class SubsetCLI implements ReadOnlyDriver {
-	public SubsetCLI(final ICLIHelper cli, final IMultiMapModel model) {
+	public SubsetCLI(final ICLIHelper cli, final SPOptions options, final IMultiMapModel model) {
 		this.model = model;
 		this.cli = cli;
+		this.options = options;
 	}
 
 	private final ICLIHelper cli;
 
+	private final SPOptions options;
+
 	private final IMultiMapModel model;
 
 	@Override
@@ -34,7 +39,7 @@ public final class SubsetCLI implements ReadOnlyDriver {
 
 	@Override
 	public SPOptions getOptions() {
-		return EmptyOptions.EMPTY_OPTIONS;
+		return options;
 	}
 
 	private Consumer<String> report(final String filename) {
@@ -43,11 +48,15 @@ public final class SubsetCLI implements ReadOnlyDriver {
 
 	@Override
 	public void startDriver() {
+		// Index the main map once, not once per subordinate map.
+		final SubsetChecker checker = new SubsetChecker(model.getMap());
+		final SubsetChecker.Mode mode = options.hasOption("--fail-fast") ? SubsetChecker.Mode.FailFast :
+				SubsetChecker.Mode.Complete;
 		for (final ILegacyMap map : model.getSubordinateMaps()) {
 			final String filename = Optional.ofNullable(map.getFilename()).map(Path::toString)
 					.orElse("map without a filename");
 			cli.print(filename, "\t...\t\t");
-			if (model.getMap().isSubset(map, report(filename))) {
+			if (checker.isSubset(map, report(filename), mode)) {
 				cli.println("OK");
 			} else {
 				cli.println("WARN");
@@ -29,8 +29,9 @@ public final class SubsetCLIFactory implements ModelDriverFactory<IMultiMapModel
 			ParamCount.AtLeastTwo, "Check players' maps against master",
 			"""
 					Check that subordinate maps are subsets of the main map, containing nothing that it does not \
-					contain in the same place.""",
-			EnumSet.of(IDriverUsage.DriverMode.CommandLine));
+					contain in the same place. With --fail-fast, stop checking each map at the first difference \
+					found.""",
+			EnumSet.of(IDriverUsage.DriverMode.CommandLine), "filename.xml", "filename.xml", "--fail-fast");
 
 	@Override
 	public IDriverUsage getUsage() {
@@ -43,7 +44,7 @@ public final class SubsetCLIFactory implements ModelDriverFactory<IMultiMapModel
 			cli.println("Subset checking does nothing with no subordinate maps");
 			LovelaceLogger.warning("Subset checking does nothing with no subordinate maps");
 		}
-		return new SubsetCLI(cli, model);
+		return new SubsetCLI(cli, options, model);
 	}
 
 	@Override
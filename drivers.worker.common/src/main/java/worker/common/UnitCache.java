@@ -0,0 +1,138 @@
+package worker.common;
+
+import legacy.map.ILegacyMap;
+import legacy.map.Player;
+import legacy.map.fixtures.mobile.IUnit;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache of each player's units (or proxies for them, when there are
+ * subordinate maps), sorted by name and indexed by ID and by kind, for the
+ * {@link WorkerModel}'s unit queries.
+ *
+ * The cache is discarded when the set of maps changes, when any map's
+ * revision changes, and when {@link #invalidate} is called, which the model
+ * does after every change it makes to the maps itself (since changes inside
+ * fortresses and units do not change the map's revision) and whenever a new
+ * map is loaded. It must be called after, not before, such a change, since
+ * the change may itself consult the cache, as in finding the current
+ * player. It is then rebuilt, one player at a time, the next time it is
+ * used.
+ */
+/* package */ final class UnitCache {
+	private static final Comparator<IUnit> BY_NAME =
+			Comparator.comparing(IUnit::getName, String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * One player's units.
+	 *
+	 * @param units  The units, sorted by name
+	 * @param byId   The units, by ID
+	 * @param byKind The units, by kind, each list sorted by name
+	 * @param kinds  The units' kinds, sorted without regard to case
+	 */
+	public record Entry(List<IUnit> units, Map<Integer, IUnit> byId, Map<String, List<IUnit>> byKind,
+	                    List<String> kinds) {
+		private static Entry of(final List<IUnit> unsorted) {
+			final List<IUnit> units = new ArrayList<>(unsorted);
+			units.sort(BY_NAME);
+			final Map<Integer, IUnit> byId = new HashMap<>(units.size() * 2);
+			final Map<String, List<IUnit>> byKind = new LinkedHashMap<>();
+			for (final IUnit unit : units) {
+				byId.putIfAbsent(unit.getId(), unit);
+				byKind.computeIfAbsent(unit.getKind(), k -> new ArrayList<>()).add(unit);
+			}
+			final List<String> kinds = new ArrayList<>(byKind.keySet());
+			kinds.sort(String.CASE_INSENSITIVE_ORDER);
+			return new Entry(Collections.unmodifiableList(units), byId, byKind, Collections.unmodifiableList(kinds));
+		}
+
+		/**
+		 * The units of the given kind, sorted by name.
+		 */
+		public List<IUnit> ofKind(final String kind) {
+			return Collections.unmodifiableList(byKind.getOrDefault(kind, Collections.emptyList()));
+		}
+
+		/**
+		 * The unit with the given ID, or null if none.
+		 */
+		public @Nullable IUnit withId(final int id) {
+			return byId.get(id);
+		}
+	}
+
+	/**
+	 * How to collect a player's units from the maps.
+	 */
+	private final Function<Player, List<IUnit>> collector;
+
+	/**
+	 * The cached units, by player ID.
+	 */
+	private final Map<Integer, Entry> entries = new HashMap<>();
+
+	/**
+	 * The maps the cached units were collected from.
+	 */
+	private List<ILegacyMap> maps = Collections.emptyList();
+
+	/**
+	 * The revisions of those maps when the units were collected.
+	 */
+	private long[] revisions = new long[0];
+
+	/**
+	 * @param collector How to collect a player's units from the maps
+	 */
+	public UnitCache(final Function<Player, List<IUnit>> collector) {
+		this.collector = collector;
+	}
+
+	/**
+	 * Whether the cache was built from exactly the given maps, as they are now.
+	 */
+	private boolean isCurrent(final List<ILegacyMap> current) {
+		if (current.size() != maps.size()) {
+			return false;
+		}
+		for (int i = 0; i < revisions.length; i++) {
+			final ILegacyMap map = current.get(i);
+			if (map != maps.get(i) || map.getRevision() != revisions[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the given player's units in the given maps, collecting them if
+	 * they are not already cached.
+	 */
+	public synchronized Entry get(final List<ILegacyMap> current, final Player player) {
+		if (!isCurrent(current)) {
+			entries.clear();
+			maps = List.copyOf(current);
+			revisions = maps.stream().mapToLong(ILegacyMap::getRevision).toArray();
+		}
+		return entries.computeIfAbsent(player.getPlayerId(), k -> Entry.of(collector.apply(player)));
+	}
+
+	/**
+	 * Discard everything in the cache.
+	 */
+	public synchronized void invalidate() {
+		entries.clear();
+		maps = Collections.emptyList();
+		revisions = new long[0];
+	}
+}
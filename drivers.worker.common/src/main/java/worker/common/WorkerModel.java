@@ -26,7 +26,6 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.stream.StreamSupport;
 import java.util.stream.Collectors;
-import java.util.Comparator;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -38,6 +37,7 @@ import legacy.map.HasKind;
 import legacy.map.HasMutableKind;
 import legacy.map.HasMutableName;
 import legacy.map.HasMutableOwner;
+import legacy.map.FixtureLocation;
 import legacy.map.IFixture;
 import legacy.map.ILegacyMap;
 import legacy.map.IMutableLegacyMap;
@@ -85,20 +85,6 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 		}
 	}
 
-	/**
-	 * If the item in the entry is a {@link IFortress fortress}, return a
-	 * stream of its contents paired with its location; otherwise, return a
-	 * stream of just it.
-	 */
-	private static Stream<Pair<Point, IFixture>> flattenEntries(final Point point,
-																final IFixture fixture) {
-		if (fixture instanceof final IFortress f) {
-			return f.stream().map(m -> Pair.with(point, m));
-		} else {
-			return Stream.of(Pair.with(point, fixture));
-		}
-	}
-
 	/**
 	 * Add the given unit at the given location in the given map.
 	 */
@@ -110,6 +96,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 			map.addFixture(location, unit.copy(IFixture.CopyBehavior.KEEP));
 		} else {
 			fortress.addMember(unit.copy(IFixture.CopyBehavior.KEEP));
+			map.markChanged(fortress);
 		}
 	}
 
@@ -120,12 +107,20 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 
 	private final List<UnitMember> dismissedMembers = new ArrayList<>();
 
+	/**
+	 * Each player's units, so the worker-management tree can be refreshed
+	 * without searching every map.
+	 */
+	private final UnitCache unitCache = new UnitCache(this::collectUnits);
+
 	public WorkerModel(final IMutableLegacyMap map) {
 		super(map);
+		addMapChangeListener(unitCache::invalidate);
 	}
 
 	public WorkerModel(final IDriverModel model) {
 		super(model);
+		addMapChangeListener(unitCache::invalidate);
 	}
 
 	/**
@@ -185,12 +180,43 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Collect all the given player's units from the maps, combining
+	 * corresponding units in different maps into proxies if there are
+	 * subordinate maps. This is a full scan of every map; callers should
+	 * use {@link #cachedUnits} instead.
+	 */
+	private List<IUnit> collectUnits(final Player player) {
+		if (getSubordinateMaps().iterator().hasNext()) {
+			final Map<Integer, ProxyUnit> tempMap = new TreeMap<>();
+			streamAllMaps()
+					.flatMap((indivMap) -> getUnitsImpl(indivMap.streamAllFixtures() , player))
+					.forEach(unit -> {
+						final int key = unit.getId();
+						final ProxyUnit proxy = tempMap.computeIfAbsent(key, ProxyUnit::new);
+						proxy.addProxied(unit);
+					});
+			return new ArrayList<>(tempMap.values());
+		} else {
+			// Just in case I missed something in the proxy implementation, make sure
+			// things work correctly when there's only one map.
+			return getUnitsImpl(getMap().streamAllFixtures(), player).collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * The given player's units, from the cache if it is still current.
+	 */
+	private UnitCache.Entry cachedUnits(final Player player) {
+		return unitCache.get(streamAllMaps().toList(), player);
+	}
+
 	/**
 	 * Get all the given player's units, or only those of a specified kind.
 	 */
 	@Override
 	public Collection<IUnit> getUnits(final Player player, final String kind) {
-		return streamUnits(player).filter(u -> kind.equals(u.getKind())).collect(Collectors.toList());
+		return new ArrayList<>(cachedUnits(player).ofKind(kind));
 	}
 
 	/**
@@ -198,29 +224,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public Stream<IUnit> streamUnits(final Player player) {
-		if (getSubordinateMaps().iterator().hasNext()) {
-			// While it's possible to avoid the collect() here, this requires us to turn the rest of the logic of this
-			// method into a custom collector (via Collector.of and at least three lambdas), which doesn't seem worth
-			// the effort. Even Collectors.toMap() would be less efficient than the loop, since it
-			// would require constructing a new ProxyUnit for every single unit in the input.
-			final Iterable<IUnit> temp = streamAllMaps()
-					.flatMap((indivMap) -> getUnitsImpl(indivMap.streamAllFixtures() , player))
-					.collect(Collectors.toList());
-			final Map<Integer, ProxyUnit> tempMap = new TreeMap<>();
-			for (final IUnit unit : temp) {
-				final int key = unit.getId();
-				final ProxyUnit proxy = tempMap.computeIfAbsent(key, ProxyUnit::new);
-				proxy.addProxied(unit);
-			}
-			return tempMap.values().stream().map(IUnit.class::cast).sorted(Comparator.comparing(IUnit::getName,
-					String.CASE_INSENSITIVE_ORDER));
-		} else {
-			// Just in case I missed something in the proxy implementation, make sure
-			// things work correctly when there's only one map.
-			return getUnitsImpl(getMap().streamAllFixtures(), player)
-					.sorted(Comparator.comparing(IUnit::getName,
-							String.CASE_INSENSITIVE_ORDER));
-		}
+		return cachedUnits(player).units().stream();
 	}
 
 	/**
@@ -228,25 +232,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public Collection<IUnit> getUnits(final Player player) {
-		if (getSubordinateMaps().iterator().hasNext()) {
-			final Map<Integer, ProxyUnit> tempMap = new TreeMap<>();
-			streamAllMaps()
-					.flatMap((indivMap) -> getUnitsImpl(indivMap.streamAllFixtures() , player))
-					.forEach(unit -> {
-						final int key = unit.getId();
-						final ProxyUnit proxy = tempMap.computeIfAbsent(key, ProxyUnit::new);
-						proxy.addProxied(unit);
-					});
-			return tempMap.values().stream().sorted(Comparator.comparing(IUnit::getName,
-					String.CASE_INSENSITIVE_ORDER)).collect(Collectors.toList());
-		} else {
-			// Just in case I missed something in the proxy implementation, make sure
-			// things work correctly when there's only one map.
-			return getUnitsImpl(getMap().streamAllFixtures(), player)
-					.sorted(Comparator.comparing(IUnit::getName,
-							String.CASE_INSENSITIVE_ORDER))
-					.collect(Collectors.toList());
-		}
+		return new ArrayList<>(cachedUnits(player).units());
 	}
 
 	/**
@@ -254,8 +240,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public List<String> getUnitKinds(final Player player) {
-		return streamUnits(player).map(IUnit::getKind).distinct().sorted(String.CASE_INSENSITIVE_ORDER)
-				.collect(Collectors.toList());
+		return new ArrayList<>(cachedUnits(player).kinds());
 	}
 
 	/**
@@ -267,11 +252,9 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 		if (getSubordinateMaps().iterator().hasNext()) {
 			for (final IMutableLegacyMap eachMap : getRestrictedAllMaps()) {
 				addUnitAtLocationImpl(unit, location, eachMap);
-				eachMap.setStatus(ILegacyMap.ModificationStatus.Modified);
 			}
 		} else {
 			addUnitAtLocationImpl(unit, location, getRestrictedMap());
-			setMapStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
 
@@ -280,32 +263,36 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public void addUnit(final IUnit unit) {
-		Pair<IMutableFortress, Point> temp = null;
-		for (final Pair<Point, IMutableFortress> pair : getMap().streamLocations()
-				.flatMap(l -> getMap().streamFixtures(l)
-						.filter(IMutableFortress.class::isInstance)
-						.map(IMutableFortress.class::cast)
-						.filter(f -> f.owner().getPlayerId() ==
-								unit.owner().getPlayerId())
-						.map(f -> Pair.with(l, f))).toList()) {
-			final Point point = pair.getValue0();
-			final IMutableFortress fixture = pair.getValue1();
-			if ("HQ".equals(fixture.getName())) {
-				addUnitAtLocation(unit, point);
+		try {
+			Pair<IMutableFortress, Point> temp = null;
+			for (final Pair<Point, IMutableFortress> pair : getMap().streamLocations()
+					.flatMap(l -> getMap().streamFixtures(l)
+							.filter(IMutableFortress.class::isInstance)
+							.map(IMutableFortress.class::cast)
+							.filter(f -> f.owner().getPlayerId() ==
+									unit.owner().getPlayerId())
+							.map(f -> Pair.with(l, f))).toList()) {
+				final Point point = pair.getValue0();
+				final IMutableFortress fixture = pair.getValue1();
+				if ("HQ".equals(fixture.getName())) {
+					addUnitAtLocation(unit, point);
+					return;
+				} else if (Objects.isNull(temp)) {
+					temp = Pair.with(fixture, point);
+				}
+			}
+			if (Objects.nonNull(temp)) {
+				final IMutableFortress fortress = temp.getValue0();
+				final Point loc = temp.getValue1();
+				LovelaceLogger.info("Added unit at fortress %s, not HQ", fortress.getName());
+				addUnitAtLocation(unit, loc);
 				return;
-			} else if (Objects.isNull(temp)) {
-				temp = Pair.with(fixture, point);
+			} else if (!unit.isIndependent()) {
+				LovelaceLogger.warning("No suitable location found for unit %s, owned by %s",
+						unit.getName(), unit.owner());
 			}
-		}
-		if (Objects.nonNull(temp)) {
-			final IMutableFortress fortress = temp.getValue0();
-			final Point loc = temp.getValue1();
-			LovelaceLogger.info("Added unit at fortress %s, not HQ", fortress.getName());
-			addUnitAtLocation(unit, loc);
-			return;
-		} else if (!unit.isIndependent()) {
-			LovelaceLogger.warning("No suitable location found for unit %s, owned by %s",
-					unit.getName(), unit.owner());
+		} finally {
+			unitCache.invalidate();
 		}
 	}
 
@@ -314,7 +301,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public @Nullable IUnit getUnitByID(final Player owner, final int id) {
-		return streamUnits(owner).filter(u -> u.getId() == id).findAny().orElse(null);
+		return cachedUnits(owner).withId(id);
 	}
 
 	private static BiPredicate<Point, IFixture> unitMatching(final IUnit unit) {
@@ -333,64 +320,62 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public boolean removeUnit(final IUnit unit) {
-		LovelaceLogger.debug("In WorkerModel.removeUnit()");
-		final Collection<Pair<IMutableLegacyMap, Pair<Point, IUnit>>> delenda = new ArrayList<>();
-		final Predicate<Pair<Point, IFixture>> testPair =
-				p -> unitMatching(unit).test(p.getValue0(), p.getValue1());
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final Pair<Point, IFixture> pair = map.streamLocations()
-					.flatMap(l -> map.streamFixtures(l)
-							.map(f -> Pair.with(l, f)))
-					.flatMap(p -> flattenEntries(p.getValue0(), p.getValue1()))
-					.filter(testPair)
-					.findAny().orElse(null);
-			if (Objects.nonNull(pair)) {
-				LovelaceLogger.debug("Map has matching unit");
-				final Point location = pair.getValue0();
-				final IUnit fixture = (IUnit) pair.getValue1();
-				if (fixture.getKind().equals(unit.getKind()) &&
-						fixture.getName().equals(unit.getName()) &&
-						!fixture.iterator().hasNext()) {
-					LovelaceLogger.debug("Matching unit meets preconditions");
-					delenda.add(Pair.with(map, Pair.with(location, fixture)));
-				} else {
-					LovelaceLogger.warning(
-							"Matching unit in %s fails preconditions for removal",
-							Optional.ofNullable(map.getFilename())
-									.map(Object::toString).orElse("an unsaved map"));
-					return false;
+		try {
+			LovelaceLogger.debug("In WorkerModel.removeUnit()");
+			final Collection<Pair<IMutableLegacyMap, Pair<Point, IUnit>>> delenda = new ArrayList<>();
+			final BiPredicate<Point, IFixture> matching = unitMatching(unit);
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final FixtureLocation found = map.findFixture(unit.getId());
+				if (Objects.nonNull(found) && matching.test(found.location(), found.fixture())) {
+					LovelaceLogger.debug("Map has matching unit");
+					final Point location = found.location();
+					final IUnit fixture = (IUnit) found.fixture();
+					if (fixture.getKind().equals(unit.getKind()) &&
+							fixture.getName().equals(unit.getName()) &&
+							!fixture.iterator().hasNext()) {
+						LovelaceLogger.debug("Matching unit meets preconditions");
+						delenda.add(Pair.with(map, Pair.with(location, fixture)));
+					} else {
+						LovelaceLogger.warning(
+								"Matching unit in %s fails preconditions for removal",
+								Optional.ofNullable(map.getFilename())
+										.map(Object::toString).orElse("an unsaved map"));
+						return false;
+					}
 				}
 			}
-		}
-		if (delenda.isEmpty()) {
-			LovelaceLogger.debug("No matching units");
-			return false;
-		}
-		for (final Pair<IMutableLegacyMap, Pair<Point, IUnit>> pair : delenda) {
-			final IMutableLegacyMap map = pair.getValue0();
-			final Point location = pair.getValue1().getValue0();
-			final IUnit fixture = pair.getValue1().getValue1();
-			if (map.getFixtures(location).contains(fixture)) {
-				map.removeFixture(location, fixture);
-			} else {
-				boolean any = false;
-				for (final IMutableFortress fort : map.streamFixtures(location)
-						.filter(IMutableFortress.class::isInstance)
-						.map(IMutableFortress.class::cast).toList()) {
-					if (fort.stream().anyMatch(Predicate.isEqual(fixture))) {
-						any = true;
-						fort.removeMember(fixture);
-						break;
+			if (delenda.isEmpty()) {
+				LovelaceLogger.debug("No matching units");
+				return false;
+			}
+			for (final Pair<IMutableLegacyMap, Pair<Point, IUnit>> pair : delenda) {
+				final IMutableLegacyMap map = pair.getValue0();
+				final Point location = pair.getValue1().getValue0();
+				final IUnit fixture = pair.getValue1().getValue1();
+				if (map.getFixtures(location).contains(fixture)) {
+					map.removeFixture(location, fixture);
+				} else {
+					boolean any = false;
+					for (final IMutableFortress fort : map.streamFixtures(location)
+							.filter(IMutableFortress.class::isInstance)
+							.map(IMutableFortress.class::cast).toList()) {
+						if (fort.stream().anyMatch(Predicate.isEqual(fixture))) {
+							any = true;
+							fort.removeMember(fixture);
+							break;
+						}
+					}
+					if (!any) {
+						LovelaceLogger.warning(
+								"Failed to find unit to remove that we thought might be in a fortress");
 					}
-				}
-				if (!any) {
-					LovelaceLogger.warning(
-							"Failed to find unit to remove that we thought might be in a fortress");
 				}
 			}
+			LovelaceLogger.debug("Finished removing matching unit(s) from map(s)");
+			return true;
+		} finally {
+			unitCache.invalidate();
 		}
-		LovelaceLogger.debug("Finished removing matching unit(s) from map(s)");
-		return true;
 	}
 
 	private static int iterableSize(final Iterable<?> iter) {
@@ -422,6 +407,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 			final LinkedList<IUnit> newProxied = new LinkedList<>(newOwner.getProxied());
 			final Deque<UnitMember> members = new LinkedList<>();
 			final Deque<IMutableUnit> newList = new LinkedList<>();
+			final List<IMutableUnit> changed = new ArrayList<>();
 			while (!memberProxied.isEmpty() && !oldProxied.isEmpty() && !newProxied.isEmpty()) {
 				final UnitMember item = memberProxied.removeFirst();
 				final IUnit innerOld = oldProxied.removeFirst();
@@ -430,6 +416,8 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 					oldUnit.removeMember(item);
 					members.addLast(item);
 					newList.addLast(newUnit);
+					changed.add(oldUnit);
+					changed.add(newUnit);
 				} else {
 					LovelaceLogger.warning("Immutable unit in moveProxied()");
 					return false;
@@ -440,8 +428,9 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 				final UnitMember innerMember = members.removeFirst();
 				unit.addMember(innerMember);
 			}
+			// We don't know which map each proxied unit came from, so tell every map about all of them.
 			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				changed.forEach(map::markChanged);
 			}
 			return true;
 		} else {
@@ -456,61 +445,70 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public void moveMember(final UnitMember member, final IUnit old, final IUnit newOwner) {
-		// Adding either <?> or <? extends UnitMember> to the first 'ProxyFor' will not compile;
-		// the compiler insists that 'UnitMember' and 'ProxyFor<UnitMember>' are entirely disjoint,
-		// despite proof to the contrary.
-		//noinspection rawtypes,unchecked
-		if (member instanceof final ProxyFor proxyMember && old instanceof final ProxyUnit proxyOld &&
-				newOwner instanceof final ProxyUnit proxyNew && moveProxied(proxyMember, proxyOld, proxyNew)) {
-			return;
-		}
-		final Predicate<Object> isUnit = IMutableUnit.class::isInstance;
-		final Function<Object, IMutableUnit> unitCast = IMutableUnit.class::cast;
-		final Predicate<IUnit> matchingOldFields = matchingValues(old, IUnit::getKind,
-				IUnit::getName, IUnit::getId);
-		final Predicate<IUnit> matchingNewFields = matchingValues(newOwner, IUnit::getKind,
-				IUnit::getName, IUnit::getId);
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableUnit matchingOld = getUnitsImpl(map.streamAllFixtures(), old.owner())
-					.filter(isUnit).map(unitCast).filter(matchingOldFields)
-					.findAny().orElse(null);
-			if (Objects.nonNull(matchingOld)) {
-				// TODO: equals() isn't ideal for finding a matching member ...
-				final UnitMember matchingMember = matchingOld.stream().filter(Predicate.isEqual(member))
-						.findAny().orElse(null);
-				final IMutableUnit matchingNew = getUnitsImpl(map.streamAllFixtures(), newOwner.owner())
-						.filter(isUnit).map(unitCast).filter(matchingNewFields)
+		try {
+			// Adding either <?> or <? extends UnitMember> to the first 'ProxyFor' will not compile;
+			// the compiler insists that 'UnitMember' and 'ProxyFor<UnitMember>' are entirely disjoint,
+			// despite proof to the contrary.
+			//noinspection rawtypes,unchecked
+			if (member instanceof final ProxyFor proxyMember && old instanceof final ProxyUnit proxyOld &&
+					newOwner instanceof final ProxyUnit proxyNew && moveProxied(proxyMember, proxyOld, proxyNew)) {
+				return;
+			}
+			final Predicate<Object> isUnit = IMutableUnit.class::isInstance;
+			final Function<Object, IMutableUnit> unitCast = IMutableUnit.class::cast;
+			final Predicate<IUnit> matchingOldFields = matchingValues(old, IUnit::getKind,
+					IUnit::getName, IUnit::getId);
+			final Predicate<IUnit> matchingNewFields = matchingValues(newOwner, IUnit::getKind,
+					IUnit::getName, IUnit::getId);
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableUnit matchingOld = getUnitsImpl(map.streamAllFixtures(), old.owner())
+						.filter(isUnit).map(unitCast).filter(matchingOldFields)
 						.findAny().orElse(null);
-				if (Objects.nonNull(matchingMember) && Objects.nonNull(matchingNew)) {
-					matchingOld.removeMember(matchingMember);
-					matchingNew.addMember(matchingMember);
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				if (Objects.nonNull(matchingOld)) {
+					// TODO: equals() isn't ideal for finding a matching member ...
+					final UnitMember matchingMember = matchingOld.stream().filter(Predicate.isEqual(member))
+							.findAny().orElse(null);
+					final IMutableUnit matchingNew = getUnitsImpl(map.streamAllFixtures(), newOwner.owner())
+							.filter(isUnit).map(unitCast).filter(matchingNewFields)
+							.findAny().orElse(null);
+					if (Objects.nonNull(matchingMember) && Objects.nonNull(matchingNew)) {
+						matchingOld.removeMember(matchingMember);
+						matchingNew.addMember(matchingMember);
+						map.markChanged(matchingOld);
+						map.markChanged(matchingNew);
+					}
 				}
 			}
+		} finally {
+			unitCache.invalidate();
 		}
 	}
 
 	@Override
 	public void dismissUnitMember(final UnitMember member) {
-		boolean any = false;
-		// TODO: Handle proxies specially?
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			for (final IMutableUnit unit : getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-					.filter(IMutableUnit.class::isInstance)
-					.map(IMutableUnit.class::cast).toList()) {
-				// FIXME: matching by equals() will really not do here ...
-				final UnitMember matching = unit.stream().filter(Predicate.isEqual(member))
-						.findAny().orElse(null);
-				if (Objects.nonNull(matching)) {
-					any = true;
-					unit.removeMember(matching);
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
-					break;
+		try {
+			boolean any = false;
+			// TODO: Handle proxies specially?
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				for (final IMutableUnit unit : getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+						.filter(IMutableUnit.class::isInstance)
+						.map(IMutableUnit.class::cast).toList()) {
+					// FIXME: matching by equals() will really not do here ...
+					final UnitMember matching = unit.stream().filter(Predicate.isEqual(member))
+							.findAny().orElse(null);
+					if (Objects.nonNull(matching)) {
+						any = true;
+						unit.removeMember(matching);
+						map.markChanged(unit);
+						break;
+					}
 				}
 			}
-		}
-		if (any) {
-			dismissedMembers.add(member);
+			if (any) {
+				dismissedMembers.add(member);
+			}
+		} finally {
+			unitCache.invalidate();
 		}
 	}
 
@@ -525,150 +523,168 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	// update if a unit were added through the map-viewer UI.
 	@Override
 	public void addUnitMember(final IUnit unit, final UnitMember member) {
-		final Predicate<Object> isUnit = IMutableUnit.class::isInstance;
-		final Function<Object, IMutableUnit> unitCast = IMutableUnit.class::cast;
-		final Predicate<IUnit> matchingFields = matchingValues(unit, IUnit::getName, IUnit::getKind, IUnit::getId);
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableUnit matching = getUnitsImpl(map.streamAllFixtures(), unit.owner())
-					.filter(isUnit)
-					.map(unitCast)
-					.filter(matchingFields)
-					.findAny().orElse(null);
-			if (Objects.nonNull(matching)) {
-				matching.addMember(member.copy(IFixture.CopyBehavior.KEEP));
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+		try {
+			final Predicate<Object> isUnit = IMutableUnit.class::isInstance;
+			final Function<Object, IMutableUnit> unitCast = IMutableUnit.class::cast;
+			final Predicate<IUnit> matchingFields = matchingValues(unit, IUnit::getName, IUnit::getKind, IUnit::getId);
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableUnit matching = getUnitsImpl(map.streamAllFixtures(), unit.owner())
+						.filter(isUnit)
+						.map(unitCast)
+						.filter(matchingFields)
+						.findAny().orElse(null);
+				if (Objects.nonNull(matching)) {
+					matching.addMember(member.copy(IFixture.CopyBehavior.KEEP));
+					map.markChanged(matching);
+				}
 			}
+		} finally {
+			unitCache.invalidate();
 		}
 	}
 
 	@Override
 	public boolean renameItem(final HasName item, final String newName) {
-		boolean any = false;
-		switch (item) {
-			case final IUnit unit -> {
-				final Predicate<IUnit> matchingFields = matchingValues(unit, IUnit::getName,
-						IUnit::getKind, IUnit::getId);
-				for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-					final IUnit matching =
-							getUnitsImpl(map.streamAllFixtures(), unit.owner())
-									.filter(matchingFields)
-									.findAny().orElse(null);
-					if (matching instanceof final HasMutableName matchNamed) {
-						any = true;
-						matchNamed.setName(newName);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+		try {
+			boolean any = false;
+			switch (item) {
+				case final IUnit unit -> {
+					final Predicate<IUnit> matchingFields = matchingValues(unit, IUnit::getName,
+							IUnit::getKind, IUnit::getId);
+					for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+						final IUnit matching =
+								getUnitsImpl(map.streamAllFixtures(), unit.owner())
+										.filter(matchingFields)
+										.findAny().orElse(null);
+						if (matching instanceof final HasMutableName matchNamed) {
+							any = true;
+							matchNamed.setName(newName);
+							map.markChanged(matching);
+						}
 					}
+					if (!any) {
+						LovelaceLogger.warning("Unable to find unit to rename");
+					}
+					return any;
 				}
-				if (!any) {
-					LovelaceLogger.warning("Unable to find unit to rename");
-				}
-				return any;
-			}
-			case final UnitMember memberItem -> {
-				final Predicate<Object> isNamed = HasMutableName.class::isInstance;
-				final Predicate<UnitMember> matchingId = m -> m.getId() == memberItem.getId();
-				final Predicate<UnitMember> matchingName =
-						m -> ((HasName) m).getName().equals(item.getName());
-				for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-					// FIXME: We should have a firmer identification than just name and ID
-					final UnitMember matching =
-							getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-									.flatMap(FixtureIterable::stream)
-									.filter(isNamed)
-									.filter(matchingId)
-									.filter(matchingName)
-									.findAny().orElse(null);
-					if (Objects.nonNull(matching)) {
-						any = true;
-						// checked in 'isNamed' step in stream.
-						//noinspection CastToIncompatibleInterface
-						((HasMutableName) matching).setName(newName);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				case final UnitMember memberItem -> {
+					final Predicate<Object> isNamed = HasMutableName.class::isInstance;
+					final Predicate<UnitMember> matchingId = m -> m.getId() == memberItem.getId();
+					final Predicate<UnitMember> matchingName =
+							m -> ((HasName) m).getName().equals(item.getName());
+					for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+						// FIXME: We should have a firmer identification than just name and ID
+						final UnitMember matching =
+								getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+										.flatMap(FixtureIterable::stream)
+										.filter(isNamed)
+										.filter(matchingId)
+										.filter(matchingName)
+										.findAny().orElse(null);
+						if (Objects.nonNull(matching)) {
+							any = true;
+							// checked in 'isNamed' step in stream.
+							//noinspection CastToIncompatibleInterface
+							((HasMutableName) matching).setName(newName);
+							map.markChanged(matching);
+						}
 					}
+					if (!any) {
+						LovelaceLogger.warning("Unable to find unit member to rename");
+					}
+					return any;
 				}
-				if (!any) {
-					LovelaceLogger.warning("Unable to find unit member to rename");
+				default -> {
+					LovelaceLogger.warning("Unable to find item to rename");
+					return false;
 				}
-				return any;
-			}
-			default -> {
-				LovelaceLogger.warning("Unable to find item to rename");
-				return false;
 			}
+		} finally {
+			unitCache.invalidate();
 		}
 	}
 
 	@Override
 	public boolean changeKind(final HasKind item, final String newKind) {
-		boolean any = false;
-		switch (item) {
-			case final IUnit unit -> {
-				final Predicate<IUnit> matchingFields = matchingValues(unit, IUnit::getName,
-						IUnit::getKind, IUnit::getId);
-				for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-					final IUnit matching = getUnitsImpl(map.streamAllFixtures(), unit.owner())
-							.filter(matchingFields)
-							.findAny().orElse(null);
-					if (matching instanceof final HasMutableKind kinded) {
-						any = true;
-						kinded.setKind(newKind);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+		try {
+			boolean any = false;
+			switch (item) {
+				case final IUnit unit -> {
+					final Predicate<IUnit> matchingFields = matchingValues(unit, IUnit::getName,
+							IUnit::getKind, IUnit::getId);
+					for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+						final IUnit matching = getUnitsImpl(map.streamAllFixtures(), unit.owner())
+								.filter(matchingFields)
+								.findAny().orElse(null);
+						if (matching instanceof final HasMutableKind kinded) {
+							any = true;
+							kinded.setKind(newKind);
+							map.markChanged(matching);
+						}
 					}
+					if (!any) {
+						LovelaceLogger.warning("Unable to find unit to change kind");
+					}
+					return any;
 				}
-				if (!any) {
-					LovelaceLogger.warning("Unable to find unit to change kind");
-				}
-				return any;
-			}
-			case final UnitMember member -> {
-				final Predicate<UnitMember> matchingId = m -> m.getId() == member.getId();
-				final Predicate<UnitMember> hasMutableKind = HasMutableKind.class::isInstance;
-				final Function<Object, HasMutableKind> hmkCast = HasMutableKind.class::cast;
-				final Predicate<HasMutableKind> matchingKind = m -> m.getKind().equals(item.getKind());
-				for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-					// FIXME: We should have a firmer identification than just kind and ID
-					final HasMutableKind matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-							.flatMap(FixtureIterable::stream)
-							.filter(matchingId)
-							.filter(hasMutableKind)
-							.map(hmkCast)
-							.filter(matchingKind)
-							.findAny().orElse(null);
-					if (Objects.nonNull(matching)) {
-						any = true;
-						matching.setKind(newKind);
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				case final UnitMember member -> {
+					final Predicate<UnitMember> matchingId = m -> m.getId() == member.getId();
+					final Predicate<UnitMember> hasMutableKind = HasMutableKind.class::isInstance;
+					final Function<Object, HasMutableKind> hmkCast = HasMutableKind.class::cast;
+					final Predicate<HasMutableKind> matchingKind = m -> m.getKind().equals(item.getKind());
+					for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+						// FIXME: We should have a firmer identification than just kind and ID
+						final HasMutableKind matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+								.flatMap(FixtureIterable::stream)
+								.filter(matchingId)
+								.filter(hasMutableKind)
+								.map(hmkCast)
+								.filter(matchingKind)
+								.findAny().orElse(null);
+						if (Objects.nonNull(matching)) {
+							any = true;
+							matching.setKind(newKind);
+							// found among unit members in the stream above.
+							//noinspection CastToIncompatibleInterface
+							map.markChanged((UnitMember) matching);
+						}
 					}
+					if (!any) {
+						LovelaceLogger.warning("Unable to find unit member to change kind");
+					}
+					return any;
 				}
-				if (!any) {
-					LovelaceLogger.warning("Unable to find unit member to change kind");
+				default -> {
+					LovelaceLogger.warning("Unable to find item to change kind");
+					return false;
 				}
-				return any;
-			}
-			default -> {
-				LovelaceLogger.warning("Unable to find item to change kind");
-				return false;
 			}
+		} finally {
+			unitCache.invalidate();
 		}
 	}
 
 	@Override
 	public boolean addSibling(final UnitMember existing, final UnitMember sibling) {
-		boolean any = false;
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			for (final IMutableUnit unit : getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-					.filter(IMutableUnit.class::isInstance)
-					.map(IMutableUnit.class::cast).toList()) {
-				if (unit.stream().anyMatch(Predicate.isEqual(existing))) {
-					// TODO: look beyond equals() for matching-in-existing?
-					unit.addMember(sibling.copy(IFixture.CopyBehavior.KEEP));
-					any = true;
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
-					break;
+		try {
+			boolean any = false;
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				for (final IMutableUnit unit : getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+						.filter(IMutableUnit.class::isInstance)
+						.map(IMutableUnit.class::cast).toList()) {
+					if (unit.stream().anyMatch(Predicate.isEqual(existing))) {
+						// TODO: look beyond equals() for matching-in-existing?
+						unit.addMember(sibling.copy(IFixture.CopyBehavior.KEEP));
+						any = true;
+						map.markChanged(unit);
+						break;
+					}
 				}
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	private static Stream<IFixture> flattenIncluding(final IFixture fixture) {
@@ -685,47 +701,57 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public boolean changeOwner(final HasOwner item, final Player newOwner) {
-		boolean any = false;
-		final Predicate<Object> isOwned = HasMutableOwner.class::isInstance;
-		final Function<Object, HasMutableOwner> hmoCast = HasMutableOwner.class::cast;
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final HasMutableOwner matching = map.streamAllFixtures()
-					.flatMap(WorkerModel::flattenIncluding)
-					.flatMap(WorkerModel::flattenIncluding).filter(isOwned)
-					.map(hmoCast)
-					.filter(Predicate.isEqual(item)) // TODO: equals() is not the best way to find it ...
-					.findAny().orElse(null);
-			if (Objects.nonNull(matching)) {
-				if (StreamSupport.stream(map.getPlayers().spliterator(), true)
-						.noneMatch(Predicate.isEqual(newOwner))) {
-					map.addPlayer(newOwner);
+		try {
+			boolean any = false;
+			final Predicate<Object> isOwned = HasMutableOwner.class::isInstance;
+			final Function<Object, HasMutableOwner> hmoCast = HasMutableOwner.class::cast;
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final HasMutableOwner matching = map.streamAllFixtures()
+						.flatMap(WorkerModel::flattenIncluding)
+						.flatMap(WorkerModel::flattenIncluding).filter(isOwned)
+						.map(hmoCast)
+						.filter(Predicate.isEqual(item)) // TODO: equals() is not the best way to find it ...
+						.findAny().orElse(null);
+				if (Objects.nonNull(matching)) {
+					if (StreamSupport.stream(map.getPlayers().spliterator(), true)
+							.noneMatch(Predicate.isEqual(newOwner))) {
+						map.addPlayer(newOwner);
+					}
+					matching.setOwner(map.getPlayers().getPlayer(newOwner.getPlayerId()));
+					// found among the map's fixtures in the stream above.
+					//noinspection CastToIncompatibleInterface
+					map.markChanged((IFixture) matching);
+					any = true;
 				}
-				matching.setOwner(map.getPlayers().getPlayer(newOwner.getPlayerId()));
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
-				any = true;
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	@Override
 	public boolean sortFixtureContents(final IUnit fixture) {
-		boolean any = false;
-		final Predicate<Object> isUnit = IMutableUnit.class::isInstance;
-		final Function<Object, IMutableUnit> unitCast = IMutableUnit.class::cast;
-		final Predicate<IUnit> matchingFields = matchingValues(fixture, IUnit::getName, IUnit::getKind, IUnit::getId);
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableUnit matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-					.filter(isUnit).map(unitCast)
-					.filter(matchingFields)
-					.findAny().orElse(null);
-			if (Objects.nonNull(matching)) {
-				matching.sortMembers();
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
-				any = true;
+		try {
+			boolean any = false;
+			final Predicate<Object> isUnit = IMutableUnit.class::isInstance;
+			final Function<Object, IMutableUnit> unitCast = IMutableUnit.class::cast;
+			final Predicate<IUnit> matchingFields = matchingValues(fixture, IUnit::getName, IUnit::getKind, IUnit::getId);
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableUnit matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+						.filter(isUnit).map(unitCast)
+						.filter(matchingFields)
+						.findAny().orElse(null);
+				if (Objects.nonNull(matching)) {
+					matching.sortMembers();
+					map.markChanged(matching);
+					any = true;
+				}
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -735,28 +761,32 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public boolean addJobToWorker(final IWorker worker, final String jobName) {
-		boolean any = false;
-		final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
-		final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
-		final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace,
-				IWorker::getName, IWorker::getId);
-		final Predicate<IJob> matchingJob = j -> jobName.equals(j.getName());
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableWorker matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-					.flatMap(FixtureIterable::stream).filter(isWorker)
-					.map(workerCast)
-					.filter(matchingFields)
-					.findAny().orElse(null);
-			if (Objects.nonNull(matching)) {
-				if (StreamSupport.stream(matching.spliterator(), true)
-						.noneMatch(matchingJob)) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
-					matching.addJob(new Job(jobName, 0));
+		try {
+			boolean any = false;
+			final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
+			final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
+			final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace,
+					IWorker::getName, IWorker::getId);
+			final Predicate<IJob> matchingJob = j -> jobName.equals(j.getName());
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableWorker matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+						.flatMap(FixtureIterable::stream).filter(isWorker)
+						.map(workerCast)
+						.filter(matchingFields)
+						.findAny().orElse(null);
+				if (Objects.nonNull(matching)) {
+					if (StreamSupport.stream(matching.spliterator(), true)
+							.noneMatch(matchingJob)) {
+						matching.addJob(new Job(jobName, 0));
+						map.markChanged(matching);
+					}
+					any = true;
 				}
-				any = true;
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -769,37 +799,41 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public boolean addSkillToWorker(final IWorker worker, final String jobName, final String skillName) {
-		boolean any = false;
-		final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
-		final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
-		final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace, IWorker::getName,
-				IWorker::getId);
-		final Predicate<IJob> isMutableJob = IMutableJob.class::isInstance;
-		final Function<Object, IMutableJob> mjCast = IMutableJob.class::cast;
-		final Predicate<IJob> matchingJob = j -> jobName.equals(j.getName());
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableWorker matching =
-					getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-							.flatMap(IUnit::stream).filter(isWorker).map(workerCast)
-							.filter(matchingFields).findAny().orElse(null);
-			if (Objects.nonNull(matching)) {
-				final IMutableJob job = StreamSupport.stream(matching.spliterator(), false)
-						.filter(isMutableJob).map(mjCast)
-						.filter(matchingJob).findAny().orElse(null);
-				if (Objects.isNull(job)) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
-					final IMutableJob newJob = new Job(jobName, 0);
-					newJob.addSkill(new Skill(skillName, 0, 0));
-					matching.addJob(newJob);
-				} else if (StreamSupport.stream(job.spliterator(), false).map(ISkill::getName)
-						.noneMatch(Predicate.isEqual(skillName))) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
-					job.addSkill(new Skill(skillName, 0, 0));
+		try {
+			boolean any = false;
+			final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
+			final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
+			final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace, IWorker::getName,
+					IWorker::getId);
+			final Predicate<IJob> isMutableJob = IMutableJob.class::isInstance;
+			final Function<Object, IMutableJob> mjCast = IMutableJob.class::cast;
+			final Predicate<IJob> matchingJob = j -> jobName.equals(j.getName());
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableWorker matching =
+						getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+								.flatMap(IUnit::stream).filter(isWorker).map(workerCast)
+								.filter(matchingFields).findAny().orElse(null);
+				if (Objects.nonNull(matching)) {
+					final IMutableJob job = StreamSupport.stream(matching.spliterator(), false)
+							.filter(isMutableJob).map(mjCast)
+							.filter(matchingJob).findAny().orElse(null);
+					if (Objects.isNull(job)) {
+						final IMutableJob newJob = new Job(jobName, 0);
+						newJob.addSkill(new Skill(skillName, 0, 0));
+						matching.addJob(newJob);
+						map.markChanged(matching);
+					} else if (StreamSupport.stream(job.spliterator(), false).map(ISkill::getName)
+							.noneMatch(Predicate.isEqual(skillName))) {
+						job.addSkill(new Skill(skillName, 0, 0));
+						map.markChanged(matching);
+					}
+					any = true;
 				}
-				any = true;
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -813,13 +847,17 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	 */
 	@Override
 	public boolean addSkillToAllWorkers(final IUnit unit, final String jobName, final String skillName) {
-		boolean any = false;
-		for (final IWorker worker : unit.stream().filter(IWorker.class::isInstance).map(IWorker.class::cast).toList()) {
-			if (addSkillToWorker(worker, jobName, skillName)) {
-				any = true;
+		try {
+			boolean any = false;
+			for (final IWorker worker : unit.stream().filter(IWorker.class::isInstance).map(IWorker.class::cast).toList()) {
+				if (addSkillToWorker(worker, jobName, skillName)) {
+					any = true;
+				}
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -835,58 +873,62 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	@Override
 	public boolean addHoursToSkill(final IWorker worker, final String jobName, final String skillName, final int hours,
 	                               final IntPredicate levelCondition, final LevelGainListener levelGainListener) {
-		boolean any = false;
-		final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
-		final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
-		final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace, IWorker::getName,
-				IWorker::getId);
-		final Predicate<IJob> isMutableJob = IMutableJob.class::isInstance;
-		final Function<Object, IMutableJob> mjCast = IMutableJob.class::cast;
-		final Predicate<IJob> matchingJob = j -> jobName.equals(j.getName());
-		final Predicate<ISkill> isMutableSkill = IMutableSkill.class::isInstance;
-		final Function<Object, IMutableSkill> msCast = IMutableSkill.class::cast;
-		final Predicate<ISkill> matchingSkill = s -> skillName.equals(s.getName());
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableWorker matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-					.flatMap(FixtureIterable::stream).filter(isWorker)
-					.map(workerCast)
-					.filter(matchingFields)
-					.findAny().orElse(null);
-			if (Objects.nonNull(matching)) {
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
-				any = true;
-				final IMutableJob job;
-				final IMutableJob temp = StreamSupport.stream(matching.spliterator(), true)
-						.filter(isMutableJob).map(mjCast)
-						.filter(matchingJob).findAny().orElse(null);
-				if (Objects.isNull(temp)) {
-					job = new Job(jobName, 0);
-					// FIXME: The addJob() API doc explicitly says the Job can't be assumed to have been preserved
-					matching.addJob(job);
-				} else {
-					job = temp;
-				}
-				final IMutableSkill skill;
-				final IMutableSkill tempSkill = StreamSupport.stream(job.spliterator(), true)
-						.filter(isMutableSkill)
-						.map(msCast)
-						.filter(matchingSkill)
+		try {
+			boolean any = false;
+			final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
+			final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
+			final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace, IWorker::getName,
+					IWorker::getId);
+			final Predicate<IJob> isMutableJob = IMutableJob.class::isInstance;
+			final Function<Object, IMutableJob> mjCast = IMutableJob.class::cast;
+			final Predicate<IJob> matchingJob = j -> jobName.equals(j.getName());
+			final Predicate<ISkill> isMutableSkill = IMutableSkill.class::isInstance;
+			final Function<Object, IMutableSkill> msCast = IMutableSkill.class::cast;
+			final Predicate<ISkill> matchingSkill = s -> skillName.equals(s.getName());
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableWorker matching = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+						.flatMap(FixtureIterable::stream).filter(isWorker)
+						.map(workerCast)
+						.filter(matchingFields)
 						.findAny().orElse(null);
-				if (Objects.isNull(tempSkill)) {
-					skill = new Skill(skillName, 0, 0);
-					job.addSkill(skill); // FIXME: Similarly, assumes behavior the API doc explicitly warns against
-				} else {
-					skill = tempSkill;
-				}
-				final int oldLevel = skill.getLevel();
-				skill.addHours(hours, levelCondition);
-				final int newLevel = skill.getLevel();
-				if (oldLevel != newLevel) {
-					levelGainListener.level(worker.getName(), jobName, skillName, newLevel - oldLevel, newLevel);
+				if (Objects.nonNull(matching)) {
+					any = true;
+					final IMutableJob job;
+					final IMutableJob temp = StreamSupport.stream(matching.spliterator(), true)
+							.filter(isMutableJob).map(mjCast)
+							.filter(matchingJob).findAny().orElse(null);
+					if (Objects.isNull(temp)) {
+						job = new Job(jobName, 0);
+						// FIXME: The addJob() API doc explicitly says the Job can't be assumed to have been preserved
+						matching.addJob(job);
+					} else {
+						job = temp;
+					}
+					final IMutableSkill skill;
+					final IMutableSkill tempSkill = StreamSupport.stream(job.spliterator(), true)
+							.filter(isMutableSkill)
+							.map(msCast)
+							.filter(matchingSkill)
+							.findAny().orElse(null);
+					if (Objects.isNull(tempSkill)) {
+						skill = new Skill(skillName, 0, 0);
+						job.addSkill(skill); // FIXME: Similarly, assumes behavior the API doc explicitly warns against
+					} else {
+						skill = tempSkill;
+					}
+					final int oldLevel = skill.getLevel();
+					skill.addHours(hours, levelCondition);
+					map.markChanged(matching);
+					final int newLevel = skill.getLevel();
+					if (oldLevel != newLevel) {
+						levelGainListener.level(worker.getName(), jobName, skillName, newLevel - oldLevel, newLevel);
+					}
 				}
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -905,16 +947,20 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	public boolean addHoursToSkillInAll(final IUnit unit, final String jobName, final String skillName,
 	                                    final int hours, final int contextValue,
 	                                    final LevelGainListener levelGainListener) {
-		boolean any = false;
-		final RandomGenerator rng = new Random(contextValue);
-		for (final UnitMember member : unit) {
-			if (member instanceof final IWorker w) {
-				final int threshold = rng.nextInt(100);
-				any = addHoursToSkill(w, jobName, skillName, hours,
-						total -> threshold <= total, levelGainListener) || any;
+		try {
+			boolean any = false;
+			final RandomGenerator rng = new Random(contextValue);
+			for (final UnitMember member : unit) {
+				if (member instanceof final IWorker w) {
+					final int threshold = rng.nextInt(100);
+					any = addHoursToSkill(w, jobName, skillName, hours,
+							total -> threshold <= total, levelGainListener) || any;
+				}
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -929,44 +975,48 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 	@Override
 	public boolean replaceSkillInJob(final IWorker worker, final String jobName, final ISkill delenda,
 									 final ISkill replacement) {
-		boolean any = false;
-		final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
-		final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
-		final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace, IWorker::getName,
-				IWorker::getId);
-		final Predicate<IJob> isMutableJob = IMutableJob.class::isInstance;
-		final Function<Object, IMutableJob> mjCast = IMutableJob.class::cast;
-		final Predicate<IJob> matchingJobName = j -> jobName.equals(j.getName());
-		for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
-			final IMutableWorker matchingWorker = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
-					.flatMap(FixtureIterable::stream)
-					.filter(isWorker)
-					.map(workerCast)
-					.filter(matchingFields)
-					.findAny().orElse(null);
-			if (Objects.nonNull(matchingWorker)) {
-				final IMutableJob matchingJob = StreamSupport.stream(
-								matchingWorker.spliterator(), true)
-						.filter(isMutableJob).map(mjCast)
-						.filter(matchingJobName).findAny().orElse(null);
-				if (Objects.isNull(matchingJob)) {
-					LovelaceLogger.warning("No matching skill in matching worker");
-				} else {
-					final ISkill matchingSkill = StreamSupport.stream(
-									matchingJob.spliterator(), true)
-							.filter(Predicate.isEqual(delenda)).findAny().orElse(null);
-					if (Objects.isNull(matchingSkill)) {
+		try {
+			boolean any = false;
+			final Predicate<Object> isWorker = IMutableWorker.class::isInstance;
+			final Function<Object, IMutableWorker> workerCast = IMutableWorker.class::cast;
+			final Predicate<IWorker> matchingFields = matchingValues(worker, IWorker::getRace, IWorker::getName,
+					IWorker::getId);
+			final Predicate<IJob> isMutableJob = IMutableJob.class::isInstance;
+			final Function<Object, IMutableJob> mjCast = IMutableJob.class::cast;
+			final Predicate<IJob> matchingJobName = j -> jobName.equals(j.getName());
+			for (final IMutableLegacyMap map : getRestrictedAllMaps()) {
+				final IMutableWorker matchingWorker = getUnitsImpl(map.streamAllFixtures(), getCurrentPlayer())
+						.flatMap(FixtureIterable::stream)
+						.filter(isWorker)
+						.map(workerCast)
+						.filter(matchingFields)
+						.findAny().orElse(null);
+				if (Objects.nonNull(matchingWorker)) {
+					final IMutableJob matchingJob = StreamSupport.stream(
+									matchingWorker.spliterator(), true)
+							.filter(isMutableJob).map(mjCast)
+							.filter(matchingJobName).findAny().orElse(null);
+					if (Objects.isNull(matchingJob)) {
 						LovelaceLogger.warning("No matching skill in matching worker");
 					} else {
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
-						any = true;
-						matchingJob.removeSkill(matchingSkill);
-						matchingJob.addSkill(replacement.copy());
+						final ISkill matchingSkill = StreamSupport.stream(
+										matchingJob.spliterator(), true)
+								.filter(Predicate.isEqual(delenda)).findAny().orElse(null);
+						if (Objects.isNull(matchingSkill)) {
+							LovelaceLogger.warning("No matching skill in matching worker");
+						} else {
+							any = true;
+							matchingJob.removeSkill(matchingSkill);
+							matchingJob.addSkill(replacement.copy());
+							map.markChanged(matchingWorker);
+						}
 					}
 				}
 			}
+			return any;
+		} finally {
+			unitCache.invalidate();
 		}
-		return any;
 	}
 
 	/**
@@ -990,7 +1040,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 					.findAny().orElse(null);
 			if (Objects.nonNull(matching)) {
 				matching.setOrders(turn, results);
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching);
 				any = true;
 			}
 		}
@@ -1018,7 +1068,7 @@ public final class WorkerModel extends SimpleMultiMapModel implements IWorkerMod
 					.findAny().orElse(null);
 			if (Objects.nonNull(matching)) {
 				matching.setResults(turn, results);
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching);
 				any = true;
 			}
 		}
@@ -8,6 +8,10 @@ import java.util.Objects;
 import java.util.Collections;
 import java.util.Iterator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import legacy.map.LegacyPlayerCollection;
@@ -17,6 +21,7 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.LinkedList;
 
+import legacy.map.IFixture;
 import legacy.map.IMutableLegacyMap;
 import legacy.map.LegacyMap;
 import legacy.map.Point;
@@ -27,6 +32,10 @@ import legacy.map.TileFixture;
 
 import legacy.map.fixtures.mobile.ProxyFor;
 import legacy.map.fixtures.mobile.IUnit;
+import legacy.map.fixtures.mobile.IMutableUnit;
+import legacy.map.fixtures.mobile.IWorker;
+import legacy.map.fixtures.mobile.Worker;
+import legacy.map.fixtures.mobile.worker.IJob;
 import legacy.map.fixtures.mobile.Unit;
 import legacy.map.fixtures.mobile.ProxyUnit;
 import legacy.map.fixtures.mobile.AnimalImpl;
@@ -133,4 +142,81 @@ public final class TestWorkerModel {
 						filterProxies(model.getUnits(playerThree), ProxyUnit.class)),
 				"Got all units for player 3");
 	}
+
+	/**
+	 * Test that the units the model reports follow changes to the maps, both
+	 * through the model and directly.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testUnitsFollowChanges() {
+		final Player player = new PlayerImpl(0, "player1");
+		final IMutableLegacyMap map = new LegacyMap(new MapDimensionsImpl(3, 3, 2), new LegacyPlayerCollection(), -1);
+		final IMutableFortress fort = new FortressImpl(player, "HQ", 1, TownSize.Small);
+		map.addFixture(new Point(0, 0), fort);
+		final IUnit first = new Unit(player, "kind", "zed", 2);
+		map.addFixture(new Point(1, 1), first);
+		final IWorkerModel model = new WorkerModel(map);
+		assertEquals(List.of(first), List.copyOf(model.getUnits(player)), "Unit on a tile is found");
+		assertEquals(List.of("kind"), model.getUnitKinds(player), "Its kind is found");
+
+		final IUnit second = new Unit(player, "other", "alpha", 3);
+		model.addUnit(second);
+		assertEquals(List.of("alpha", "zed"), model.streamUnits(player).map(IUnit::getName).toList(),
+				"Unit added through the model, in the fortress, is found, and units are sorted");
+		assertEquals(List.of("kind", "other"), model.getUnitKinds(player), "New kind is found");
+		assertEquals(1, model.getUnits(player, "other").size(), "Units of a kind are found");
+
+		model.renameItem(first, "beta");
+		assertEquals(List.of("alpha", "beta"), model.streamUnits(player).map(IUnit::getName).toList(),
+				"Renamed unit is sorted by its new name");
+
+		map.addFixture(new Point(2, 2), new Unit(player, "kind", "gamma", 4));
+		assertEquals(3, model.getUnits(player).size(), "Unit added directly to the map is found");
+		assertNotNull(model.getUnitByID(player, 4), "Unit added directly to the map is found by ID");
+
+		final IMutableLegacyMap replacement =
+				new LegacyMap(new MapDimensionsImpl(3, 3, 2), new LegacyPlayerCollection(), -1);
+		model.setMap(replacement);
+		assertTrue(model.getUnits(player).isEmpty(), "Units are not remembered from a replaced map");
+		assertNull(model.getUnitByID(player, 2), "Unit from a replaced map is not found by ID");
+	}
+
+	/**
+	 * Test that a change made through the model is reflected in the units it
+	 * reports when no current player has been chosen, so the model has to
+	 * look at the units to find one partway through the change.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testChangeWithoutCurrentPlayer() {
+		final Player player = new PlayerImpl(0, "player1");
+		final IWorker worker = new Worker("worker", "human", 3);
+		final List<IMutableLegacyMap> maps = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			final IMutableLegacyMap map =
+					new LegacyMap(new MapDimensionsImpl(3, 3, 2), new LegacyPlayerCollection(), -1);
+			map.addPlayer(player);
+			map.setCurrentPlayer(player);
+			final IMutableUnit unit = new Unit(player, "kind", "unit", 2);
+			unit.addMember(worker.copy(IFixture.CopyBehavior.KEEP));
+			map.addFixture(new Point(1, 1), unit);
+			maps.add(map);
+		}
+		final IWorkerModel model = new WorkerModel(maps.get(0));
+		model.addSubordinateMap(maps.get(1));
+		assertFalse(hasJob(model, player, "job"), "Worker starts without the job");
+		assertTrue(model.addJobToWorker(worker, "job"), "Worker is found");
+		assertTrue(hasJob(model, player, "job"), "Job added through the model is reported afterwards");
+	}
+
+	/**
+	 * Whether any worker in the given player's units, as the model reports them, has a job with the given name.
+	 */
+	private static boolean hasJob(final IWorkerModel model, final Player player, final String job) {
+		return model.getUnits(player).stream().flatMap(IUnit::stream)
+				.filter(IWorker.class::isInstance).map(IWorker.class::cast)
+				.flatMap(w -> StreamSupport.stream(w.spliterator(), false)).map(IJob::getName)
+				.anyMatch(job::equals);
+	}
 }
@@ -6,7 +6,16 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import common.xmlio.SPFormatException;
 import common.xmlio.Warning;
@@ -20,6 +29,7 @@ import drivers.common.SimpleMultiMapModel;
 import legacy.map.ILegacyMap;
 import legacy.map.IMutableLegacyMap;
 import lovelace.util.LovelaceLogger;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A collection of a few methods for reading and writing map models, adding an
@@ -91,76 +101,215 @@ public final class MapReaderAdapter {
 		}
 	}
 
+	/**
+	 * The most maps to read or write at once.
+	 */
+	private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Wrap an exception thrown while reading the given file in a {@link
+	 * DriverFailedException}, or rethrow it if it is unchecked.
+	 */
+	private static DriverFailedException readFailure(final Throwable except, final Path file) {
+		return switch (except) {
+			// TODO: Catch FNFE as close to source as possible and convert to NoSuchFileException, to preserve
+			//  filename as a field of the exception
+			case final FileNotFoundException fnfe -> new DriverFailedException(fnfe, "File not found: " + file);
+			case final NoSuchFileException nsfe -> new DriverFailedException(nsfe, "File not found: " + file);
+			//noinspection HardcodedFileSeparator
+			case final IOException ioe -> new DriverFailedException(ioe, "I/O error reading from file " + file);
+			case final XMLStreamException xse -> new DriverFailedException(xse, "Malformed XML in " + file);
+			case final SPFormatException spfe -> new DriverFailedException(spfe, "SP map format error in " + file);
+			case final RuntimeException re -> throw re;
+			case final Error error -> throw error;
+			default -> new DriverFailedException(except, "Error reading " + file);
+		};
+	}
+
+	/**
+	 * Wrap an exception thrown while writing the given file in a {@link
+	 * DriverFailedException}, or rethrow it if it is unchecked.
+	 */
+	private static DriverFailedException writeFailure(final Throwable except, final Path file) {
+		return switch (except) {
+			case final XMLStreamException xse -> new DriverFailedException(xse, "Malformed XML while writing " + file);
+			//noinspection HardcodedFileSeparator
+			case final IOException ioe -> new DriverFailedException(ioe, "I/O error writing to " + file);
+			case final RuntimeException re -> throw re;
+			case final Error error -> throw error;
+			default -> new DriverFailedException(except, "Error writing " + file);
+		};
+	}
+
+	/**
+	 * Read maps from the given files, several at once.
+	 *
+	 * Warnings from each file are collected while it is read, and passed
+	 * to the given handler only once it has been read, one file at a time
+	 * and in the order the files were given, so that they are not
+	 * interleaved. Similarly, if reading any file fails, the failure
+	 * reported is that of the first such file in that order, no matter
+	 * which failed first. (SQLite databases are still read one at a time,
+	 * since {@link MapIOHelper} serializes access to its database reader.)
+	 */
+	private static List<IMutableLegacyMap> readMaps(final Warning warner, final List<Path> files)
+			throws DriverFailedException {
+		final int threads = Math.min(files.size(), MAX_THREADS);
+		LovelaceLogger.debug("Reading %d maps on %d threads", files.size(), threads);
+		final AtomicInteger finished = new AtomicInteger(0);
+		final List<List<Throwable>> warnings = new ArrayList<>(files.size());
+		final List<Future<IMutableLegacyMap>> futures = new ArrayList<>(files.size());
+		try (final ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (final Path file : files) {
+				// Only touched by the task until it finishes, then only by us
+				final List<Throwable> buffer = new ArrayList<>();
+				warnings.add(buffer);
+				futures.add(executor.submit(() -> {
+					final IMutableLegacyMap map = MapIOHelper.readMap(file, new Warning(buffer::add));
+					LovelaceLogger.info("Read %s (%d of %d)", file, finished.incrementAndGet(), files.size());
+					return map;
+				}));
+			}
+			final List<IMutableLegacyMap> retval = new ArrayList<>(files.size());
+			try {
+				for (int i = 0; i < files.size(); i++) {
+					final Path file = files.get(i);
+					try {
+						final IMutableLegacyMap map = futures.get(i).get();
+						for (final Throwable warning : warnings.get(i)) {
+							warner.handle(warning);
+						}
+						retval.add(map);
+					} catch (final ExecutionException except) {
+						executor.shutdownNow();
+						throw readFailure(except.getCause(), file);
+					}
+				}
+			} catch (final InterruptedException except) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+				throw new DriverFailedException(except, "Interrupted while reading maps");
+			}
+			return retval;
+		}
+	}
+
 	/**
 	 * Read several maps into a driver model, wrapping any errors in a
-	 * (thrown) DriverFailedException to simplify callers.
+	 * (thrown) DriverFailedException to simplify callers. The maps are
+	 * read concurrently, but warnings are reported in order, as if they
+	 * were read one at a time.
 	 */
 	public static IMultiMapModel readMultiMapModel(final Warning warner, final Path master, final Path... files)
 			throws DriverFailedException {
 		LovelaceLogger.trace("In MapReaderAdapter.readMultiMapModel");
-		String current = master.toString();
-		try {
-			final IMultiMapModel retval = new SimpleMultiMapModel(
-					MapIOHelper.readMap(master, warner));
-			for (final Path file : files) {
-				current = file.toString();
-				retval.addSubordinateMap(MapIOHelper.readMap(file, warner));
+		final IMultiMapModel retval;
+		if (files.length == 0) {
+			try {
+				retval = new SimpleMultiMapModel(MapIOHelper.readMap(master, warner));
+			} catch (final IOException | XMLStreamException | SPFormatException except) {
+				throw readFailure(except, master);
 			}
-			LovelaceLogger.trace("Finished with mapReaderAdapter.readMultiMapModel");
-			return retval;
-		} catch (final FileNotFoundException | NoSuchFileException except) {
-			// TODO: Catch FNFE as close to source as possible and convert to NoSuchFileException, to preserve
-			//  filename as a field of the exception
-			throw new DriverFailedException(except, "File not found: " + current);
-		} catch (final IOException except) {
-			//noinspection HardcodedFileSeparator
-			throw new DriverFailedException(except, "I/O error reading from file " + current);
-		} catch (final XMLStreamException except) {
-			throw new DriverFailedException(except, "Malformed XML in " + current);
-		} catch (final SPFormatException except) {
-			throw new DriverFailedException(except, "SP map format error in " + current);
+		} else {
+			final List<IMutableLegacyMap> maps =
+					readMaps(warner, Stream.concat(Stream.of(master), Stream.of(files)).toList());
+			retval = new SimpleMultiMapModel(maps.getFirst());
+			maps.stream().skip(1).forEach(retval::addSubordinateMap);
 		}
+		LovelaceLogger.trace("Finished with mapReaderAdapter.readMultiMapModel");
+		return retval;
 	}
 
 	/**
 	 * Write maps from a map model back to file, wrapping any errors in a
-	 * (thrown) {@link DriverFailedException} to simplify callers.
+	 * (thrown) {@link DriverFailedException} to simplify callers. If there
+	 * are several maps, they are written concurrently; if writing any of
+	 * them fails, the failure reported is that of the first such map (the
+	 * main map, then the subordinate maps in order), and the maps that
+	 * were written successfully are marked as unmodified regardless.
 	 */
 	public static void writeModel(final IDriverModel model) throws DriverFailedException {
-		final Path mainFile = model.getMap().getFilename();
-		if (Objects.isNull(mainFile)) {
+		final List<ILegacyMap> maps = new ArrayList<>();
+		if (Objects.isNull(model.getMap().getFilename())) {
 			LovelaceLogger.error("Model didn't contain filename for main map, so didn't write it");
 		} else {
-			try {
-				MapIOHelper.writeMap(mainFile, model.getMap());
-				model.setMapStatus(ILegacyMap.ModificationStatus.Unmodified);
-			} catch (final XMLStreamException except) {
-				throw new DriverFailedException(except,
-						"Malformed XML while writing " + mainFile);
-			} catch (final IOException except) {
-				//noinspection HardcodedFileSeparator
-				throw new DriverFailedException(except, "I/O error writing to " + mainFile);
-			}
+			maps.add(model.getMap());
 		}
 		if (model instanceof final IMultiMapModel mmm) {
 			for (final ILegacyMap map : mmm.getSubordinateMaps()) {
-				final Path filename = map.getFilename();
-				if (Objects.isNull(filename)) {
+				if (Objects.isNull(map.getFilename())) {
 					LovelaceLogger.error("A map didn't have a filename, and so wasn't written.");
 				} else {
-					try {
-						MapIOHelper.writeMap(filename, map);
-						mmm.clearModifiedFlag(map);
-					} catch (final XMLStreamException except) {
-						throw new DriverFailedException(except,
-								"Malformed XML while writing " + filename);
-					} catch (final IOException except) {
-						//noinspection HardcodedFileSeparator
-						throw new DriverFailedException(except,
-								"I/O error writing to " + filename);
+					maps.add(map);
+				}
+			}
+		}
+		writeMaps(maps, map -> {
+			if (map == model.getMap()) {
+				model.setMapStatus(ILegacyMap.ModificationStatus.Unmodified);
+			} else if (model instanceof final IMultiMapModel mmm) {
+				mmm.clearModifiedFlag(map);
+			}
+		});
+	}
+
+	/**
+	 * Write maps, each to its own filename, several at once, wrapping any
+	 * errors in a (thrown) {@link DriverFailedException} to simplify
+	 * callers. Every map is attempted; if writing any of them fails, the
+	 * failure reported is that of the first such map in the given order.
+	 * (Maps going to SQLite databases are still written one at a time,
+	 * since {@link MapIOHelper} serializes access to its database writer.)
+	 */
+	public static void writeMaps(final List<? extends ILegacyMap> maps) throws DriverFailedException {
+		writeMaps(maps, map -> {
+		});
+	}
+
+	/**
+	 * Write maps, each to its own filename, several at once, as {@link
+	 * #writeMaps(List)} does, passing each map that was written
+	 * successfully to the given callback on the calling thread.
+	 */
+	private static void writeMaps(final List<? extends ILegacyMap> maps, final Consumer<ILegacyMap> written)
+			throws DriverFailedException {
+		if (maps.isEmpty()) {
+			return;
+		}
+		final int threads = Math.min(maps.size(), MAX_THREADS);
+		LovelaceLogger.debug("Writing %d maps on %d threads", maps.size(), threads);
+		final AtomicInteger finished = new AtomicInteger(0);
+		final List<Future<@Nullable Void>> futures = new ArrayList<>(maps.size());
+		@Nullable DriverFailedException failure = null;
+		try (final ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (final ILegacyMap map : maps) {
+				final Path file = Objects.requireNonNull(map.getFilename());
+				futures.add(executor.submit(() -> {
+					MapIOHelper.writeMap(file, map);
+					LovelaceLogger.info("Wrote %s (%d of %d)", file, finished.incrementAndGet(), maps.size());
+					return null;
+				}));
+			}
+			for (int i = 0; i < maps.size(); i++) {
+				final ILegacyMap map = maps.get(i);
+				try {
+					futures.get(i).get();
+				} catch (final ExecutionException except) {
+					if (Objects.isNull(failure)) {
+						failure = writeFailure(except.getCause(), Objects.requireNonNull(map.getFilename()));
 					}
+					continue;
+				} catch (final InterruptedException except) {
+					Thread.currentThread().interrupt();
+					throw new DriverFailedException(except, "Interrupted while writing maps");
 				}
+				// The callback is called here, rather than in the tasks, so that (for example) listeners for
+				// modification flags are notified on this thread.
+				written.accept(map);
 			}
 		}
+		if (Objects.nonNull(failure)) {
+			throw failure;
+		}
 	}
 }
@@ -0,0 +1,106 @@
+package drivers;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import drivers.common.DriverFailedException;
+import drivers.common.IDriverModel;
+import drivers.common.ReadOnlyDriver;
+import drivers.common.SPOptions;
+
+import drivers.common.cli.ICLIHelper;
+
+import legacy.map.IFixture;
+import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.Player;
+
+import lovelace.util.LovelaceLogger;
+
+/**
+ * A driver to produce each player's view of the main map, to hand out at the
+ * end of a turn. The views are all made in one pass over the map, then
+ * written concurrently. Each is written next to the main map (or in the
+ * directory given by the "--out" option), named for the main map and the
+ * player's ID.
+ */
+public final class PlayerMapsCLI implements ReadOnlyDriver {
+	public PlayerMapsCLI(final ICLIHelper cli, final SPOptions options, final IDriverModel model) {
+		this.cli = cli;
+		this.options = options;
+		this.model = model;
+	}
+
+	private final ICLIHelper cli;
+	private final SPOptions options;
+	private final IDriverModel model;
+
+	@Override
+	public SPOptions getOptions() {
+		return options;
+	}
+
+	@Override
+	public IDriverModel getModel() {
+		return model;
+	}
+
+	/**
+	 * The file to write the given player's map to.
+	 */
+	private Path fileFor(final Path mainFile, final Player player) {
+		final String name = mainFile.getFileName().toString();
+		final int dot = name.lastIndexOf('.');
+		final String outName;
+		if (dot > 0) {
+			outName = "%s.player-%d%s".formatted(name.substring(0, dot), player.getPlayerId(), name.substring(dot));
+		} else {
+			outName = "%s.player-%d".formatted(name, player.getPlayerId());
+		}
+		if (options.hasOption("--out")) {
+			return Paths.get(options.getArgument("--out")).resolve(outName);
+		} else {
+			return mainFile.resolveSibling(outName);
+		}
+	}
+
+	@Override
+	public void startDriver() throws DriverFailedException {
+		final ILegacyMap map = model.getMap();
+		final Path mainFile = map.getFilename();
+		if (Objects.isNull(mainFile)) {
+			LovelaceLogger.error("Asked to make player maps from map with no filename");
+			return;
+		}
+		final List<Player> players = new ArrayList<>();
+		for (final Player player : map.getPlayers()) {
+			if (!player.isIndependent()) {
+				players.add(player);
+			}
+		}
+		if (players.isEmpty()) {
+			cli.println("No players in the map");
+			return;
+		}
+		final List<ILegacyMap> copies = map.copyForPlayers(IFixture.CopyBehavior.KEEP, players);
+		final List<ILegacyMap> toWrite = new ArrayList<>(copies.size());
+		for (int i = 0; i < players.size(); i++) {
+			final Player player = players.get(i);
+			if (copies.get(i) instanceof final IMutableLegacyMap copy) {
+				copy.setCurrentPlayer(player);
+				copy.setFilename(fileFor(mainFile, player));
+				toWrite.add(copy);
+			} else {
+				LovelaceLogger.error("Copy of map for player %d was not mutable, so not written",
+						player.getPlayerId());
+			}
+		}
+		MapReaderAdapter.writeMaps(toWrite);
+		for (final ILegacyMap copy : toWrite) {
+			cli.println("Wrote " + copy.getFilename());
+		}
+	}
+}
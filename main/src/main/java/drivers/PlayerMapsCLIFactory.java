@@ -0,0 +1,55 @@
+package drivers;
+
+import java.io.File;
+import java.util.EnumSet;
+
+import drivers.common.IDriverModel;
+import drivers.common.ParamCount;
+import drivers.common.IDriverUsage;
+import drivers.common.SPOptions;
+import drivers.common.DriverUsage;
+import drivers.common.ModelDriverFactory;
+import drivers.common.DriverFactory;
+import drivers.common.ModelDriver;
+import drivers.common.SimpleDriverModel;
+
+import drivers.common.cli.ICLIHelper;
+
+import legacy.map.IMutableLegacyMap;
+
+import com.google.auto.service.AutoService;
+
+/**
+ * A factory for a driver to produce each player's view of the main map.
+ */
+@AutoService(DriverFactory.class)
+public final class PlayerMapsCLIFactory implements ModelDriverFactory<IDriverModel> {
+	private static final String SAMPLE_DIR = "%spath%sto%splayers".formatted(File.separator, File.separator,
+			File.separator);
+	private static final IDriverUsage USAGE = new DriverUsage(IDriverUsage.DriverMode.CommandLine, "player-maps",
+			ParamCount.One, "Create players' maps", """
+					Create each player's view of the main map, hiding other players' details, and write them \
+					next to it (or in the directory given with --out).""",
+			EnumSet.of(IDriverUsage.DriverMode.CommandLine), "filename.xml", "filename.xml",
+			"--out=" + SAMPLE_DIR);
+
+	@Override
+	public IDriverUsage getUsage() {
+		return USAGE;
+	}
+
+	@Override
+	public ModelDriver createDriver(final ICLIHelper cli, final SPOptions options, final IDriverModel model) {
+		return new PlayerMapsCLI(cli, options, model);
+	}
+
+	@Override
+	public IDriverModel createModel(final IMutableLegacyMap map) {
+		return new SimpleDriverModel(map);
+	}
+
+	@Override
+	public IDriverModel createModel(final IDriverModel model) {
+		return new SimpleDriverModel(model);
+	}
+}
@@ -0,0 +1,233 @@
+package drivers;
+
+import common.xmlio.Warning;
+import drivers.common.DriverFailedException;
+import drivers.common.cli.ICLIHelper;
+import legacy.map.ILegacyMap;
+import legacy.map.Player;
+import lovelace.util.LovelaceLogger;
+import org.jspecify.annotations.Nullable;
+import report.ReportGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates, and caches, the reports {@link ReportServingCLI} serves.
+ *
+ * Reports are generated only when first asked for, one per map file and
+ * player, on a pool of worker threads. The most recently used of them are
+ * kept, both as they are and compressed, along with the modification time
+ * of the file they were generated from; when that file changes on disk, it
+ * is read again and its reports are regenerated as they are asked for.
+ */
+/* package */ final class ReportService implements AutoCloseable {
+	/**
+	 * How many reports to keep by default.
+	 */
+	private static final int CACHE_SIZE = 64;
+
+	/**
+	 * A generated report.
+	 *
+	 * @param etag       An entity tag identifying this version of the report, quoted as HTTP requires
+	 * @param html       The report, encoded as UTF-8
+	 * @param compressed The report, encoded as UTF-8 and then compressed with gzip
+	 */
+	public record Report(String etag, byte[] html, byte[] compressed) {
+	}
+
+	/**
+	 * A (perhaps not yet finished) report, and the modification time of the file it was generated from.
+	 */
+	private record Entry(FileTime modified, CompletableFuture<Report> report) {
+	}
+
+	/**
+	 * A map, and the modification time of the file it was read from.
+	 */
+	private record Loaded(FileTime modified, ILegacyMap map) {
+	}
+
+	private record Key(Path file, int player) {
+	}
+
+	private final ICLIHelper cli;
+
+	/**
+	 * The player whose report to generate when none is specified, or null
+	 * to use each map's current player.
+	 */
+	private final @Nullable Player defaultPlayer;
+
+	/**
+	 * The maps, as most recently read, by filename.
+	 */
+	private final Map<Path, Loaded> maps = new ConcurrentHashMap<>();
+
+	/**
+	 * The most recently used reports.
+	 */
+	private final Map<Key, Entry> cache;
+
+	private final ExecutorService executor =
+			Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * @param maps          The maps to serve reports on. Each must have a filename.
+	 * @param cli           Passed to the report generator
+	 * @param defaultPlayer The player whose report to serve when none is specified, or null to use each map's
+	 *                      current player
+	 */
+	public ReportService(final List<ILegacyMap> maps, final ICLIHelper cli, final @Nullable Player defaultPlayer) {
+		this(maps, cli, defaultPlayer, CACHE_SIZE);
+	}
+
+	/**
+	 * @param maps          The maps to serve reports on. Each must have a filename.
+	 * @param cli           Passed to the report generator
+	 * @param defaultPlayer The player whose report to serve when none is specified, or null to use each map's
+	 *                      current player
+	 * @param cacheSize     How many reports to keep
+	 */
+	/* package */ ReportService(final List<ILegacyMap> maps, final ICLIHelper cli, final @Nullable Player defaultPlayer,
+	                            final int cacheSize) {
+		cache = Collections.synchronizedMap(new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+				return size() > cacheSize;
+			}
+		});
+		this.cli = cli;
+		this.defaultPlayer = defaultPlayer;
+		for (final ILegacyMap map : maps) {
+			final Path file = Objects.requireNonNull(map.getFilename());
+			this.maps.putIfAbsent(file, new Loaded(modificationTime(file), map));
+		}
+	}
+
+	/**
+	 * The files whose reports we can serve.
+	 */
+	public List<Path> getFiles() {
+		return List.copyOf(maps.keySet());
+	}
+
+	/**
+	 * The players in the given file, as most recently read.
+	 */
+	public List<Player> getPlayers(final Path file) {
+		final Loaded loaded = maps.get(file);
+		if (Objects.isNull(loaded)) {
+			return Collections.emptyList();
+		} else {
+			return StreamSupport.stream(loaded.map().getPlayers().spliterator(), false).toList();
+		}
+	}
+
+	/**
+	 * The modification time of the given file, or the earliest possible time if it cannot be read.
+	 */
+	private static FileTime modificationTime(final Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (final IOException except) {
+			LovelaceLogger.warning(except, "Failed to get modification time of %s", file);
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	/**
+	 * Get the map in the given file, reading it again if it has changed
+	 * since it was last read. The file is read without holding any lock, so
+	 * reports on other files are not held up; if two threads both read it,
+	 * the copy read for the later modification time is kept.
+	 */
+	private ILegacyMap getMap(final Path file, final FileTime modified) {
+		final Loaded loaded = maps.get(file);
+		if (Objects.nonNull(loaded) && loaded.modified().equals(modified)) {
+			return loaded.map();
+		}
+		LovelaceLogger.info("Reading changed map %s", file);
+		final ILegacyMap map;
+		try {
+			map = MapReaderAdapter.readMap(file, Warning.IGNORE);
+		} catch (final DriverFailedException except) {
+			throw new IllegalStateException("Failed to read changed map " + file, except);
+		}
+		maps.merge(file, new Loaded(modified, map),
+				(existing, fresh) -> existing.modified().compareTo(fresh.modified()) > 0 ? existing : fresh);
+		return map;
+	}
+
+	private static byte[] compress(final byte[] data) {
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+		try (final GZIPOutputStream ostream = new GZIPOutputStream(buffer)) {
+			ostream.write(data);
+		} catch (final IOException except) {
+			// Can't happen with an in-memory stream
+			throw new UncheckedIOException(except);
+		}
+		return buffer.toByteArray();
+	}
+
+	private Report generate(final Path file, final FileTime modified, final int playerId) {
+		final ILegacyMap map = getMap(file, modified);
+		final Player player;
+		if (playerId >= 0) {
+			player = StreamSupport.stream(map.getPlayers().spliterator(), false)
+					.filter(p -> p.getPlayerId() == playerId).findAny()
+					.orElseThrow(() -> new IllegalArgumentException("No such player"));
+		} else {
+			player = Objects.requireNonNullElseGet(defaultPlayer, map::getCurrentPlayer);
+		}
+		LovelaceLogger.debug("Generating report on %s for player %d", file, player.getPlayerId());
+		final byte[] html = ReportGenerator.createReport(map, cli, player).getBytes(StandardCharsets.UTF_8);
+		final String etag = "\"%x-%s\"".formatted(modified.toMillis(), playerId < 0 ? "default" : playerId);
+		return new Report(etag, html, compress(html));
+	}
+
+	/**
+	 * Get the report on the given file for the player with the given ID,
+	 * or for the default player if the ID is negative, generating it (in
+	 * the background) if it is not already cached or if the file has
+	 * changed since it was generated. The returned future fails with an
+	 * {@link IllegalArgumentException} if there is no such player.
+	 */
+	public CompletableFuture<Report> getReport(final Path file, final int playerId) {
+		final FileTime modified = modificationTime(file);
+		final Key key = new Key(file, playerId);
+		synchronized (cache) {
+			final Entry cached = cache.get(key);
+			if (Objects.nonNull(cached) && cached.modified().equals(modified) &&
+					!cached.report().isCompletedExceptionally()) {
+				return cached.report();
+			}
+			final CompletableFuture<Report> report =
+					CompletableFuture.supplyAsync(() -> generate(file, modified, playerId), executor);
+			cache.put(key, new Entry(modified, report));
+			return report;
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+}
@@ -1,16 +1,21 @@
 package drivers;
 
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 
 import java.util.stream.Stream;
 
 import lovelace.util.LovelaceLogger;
 import org.jspecify.annotations.Nullable;
 
-import org.javatuples.Pair;
-
 import java.nio.file.Path;
 
 import java.io.IOException;
@@ -26,19 +31,30 @@ import drivers.common.cli.ICLIHelper;
 import legacy.map.Player;
 import legacy.map.ILegacyMap;
 
-import report.ReportGenerator;
-
-import java.util.HashMap;
 import java.util.Map;
 
 import org.takes.facets.fork.Fork;
 import org.takes.facets.fork.FkRegex;
 import org.takes.facets.fork.TkFork;
+import org.takes.facets.fork.TkRegex;
+
+import org.takes.Request;
+import org.takes.Response;
+
+import org.takes.rq.RqHeaders;
 
 import org.takes.rs.RsHtml;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
+import org.takes.rs.RsWithType;
 
 import org.takes.tk.TkRedirect;
 
+import org.takes.http.BkBasic;
+import org.takes.http.BkParallel;
+import org.takes.http.BkSafe;
 import org.takes.http.FtBasic;
 import org.takes.http.Exit;
 
@@ -69,68 +85,143 @@ import org.takes.http.Exit;
 		return model;
 	}
 
+	/**
+	 * Turn a (perhaps not yet finished) report into a response to the
+	 * given request: "Not Modified" if the client already has this version
+	 * of it, compressed if the client accepts that, and an error if the
+	 * report could not be generated.
+	 */
+	/* package */ static Response respond(final Request request, final CompletableFuture<ReportService.Report> future)
+			throws IOException, InterruptedException {
+		final ReportService.Report report;
+		try {
+			report = future.get();
+		} catch (final ExecutionException except) {
+			if (except.getCause() instanceof IllegalArgumentException) {
+				return new RsWithStatus(new RsText("No such player"), HttpURLConnection.HTTP_NOT_FOUND);
+			}
+			LovelaceLogger.error(except.getCause(), "Failed to generate report");
+			return new RsWithStatus(new RsText("Failed to generate report"), HttpURLConnection.HTTP_INTERNAL_ERROR);
+		}
+		final RqHeaders.Smart headers = new RqHeaders.Smart(request);
+		final String etagHeader = "ETag: " + report.etag();
+		if (headers.header("If-None-Match").stream().anyMatch(tag -> tag.contains(report.etag()))) {
+			return new RsWithHeaders(new RsWithStatus(HttpURLConnection.HTTP_NOT_MODIFIED), etagHeader);
+		} else if (headers.header("Accept-Encoding").stream().anyMatch(encoding -> encoding.contains("gzip"))) {
+			return new RsWithHeaders(new RsWithType(new RsWithBody(report.compressed()), "text/html; charset=UTF-8"),
+					etagHeader, "Content-Encoding: gzip", "Vary: Accept-Encoding");
+		} else {
+			return new RsWithHeaders(new RsWithType(new RsWithBody(report.html()), "text/html; charset=UTF-8"),
+					etagHeader, "Vary: Accept-Encoding");
+		}
+	}
+
+	/**
+	 * Escape the characters that have special meaning in HTML text and attribute values.
+	 */
+	private static String escapeHtml(final String text) {
+		final StringBuilder builder = new StringBuilder(text.length());
+		for (final char character : text.toCharArray()) {
+			switch (character) {
+				case '&' -> builder.append("&amp;");
+				case '<' -> builder.append("&lt;");
+				case '>' -> builder.append("&gt;");
+				case '"' -> builder.append("&quot;");
+				case '\'' -> builder.append("&#39;");
+				default -> builder.append(character);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * An index of the reports we serve: for each file, a link to the
+	 * default report and to the report for each player.
+	 */
+	/* package */ static String indexPage(final ReportService service, final Map<String, Path> files) {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("<!DOCTYPE html>").append(System.lineSeparator())
+				.append("<html>").append(System.lineSeparator())
+				.append("\t<head>").append(System.lineSeparator())
+				.append("\t\t<title>Strategic Primer Reports</title>")
+				.append(System.lineSeparator())
+				.append("\t</head>").append(System.lineSeparator())
+				.append("\t<body>").append(System.lineSeparator())
+				.append("\t\t<h1>Strategic Primer Reports</h1>")
+				.append(System.lineSeparator())
+				.append("\t\t<ul>").append(System.lineSeparator());
+		for (final Map.Entry<String, Path> entry : files.entrySet()) {
+			final String file = escapeHtml(entry.getKey());
+			builder.append("\t\t\t<li><a href=\"/").append(file).append("\">")
+					.append(file).append("</a><ul>")
+					.append(System.lineSeparator());
+			for (final Player player : service.getPlayers(entry.getValue())) {
+				builder.append("\t\t\t\t<li><a href=\"/").append(file).append("/player/")
+						.append(player.getPlayerId()).append("\">").append(escapeHtml(player.getName()))
+						.append("</a></li>").append(System.lineSeparator());
+			}
+			builder.append("\t\t\t</ul></li>").append(System.lineSeparator());
+		}
+		builder.append("\t\t</ul>").append(System.lineSeparator())
+				.append("\t</body>").append(System.lineSeparator())
+				.append("</html>");
+		return builder.toString();
+	}
+
+	/**
+	 * Serve reports on the maps: the default player's report on each file
+	 * at its name, and any player's report at the file's name followed by
+	 * "/player/" and the player's ID number; "/player/{id}" alone serves
+	 * the main map's report for that player. Reports are generated when
+	 * first asked for, and regenerated when the file changes, rather than
+	 * all at startup.
+	 */
 	@SuppressWarnings("HardcodedFileSeparator")
 	private void serveReports(final int port, final @Nullable Player currentPlayer) throws DriverFailedException {
-		final Map<Path, String> cache = new HashMap<>();
-		if (model instanceof final IMultiMapModel mmm &&
-				mmm.streamSubordinateMaps().map(ILegacyMap::getFilename).anyMatch(Objects::nonNull)) {
-			for (final ILegacyMap map : mmm.getAllMaps()) {
-				final Path file = map.getFilename();
-				if (Objects.isNull(file)) {
-					continue;
-				}
-				if (!cache.containsKey(file)) {
-					cache.put(file, ReportGenerator.createReport(map, cli,
-							Optional.ofNullable(currentPlayer).orElse(map.getCurrentPlayer())));
-				}
-			}
+		final List<ILegacyMap> maps;
+		if (model instanceof final IMultiMapModel mmm) {
+			maps = mmm.streamAllMaps().filter(m -> Objects.nonNull(m.getFilename())).toList();
 		} else if (Objects.nonNull(model.getMap().getFilename())) {
-			cache.put(model.getMap().getFilename(), ReportGenerator.createReport(model.getMap(), cli,
-					Optional.ofNullable(currentPlayer).orElse(model.getMap().getCurrentPlayer())));
+			maps = List.of(model.getMap());
+		} else {
+			maps = List.of();
 		}
-		if (cache.isEmpty()) {
+		if (maps.isEmpty()) {
 			return;
-		} else {
-			final List<Pair<String, String>> localCache = cache.entrySet().stream()
-					.map(entry -> Pair.with(SuffixHelper.shortestSuffix(cache.keySet(),
-							entry.getKey().toAbsolutePath()), entry.getValue())).toList();
-			final List<Fork> endpoints = localCache.stream()
-					.map(pair -> new FkRegex("/" + pair.getValue0(),
-							new RsHtml(pair.getValue1()))).map(Fork.class::cast).toList();
+		}
+		try (final ReportService service = new ReportService(maps, cli, currentPlayer)) {
+			final Collection<Path> paths = service.getFiles();
+			final Map<String, Path> files = new LinkedHashMap<>();
+			for (final ILegacyMap map : maps) {
+				final Path file = Objects.requireNonNull(map.getFilename());
+				files.putIfAbsent(SuffixHelper.shortestSuffix(paths, file.toAbsolutePath()), file);
+			}
+			final Path mainFile = Objects.requireNonNull(maps.getFirst().getFilename());
+			final List<Fork> endpoints = new ArrayList<>();
+			for (final Map.Entry<String, Path> entry : files.entrySet()) {
+				final String quoted = Pattern.quote(entry.getKey());
+				final Path file = entry.getValue();
+				endpoints.add(new FkRegex("/" + quoted, (TkRegex) request ->
+						respond(request, service.getReport(file, -1))));
+				endpoints.add(new FkRegex("/" + quoted + "/player/(\\d+)", (TkRegex) request ->
+						respond(request, service.getReport(file, Integer.parseInt(request.matcher().group(1))))));
+			}
+			endpoints.add(new FkRegex("/player/(\\d+)", (TkRegex) request ->
+					respond(request, service.getReport(mainFile, Integer.parseInt(request.matcher().group(1))))));
 			final Fork rootHandler;
-			if (localCache.size() == 1) {
+			if (files.size() == 1) {
 				rootHandler = new FkRegex("/",
-						new TkRedirect("/" + localCache.getFirst().getValue0()));
+						new TkRedirect("/" + files.keySet().iterator().next()));
 			} else {
-				final StringBuilder builder = new StringBuilder();
-				builder.append("<!DOCTYPE html>").append(System.lineSeparator())
-						.append("<html>").append(System.lineSeparator())
-						.append("\t<head>").append(System.lineSeparator())
-						.append("\t\t<title>Strategic Primer Reports</title>")
-						.append(System.lineSeparator())
-						.append("\t</head>").append(System.lineSeparator())
-						.append("\t<body>").append(System.lineSeparator())
-						.append("\t\t<h1>Strategic Primer Reports</h1>")
-						.append(System.lineSeparator())
-						.append("\t\t<ul>").append(System.lineSeparator());
-				for (final Pair<String, String> pair : localCache) {
-					final String file = pair.getValue0();
-					builder.append("\t\t\t<li><a href=\"").append(file).append("\">")
-							.append(file).append("</a></li>")
-							.append(System.lineSeparator());
-				}
-				builder.append("\t\t</ul>").append(System.lineSeparator())
-						.append("\t</body>").append(System.lineSeparator())
-						.append("</html>");
-				rootHandler = new FkRegex("/", new RsHtml(builder.toString()));
+				rootHandler = new FkRegex("/", (TkRegex) request -> new RsHtml(indexPage(service, files)));
 			}
+			// Start generating the default reports, but don't wait for them.
+			files.values().forEach(file -> service.getReport(file, -1));
 			LovelaceLogger.info("About to start serving on port %d", port);
-			try {
-				new FtBasic(new TkFork(Stream.concat(Stream.of(rootHandler), endpoints.stream()).toArray(Fork[]::new)),
-						port).start(Exit.NEVER);
-			} catch (final IOException except) {
-				throw new DriverFailedException(except, "I/O error while serving report");
-			}
+			new FtBasic(new BkParallel(new BkSafe(new BkBasic(new TkFork(Stream.concat(Stream.of(rootHandler),
+					endpoints.stream()).toArray(Fork[]::new))))), port).start(Exit.NEVER);
+		} catch (final IOException except) {
+			throw new DriverFailedException(except, "I/O error while serving report");
 		}
 	}
 
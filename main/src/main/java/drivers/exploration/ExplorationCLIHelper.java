@@ -24,6 +24,7 @@ import exploration.common.IExplorationModel;
 import exploration.common.MovementCostListener;
 import exploration.common.Pathfinder;
 import exploration.common.PathfinderFactory;
+import exploration.common.RouteResult;
 import exploration.common.SimpleMovementModel;
 import exploration.common.Speed;
 import exploration.common.TraversalImpossibleException;
@@ -31,17 +32,15 @@ import exploration.common.TraversalImpossibleException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import lovelace.util.LovelaceLogger;
-import org.javatuples.Pair;
 import org.jspecify.annotations.Nullable;
 
 import static lovelace.util.Decimalize.decimalize;
@@ -121,8 +120,6 @@ public final class ExplorationCLIHelper implements MovementCostListener, Selecti
 		runningTotal = runningTotal.subtract(decimalize(cost));
 	}
 
-	private final LinkedList<Point> proposedPath = new LinkedList<>();
-
 	private ExplorationAutomationConfig automationConfig;
 
 	private static final List<String> COMMANDS = List.of("Set Speed", "SW", "S", "SE", "W", "Linger", "E", "NW", "N",
@@ -157,18 +154,18 @@ public final class ExplorationCLIHelper implements MovementCostListener, Selecti
 	private final Pathfinder pather;
 
 	/**
-	 * If the unit has a proposed path, move one more tile along it;
-	 * otherwise, ask the user for directions once and make that move, then
-	 * return to the caller.
+	 * Ask the user for directions once and make that move, or follow the
+	 * route to the point the user asks to move toward, then return to the
+	 * caller.
 	 *
 	 * Returns YES when we stop, due to no selected unit, the user changing speed, the
-	 * user selecting an unreachable destination, the next step not being adjacent, or
-	 * the unit reaching its destination or hitting something the user said he or she
-	 * wants to see; NO when we're not stopping; QUIT when the user asked to quit; or
-	 * EOF on EOF (or an unexpected choice).
+	 * user selecting an unreachable destination, or the unit reaching its destination,
+	 * running out of MP, or hitting something the user said he or she wants to see; NO
+	 * when we're not stopping; QUIT when the user asked to quit; or EOF on EOF (or an
+	 * unexpected choice).
 	 */
 	// No need to set the 'modified' flag anywhere in this method, as
-	// ExplorationModel.move() always sets it.
+	// ExplorationModel.move() and moveAlong() always set it.
 	public ICLIHelper.BooleanResponse moveOneStep() {
 		final IUnit mover = model.getSelectedUnit();
 		if (Objects.isNull(mover)) {
@@ -177,67 +174,47 @@ public final class ExplorationCLIHelper implements MovementCostListener, Selecti
 		} else {
 			final Point point = model.getSelectedUnitLocation();
 			final Direction direction;
-			final Point proposedDestination = proposedPath.pollFirst();
-			if (Objects.isNull(proposedDestination)) {
-				//noinspection HardcodedFileSeparator
-				cli.printf("%d/%d MP remaining. Current speed: %s.%n",
-						runningTotal.intValue(), totalMP, speed.getShortName());
-				cli.printlnAtInterval(usage);
-				final int directionNum = Optional.ofNullable(cli.inputNumber("Direction to move: ")).orElse(-1);
-				//noinspection SwitchStatementWithTooManyBranches
-				switch (directionNum) {
-					case 0 -> {
-						changeSpeed();
-						return ICLIHelper.BooleanResponse.YES;
-					}
-					case 1 -> direction = Direction.Southwest;
-					case 2 -> direction = Direction.South;
-					case 3 -> direction = Direction.Southeast;
-					case 4 -> direction = Direction.West;
-					case 5 -> direction = Direction.Nowhere;
-					case 6 -> direction = Direction.East;
-					case 7 -> direction = Direction.Northwest;
-					case 8 -> direction = Direction.North;
-					case 9 -> direction = Direction.Northeast;
-					case 10 -> {
-						final Point destination = cli.inputPoint("Location to move toward: ");
-						if (Objects.isNull(destination)) {
-							runningTotal = BigDecimal.ZERO;
-							return ICLIHelper.BooleanResponse.EOF;
-						} else {
-							final Pair<Integer, Iterable<Point>> pair =
-									pather.getTravelDistance(point, destination);
-							final int cost = pair.getValue0();
-							final Iterable<Point> path = pair.getValue1();
-							if (path.iterator().hasNext()) {
-								path.forEach(proposedPath::addLast);
-								return ICLIHelper.BooleanResponse.NO;
-							} else {
-								//noinspection HardcodedFileSeparator
-								cli.println(
-										"S/he doesn't know how to get there from here.");
-								return ICLIHelper.BooleanResponse.YES;
-							}
-						}
-					}
-					default -> {
+			//noinspection HardcodedFileSeparator
+			cli.printf("%d/%d MP remaining. Current speed: %s.%n",
+					runningTotal.intValue(), totalMP, speed.getShortName());
+			cli.printlnAtInterval(usage);
+			final int directionNum = Optional.ofNullable(cli.inputNumber("Direction to move: ")).orElse(-1);
+			//noinspection SwitchStatementWithTooManyBranches
+			switch (directionNum) {
+				case 0 -> {
+					changeSpeed();
+					return ICLIHelper.BooleanResponse.YES;
+				}
+				case 1 -> direction = Direction.Southwest;
+				case 2 -> direction = Direction.South;
+				case 3 -> direction = Direction.Southeast;
+				case 4 -> direction = Direction.West;
+				case 5 -> direction = Direction.Nowhere;
+				case 6 -> direction = Direction.East;
+				case 7 -> direction = Direction.Northwest;
+				case 8 -> direction = Direction.North;
+				case 9 -> direction = Direction.Northeast;
+				case 10 -> {
+					final Point destination = cli.inputPoint("Location to move toward: ");
+					if (Objects.isNull(destination)) {
 						runningTotal = BigDecimal.ZERO;
 						return ICLIHelper.BooleanResponse.EOF;
+					} else {
+						final Iterable<Point> path = pather.getTravelDistance(point, destination).getValue1();
+						if (path.iterator().hasNext()) {
+							return followRoute(mover, path);
+						} else {
+							//noinspection HardcodedFileSeparator
+							cli.println(
+									"S/he doesn't know how to get there from here.");
+							return ICLIHelper.BooleanResponse.YES;
+						}
 					}
 				}
-			} else {
-				direction = Stream.of(Direction.values())
-						.filter(d -> proposedDestination.equals(model.getDestination(point, d)))
-						.findAny().orElse(Direction.Nowhere);
-				if (proposedDestination.equals(point)) {
-					return ICLIHelper.BooleanResponse.YES;
-				} else if (Direction.Nowhere == direction) {
-					cli.printf("Next step %s isn't adjacent to %s%n", proposedDestination, point);
-					return ICLIHelper.BooleanResponse.YES;
+				default -> {
+					runningTotal = BigDecimal.ZERO;
+					return ICLIHelper.BooleanResponse.EOF;
 				}
-				//noinspection HardcodedFileSeparator
-				cli.printf("%d/%d MP remaining. Current speed: %s.%n",
-						runningTotal.intValue(), totalMP, speed.getShortName());
 			}
 
 			final Point destPoint = model.getDestination(point, direction);
@@ -250,34 +227,8 @@ public final class ExplorationCLIHelper implements MovementCostListener, Selecti
 			}
 
 			final Collection<TileFixture> constants = new ArrayList<>();
-			final ILegacyMap map = model.getMap();
 			final List<TileFixture> allFixtures = new ArrayList<>();
-
-			for (final TileFixture fixture : map.getFixtures(destPoint)) {
-				if (SimpleMovementModel.shouldAlwaysNotice(mover, fixture)) {
-					constants.add(fixture);
-				} else if (SimpleMovementModel.shouldSometimesNotice(mover, speed, fixture)) {
-					allFixtures.add(fixture);
-				}
-			}
-
-			/*Animal|AnimalTracks|HuntingModel.NothingFound*/
-			final TileFixture tracksAnimal;
-
-			// Since not-visible terrain is impassable, by this point we know the tile is visible.
-			final TileType terrain = map.getBaseTerrain(destPoint);
-			if (TileType.Ocean == terrain) {
-				tracksAnimal = huntingModel.fish(destPoint).get().getValue1();
-			} else {
-				tracksAnimal = huntingModel.hunt(destPoint).get().getValue1();
-			}
-
-			switch (tracksAnimal) {
-				case final Animal a -> allFixtures.add(new AnimalTracks(a.getKind()));
-				case final AnimalTracks tracks -> allFixtures.add(tracks.copy(IFixture.CopyBehavior.KEEP));
-				default -> {
-				}
-			}
+			survey(mover, destPoint, constants, allFixtures);
 
 			if (Direction.Nowhere == direction) {
 				while (true) {
@@ -313,67 +264,186 @@ public final class ExplorationCLIHelper implements MovementCostListener, Selecti
 				}
 			}
 
-			final String mtn;
-			if (map.isMountainous(destPoint)) {
-				mtn = "mountainous ";
-			} else {
-				mtn = "";
+			describeArrival(mover, destPoint, constants, allFixtures);
+			return ICLIHelper.BooleanResponse.YES;
+		}
+	}
+
+	/**
+	 * Move the selected unit along the given route in one call to {@link
+	 * IExplorationModel#moveAlong}, describing each tile it comes to as
+	 * it arrives there, and stopping early if it runs out of MP or comes
+	 * to something the user has said he or she wants to stop for.
+	 *
+	 * Returns YES when the unit arrives or stops, or if the route can't be
+	 * followed; or QUIT or EOF if the user asked to quit, or on EOF, when
+	 * asked which things to stop for.
+	 */
+	private ICLIHelper.BooleanResponse followRoute(final IUnit mover, final Iterable<Point> path) {
+		Point destination = Point.INVALID_POINT;
+		for (final Point point : path) {
+			destination = point;
+		}
+		final RouteStop stop = new RouteStop(mover, destination);
+		final RouteResult result;
+		try {
+			result = model.moveAlong(path, speed, stop);
+		} catch (final TraversalImpossibleException except) {
+			LovelaceLogger.debug("Attempted movement along an impassable route");
+			//noinspection HardcodedFileSeparator
+			cli.println("S/he can't get there that way: the route is impassable.");
+			return ICLIHelper.BooleanResponse.YES;
+		} catch (final IllegalArgumentException except) {
+			LovelaceLogger.debug(except, "Route with a gap in it");
+			cli.println("That route has a gap in it, so the explorer stays put.");
+			return ICLIHelper.BooleanResponse.YES;
+		}
+		LovelaceLogger.debug("Took %d steps of the route to %s", result.steps(), result.location());
+		return stop.getResponse();
+	}
+
+	/**
+	 * The condition for stopping partway along a route: the explorer stops
+	 * after running out of MP, or on coming to something the user wants to
+	 * stop for. It also describes each tile the explorer comes to, since
+	 * it is told about each one as the unit arrives there.
+	 */
+	private final class RouteStop implements BiPredicate<Point, Double> {
+		public RouteStop(final IUnit mover, final Point destination) {
+			this.mover = mover;
+			this.destination = destination;
+		}
+
+		private final IUnit mover;
+
+		/**
+		 * The end of the route, where there is no need to decide whether to stop.
+		 */
+		private final Point destination;
+
+		private ICLIHelper.BooleanResponse response = ICLIHelper.BooleanResponse.YES;
+
+		/**
+		 * YES, unless the user asked to quit, or on EOF, when asked which things to stop for.
+		 */
+		public ICLIHelper.BooleanResponse getResponse() {
+			return response;
+		}
+
+		@Override
+		public boolean test(final Point destPoint, final Double cost) {
+			final Collection<TileFixture> constants = new ArrayList<>();
+			final List<TileFixture> allFixtures = new ArrayList<>();
+			survey(mover, destPoint, constants, allFixtures);
+			describeArrival(mover, destPoint, constants, allFixtures);
+			if (destination.equals(destPoint)) {
+				return true;
+			} else if (runningTotal.subtract(decimalize(cost)).signum() <= 0) {
+				cli.println("The explorer has run out of MP, so stops here.");
+				return true;
 			}
-			model.copyTerrainToSubMaps(destPoint);
-
-			cli.printf("The explorer comes to %s, a %s%s tile", destPoint, mtn,
-					Optional.ofNullable(map.getBaseTerrain(destPoint)).map(TileType::toString)
-							.orElse("unknown-terrain"));
-			final Collection<River> rivers = map.getRivers(destPoint);
-			final boolean anyRivers;
-			if (rivers.contains(River.Lake)) {
-				anyRivers = true;
-				if (rivers.stream().anyMatch(r -> River.Lake != r)) {
-					cli.print(" with a lake and (a) river(s) flowing ");
-				} else {
-					cli.print(" with a lake");
-				}
-			} else if (!rivers.isEmpty()) {
-				anyRivers = true;
-				cli.print(" with (a) river(s) flowing ");
+			final ICLIHelper.BooleanResponse stopHere = automationConfig.stopAtPoint(cli,
+					model.streamSubordinateMaps().findFirst().orElseGet(model::getMap), destPoint);
+			if (ICLIHelper.BooleanResponse.NO == stopHere) {
+				return false;
 			} else {
-				anyRivers = false;
+				response = stopHere;
+				return true;
 			}
-			cli.println(rivers.stream().filter(r -> River.Lake != r).map(River::toString)
-					.collect(Collectors.joining(", ")));
-
-			if (!map.getRoads(destPoint).isEmpty()) {
-				if (anyRivers) {
-					cli.print(". There are (a) road(s) to the ");
-				} else {
-					cli.print(" with (a) road(s) to the ");
-				}
-				cli.println(map.getRoads(destPoint).keySet().stream().map(Direction::toString)
-						.collect(Collectors.joining(", "))); // TODO: Report on road quality
+		}
+	}
+
+	/**
+	 * Collect the fixtures on the given tile that the explorer always
+	 * notices, and those that it might notice, including any tracks it
+	 * finds there.
+	 */
+	private void survey(final IUnit mover, final Point destPoint, final Collection<TileFixture> constants,
+	                    final List<TileFixture> allFixtures) {
+		final ILegacyMap map = model.getMap();
+		for (final TileFixture fixture : map.getFixtures(destPoint)) {
+			if (SimpleMovementModel.shouldAlwaysNotice(mover, fixture)) {
+				constants.add(fixture);
+			} else if (SimpleMovementModel.shouldSometimesNotice(mover, speed, fixture)) {
+				allFixtures.add(fixture);
 			}
-			final Iterable<TileFixture> noticed = SimpleMovementModel.selectNoticed(allFixtures, Function.identity(),
-					mover, speed);
+		}
 
-			if (!constants.isEmpty() || noticed.iterator().hasNext()) {
-				cli.println("The following were noticed:");
-				for (final TileFixture fixture : constants) {
-					printAndTransferFixture(destPoint, fixture, mover, true);
-				}
-				for (final TileFixture fixture : noticed) {
-					printAndTransferFixture(destPoint, fixture, mover, false);
-				}
+		/*Animal|AnimalTracks|HuntingModel.NothingFound*/
+		final TileFixture tracksAnimal;
+
+		// Since not-visible terrain is impassable, by this point we know the tile is visible.
+		final TileType terrain = map.getBaseTerrain(destPoint);
+		if (TileType.Ocean == terrain) {
+			tracksAnimal = huntingModel.fish(destPoint).get().getValue1();
+		} else {
+			tracksAnimal = huntingModel.hunt(destPoint).get().getValue1();
+		}
+
+		switch (tracksAnimal) {
+			case final Animal a -> allFixtures.add(new AnimalTracks(a.getKind()));
+			case final AnimalTracks tracks -> allFixtures.add(tracks.copy(IFixture.CopyBehavior.KEEP));
+			default -> {
 			}
+		}
+	}
 
-			if (!proposedPath.isEmpty()) {
-				ICLIHelper.BooleanResponse retval = (automationConfig.stopAtPoint(cli,
-						model.streamSubordinateMaps().findFirst().orElseGet(model::getMap),
-						destPoint));
-				if (ICLIHelper.BooleanResponse.YES.equals(retval)) {
-					proposedPath.clear();
-				}
-				return retval;
+	/**
+	 * Copy the terrain of the tile the explorer has come to to subordinate
+	 * maps, describe it, and report, and copy to subordinate maps, what
+	 * the explorer noticed there.
+	 */
+	private void describeArrival(final IUnit mover, final Point destPoint, final Collection<TileFixture> constants,
+	                             final List<TileFixture> allFixtures) {
+		final ILegacyMap map = model.getMap();
+		final String mtn;
+		if (map.isMountainous(destPoint)) {
+			mtn = "mountainous ";
+		} else {
+			mtn = "";
+		}
+		model.copyTerrainToSubMaps(destPoint);
+
+		cli.printf("The explorer comes to %s, a %s%s tile", destPoint, mtn,
+				Optional.ofNullable(map.getBaseTerrain(destPoint)).map(TileType::toString)
+						.orElse("unknown-terrain"));
+		final Collection<River> rivers = map.getRivers(destPoint);
+		final boolean anyRivers;
+		if (rivers.contains(River.Lake)) {
+			anyRivers = true;
+			if (rivers.stream().anyMatch(r -> River.Lake != r)) {
+				cli.print(" with a lake and (a) river(s) flowing ");
+			} else {
+				cli.print(" with a lake");
+			}
+		} else if (!rivers.isEmpty()) {
+			anyRivers = true;
+			cli.print(" with (a) river(s) flowing ");
+		} else {
+			anyRivers = false;
+		}
+		cli.println(rivers.stream().filter(r -> River.Lake != r).map(River::toString)
+				.collect(Collectors.joining(", ")));
+
+		if (!map.getRoads(destPoint).isEmpty()) {
+			if (anyRivers) {
+				cli.print(". There are (a) road(s) to the ");
 			} else {
-				return ICLIHelper.BooleanResponse.YES;
+				cli.print(" with (a) road(s) to the ");
+			}
+			cli.println(map.getRoads(destPoint).keySet().stream().map(Direction::toString)
+					.collect(Collectors.joining(", "))); // TODO: Report on road quality
+		}
+		final Iterable<TileFixture> noticed = SimpleMovementModel.selectNoticed(allFixtures, Function.identity(),
+				mover, speed);
+
+		if (!constants.isEmpty() || noticed.iterator().hasNext()) {
+			cli.println("The following were noticed:");
+			for (final TileFixture fixture : constants) {
+				printAndTransferFixture(destPoint, fixture, mover, true);
+			}
+			for (final TileFixture fixture : noticed) {
+				printAndTransferFixture(destPoint, fixture, mover, false);
 			}
 		}
 	}
@@ -3,6 +3,9 @@ package drivers.map_viewer;
 import java.awt.event.ActionListener;
 import java.io.Serial;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import legacy.map.fixtures.FixtureIterable;
 
@@ -92,9 +95,11 @@ import java.util.function.Predicate;
 		buttonPanel.add(cancelButton);
 		buttonPanel.addGlue();
 		final JPanel contentPanel = BorderedPanel.verticalPanel(searchField,
-				BorderedPanel.verticalPanel(backwards, vertically, caseSensitive), buttonPanel);
+				BorderedPanel.verticalPanel(backwards, vertically,
+						BorderedPanel.verticalPanel(caseSensitive, prefixOnly, null)), buttonPanel);
 
 		SwingUtilities.invokeLater(this::populateAll);
+		model.getSearchIndex().prepare();
 
 		setContentPane(horizontalSplit(contentPanel,
 				BorderedPanel.verticalPanel(new JLabel("Find only ..."), scrollPane, null), DIVIDER_LOCATION));
@@ -108,6 +113,7 @@ import java.util.function.Predicate;
 	private final JCheckBox backwards = new JCheckBox("Search backwards");
 	private final JCheckBox vertically = new JCheckBox("Search vertically then horizontally");
 	private final JCheckBox caseSensitive = new JCheckBox("Case-sensitive search");
+	private final JCheckBox prefixOnly = new JCheckBox("Match only the start of names, kinds, and owners");
 	private final FixtureFilterList filterList = new FixtureFilterList();
 
 	// TODO: Extract a "case-insensitive search", since this currently
@@ -115,13 +121,21 @@ import java.util.function.Predicate;
 	// contains an upper-case character. Though we lowercase the pattern
 	// before calling anything in {@link search}.
 
+	/**
+	 * Whether the given string starts with, or (if not "prefix") contains, the given pattern.
+	 */
+	private static boolean matchesString(final String pattern, final String string, final boolean prefix) {
+		return (prefix) ? string.startsWith(pattern) : string.contains(pattern);
+	}
+
 	/**
 	 * Whether the fixture has a name matching the given pattern.
 	 */
-	private static boolean matchesName(final String pattern, final IFixture fixture, final boolean caseSensitivity) {
+	private static boolean matchesName(final String pattern, final IFixture fixture, final boolean caseSensitivity,
+	                                   final boolean prefix) {
 		if (fixture instanceof final HasName named) {
 			final String name = (caseSensitivity) ? named.getName() : named.getName().toLowerCase();
-			return name.contains(pattern);
+			return matchesString(pattern, name, prefix);
 		} else {
 			return false;
 		}
@@ -130,10 +144,11 @@ import java.util.function.Predicate;
 	/**
 	 * Whether the fixture has a kind matching the given pattern.
 	 */
-	private static boolean matchesKind(final String pattern, final IFixture fixture, final boolean caseSensitivity) {
+	private static boolean matchesKind(final String pattern, final IFixture fixture, final boolean caseSensitivity,
+	                                   final boolean prefix) {
 		if (fixture instanceof final HasKind hk) {
 			final String kind = (caseSensitivity) ? hk.getKind() : hk.getKind().toLowerCase();
-			return kind.contains(pattern);
+			return matchesString(pattern, kind, prefix);
 		} else {
 			return false;
 		}
@@ -143,12 +158,12 @@ import java.util.function.Predicate;
 	 * Whether the fixture has an owner matching the given pattern.
 	 */
 	private static boolean matchesOwner(final String pattern, final @Nullable Integer idNum, final IFixture fixture,
-										final boolean caseSensitivity) {
+										final boolean caseSensitivity, final boolean prefix) {
 		if (fixture instanceof final HasOwner owned) {
 			final Player owner = owned.owner();
 			final String ownerName = (caseSensitivity) ? owner.getName() :
 					owner.getName().toLowerCase();
-			if (Objects.equals(owner.getPlayerId(), idNum) || ownerName.contains(pattern)) {
+			if (Objects.equals(owner.getPlayerId(), idNum) || matchesString(pattern, ownerName, prefix)) {
 				return true;
 			} else if ("me".equalsIgnoreCase(pattern) && owner.isCurrent()) {
 				return true;
@@ -164,7 +179,7 @@ import java.util.function.Predicate;
 	 * Whether the fixture matches the pattern in any of our simple ways.
 	 */
 	private boolean matchesSimple(final String pattern, final @Nullable Integer idNum, final IFixture fixture,
-								  final boolean caseSensitivity) {
+								  final boolean caseSensitivity, final boolean prefix) {
 		if (pattern.isEmpty()) {
 			return true;
 		} else if (fixture instanceof final TileFixture tf && !filterList.shouldDisplay(tf)) {
@@ -172,9 +187,9 @@ import java.util.function.Predicate;
 		} else if (Objects.nonNull(idNum) && idNum == fixture.getId()) {
 			return true;
 		} else {
-			return matchesName(pattern, fixture, caseSensitivity) ||
-					matchesKind(pattern, fixture, caseSensitivity) ||
-					matchesOwner(pattern, idNum, fixture, caseSensitivity);
+			return matchesName(pattern, fixture, caseSensitivity, prefix) ||
+					matchesKind(pattern, fixture, caseSensitivity, prefix) ||
+					matchesOwner(pattern, idNum, fixture, caseSensitivity, prefix);
 		}
 	}
 
@@ -182,36 +197,109 @@ import java.util.function.Predicate;
 	 * Whether the given fixture matches the given pattern in any way we recognize.
 	 */
 	private Predicate<IFixture> matches(final String pattern, final @Nullable Integer idNum,
-										final boolean caseSensitivity) {
+										final boolean caseSensitivity, final boolean prefix) {
 		return fixture -> {
-			if (matchesSimple(pattern, idNum, fixture, caseSensitivity)) {
+			if (matchesSimple(pattern, idNum, fixture, caseSensitivity, prefix)) {
 				return true;
 			} else if (fixture instanceof FixtureIterable) {
-				return ((FixtureIterable<?>) fixture).stream().anyMatch(matches(pattern, idNum, caseSensitivity));
+				return ((FixtureIterable<?>) fixture).stream()
+						.anyMatch(matches(pattern, idNum, caseSensitivity, prefix));
 			} else {
 				return false;
 			}
 		};
 	}
 
+	private static boolean isBookmarkPattern(final String pattern, final boolean caseSensitivity) {
+		return caseSensitivity ? "bookmark".equals(pattern) : "bookmark".equalsIgnoreCase(pattern);
+	}
+
 	private Predicate<Point> matchesPoint(final String pattern, final @Nullable Integer id,
-										  final boolean caseSensitivity) {
+										  final boolean caseSensitivity, final boolean prefix) {
 		return point -> {
-			if ((caseSensitivity ? "bookmark".equals(pattern) : "bookmark".equalsIgnoreCase(pattern)) &&
-					model.getMap().getBookmarks().contains(point)) {
+			if (isBookmarkPattern(pattern, caseSensitivity) && model.getMap().getBookmarks().contains(point)) {
 				return true;
 			} else {
 				return model.getMap().streamFixtures(point)
-						.anyMatch(matches(pattern, id, caseSensitivity));
+						.anyMatch(matches(pattern, id, caseSensitivity, prefix));
 			}
 		};
 	}
 
+	/**
+	 * Whether the given fixture is, or is inside, one of the fixtures on the given tile.
+	 */
+	private boolean isOnTile(final Point point, final IFixture fixture) {
+		final Predicate<IFixture> isOrContains = new Predicate<>() {
+			@Override
+			public boolean test(final IFixture item) {
+				return item == fixture ||
+						(item instanceof final FixtureIterable<?> iter && iter.stream().anyMatch(this));
+			}
+		};
+		return model.getMap().streamFixtures(point).anyMatch(isOrContains);
+	}
+
+	/**
+	 * Of the tiles the search index found might match, in the order they
+	 * would be searched, the first one that actually does, checking each
+	 * against the map, since the index might be out of date, and the
+	 * fixture filter, which the index does not know about.
+	 */
+	private @Nullable Point firstMatch(final List<FixtureSearchIndex.Candidate> candidates, final String pattern,
+	                                   final @Nullable Integer idNum, final boolean caseSensitivity,
+	                                   final boolean prefix) {
+		for (final FixtureSearchIndex.Candidate candidate : candidates) {
+			final Point point = candidate.location();
+			if (candidate.bookmarked() && model.getMap().getBookmarks().contains(point)) {
+				return point;
+			}
+			for (final IFixture fixture : candidate.fixtures()) {
+				if (matchesSimple(pattern, idNum, fixture, caseSensitivity, prefix) && isOnTile(point, fixture)) {
+					return point;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Search the map tile by tile, starting from the selection, for the first tile that matches.
+	 */
+	private @Nullable Point searchMap(final String pattern, final @Nullable Integer idNum,
+	                                  final boolean caseSensitivity, final boolean prefix) {
+		return StreamSupport.stream(new PointIterable(model.getMapDimensions(), direction(), orientation(),
+						model.getSelection()).spliterator(), false)
+				.filter(matchesPoint(pattern, idNum, caseSensitivity, prefix)).findFirst().orElse(null);
+	}
+
+	private PointIterable.IterationDirection direction() {
+		return backwards.isSelected() ? PointIterable.IterationDirection.Backwards :
+				PointIterable.IterationDirection.Forwards;
+	}
+
+	private PointIterable.IterationOrientation orientation() {
+		return vertically.isSelected() ? PointIterable.IterationOrientation.Vertical :
+				PointIterable.IterationOrientation.Horizontal;
+	}
+
+	private void select(final @Nullable Point result) {
+		if (Objects.nonNull(result)) {
+			LovelaceLogger.debug("Found in point %s", result);
+			model.setSelection(result);
+		}
+	}
+
 	/**
 	 * Search for the current pattern. If the pattern is found (as the ID
 	 * of a fixture, or the name of a {@link HasName}, or a {@link HasKind}'s
 	 * kind), select the tile containing the thing found. If the pattern is
 	 * the empty string, don't search.
+	 *
+	 * If the map's {@link FixtureSearchIndex search index} is ready, the
+	 * index is queried in the background and the tile is selected once the
+	 * answer comes back; otherwise (while the index is being built), the
+	 * map is searched directly.
 	 */
 	public void search() {
 		final String pattern;
@@ -230,14 +318,31 @@ import java.util.function.Predicate;
 		} catch (final NumberFormatException ignored) {
 			// ignore non-numeric patterns
 		}
-		final Point result = StreamSupport.stream(new PointIterable(model.getMapDimensions(),
-						!backwards.isSelected(), !vertically.isSelected(),
-						model.getSelection()).spliterator(), false)
-				.filter(matchesPoint(pattern, idNum, caseSensitivity)).findFirst().orElse(null);
-		if (Objects.nonNull(result)) {
-			LovelaceLogger.debug("Found in point %s", result);
-			model.setSelection(result);
+		final @Nullable Integer id = idNum;
+		final boolean prefix = prefixOnly.isSelected();
+		final FixtureSearchIndex index = model.getSearchIndex();
+		if (!index.isReady()) {
+			select(searchMap(pattern, id, caseSensitivity, prefix));
+			return;
+		}
+		final Collection<Point> bookmarks;
+		if (isBookmarkPattern(pattern, caseSensitivity)) {
+			bookmarks = List.copyOf(model.getMap().getBookmarks());
+		} else {
+			bookmarks = Collections.emptyList();
 		}
+		index.findAsync(pattern, caseSensitivity, prefix, bookmarks, model.getMapDimensions(),
+						model.getSelection(), direction(), orientation())
+				.thenAcceptAsync(candidates -> {
+					if (Objects.isNull(candidates)) {
+						select(searchMap(pattern, id, caseSensitivity, prefix));
+					} else {
+						select(firstMatch(candidates, pattern, id, caseSensitivity, prefix));
+					}
+				}, SwingUtilities::invokeLater).exceptionally(except -> {
+					LovelaceLogger.error(except, "Searching the index failed");
+					return null;
+				});
 	}
 
 	private void okListener() {
@@ -0,0 +1,548 @@
+package drivers.map_viewer;
+
+import legacy.map.HasKind;
+import legacy.map.HasName;
+import legacy.map.HasOwner;
+import legacy.map.IFixture;
+import legacy.map.ILegacyMap;
+import legacy.map.MapDimensions;
+import legacy.map.Player;
+import legacy.map.Point;
+import legacy.map.PointIterable.IterationDirection;
+import legacy.map.PointIterable.IterationOrientation;
+import legacy.map.TileFixture;
+import legacy.map.fixtures.FixtureIterable;
+import lovelace.util.LovelaceLogger;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An inverted index of the fixtures in a map, including those inside
+ * fortresses and units, by ID and by name, kind, and owner, for the {@link
+ * FindDialog} to find the next tile with a match without searching the
+ * whole map.
+ *
+ * The index is built the first time it is asked for. What is to be
+ * indexed is copied from the map on the calling thread, which must be the
+ * one that changes the map (the event-dispatch thread); the index itself is
+ * then built from that copy in the background. After that the {@link
+ * ViewerModel} keeps it up to date, as it changes tiles and the fixtures on
+ * them. If the map changes in a way the index is not told about (which
+ * changes the map's revision), or changes while the index is being built,
+ * the index is rebuilt the next time it is asked for; until it is ready
+ * again, it answers no queries, and callers must search the map themselves.
+ * If building the index fails repeatedly, it stops trying. Because
+ * fortresses and units can also change without the map being told, callers
+ * should check each match against the map before relying on it.
+ */
+public final class FixtureSearchIndex implements TileChangeListener {
+	/**
+	 * The thread on which indexes are built and queried.
+	 */
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+		final Thread thread = new Thread(task, "Fixture search index");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * How many times in a row building the index may fail before we stop trying.
+	 */
+	private static final int MAX_FAILURES = 3;
+
+	/**
+	 * A tile that may contain a match, and the fixtures there that may match.
+	 *
+	 * @param location   The location of the tile
+	 * @param bookmarked Whether the tile was included because it is bookmarked
+	 * @param fixtures   The fixtures on the tile, or inside those on it, that may match
+	 */
+	public record Candidate(Point location, boolean bookmarked, List<IFixture> fixtures) {
+	}
+
+	/**
+	 * A fixture, where it is, and what it was indexed under. Postings are
+	 * compared by identity, since a fixture's equality and hash code can
+	 * change along with the fields it is indexed under.
+	 */
+	private static final class Posting {
+		private final Point location;
+		private final IFixture fixture;
+		private final int id;
+		private final @Nullable String name;
+		private final @Nullable String kind;
+		private final @Nullable Player owner;
+
+		public Posting(final Point location, final IFixture fixture) {
+			this.location = location;
+			this.fixture = fixture;
+			id = fixture.getId();
+			name = (fixture instanceof final HasName named) ? named.getName() : null;
+			kind = (fixture instanceof final HasKind hk) ? hk.getKind() : null;
+			owner = (fixture instanceof final HasOwner owned) ? owned.owner() : null;
+		}
+	}
+
+	/**
+	 * Strings, such as names or kinds, and the fixtures indexed under each.
+	 */
+	private static final class Terms {
+		private final NavigableMap<String, Set<Posting>> exact = new TreeMap<>();
+		private final NavigableMap<String, Set<Posting>> folded = new TreeMap<>();
+
+		private static void add(final NavigableMap<String, Set<Posting>> terms, final String term,
+		                        final Posting posting) {
+			terms.computeIfAbsent(term, k -> new HashSet<>()).add(posting);
+		}
+
+		private static void remove(final NavigableMap<String, Set<Posting>> terms, final String term,
+		                           final Posting posting) {
+			final Set<Posting> postings = terms.get(term);
+			if (Objects.nonNull(postings)) {
+				postings.remove(posting);
+				if (postings.isEmpty()) {
+					terms.remove(term);
+				}
+			}
+		}
+
+		public void add(final @Nullable String term, final Posting posting) {
+			if (Objects.nonNull(term)) {
+				add(exact, term, posting);
+				add(folded, term.toLowerCase(), posting);
+			}
+		}
+
+		public void remove(final @Nullable String term, final Posting posting) {
+			if (Objects.nonNull(term)) {
+				remove(exact, term, posting);
+				remove(folded, term.toLowerCase(), posting);
+			}
+		}
+
+		/**
+		 * Add to the given collection the fixtures indexed under terms that
+		 * start with, or (if not "prefix") contain, the given pattern. If
+		 * the search is not case-sensitive, the pattern must be in lower case.
+		 */
+		public void find(final String pattern, final boolean caseSensitive, final boolean prefix,
+		                 final Collection<Posting> retval) {
+			final NavigableMap<String, Set<Posting>> terms = caseSensitive ? exact : folded;
+			if (prefix) {
+				for (final Map.Entry<String, Set<Posting>> entry : terms.tailMap(pattern, true).entrySet()) {
+					if (!entry.getKey().startsWith(pattern)) {
+						break;
+					}
+					retval.addAll(entry.getValue());
+				}
+			} else {
+				for (final Map.Entry<String, Set<Posting>> entry : terms.entrySet()) {
+					if (entry.getKey().contains(pattern)) {
+						retval.addAll(entry.getValue());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The contents of the index.
+	 */
+	private static final class Contents {
+		private final Map<Point, List<Posting>> byTile = new HashMap<>();
+		private final Map<IFixture, Posting> byFixture = new IdentityHashMap<>();
+		private final Map<Integer, Set<Posting>> ids = new HashMap<>();
+		private final Terms names = new Terms();
+		private final Terms kinds = new Terms();
+		private final Map<Player, Set<Posting>> owners = new HashMap<>();
+
+		private static void collect(final List<Posting> tile, final Point location, final IFixture fixture) {
+			tile.add(new Posting(location, fixture));
+			if (fixture instanceof final FixtureIterable<?> iter) {
+				for (final IFixture member : iter) {
+					collect(tile, location, member);
+				}
+			}
+		}
+
+		/**
+		 * Postings for everything on the given tile, including the contents of fortresses and units.
+		 */
+		public static List<Posting> postings(final ILegacyMap map, final Point location) {
+			final List<Posting> tile = new ArrayList<>();
+			for (final TileFixture fixture : map.getFixtures(location)) {
+				collect(tile, location, fixture);
+			}
+			return tile;
+		}
+
+		/**
+		 * Index the given postings for a tile that has nothing indexed on it.
+		 */
+		public void putTile(final Point location, final List<Posting> tile) {
+			if (tile.isEmpty()) {
+				return;
+			}
+			byTile.put(location, tile);
+			for (final Posting posting : tile) {
+				byFixture.put(posting.fixture, posting);
+				ids.computeIfAbsent(posting.id, k -> new HashSet<>()).add(posting);
+				names.add(posting.name, posting);
+				kinds.add(posting.kind, posting);
+				if (Objects.nonNull(posting.owner)) {
+					owners.computeIfAbsent(posting.owner, k -> new HashSet<>()).add(posting);
+				}
+			}
+		}
+
+		private static <Key> void remove(final Map<Key, Set<Posting>> map, final @Nullable Key key,
+		                                 final Posting posting) {
+			if (Objects.nonNull(key)) {
+				final Set<Posting> postings = map.get(key);
+				if (Objects.nonNull(postings)) {
+					postings.remove(posting);
+					if (postings.isEmpty()) {
+						map.remove(key);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Remove everything on the given tile from the index.
+		 */
+		public void clearTile(final Point location) {
+			final List<Posting> tile = byTile.remove(location);
+			if (Objects.nonNull(tile)) {
+				for (final Posting posting : tile) {
+					byFixture.remove(posting.fixture, posting);
+					remove(ids, posting.id, posting);
+					names.remove(posting.name, posting);
+					kinds.remove(posting.kind, posting);
+					remove(owners, posting.owner, posting);
+				}
+			}
+		}
+
+		/**
+		 * Index everything on the given tile, replacing whatever was indexed there before.
+		 */
+		public void indexTile(final ILegacyMap map, final Point location) {
+			clearTile(location);
+			putTile(location, postings(map, location));
+		}
+	}
+
+	private enum State {
+		/**
+		 * The index is not built and not being built.
+		 */
+		Empty,
+		/**
+		 * The index is being built.
+		 */
+		Building,
+		/**
+		 * The index is up to date, as far as it knows.
+		 */
+		Ready
+	}
+
+	/**
+	 * The map being indexed.
+	 */
+	private ILegacyMap map;
+
+	private Contents contents = new Contents();
+
+	private State state = State.Empty;
+
+	/**
+	 * Incremented whenever a build is started or the map is replaced, so a
+	 * build that has been superseded can tell that it has.
+	 */
+	private long generation = 0;
+
+	/**
+	 * Whether the index has been told of a change since the build in progress started.
+	 */
+	private boolean changedDuringBuild = false;
+
+	/**
+	 * The map's revision as of when the index was last brought up to date.
+	 */
+	private long revision = -1;
+
+	/**
+	 * How many times in a row building the index has failed.
+	 */
+	private int failures = 0;
+
+	public FixtureSearchIndex(final ILegacyMap map) {
+		this.map = map;
+	}
+
+	/**
+	 * Start building the index, if it is not already built or being built
+	 * and building it has not failed too many times. The map's contents are
+	 * copied on this thread, which must be the one that changes the map,
+	 * and the index is built from the copy in the background.
+	 */
+	public synchronized void prepare() {
+		if (state == State.Empty && failures < MAX_FAILURES) {
+			state = State.Building;
+			changedDuringBuild = false;
+			generation++;
+			final long building = generation;
+			final long startRevision = map.getRevision();
+			final Map<Point, List<Posting>> snapshot = new LinkedHashMap<>();
+			for (final Point location : map.getLocations()) {
+				final List<Posting> tile = Contents.postings(map, location);
+				if (!tile.isEmpty()) {
+					snapshot.put(location, tile);
+				}
+			}
+			EXECUTOR.execute(() -> build(building, startRevision, snapshot));
+		}
+	}
+
+	private void build(final long building, final long startRevision, final Map<Point, List<Posting>> snapshot) {
+		final Contents built = new Contents();
+		boolean succeeded;
+		try {
+			for (final Map.Entry<Point, List<Posting>> entry : snapshot.entrySet()) {
+				built.putTile(entry.getKey(), entry.getValue());
+			}
+			succeeded = true;
+		} catch (final RuntimeException except) {
+			LovelaceLogger.error(except, "Building search index failed");
+			succeeded = false;
+		}
+		synchronized (this) {
+			if (generation != building) {
+				return;
+			}
+			if (!succeeded) {
+				failures++;
+				state = State.Empty;
+			} else if (changedDuringBuild) {
+				// Rebuilt when next asked for, from a fresh copy of the map.
+				state = State.Empty;
+			} else {
+				failures = 0;
+				contents = built;
+				revision = startRevision;
+				state = State.Ready;
+				LovelaceLogger.debug("Finished building search index");
+			}
+		}
+	}
+
+	/**
+	 * Whether the index is ready to answer queries. If it is not, it is
+	 * built (or rebuilt) in the background.
+	 */
+	public synchronized boolean isReady() {
+		if (state == State.Ready && revision != map.getRevision()) {
+			LovelaceLogger.debug("Map changed without telling search index; rebuilding it");
+			state = State.Empty;
+			contents = new Contents();
+		}
+		if (state == State.Ready) {
+			return true;
+		} else {
+			prepare();
+			return false;
+		}
+	}
+
+	/**
+	 * Index a new map in place of the old one.
+	 */
+	public synchronized void reset(final ILegacyMap newMap) {
+		map = newMap;
+		contents = new Contents();
+		generation++;
+		failures = 0;
+		state = State.Empty;
+	}
+
+	/**
+	 * Record that the fixtures on the given tile, or any of their contents, may have changed.
+	 */
+	@Override
+	public synchronized void tileChanged(final Point location) {
+		switch (state) {
+			case Ready -> {
+				contents.indexTile(map, location);
+				revision = map.getRevision();
+			}
+			case Building -> changedDuringBuild = true;
+			case Empty -> {
+			}
+		}
+	}
+
+	/**
+	 * Record that the given fixture, which is on a tile or inside one that
+	 * is, may have changed in place, or gained or lost members. (This
+	 * takes any object so that callers holding only, say, a {@link
+	 * legacy.map.HasMutableName} need not cast it.)
+	 */
+	@Override
+	public synchronized void fixtureChanged(final Object fixture) {
+		switch (state) {
+			case Ready -> {
+				final Posting posting = contents.byFixture.get(fixture);
+				if (Objects.isNull(posting)) {
+					state = State.Empty;
+					contents = new Contents();
+				} else {
+					contents.indexTile(map, posting.location);
+					revision = map.getRevision();
+				}
+			}
+			case Building -> changedDuringBuild = true;
+			case Empty -> {
+			}
+		}
+	}
+
+	/**
+	 * A number giving the order in which tiles are searched: the tile just
+	 * after the selection in the given direction and orientation (as {@link
+	 * legacy.map.PointIterable} would visit them) is zero, and the selection
+	 * itself comes last.
+	 */
+	private static int searchDistance(final Point point, final MapDimensions dimensions, final Point selection,
+	                                  final IterationDirection direction, final IterationOrientation orientation) {
+		final int maxRow = dimensions.rows() - 1;
+		final int maxColumn = dimensions.columns() - 1;
+		final int startRow = (selection.row() < 0) ? maxRow : selection.row();
+		final int startColumn = (selection.column() < 0) ? maxColumn : selection.column();
+		final int start;
+		final int position;
+		if (orientation == IterationOrientation.Horizontal) {
+			start = startRow * dimensions.columns() + startColumn;
+			position = point.row() * dimensions.columns() + point.column();
+		} else {
+			start = startColumn * dimensions.rows() + startRow;
+			position = point.column() * dimensions.rows() + point.row();
+		}
+		final int size = dimensions.rows() * dimensions.columns();
+		if (direction == IterationDirection.Forwards) {
+			return Math.floorMod(position - start - 1, size);
+		} else {
+			return Math.floorMod(start - position - 1, size);
+		}
+	}
+
+	private static boolean inMap(final Point point, final MapDimensions dimensions) {
+		return point.row() >= 0 && point.row() < dimensions.rows() && point.column() >= 0 &&
+				point.column() < dimensions.columns();
+	}
+
+	private static boolean matchesOwner(final Player owner, final String pattern, final @Nullable Integer idNum,
+	                                    final boolean caseSensitive, final boolean prefix) {
+		final String name = caseSensitive ? owner.getName() : owner.getName().toLowerCase();
+		if (Objects.equals(owner.getPlayerId(), idNum) ||
+				(prefix ? name.startsWith(pattern) : name.contains(pattern))) {
+			return true;
+		} else if ("me".equalsIgnoreCase(pattern) && owner.isCurrent()) {
+			return true;
+		} else {
+			return owner.isIndependent() && List.of("none", "independent").contains(pattern.toLowerCase());
+		}
+	}
+
+	/**
+	 * Find the tiles that may contain fixtures matching the given pattern,
+	 * in the order they would be searched starting from the given
+	 * selection: fixtures with the pattern as their ID or their owner's
+	 * ID, or whose name, kind, or owner's name starts with or (if not
+	 * "prefix") contains it, or whose owner is the current player or
+	 * independent if the pattern is "me" or "none" or "independent"
+	 * respectively. The given bookmarked tiles are included as well. If the
+	 * search is not case-sensitive, the pattern must be in lower case.
+	 * Returns null if the index is not ready.
+	 */
+	private synchronized @Nullable List<Candidate> find(final String pattern, final boolean caseSensitive,
+	                                                    final boolean prefix, final Collection<Point> bookmarks,
+	                                                    final MapDimensions dimensions, final Point selection,
+	                                                    final IterationDirection direction,
+	                                                    final IterationOrientation orientation) {
+		if (state != State.Ready) {
+			return null;
+		}
+		@Nullable Integer idNum = null;
+		try {
+			idNum = Integer.parseInt(pattern);
+		} catch (final NumberFormatException ignored) {
+			// ignore non-numeric patterns
+		}
+		final Collection<Posting> postings = new HashSet<>();
+		if (Objects.nonNull(idNum)) {
+			postings.addAll(contents.ids.getOrDefault(idNum, Collections.emptySet()));
+		}
+		contents.names.find(pattern, caseSensitive, prefix, postings);
+		contents.kinds.find(pattern, caseSensitive, prefix, postings);
+		for (final Map.Entry<Player, Set<Posting>> entry : contents.owners.entrySet()) {
+			if (matchesOwner(entry.getKey(), pattern, idNum, caseSensitive, prefix)) {
+				postings.addAll(entry.getValue());
+			}
+		}
+		final Map<Point, List<IFixture>> byTile = new LinkedHashMap<>();
+		for (final Posting posting : postings) {
+			if (inMap(posting.location, dimensions)) {
+				byTile.computeIfAbsent(posting.location, k -> new ArrayList<>()).add(posting.fixture);
+			}
+		}
+		final List<Candidate> retval = new ArrayList<>(byTile.size() + bookmarks.size());
+		for (final Point bookmark : bookmarks) {
+			if (inMap(bookmark, dimensions)) {
+				retval.add(new Candidate(bookmark, true, byTile.getOrDefault(bookmark, Collections.emptyList())));
+				byTile.remove(bookmark);
+			}
+		}
+		for (final Map.Entry<Point, List<IFixture>> entry : byTile.entrySet()) {
+			retval.add(new Candidate(entry.getKey(), false, entry.getValue()));
+		}
+		retval.sort(Comparator.comparingInt(candidate ->
+				searchDistance(candidate.location(), dimensions, selection, direction, orientation)));
+		return retval;
+	}
+
+	/**
+	 * Find, in the background, the tiles that may contain fixtures matching
+	 * the given pattern, in the order they would be searched starting
+	 * from the given selection. See {@link #find} for what counts as a
+	 * match. The result is null if the index was not ready.
+	 */
+	public CompletableFuture<@Nullable List<Candidate>> findAsync(final String pattern, final boolean caseSensitive,
+	                                                              final boolean prefix,
+	                                                              final Collection<Point> bookmarks,
+	                                                              final MapDimensions dimensions,
+	                                                              final Point selection,
+	                                                              final IterationDirection direction,
+	                                                              final IterationOrientation orientation) {
+		return CompletableFuture.supplyAsync(() -> find(pattern, caseSensitive, prefix, bookmarks, dimensions,
+				selection, direction, orientation), EXECUTOR);
+	}
+}
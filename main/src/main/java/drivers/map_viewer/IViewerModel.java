@@ -83,6 +83,17 @@ public interface IViewerModel extends SelectionChangeSource, GraphicalParamsSour
 	 */
 	void resetZoom();
 
+	/**
+	 * Add a listener to be told when a tile, or a fixture on one, is
+	 * changed through this model (short of the whole map being replaced).
+	 */
+	void addTileChangeListener(TileChangeListener listener);
+
+	/**
+	 * Remove a tile-change listener.
+	 */
+	void removeTileChangeListener(TileChangeListener listener);
+
 	/**
 	 * Set whether a tile is mountainous.
 	 */
@@ -122,6 +133,11 @@ public interface IViewerModel extends SelectionChangeSource, GraphicalParamsSour
 	 * Set the map's terrain type at the given point.
 	 */
 	void setBaseTerrain(Point location, @Nullable TileType terrain);
+	/**
+	 * The index of the fixtures in the map, for the "find" feature.
+	 */
+	FixtureSearchIndex getSearchIndex();
+
 	/**
 	 * Clear the selection.
 	 */
@@ -0,0 +1,98 @@
+package drivers.map_viewer;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of images, bounded by the total number of pixels in them rather
+ * than by how many there are, evicting the least recently used first, and
+ * counting its hits, misses, and evictions. This is thread-safe.
+ */
+/* package */ final class ImageCache<Key> {
+	/**
+	 * The most pixels to keep.
+	 */
+	private final long maxPixels;
+
+	/**
+	 * An image, and the number of pixels we counted it as when we added it.
+	 */
+	private record Entry(Image image, long pixels) {
+	}
+
+	/**
+	 * The images, in order from least to most recently used.
+	 */
+	private final Map<Key, Entry> images = new LinkedHashMap<>(64, 0.75f, true);
+
+	/**
+	 * The total number of pixels in {@link #images}.
+	 */
+	private long pixels = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	public ImageCache(final long maxPixels) {
+		this.maxPixels = maxPixels;
+	}
+
+	/**
+	 * The number of pixels in an image, or 1 for an image whose size is not yet known.
+	 */
+	private static long pixelCount(final Image image) {
+		if (image instanceof final BufferedImage bi) {
+			return (long) bi.getWidth() * bi.getHeight();
+		} else {
+			return Math.max(1L, (long) image.getWidth(null) * image.getHeight(null));
+		}
+	}
+
+	/**
+	 * Get the image with the given key, or null if it is not in the cache.
+	 */
+	public synchronized @Nullable Image get(final Key key) {
+		final Entry entry = images.get(key);
+		if (Objects.isNull(entry)) {
+			misses++;
+			return null;
+		} else {
+			hits++;
+			return entry.image();
+		}
+	}
+
+	/**
+	 * Add an image to the cache, evicting the least recently used images
+	 * if that takes it over its limit. (An image bigger than the limit is
+	 * evicted immediately.)
+	 */
+	public synchronized void put(final Key key, final Image image) {
+		final Entry entry = new Entry(image, pixelCount(image));
+		final Entry old = images.put(key, entry);
+		if (Objects.nonNull(old)) {
+			pixels -= old.pixels();
+		}
+		pixels += entry.pixels();
+		final Iterator<Entry> iterator = images.values().iterator();
+		while (pixels > maxPixels && iterator.hasNext()) {
+			pixels -= iterator.next().pixels();
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * How the cache has performed so far, and how full it is.
+	 */
+	public synchronized ImageLoader.CacheStatistics getStatistics() {
+		return new ImageLoader.CacheStatistics(hits, misses, evictions, images.size(), pixels);
+	}
+}
@@ -28,6 +28,10 @@ import legacy.map.TileFixture;
 import java.io.IOException;
 import java.awt.Image;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 
 import java.util.Objects;
 import java.util.function.Function;
@@ -80,9 +84,31 @@ public final class ImageLoader {
 	}
 
 	/**
-	 * A cache of loaded images.
+	 * How an image cache has performed so far, and how full it is.
+	 *
+	 * @param hits      How many times an image was found in the cache
+	 * @param misses    How many times an image was not found in the cache, and so had to be loaded or scaled
+	 * @param evictions How many images have been dropped to keep the cache within its limit
+	 * @param size      How many images are in the cache now
+	 * @param pixels    How many pixels those images contain in all
 	 */
-	private static final Map<String, Image> IMAGE_CACHE = new HashMap<>();
+	public record CacheStatistics(long hits, long misses, long evictions, int size, long pixels) {
+	}
+
+	/**
+	 * A cache of loaded images, at their original size, limited to about
+	 * 64 MB of 32-bit pixels.
+	 */
+	private static final ImageCache<String> IMAGE_CACHE = new ImageCache<>(16L * 1024 * 1024);
+
+	private record ScaledKey(String file, int width, int height) {
+	}
+
+	/**
+	 * A cache of images scaled to the sizes they are drawn at, limited to
+	 * about 64 MB of 32-bit pixels.
+	 */
+	private static final ImageCache<ScaledKey> SCALED_CACHE = new ImageCache<>(16L * 1024 * 1024);
 
 	/**
 	 * Load an image from the cache, or if not in it, from file (and add it to the cache)
@@ -97,8 +123,9 @@ public final class ImageLoader {
 	// with other path separators.
 	@SuppressWarnings("HardcodedFileSeparator")
 	public static Image loadImage(final String file) throws IOException {
-		if (IMAGE_CACHE.containsKey(file)) {
-			return IMAGE_CACHE.get(file);
+		final Image cached = IMAGE_CACHE.get(file);
+		if (Objects.nonNull(cached)) {
+			return cached;
 		} else {
 			try (final ResourceInputStream res = new ResourceInputStream("images/" + file,
 					ImageLoader.class)) { // TODO: Change back to IOHandler once ported?
@@ -113,6 +140,90 @@ public final class ImageLoader {
 		}
 	}
 
+	/**
+	 * Create an image of the given size in the format fastest to draw on
+	 * the screen, or a plain ARGB image if there is no screen.
+	 */
+	private static BufferedImage createCompatibleImage(final int width, final int height) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		} else {
+			return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+					.getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		}
+	}
+
+	/**
+	 * Scale an image to the given size. To keep quality up when shrinking
+	 * it a lot, we halve its size repeatedly before scaling it the rest of
+	 * the way, since bilinear interpolation only looks at neighbouring pixels.
+	 */
+	private static BufferedImage scale(final Image original, final int width, final int height) {
+		Image current = original;
+		int currentWidth = original.getWidth(null);
+		int currentHeight = original.getHeight(null);
+		while (true) {
+			final int nextWidth = Math.max(width, currentWidth / 2);
+			final int nextHeight = Math.max(height, currentHeight / 2);
+			final BufferedImage next = createCompatibleImage(nextWidth, nextHeight);
+			final Graphics2D pen = next.createGraphics();
+			try {
+				pen.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+						RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				pen.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+			} finally {
+				pen.dispose();
+			}
+			if (nextWidth == width && nextHeight == height) {
+				return next;
+			}
+			current = next;
+			currentWidth = nextWidth;
+			currentHeight = nextHeight;
+		}
+	}
+
+	/**
+	 * Load an image, scaled to the given size, from the cache, or if not in
+	 * it, scale it (loading it from file if necessary) and add it to the
+	 * cache. Drawing an image at the size it already is is much faster than
+	 * having it scaled every time it is drawn.
+	 *
+	 * @throws IOException If no reader could read the file (or the file does not exist)
+	 */
+	public static Image loadScaledImage(final String file, final int width, final int height)
+			throws IOException {
+		final ScaledKey key = new ScaledKey(file, width, height);
+		final Image cached = SCALED_CACHE.get(key);
+		if (Objects.nonNull(cached)) {
+			return cached;
+		} else {
+			final Image original = loadImage(file);
+			final Image image;
+			if (width <= 0 || height <= 0) {
+				image = original;
+			} else {
+				image = scale(original, width, height);
+			}
+			SCALED_CACHE.put(key, image);
+			return image;
+		}
+	}
+
+	/**
+	 * How the cache of images at their original size has performed so far, and how full it is.
+	 */
+	public static CacheStatistics getImageCacheStatistics() {
+		return IMAGE_CACHE.getStatistics();
+	}
+
+	/**
+	 * How the cache of scaled images has performed so far, and how full it is.
+	 */
+	public static CacheStatistics getScaledImageCacheStatistics() {
+		return SCALED_CACHE.getStatistics();
+	}
+
 	/**
 	 * Load an icon from cache, or if not in the cache from file (adding it to the cache)
 	 *
@@ -122,13 +233,7 @@ public final class ImageLoader {
 		if (ICON_CACHE.containsKey(file)) {
 			return ICON_CACHE.get(file);
 		} else {
-			final Image orig = loadImage(file);
-			final BufferedImage temp = new BufferedImage(FIXTURE_ICON_SIZE, FIXTURE_ICON_SIZE,
-					BufferedImage.TYPE_INT_ARGB);
-			final Graphics pen = temp.createGraphics();
-			pen.drawImage(orig, 0, 0, temp.getWidth(), temp.getHeight(), null);
-			pen.dispose();
-			final Icon icon = new ImageIcon(temp);
+			final Icon icon = new ImageIcon(loadScaledImage(file, FIXTURE_ICON_SIZE, FIXTURE_ICON_SIZE));
 			ICON_CACHE.put(file, icon);
 			return icon;
 		}
@@ -70,7 +70,7 @@ import java.awt.image.BufferedImage;
 	}
 
 	private final ComponentMouseListener cml;
-	private TileDrawHelper helper; // TODO: Reinitialize if map version changes
+	private final TileImageCache tileCache;
 
 	private @Nullable BufferedImage backgroundImage = null;
 
@@ -89,7 +89,10 @@ import java.awt.image.BufferedImage;
 		final DirectionSelectionChanger dsl = new DirectionSelectionChanger(model);
 		zOrderFilter = zof;
 		this.matchers = matchers;
-		helper = new Ver2TileDrawHelper(this, zof, matchers);
+		tileCache = new TileImageCache(model, new Ver2TileDrawHelper(this, zof, matchers), this::repaintPoint,
+				this::getGraphicsConfiguration);
+		model.addTileChangeListener(tileCache);
+		model.addMapChangeListener(tileCache::clear);
 		setDoubleBuffered(true);
 
 		addMouseListener(cml);
@@ -178,9 +181,23 @@ import java.awt.image.BufferedImage;
 		if (!mapModel.getMap().getDimensions().contains(point)) {
 			return;
 		}
-		helper.drawTile(pen, mapModel.getMap(), point,
-				new Coordinate(column * tileSize, row * tileSize),
-				new Coordinate(tileSize, tileSize));
+		final Image image = tileCache.get(point, tileSize);
+		if (Objects.isNull(image)) {
+			// Until the tile has been drawn in the background, show just its terrain.
+			final Color terrainColor = ImageLoader.ColorHelper.get(mapModel.getMapDimensions().version(),
+					mapModel.getMap().getBaseTerrain(point));
+			if (Objects.nonNull(terrainColor)) {
+				final Graphics context = pen.create();
+				try {
+					context.setColor(terrainColor);
+					context.fillRect(column * tileSize, row * tileSize, tileSize, tileSize);
+				} finally {
+					context.dispose();
+				}
+			}
+		} else {
+			pen.drawImage(image, column * tileSize, row * tileSize, this);
+		}
 		if (selected) {
 			final Graphics context = pen.create();
 			try {
@@ -387,6 +404,16 @@ import java.awt.image.BufferedImage;
 		if (mapModel.getMapDimensions().version() != 2) {
 			LovelaceLogger.warning("Treating map of unsupported format version as version 2");
 		}
-		helper = new Ver2TileDrawHelper(this, zOrderFilter, matchers);
+		tileCache.setHelper(new Ver2TileDrawHelper(this, zOrderFilter, matchers));
+		repaint();
+	}
+
+	/**
+	 * Handle a change in which fixtures should be drawn, or in what order,
+	 * by drawing every tile again.
+	 */
+	public void filtersChanged() {
+		tileCache.invalidateAll();
+		repaint();
 	}
 }
@@ -0,0 +1,24 @@
+package drivers.map_viewer;
+
+import legacy.map.Point;
+
+import java.util.EventListener;
+
+/**
+ * An interface for objects that want to know when the {@link IViewerModel}
+ * changes what is on a tile, short of replacing the whole map.
+ */
+public interface TileChangeListener extends EventListener {
+	/**
+	 * Handle a change to the given tile, or to the fixtures on it or any of their contents.
+	 */
+	void tileChanged(Point location);
+
+	/**
+	 * Handle a change to the given fixture, which is on a tile or inside
+	 * one that is, in place, or its gaining or losing members. (This takes
+	 * any object so that callers holding only, say, a {@link
+	 * legacy.map.HasMutableName} need not cast it.)
+	 */
+	void fixtureChanged(Object fixture);
+}
@@ -0,0 +1,332 @@
+package drivers.map_viewer;
+
+import legacy.map.Direction;
+import legacy.map.FakeFixture;
+import legacy.map.FixtureLocation;
+import legacy.map.IFixture;
+import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.Player;
+import legacy.map.Point;
+import legacy.map.River;
+import legacy.map.TileFixture;
+import lovelace.util.LovelaceLogger;
+import org.jspecify.annotations.Nullable;
+
+import javax.swing.SwingUtilities;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A cache of pre-drawn tile images for {@link MapComponent}, so that
+ * scrolling and zooming only has to copy images to the screen instead of
+ * drawing every visible tile from scratch each time.
+ *
+ * Images are kept for each tile and tile size (that is, zoom level), up to
+ * a limit on the total number of pixels, evicting the least recently used
+ * first. They are drawn on a pool of background threads, each from a copy
+ * of the tile taken on the event-dispatch thread when it was asked for, so
+ * the drawing never reads the map itself; once a tile's image is ready, we
+ * ask (on the event-dispatch thread) for that tile to be repainted. Each
+ * tile has a version, which changes whenever we are told that tile has
+ * changed; an image drawn for an older version is still returned, to be
+ * shown until its replacement is ready, but a replacement is requested.
+ *
+ * Except for the drawing itself, this is meant to be used only from the
+ * event-dispatch thread.
+ */
+/* package */ final class TileImageCache implements TileChangeListener {
+	/**
+	 * The most pixels to keep in the cache, about 128 MB of 32-bit images.
+	 */
+	private static final long MAX_PIXELS = 32L * 1024 * 1024;
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	/**
+	 * The threads on which tile images are drawn.
+	 */
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+			Math.max(1, Runtime.getRuntime().availableProcessors() - 1), task -> {
+				final Thread thread = new Thread(task, "Tile renderer " + THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private record Key(Point location, int size) {
+	}
+
+	private record Entry(BufferedImage image, long version) {
+	}
+
+	private final IViewerModel model;
+
+	/**
+	 * What to call, on the event-dispatch thread, when a tile's image is ready.
+	 */
+	private final Consumer<Point> onRendered;
+
+	/**
+	 * Where to get the graphics configuration to make images compatible
+	 * with, which may be null if the component is not (yet) displayable.
+	 */
+	private final Supplier<@Nullable GraphicsConfiguration> configuration;
+
+	private volatile TileDrawHelper helper;
+
+	/**
+	 * The cached images, in order from least to most recently used.
+	 */
+	private final Map<Key, Entry> cache = new LinkedHashMap<>(256, 0.75f, true);
+
+	/**
+	 * The total number of pixels in {@link #cache}.
+	 */
+	private long pixels = 0;
+
+	/**
+	 * Images we have asked to be drawn but that have not yet been, and the
+	 * version of the tile they will be drawn from.
+	 */
+	private final Map<Key, Long> pending = new HashMap<>();
+
+	/**
+	 * The source of versions. Versions are never reused, so an image drawn
+	 * before the tile last changed can never be mistaken for a current one.
+	 */
+	private long counter = 0;
+
+	/**
+	 * The version of every tile not in {@link #tileVersions}, advanced when
+	 * every tile has to be drawn again.
+	 */
+	private long generation = 0;
+
+	/**
+	 * The versions of tiles that have changed since {@link #generation} was last advanced.
+	 */
+	private final Map<Point, Long> tileVersions = new HashMap<>();
+
+	/**
+	 * The revision of the map as of the last change we were told about, so
+	 * we can tell if it has been changed behind our back.
+	 */
+	private long revision;
+
+	/**
+	 * The map we are caching images of.
+	 */
+	private ILegacyMap map;
+
+	/**
+	 * The part of the map that was visible when we were last asked for a
+	 * tile, so the threads drawing tiles can skip those that have since
+	 * scrolled out of view without asking the model.
+	 */
+	private volatile VisibleDimensions visible;
+
+	public TileImageCache(final IViewerModel model, final TileDrawHelper helper,
+	                      final Consumer<Point> onRendered,
+	                      final Supplier<@Nullable GraphicsConfiguration> configuration) {
+		this.model = model;
+		this.helper = helper;
+		this.onRendered = onRendered;
+		this.configuration = configuration;
+		map = model.getMap();
+		revision = map.getRevision();
+		visible = model.getVisibleDimensions();
+	}
+
+	private synchronized long currentVersion(final Point location) {
+		return tileVersions.getOrDefault(location, generation);
+	}
+
+	/**
+	 * Get the image of the given tile at the given size, if we have one,
+	 * even if it is out of date; if we do not have a current one, start
+	 * drawing it.
+	 */
+	public synchronized @Nullable Image get(final Point location, final int size) {
+		final ILegacyMap current = model.getMap();
+		if (current != map) {
+			clear();
+		} else if (current.getRevision() != revision) {
+			LovelaceLogger.debug("Map changed without our being told, so redrawing every tile");
+			invalidateAll();
+		}
+		visible = model.getVisibleDimensions();
+		final Key key = new Key(location, size);
+		final long version = currentVersion(location);
+		final Entry entry = cache.get(key);
+		if ((Objects.isNull(entry) || entry.version() != version) &&
+				!Objects.equals(pending.get(key), version)) {
+			pending.put(key, version);
+			final TileDrawHelper localHelper = helper;
+			final GraphicsConfiguration localConfiguration = configuration.get();
+			final ILegacyMap tile = snapshot(current, location);
+			EXECUTOR.execute(() -> render(key, version, current, tile, localHelper, localConfiguration));
+		}
+		return Objects.isNull(entry) ? null : entry.image();
+	}
+
+	/**
+	 * A copy of everything about the given tile that drawing it uses, in
+	 * an otherwise empty map, so it can be drawn on another thread while
+	 * the map itself goes on changing.
+	 */
+	private static ILegacyMap snapshot(final ILegacyMap map, final Point location) {
+		final IMutableLegacyMap retval = new LegacyMap(map.getDimensions(), new LegacyPlayerCollection(),
+				map.getCurrentTurn());
+		final Player player = map.getCurrentPlayer();
+		retval.addPlayer(player);
+		retval.setCurrentPlayer(player);
+		retval.setBaseTerrain(location, map.getBaseTerrain(location));
+		retval.setMountainous(location, map.isMountainous(location));
+		retval.addRivers(location, map.getRivers(location).toArray(River[]::new));
+		for (final Map.Entry<Direction, Integer> entry : map.getRoads(location).entrySet()) {
+			retval.setRoadLevel(location, entry.getKey(), entry.getValue());
+		}
+		for (final TileFixture fixture : map.getFixtures(location)) {
+			if (!(fixture instanceof FakeFixture)) {
+				retval.addFixture(location, fixture.copy(IFixture.CopyBehavior.KEEP));
+			}
+		}
+		if (map.getBookmarks().contains(location)) {
+			retval.addBookmark(location, player);
+		}
+		return retval;
+	}
+
+	private static BufferedImage createImage(final @Nullable GraphicsConfiguration configuration, final int size) {
+		if (Objects.isNull(configuration)) {
+			return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		} else {
+			return configuration.createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+		}
+	}
+
+	private static boolean isVisible(final VisibleDimensions dimensions, final Point location) {
+		return dimensions.getRows().contains(location.row()) &&
+				dimensions.getColumns().contains(location.column());
+	}
+
+	/**
+	 * Draw the image of a tile from a copy of it, on a background thread,
+	 * unless it has scrolled out of view or changed again since we were
+	 * asked to.
+	 */
+	private void render(final Key key, final long version, final ILegacyMap source, final ILegacyMap tile,
+	                    final TileDrawHelper localHelper, final @Nullable GraphicsConfiguration localConfiguration) {
+		if (!isVisible(visible, key.location()) || currentVersion(key.location()) != version) {
+			synchronized (this) {
+				pending.remove(key, version);
+			}
+			return;
+		}
+		final BufferedImage image = createImage(localConfiguration, key.size());
+		final Graphics2D pen = image.createGraphics();
+		try {
+			localHelper.drawTile(pen, tile, key.location(), new Coordinate(0, 0),
+					new Coordinate(key.size(), key.size()));
+		} catch (final RuntimeException except) {
+			LovelaceLogger.error(except, "Failed to draw tile %s", key.location());
+			synchronized (this) {
+				pending.remove(key, version);
+			}
+			return;
+		} finally {
+			pen.dispose();
+		}
+		synchronized (this) {
+			pending.remove(key, version);
+			if (source == map && currentVersion(key.location()) == version) {
+				final Entry old = cache.put(key, new Entry(image, version));
+				if (Objects.nonNull(old)) {
+					pixels -= pixelCount(old);
+				}
+				pixels += (long) key.size() * key.size();
+				evict();
+			}
+		}
+		SwingUtilities.invokeLater(() -> onRendered.accept(key.location()));
+	}
+
+	private static long pixelCount(final Entry entry) {
+		return (long) entry.image().getWidth() * entry.image().getHeight();
+	}
+
+	/**
+	 * Drop the least recently used images until we are within our limit.
+	 */
+	private void evict() {
+		final Iterator<Entry> iterator = cache.values().iterator();
+		while (pixels > MAX_PIXELS && iterator.hasNext()) {
+			pixels -= pixelCount(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Change how tiles are drawn, which means every tile must be drawn again.
+	 */
+	public synchronized void setHelper(final TileDrawHelper helper) {
+		this.helper = helper;
+		invalidateAll();
+	}
+
+	/**
+	 * Mark every image as out of date, for example when the filters
+	 * determining which fixtures are drawn change. Out-of-date images are
+	 * still shown until they are replaced.
+	 */
+	public synchronized void invalidateAll() {
+		counter++;
+		generation = counter;
+		tileVersions.clear();
+		revision = map.getRevision();
+	}
+
+	/**
+	 * Discard every image, for example when the map is replaced.
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		pixels = 0;
+		map = model.getMap();
+		invalidateAll();
+	}
+
+	@Override
+	public synchronized void tileChanged(final Point location) {
+		counter++;
+		tileVersions.put(location, counter);
+		revision = map.getRevision();
+	}
+
+	@Override
+	public synchronized void fixtureChanged(final Object fixture) {
+		if (fixture instanceof final IFixture f) {
+			final FixtureLocation location = map.findFixture(f.getId());
+			if (Objects.nonNull(location)) {
+				tileChanged(location.location());
+				return;
+			}
+		}
+		invalidateAll();
+	}
+}
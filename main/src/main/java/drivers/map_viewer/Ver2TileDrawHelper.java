@@ -13,7 +13,7 @@ import java.util.ArrayList;
 import java.util.Map;
 import java.util.Collections;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.awt.Image;
 import java.awt.Graphics;
@@ -121,7 +121,7 @@ public final class Ver2TileDrawHelper implements TileDrawHelper {
 	/**
 	 * Images we've already determined aren't there.
 	 */
-	private final Collection<String> missingFiles = new HashSet<>();
+	private final Collection<String> missingFiles = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Create the fallback image---made a method so the object reference can be immutable
@@ -167,11 +167,12 @@ public final class Ver2TileDrawHelper implements TileDrawHelper {
 	}
 
 	/**
-	 * Return either a loaded image or, if the specified image fails to load, the generic one.
+	 * Return either a loaded image, scaled to the given size, or, if the
+	 * specified image fails to load, the generic one.
 	 */
-	private Image getImage(final String filename) {
+	private Image getImage(final String filename, final Coordinate dimensions) {
 		try {
-			return ImageLoader.loadImage(filename);
+			return ImageLoader.loadScaledImage(filename, dimensions.x(), dimensions.y());
 		} catch (final FileNotFoundException | NoSuchFileException except) {
 			if (!missingFiles.contains(filename)) {
 				// This is in fact a path, but this is an error log.
@@ -189,15 +190,15 @@ public final class Ver2TileDrawHelper implements TileDrawHelper {
 	}
 
 	/**
-	 * Get the image representing the given fixture.
+	 * Get the image representing the given fixture, scaled to the given size.
 	 */
-	private Image getImageForFixture(final TileFixture fixture) {
+	private Image getImageForFixture(final TileFixture fixture, final Coordinate dimensions) {
 		if (fixture instanceof final HasImage hi) {
 			final String image = hi.getImage();
 			if (image.isEmpty() || missingFiles.contains(image)) {
-				return getImage(hi.getDefaultImage());
+				return getImage(hi.getDefaultImage(), dimensions);
 			} else {
-				return getImage(image);
+				return getImage(image, dimensions);
 			}
 		} else {
 			LovelaceLogger.warning("Using fallback image for unexpected kind of fixture");
@@ -210,7 +211,7 @@ public final class Ver2TileDrawHelper implements TileDrawHelper {
 	 */
 	private void drawIcon(final Graphics pen, final String icon, final Coordinate coordinates,
 	                      final Coordinate dimensions) {
-		final Image image = getImage(icon);
+		final Image image = getImage(icon, dimensions);
 		pen.drawImage(image, coordinates.x(), coordinates.y(),
 				dimensions.x(), dimensions.y(), observer);
 	}
@@ -256,7 +257,7 @@ public final class Ver2TileDrawHelper implements TileDrawHelper {
 		}
 		final TileFixture top = getTopFixture(map, location);
 		if (Objects.nonNull(top)) {
-			drawIcon(pen, getImageForFixture(top), coordinates, dimensions);
+			drawIcon(pen, getImageForFixture(top, dimensions), coordinates, dimensions);
 		} else if (map.isMountainous(location)) {
 			drawIcon(pen, "mountain.png", coordinates, dimensions);
 		}
@@ -173,7 +173,7 @@ public final class ViewerFrame extends SPFrame implements MapGUI {
 	}
 
 	private void repaintMapPanel(final TableModelEvent event) {
-		mapPanel.repaint();
+		mapPanel.filtersChanged();
 	}
 
 	private void displayAllListener() {
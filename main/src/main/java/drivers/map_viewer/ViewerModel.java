@@ -114,6 +114,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	 * The list of graphical-parameter listeners.
 	 */
 	private final Collection<GraphicalParamsListener> gpListeners = new ArrayList<>();
+	private final Collection<TileChangeListener> tcListeners = new ArrayList<>();
 
 	/**
 	 * The object to handle notifying selection-change listeners.
@@ -188,11 +189,23 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	 */
 	private VisibleDimensions visDimensions;
 
+	/**
+	 * The index of the fixtures in the map, which we keep up to date as we change the map.
+	 */
+	private final FixtureSearchIndex searchIndex;
+
+	@Override
+	public FixtureSearchIndex getSearchIndex() {
+		return searchIndex;
+	}
+
 	/**
 	 * @param theMap The initial map
 	 */
 	public ViewerModel(final IMutableLegacyMap theMap) {
 		super(theMap);
+		searchIndex = new FixtureSearchIndex(theMap);
+		tcListeners.add(searchIndex);
 		visDimensions = new VisibleDimensions(0, theMap.getDimensions().rows() - 1,
 				0, theMap.getDimensions().columns() - 1);
 	}
@@ -200,6 +213,8 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	// TODO: Provide static method copyConstructor() calling this?
 	public ViewerModel(final IDriverModel model) {
 		super(model.getRestrictedMap());
+		searchIndex = new FixtureSearchIndex(model.getRestrictedMap());
+		tcListeners.add(searchIndex);
 		if (model instanceof final IViewerModel vm) {
 			visDimensions = vm.getVisibleDimensions();
 			selPoint = vm.getSelection();
@@ -368,6 +383,28 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 		gpListeners.remove(listener);
 	}
 
+	@Override
+	public void addTileChangeListener(final TileChangeListener listener) {
+		tcListeners.add(listener);
+	}
+
+	@Override
+	public void removeTileChangeListener(final TileChangeListener listener) {
+		tcListeners.remove(listener);
+	}
+
+	private void fireTileChanged(final Point location) {
+		for (final TileChangeListener listener : tcListeners) {
+			listener.tileChanged(location);
+		}
+	}
+
+	private void fireFixtureChanged(final Object fixture) {
+		for (final TileChangeListener listener : tcListeners) {
+			listener.fixtureChanged(fixture);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "ViewerModel for " + Optional.ofNullable(getMap().getFilename())
@@ -381,6 +418,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void setMap(final IMutableLegacyMap newMap) {
 		super.setMap(newMap);
+		searchIndex.reset(newMap);
 		clearSelection();
 		visDimensions = new VisibleDimensions(0, newMap.getDimensions().rows() - 1, 0,
 				newMap.getDimensions().columns() - 1);
@@ -393,6 +431,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void setMountainous(final Point location, final boolean mountainous) {
 		getRestrictedMap().setMountainous(location, mountainous);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -402,6 +441,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void addFixture(final Point location, final TileFixture fixture) {
 		getRestrictedMap().addFixture(location, fixture);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -413,6 +453,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 		final IMutableLegacyMap rmap = getRestrictedMap();
 		final Consumer<TileFixture> impl = fixture -> rmap.removeFixture(location, fixture);
 		getMap().getFixtures(location).stream().filter(condition).toList().forEach(impl);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -422,6 +463,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void addBookmark(final Point location) {
 		getRestrictedMap().addBookmark(location);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -431,6 +473,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void removeBookmark(final Point location) {
 		getRestrictedMap().removeBookmark(location);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -440,6 +483,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void addRiver(final Point location, final River river) {
 		getRestrictedMap().addRivers(location, river);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -449,6 +493,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void removeRiver(final Point location, final River river) {
 		getRestrictedMap().removeRivers(location, river);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -458,6 +503,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 	@Override
 	public void setBaseTerrain(final Point location, final @Nullable TileType terrain) {
 		getRestrictedMap().setBaseTerrain(location, terrain);
+		fireTileChanged(location);
 		setMapStatus(ILegacyMap.ModificationStatus.Modified); // TODO: Only set the flag if this was a change?
 	}
 
@@ -482,6 +528,8 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 		if (Objects.nonNull(matchingOld) && Objects.nonNull(matchingMember) && Objects.nonNull(matchingNew)) {
 			matchingOld.removeMember(matchingMember);
 			matchingNew.addMember(matchingMember);
+			fireFixtureChanged(matchingOld);
+			fireFixtureChanged(matchingNew);
 			getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
@@ -523,6 +571,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 				LovelaceLogger.trace("Matching unit meets preconditions");
 				if (getMap().getFixtures(location).contains(fixture)) {
 					getRestrictedMap().removeFixture(location, fixture);
+					fireTileChanged(location);
 					LovelaceLogger.trace("Finished removing matching unit from map");
 					return true;
 				} else {
@@ -531,6 +580,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 							.map(IMutableFortress.class::cast).toList()) {
 						if (fort.stream().anyMatch(Predicate.isEqual(fixture))) {
 							fort.removeMember(fixture);
+							fireFixtureChanged(fort);
 							getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 							LovelaceLogger.trace(
 									"Finished removing matching unit from map");
@@ -560,6 +610,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 				.findAny().orElse(null);
 		if (Objects.nonNull(matching)) {
 			matching.addMember(member.copy(IFixture.CopyBehavior.KEEP));
+			fireFixtureChanged(matching);
 			getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 		}
 	}
@@ -575,6 +626,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 						.findAny().orElse(null);
 				if (matching instanceof final HasMutableName hmn) {
 					hmn.setName(newName);
+					fireFixtureChanged(matching);
 					getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 					return true;
 				} else {
@@ -600,6 +652,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 					return false;
 				} else {
 					matching.setName(newName);
+					fireFixtureChanged(matching);
 					getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 					return true;
 				}
@@ -623,6 +676,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 						.findAny().orElse(null);
 				if (matching instanceof final HasMutableKind hmk) {
 					hmk.setKind(newKind);
+					fireFixtureChanged(matching);
 					getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 					return true;
 				} else {
@@ -650,6 +704,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 					return false;
 				} else {
 					matching.setKind(newKind);
+					fireFixtureChanged(matching);
 					getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 					return true;
 				}
@@ -671,6 +726,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 			final UnitMember matching = unit.stream().filter(Predicate.isEqual(member)).findAny().orElse(null);
 			if (Objects.nonNull(matching)) {
 				unit.removeMember(matching);
+				fireFixtureChanged(unit);
 				dismissedMembers.add(member);
 				getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 				break; // TODO: Why not just return?
@@ -692,6 +748,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 			// TODO: look beyond equals() for matching-in-existing?
 			if (unit.stream().anyMatch(Predicate.isEqual(existing))) {
 				unit.addMember(sibling.copy(IFixture.CopyBehavior.KEEP));
+				fireFixtureChanged(unit);
 				getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 				return true;
 			}
@@ -716,6 +773,7 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 				getRestrictedMap().addPlayer(newOwner);
 			}
 			matching.setOwner(getMap().getPlayers().getPlayer(newOwner.getPlayerId()));
+			fireFixtureChanged(matching);
 			getRestrictedMap().setStatus(ILegacyMap.ModificationStatus.Modified);
 			return true;
 		}
@@ -758,5 +816,6 @@ public final class ViewerModel extends SimpleDriverModel implements IViewerModel
 			}
 		}
 		getRestrictedMap().addFixture(hqLoc, unit);
+		fireTileChanged(hqLoc);
 	}
 }
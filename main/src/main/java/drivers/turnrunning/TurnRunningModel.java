@@ -227,8 +227,8 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 			if (Objects.nonNull(matching)) {
 				if (StreamSupport.stream(matching.spliterator(), true)
 						.noneMatch(matchingJob)) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
 					matching.addJob(new Job(jobName, 0));
+					map.markChanged(matching);
 				}
 				any = true;
 			}
@@ -267,14 +267,14 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 						.filter(isMutableJob).map(mutableJobCast)
 						.filter(matchingJob).findAny().orElse(null);
 				if (Objects.isNull(job)) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
 					final IMutableJob newJob = new Job(jobName, 0);
 					newJob.addSkill(new Skill(skillName, 0, 0));
 					matching.addJob(newJob);
+					map.markChanged(matching);
 				} else if (StreamSupport.stream(job.spliterator(), false).map(ISkill::getName)
 						.noneMatch(Predicate.isEqual(skillName))) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
 					job.addSkill(new Skill(skillName, 0, 0));
+					map.markChanged(matching);
 				}
 				any = true;
 			}
@@ -364,7 +364,6 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 					.filter(isWorker).map(workerCast)
 					.filter(matchingFields).findAny().orElse(null);
 			if (Objects.nonNull(matching)) {
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
 				any = true;
 				final IMutableJob job;
 				final IMutableJob temp = StreamSupport.stream(matching.spliterator(), false)
@@ -388,6 +387,7 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 				}
 				final int oldLevel = skill.getLevel();
 				skill.addHours(hours, levelCondition);
+				map.markChanged(matching);
 				final int newLevel = skill.getLevel();
 				if (oldLevel != newLevel) {
 					levelGainListener.level(worker.getName(), jobName, skillName, newLevel - oldLevel, newLevel);
@@ -436,10 +436,10 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 					final ISkill matchingSkill = StreamSupport.stream(matchingJob.spliterator(), true)
 							.filter(Predicate.isEqual(delenda)).findAny().orElse(null);
 					if (Objects.nonNull(matchingSkill)) {
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
 						any = true;
 						matchingJob.removeSkill(matchingSkill);
 						matchingJob.addSkill(replacement.copy());
+						map.markChanged(matching);
 						continue;
 					}
 				}
@@ -485,7 +485,7 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 							item.setQuantity(new LegacyQuantity(qty.subtract(amount),
 									resource.getQuantity().units()));
 						}
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+						markChanged(map, container);
 						any = true;
 						found = true;
 						break;
@@ -530,7 +530,7 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 							default -> throw new IllegalStateException(
 									"Unexpected fixture container type");
 						}
-						map.setStatus(ILegacyMap.ModificationStatus.Modified);
+						markChanged(map, container);
 						any = true;
 						found = true;
 						break;
@@ -563,7 +563,7 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 					.filter(matchingFields).findAny().orElse(null);
 			if (Objects.nonNull(matching)) {
 				matching.setOrders(turn, results);
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching);
 				any = true;
 			}
 		}
@@ -589,7 +589,7 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 					.filter(matchingFields).findAny().orElse(null);
 			if (Objects.nonNull(matching)) {
 				matching.setResults(turn, results);
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching);
 				any = true;
 			}
 		}
@@ -618,8 +618,10 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 					.flatMap(ExplorationModel::unflattenNonFortresses)
 					.filter(isUnit).map(unitCast)
 					.filter(matchingFields).findAny()
-					.ifPresent(addLambda);
-			map.setStatus(ILegacyMap.ModificationStatus.Modified);
+					.ifPresent(matching -> {
+						addLambda.accept(matching);
+						map.markChanged(matching);
+					});
 			any = true;
 		}
 		return any;
@@ -645,8 +647,10 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 			map.streamAllFixtures()
 					.filter(isFortress).map(fortressCast)
 					.filter(matchingFields).findAny()
-					.ifPresent(addLambda);
-			map.setStatus(ILegacyMap.ModificationStatus.Modified);
+					.ifPresent(matching -> {
+						addLambda.accept(matching);
+						map.markChanged(matching);
+					});
 			any = true;
 		}
 		return any;
@@ -675,8 +679,10 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 					.flatMap(ExplorationModel::unflattenNonFortresses)
 					.filter(isUnit).map(unitCast)
 					.filter(matchingFields).findAny()
-					.ifPresent(addLambda);
-			map.setStatus(ILegacyMap.ModificationStatus.Modified);
+					.ifPresent(matching -> {
+						addLambda.accept(matching);
+						map.markChanged(matching);
+					});
 			any = true;
 		}
 		return any;
@@ -703,8 +709,10 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 			map.streamAllFixtures()
 					.filter(isFortress).map(fortressCast)
 					.filter(matchingFields).findAny()
-					.ifPresent(addLambda);
-			map.setStatus(ILegacyMap.ModificationStatus.Modified);
+					.ifPresent(matching -> {
+						addLambda.accept(matching);
+						map.markChanged(matching);
+					});
 			any = true;
 		}
 		return any;
@@ -738,7 +746,7 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 			if (Objects.nonNull(matching)) {
 				matching.addMember(animal.copy(IFixture.CopyBehavior.KEEP));
 				any = true;
-				map.setStatus(ILegacyMap.ModificationStatus.Modified);
+				map.markChanged(matching);
 			}
 		}
 		return any;
@@ -782,7 +790,6 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 						.filter(isUnit).map(unitCast)
 						.filter(matchingUnit).findAny().orElse(null);
 				if (Objects.nonNull(matching) && Objects.nonNull(destination)) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
 					if (quantity.doubleValue() >= matching.getQuantity().number().doubleValue()) {
 						switch (container) {
 							// TODO: Combine unit and fortress cases once supertype added for removeMember()
@@ -799,6 +806,8 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 						matching.setQuantity(new LegacyQuantity(decimalize(matching.getQuantity()
 								.number()).subtract(quantity), matching.getQuantity().units()));
 					}
+					markChanged(map, container);
+					map.markChanged(destination);
 					any = true;
 					break;
 				}
@@ -845,7 +854,6 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 						.filter(isFortress).map(fortressCast)
 						.filter(matchingFort).findAny().orElse(null);
 				if (Objects.nonNull(matching) && Objects.nonNull(destination)) {
-					map.setStatus(ILegacyMap.ModificationStatus.Modified);
 					if (quantity.doubleValue() >= matching.getQuantity().number().doubleValue()) {
 						switch (container) { // TODO: Combine cases when a supertype is added for removeMember()
 							case final IMutableFortress fort -> fort.removeMember(matching);
@@ -861,6 +869,8 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 						matching.setQuantity(new LegacyQuantity(decimalize(matching.getQuantity()
 								.number()).subtract(quantity), matching.getQuantity().units()));
 					}
+					markChanged(map, container);
+					map.markChanged(destination);
 					any = true;
 					break;
 				}
@@ -893,12 +903,23 @@ public final class TurnRunningModel extends ExplorationModel implements ITurnRun
 				continue;
 			}
 			any = true;
-			map.setStatus(ILegacyMap.ModificationStatus.Modified);
 			result.addMember(resource.copy(IFixture.CopyBehavior.KEEP));
+			map.markChanged(result);
 		}
 		return any;
 	}
 
+	/**
+	 * Record that the given unit or fortress in the given map has gained or lost members.
+	 */
+	private static void markChanged(final IMutableLegacyMap map, final FixtureIterable<?> container) {
+		if (container instanceof final IFixture fixture) {
+			map.markChanged(fixture);
+		} else {
+			map.setStatus(ILegacyMap.ModificationStatus.Modified);
+		}
+	}
+
 	private static final class GenerateOnce implements IntSupplier {
 		private final IntSupplier idFactory;
 		private @Nullable Integer generatedId;
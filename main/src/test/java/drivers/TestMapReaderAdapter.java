@@ -0,0 +1,153 @@
+package drivers;
+
+import common.xmlio.Warning;
+import drivers.common.DriverFailedException;
+import drivers.common.IMultiMapModel;
+import drivers.common.SimpleMultiMapModel;
+import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link MapReaderAdapter}'s concurrent reading and writing of
+ * several maps gives results, warnings, and errors in a deterministic order.
+ */
+public final class TestMapReaderAdapter {
+	/**
+	 * How many times to repeat each test, to give differences in timing between runs a chance to show.
+	 */
+	private static final int REPETITIONS = 10;
+
+	@TempDir
+	private Path tempDir;
+
+	/**
+	 * Write a one-tile map, for the given turn, with an unexpected
+	 * attribute that produces a warning naming the turn.
+	 */
+	private Path writeMapFile(final int turn) throws IOException {
+		final Path file = tempDir.resolve("map%d.xml".formatted(turn));
+		Files.writeString(file, """
+				<view current_player="-1" current_turn="%d">
+				<map version="2" rows="1" columns="1">
+				<tile row="0" column="0" kind="plains" extra%d="x" />
+				</map>
+				</view>""".formatted(turn, turn), StandardCharsets.UTF_8);
+		return file;
+	}
+
+	/**
+	 * Test that maps are returned, and their warnings reported, in the order the files were given.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testReadOrder() throws IOException, DriverFailedException {
+		final List<Path> files = new ArrayList<>();
+		for (int turn = 0; turn < 8; turn++) {
+			files.add(writeMapFile(turn));
+		}
+		final List<Integer> expectedTurns = List.of(0, 1, 2, 3, 4, 5, 6, 7);
+		for (int i = 0; i < REPETITIONS; i++) {
+			final List<String> warnings = new ArrayList<>();
+			final IMultiMapModel model = MapReaderAdapter.readMultiMapModel(
+					new Warning(warning -> warnings.add(warning.getMessage())), files.getFirst(),
+					files.stream().skip(1).toArray(Path[]::new));
+			assertEquals(expectedTurns, StreamSupport.stream(model.getAllMaps().spliterator(), false)
+					.map(ILegacyMap::getCurrentTurn).toList(), "Maps are in argument order");
+			assertEquals(files, StreamSupport.stream(model.getAllMaps().spliterator(), false)
+					.map(ILegacyMap::getFilename).toList(), "Maps know their filenames");
+			assertEquals(expectedTurns.size(), warnings.size(), "One warning per file");
+			for (int turn = 0; turn < expectedTurns.size(); turn++) {
+				assertTrue(warnings.get(turn).contains("extra" + turn),
+						"Warnings are reported in argument order");
+			}
+		}
+	}
+
+	/**
+	 * Test that when reading several files fails, the failure reported is
+	 * that of the first failing file in argument order, and that the
+	 * warnings from the files before it are still reported.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testReadFailureOrder() throws IOException {
+		final Path good = writeMapFile(0);
+		final Path malformed = tempDir.resolve("malformed.xml");
+		Files.writeString(malformed, "<view current_player=\"-1\" current_turn=\"1\"><map", StandardCharsets.UTF_8);
+		final Path missing = tempDir.resolve("missing.xml");
+		for (int i = 0; i < REPETITIONS; i++) {
+			final List<String> warnings = new ArrayList<>();
+			final Warning warner = new Warning(warning -> warnings.add(warning.getMessage()));
+			final DriverFailedException first = assertThrows(DriverFailedException.class,
+					() -> MapReaderAdapter.readMultiMapModel(warner, good, malformed, missing));
+			assertEquals("Malformed XML in " + malformed, first.getMessage(),
+					"First failing file's error is reported");
+			assertEquals(1, warnings.size(), "Warnings from files before the failure are reported");
+			final DriverFailedException second = assertThrows(DriverFailedException.class,
+					() -> MapReaderAdapter.readMultiMapModel(Warning.IGNORE, good, missing, malformed));
+			assertEquals("File not found: " + missing, second.getMessage(),
+					"First failing file's error is reported whichever file fails first");
+		}
+	}
+
+	/**
+	 * A map with the given turn, to be written to the given file, and marked as modified.
+	 */
+	private static IMutableLegacyMap createMap(final int turn, final Path file) {
+		final IMutableLegacyMap retval = new LegacyMap(new MapDimensionsImpl(2, 2, 2),
+				new LegacyPlayerCollection(), turn);
+		retval.setFilename(file);
+		retval.setStatus(ILegacyMap.ModificationStatus.Modified);
+		return retval;
+	}
+
+	/**
+	 * Test that when writing several maps fails for some of them, every
+	 * map is attempted, the failure reported is that of the first failing
+	 * map, and the maps that were written are marked as unmodified while
+	 * those that failed are not.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testWriteFailureOrder() throws IOException, DriverFailedException {
+		final Path noSuchDirectory = tempDir.resolve("nonexistent");
+		for (int i = 0; i < REPETITIONS; i++) {
+			final List<IMutableLegacyMap> maps = List.of(createMap(0, tempDir.resolve("zero.xml")),
+					createMap(1, noSuchDirectory.resolve("one.xml")), createMap(2, tempDir.resolve("two.xml")),
+					createMap(3, noSuchDirectory.resolve("three.xml")), createMap(4, tempDir.resolve("four.xml")));
+			final IMultiMapModel model = new SimpleMultiMapModel(maps.getFirst());
+			maps.stream().skip(1).forEach(model::addSubordinateMap);
+			final DriverFailedException except = assertThrows(DriverFailedException.class,
+					() -> MapReaderAdapter.writeModel(model));
+			assertEquals("I/O error writing to " + noSuchDirectory.resolve("one.xml"), except.getMessage(),
+					"First failing map's error is reported");
+			final List<ILegacyMap.ModificationStatus> statuses = StreamSupport.stream(
+					model.getAllMaps().spliterator(), false).map(ILegacyMap::getStatus).toList();
+			assertEquals(List.of(ILegacyMap.ModificationStatus.Unmodified, ILegacyMap.ModificationStatus.Modified,
+							ILegacyMap.ModificationStatus.Unmodified, ILegacyMap.ModificationStatus.Modified,
+							ILegacyMap.ModificationStatus.Unmodified), statuses,
+					"Only maps that were written are marked unmodified");
+			final IMultiMapModel reread = MapReaderAdapter.readMultiMapModel(Warning.DIE,
+					tempDir.resolve("zero.xml"), tempDir.resolve("two.xml"), tempDir.resolve("four.xml"));
+			assertEquals(List.of(0, 2, 4), StreamSupport.stream(reread.getAllMaps().spliterator(), false)
+					.map(ILegacyMap::getCurrentTurn).toList(), "Maps after the failing one were still written");
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package drivers;
+
+import common.xmlio.Warning;
+import drivers.common.DriverFailedException;
+import drivers.common.cli.CLIHelper;
+import drivers.common.cli.ICLIHelper;
+import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.xmlio.MapIOHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ReportService}'s caching of reports.
+ */
+public final class TestReportService {
+	private static final ICLIHelper CLI = new CLIHelper(() -> null, s -> {}, () -> {});
+
+	@TempDir
+	private Path tempDir;
+
+	/**
+	 * Write a map with the given players, the first of them current, to the
+	 * given file, and set the file's modification time.
+	 */
+	private static void writeMap(final Path file, final Instant modified, final Player... players)
+			throws IOException, XMLStreamException {
+		final IMutableLegacyMap map = new LegacyMap(new MapDimensionsImpl(2, 2, 2), new LegacyPlayerCollection(), 0);
+		for (final Player player : players) {
+			map.addPlayer(player);
+		}
+		map.setCurrentPlayer(players[0]);
+		MapIOHelper.writeMap(file, map);
+		Files.setLastModifiedTime(file, FileTime.from(modified));
+	}
+
+	/**
+	 * Write a map with two players, then read it back, so it knows its filename.
+	 */
+	@SuppressWarnings("MagicNumber")
+	private ILegacyMap createMap(final Instant modified)
+			throws IOException, XMLStreamException, DriverFailedException {
+		final Path file = tempDir.resolve("map.xml");
+		writeMap(file, modified, new PlayerImpl(1, "Alice"), new PlayerImpl(2, "Bob"));
+		return MapReaderAdapter.readMap(file, Warning.IGNORE);
+	}
+
+	/**
+	 * Test that reports are cached, and that the least recently used one is
+	 * dropped once there are more than the cache will hold.
+	 */
+	@Test
+	public void testLeastRecentlyUsed()
+			throws IOException, XMLStreamException, DriverFailedException, InterruptedException, ExecutionException {
+		final ILegacyMap map = createMap(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+		final Path file = map.getFilename();
+		try (final ReportService service = new ReportService(List.of(map), CLI, null, 2)) {
+			final CompletableFuture<ReportService.Report> first = service.getReport(file, -1);
+			final CompletableFuture<ReportService.Report> second = service.getReport(file, 1);
+			assertSame(first, service.getReport(file, -1), "Cached report is reused");
+			assertSame(second, service.getReport(file, 1), "Cached report is reused");
+			// Now the default report is the most recently used, so the
+			// player's report is the one dropped to make room.
+			assertSame(first, service.getReport(file, -1), "Cached report is reused");
+			final CompletableFuture<ReportService.Report> third = service.getReport(file, 2);
+			assertSame(first, service.getReport(file, -1), "Recently used report is kept");
+			assertSame(third, service.getReport(file, 2), "Newest report is kept");
+			final CompletableFuture<ReportService.Report> regenerated = service.getReport(file, 1);
+			assertNotSame(second, regenerated, "Least recently used report was dropped");
+			assertEquals(second.get().etag(), regenerated.get().etag(),
+					"Regenerated report is of the same version of the file");
+			assertTrue(first.get().etag().contains("default"), "Default report's tag says so");
+			assertNotEquals(first.get().etag(), second.get().etag(), "Different players' reports differ in tag");
+		}
+	}
+
+	/**
+	 * Test that a report is generated again, from the file as it now is,
+	 * once the file has changed.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testModificationTime()
+			throws IOException, XMLStreamException, DriverFailedException, InterruptedException, ExecutionException {
+		final Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		final ILegacyMap map = createMap(start);
+		final Path file = map.getFilename();
+		try (final ReportService service = new ReportService(List.of(map), CLI, null)) {
+			final CompletableFuture<ReportService.Report> before = service.getReport(file, -1);
+			final String etag = before.get().etag();
+			assertSame(before, service.getReport(file, -1), "Report is cached while the file is unchanged");
+			final ExecutionException missing = assertThrows(ExecutionException.class,
+					() -> service.getReport(file, 3).get(), "No report for a player not in the map");
+			assertInstanceOf(IllegalArgumentException.class, missing.getCause(),
+					"Missing player is reported as a bad argument");
+
+			writeMap(file, start.plusSeconds(60), new PlayerImpl(1, "Alice"), new PlayerImpl(2, "Bob"),
+					new PlayerImpl(3, "Carol"));
+			final CompletableFuture<ReportService.Report> after = service.getReport(file, -1);
+			assertNotSame(before, after, "Report is generated again after the file changes");
+			assertNotEquals(etag, after.get().etag(), "Changed file gives a different tag");
+			assertEquals(List.of("Alice", "Bob", "Carol"),
+					service.getPlayers(file).stream().map(Player::getName).toList(),
+					"Changed map was read again");
+			final ReportService.Report carol = service.getReport(file, 3).get();
+			assertTrue(carol.etag().endsWith("-3\""), "Report for a player added to the file can now be generated");
+			assertTrue(carol.html().length > 0, "Report for a player added to the file can now be generated");
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package drivers;
+
+import common.xmlio.Warning;
+import drivers.common.DriverFailedException;
+import drivers.common.cli.CLIHelper;
+import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.xmlio.MapIOHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.takes.Response;
+import org.takes.rq.RqFake;
+import org.takes.rs.RsPrint;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of how {@link ReportServingCLI} turns reports into HTTP responses.
+ */
+public final class TestReportServingCLI {
+	private static final byte[] HTML = "<html><body>Report</body></html>".getBytes(StandardCharsets.UTF_8);
+
+	private static final String ETAG = "\"abc-default\"";
+
+	@TempDir
+	private Path tempDir;
+
+	private static ReportService.Report report() throws IOException {
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (final GZIPOutputStream ostream = new GZIPOutputStream(buffer)) {
+			ostream.write(HTML);
+		}
+		return new ReportService.Report(ETAG, HTML, buffer.toByteArray());
+	}
+
+	private static Response respond(final String... headers) throws IOException, InterruptedException {
+		final List<String> head = new ArrayList<>();
+		head.add("GET /map.xml HTTP/1.1");
+		head.add("Host: localhost");
+		head.addAll(List.of(headers));
+		return ReportServingCLI.respond(new RqFake(head, ""), CompletableFuture.completedFuture(report()));
+	}
+
+	private static List<String> head(final Response response) throws IOException {
+		final List<String> retval = new ArrayList<>();
+		response.head().forEach(retval::add);
+		return retval;
+	}
+
+	private static byte[] body(final Response response) throws IOException {
+		try (final InputStream body = response.body()) {
+			return body.readAllBytes();
+		}
+	}
+
+	/**
+	 * Test that the report is served as it is, with its tag, to a client
+	 * that neither has it already nor accepts compression.
+	 */
+	@Test
+	public void testPlain() throws IOException, InterruptedException {
+		final Response response = respond();
+		final List<String> head = head(response);
+		assertTrue(head.getFirst().contains(Integer.toString(HttpURLConnection.HTTP_OK)), "Request succeeds");
+		assertTrue(head.contains("ETag: " + ETAG), "Response carries the report's tag");
+		assertFalse(head.contains("Content-Encoding: gzip"), "Response is not compressed");
+		assertArrayEquals(HTML, body(response), "Report is the body");
+	}
+
+	/**
+	 * Test that a client that already has this version of the report is told so.
+	 */
+	@Test
+	public void testNotModified() throws IOException, InterruptedException {
+		final Response response = respond("If-None-Match: " + ETAG);
+		final List<String> head = head(response);
+		assertTrue(head.getFirst().contains(Integer.toString(HttpURLConnection.HTTP_NOT_MODIFIED)),
+				"Client with the current version gets Not Modified");
+		assertTrue(head.contains("ETag: " + ETAG), "Not Modified response carries the tag");
+		assertEquals(0, body(response).length, "Not Modified response has no body");
+
+		final Response stale = respond("If-None-Match: \"123-default\"");
+		assertTrue(head(stale).getFirst().contains(Integer.toString(HttpURLConnection.HTTP_OK)),
+				"Client with an older version gets the report");
+		assertArrayEquals(HTML, body(stale), "Client with an older version gets the report");
+	}
+
+	/**
+	 * Test that a client that accepts compression gets the compressed report.
+	 */
+	@Test
+	public void testCompressed() throws IOException, InterruptedException {
+		final Response response = respond("Accept-Encoding: deflate, gzip");
+		final List<String> head = head(response);
+		assertTrue(head.contains("Content-Encoding: gzip"), "Response says it is compressed");
+		assertTrue(head.contains("ETag: " + ETAG), "Compressed response carries the tag");
+		try (final InputStream body = new GZIPInputStream(response.body())) {
+			assertArrayEquals(HTML, body.readAllBytes(), "Body decompresses to the report");
+		}
+	}
+
+	/**
+	 * Test that a failure to generate the report is turned into the right error.
+	 */
+	@Test
+	public void testFailures() throws IOException, InterruptedException {
+		final List<String> head = List.of("GET /map.xml/player/5 HTTP/1.1", "Host: localhost");
+		assertTrue(new RsPrint(ReportServingCLI.respond(new RqFake(head, ""),
+						CompletableFuture.failedFuture(new IllegalArgumentException("No such player"))))
+						.printHead().contains(Integer.toString(HttpURLConnection.HTTP_NOT_FOUND)),
+				"Missing player gives Not Found");
+		assertTrue(new RsPrint(ReportServingCLI.respond(new RqFake(head, ""),
+						CompletableFuture.failedFuture(new IllegalStateException("Failed to read"))))
+						.printHead().contains(Integer.toString(HttpURLConnection.HTTP_INTERNAL_ERROR)),
+				"Other failures give an internal error");
+	}
+
+	/**
+	 * Test that file and player names are escaped in the index page.
+	 */
+	@Test
+	public void testIndexEscaping() throws IOException, XMLStreamException, DriverFailedException {
+		final Path file = tempDir.resolve("map.xml");
+		final IMutableLegacyMap written = new LegacyMap(new MapDimensionsImpl(2, 2, 2),
+				new LegacyPlayerCollection(), 0);
+		final Player player = new PlayerImpl(1, "<b>Eve</b> & \"co\"");
+		written.addPlayer(player);
+		written.setCurrentPlayer(player);
+		MapIOHelper.writeMap(file, written);
+		final ILegacyMap map = MapReaderAdapter.readMap(file, Warning.IGNORE);
+		try (final ReportService service = new ReportService(List.of(map),
+				new CLIHelper(() -> null, s -> {}, () -> {}), null)) {
+			final String index = ReportServingCLI.indexPage(service, Map.of("a<b>.xml", file));
+			assertFalse(index.contains("<b>"), "Markup in names is not passed through");
+			assertTrue(index.contains("&lt;b&gt;Eve&lt;/b&gt; &amp; &quot;co&quot;"), "Player name is escaped");
+			assertTrue(index.contains("href=\"/a&lt;b&gt;.xml/player/1\""), "File name is escaped in links");
+		}
+	}
+}
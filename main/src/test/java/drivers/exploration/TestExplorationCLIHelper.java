@@ -0,0 +1,116 @@
+package drivers.exploration;
+
+import drivers.common.cli.CLIHelper;
+import drivers.common.cli.ICLIHelper;
+import exploration.common.ExplorationModel;
+import legacy.map.IFixture;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.TileType;
+import legacy.map.fixtures.mobile.Unit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ExplorationCLIHelper} following a route.
+ */
+public final class TestExplorationCLIHelper {
+	private final Player player = new PlayerImpl(1, "Alice");
+
+	private final Unit explorer = new Unit(player, "explorers", "Explorers", 1);
+
+	private final Unit stranger = new Unit(new PlayerImpl(2, "Bob"), "raiders", "Raiders", 2);
+
+	private final StringBuilder output = new StringBuilder();
+
+	private static IMutableLegacyMap createMap(final Player player) {
+		final IMutableLegacyMap retval = new LegacyMap(new MapDimensionsImpl(1, 12, 2),
+				new LegacyPlayerCollection(), 0);
+		retval.addPlayer(player);
+		retval.setCurrentPlayer(player);
+		for (final Point point : retval.getLocations()) {
+			retval.setBaseTerrain(point, TileType.Plains);
+		}
+		return retval;
+	}
+
+	/**
+	 * Set up a model with a main and a subordinate map, each with the
+	 * explorer at the west edge and another player's unit partway along its
+	 * route east.
+	 */
+	@SuppressWarnings("MagicNumber")
+	private ExplorationModel createModel() {
+		final IMutableLegacyMap main = createMap(player);
+		final IMutableLegacyMap sub = createMap(player);
+		main.addFixture(new Point(0, 0), explorer);
+		sub.addFixture(new Point(0, 0), explorer.copy(IFixture.CopyBehavior.KEEP));
+		main.addFixture(new Point(0, 3), stranger);
+		sub.addFixture(new Point(0, 3), stranger.copy(IFixture.CopyBehavior.ZERO));
+		final ExplorationModel model = new ExplorationModel(main);
+		model.addSubordinateMap(sub);
+		return model;
+	}
+
+	/**
+	 * Create the helper, and select the explorer, answering the given input.
+	 */
+	private ExplorationCLIHelper createHelper(final ExplorationModel model, final List<String> input) {
+		final Queue<String> lines = new ArrayDeque<>(input);
+		final ICLIHelper cli = new CLIHelper(lines::poll, output::append, () -> {});
+		final ExplorationCLIHelper retval = new ExplorationCLIHelper(model, cli);
+		model.addSelectionChangeListener(retval);
+		model.addMovementCostListener(retval);
+		model.setSelectedUnit(explorer);
+		return retval;
+	}
+
+	/**
+	 * Test that the explorer follows the route until it meets something the user said to stop for.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testStopCondition() {
+		final ExplorationModel model = createModel();
+		// MP, "Toward Point", row, column, then "yes" to each of the things to stop for.
+		final List<String> input = new ArrayList<>(List.of("20", "10", "0", "5"));
+		input.addAll(Collections.nCopies(9, "y"));
+		final ExplorationCLIHelper helper = createHelper(model, input);
+		assertEquals(ICLIHelper.BooleanResponse.YES, helper.moveOneStep(), "Explorer stops");
+		assertEquals(new Point(0, 3), model.getSelectedUnitLocation(), "Explorer stops on meeting the other unit");
+		assertTrue(model.streamSubordinateMaps().allMatch(m -> m.getFixtures(new Point(0, 3)).stream()
+						.anyMatch(f -> f.getId() == explorer.getId())),
+				"Explorer moved in the subordinate map too");
+		assertEquals(14, helper.getMovement(), "MP for the steps taken are deducted");
+		assertTrue(output.toString().contains("so the explorer stops"), "User is told why the explorer stopped");
+	}
+
+	/**
+	 * Test that the explorer follows the route until it runs out of MP.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testMovementPoints() {
+		final ExplorationModel model = createModel();
+		final List<String> input = new ArrayList<>(List.of("4", "10", "0", "5"));
+		input.addAll(Collections.nCopies(9, "n"));
+		final ExplorationCLIHelper helper = createHelper(model, input);
+		assertEquals(ICLIHelper.BooleanResponse.YES, helper.moveOneStep(), "Explorer stops");
+		assertEquals(new Point(0, 2), model.getSelectedUnitLocation(), "Explorer stops on running out of MP");
+		assertEquals(0, helper.getMovement(), "All MP are spent");
+		assertTrue(output.toString().contains("run out of MP"), "User is told why the explorer stopped");
+	}
+}
@@ -0,0 +1,153 @@
+package drivers.map_viewer;
+
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensions;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.PointIterable.IterationDirection;
+import legacy.map.PointIterable.IterationOrientation;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.towns.FortressImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link FixtureSearchIndex}.
+ */
+public final class TestFixtureSearchIndex {
+	private static final MapDimensions DIMENSIONS = new MapDimensionsImpl(4, 5, 2);
+
+	private final Player player = new PlayerImpl(1, "Alice");
+
+	private final Unit scouts = new Unit(player, "explorers", "Scouts", 10);
+
+	private final Unit miners = new Unit(player, "workers", "Miners", 12);
+
+	private final Unit other = new Unit(player, "scouts", "Other", 13);
+
+	private IMutableLegacyMap map = new LegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0);
+
+	private FixtureSearchIndex index = new FixtureSearchIndex(map);
+
+	@SuppressWarnings("MagicNumber")
+	@BeforeEach
+	public void setUp() {
+		map = new LegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0);
+		map.addFixture(new Point(0, 1), scouts);
+		final FortressImpl fortress = new FortressImpl(player, "HQ", 11);
+		fortress.addMember(miners);
+		map.addFixture(new Point(2, 3), fortress);
+		map.addFixture(new Point(3, 0), other);
+		index = new FixtureSearchIndex(map);
+		index.prepare();
+	}
+
+	/**
+	 * Query the index, waiting for the answer, which should not be null.
+	 */
+	private List<FixtureSearchIndex.Candidate> find(final String pattern, final boolean caseSensitive,
+	                                                final boolean prefix, final Collection<Point> bookmarks,
+	                                                final Point selection, final IterationDirection direction,
+	                                                final IterationOrientation orientation)
+			throws InterruptedException, ExecutionException {
+		final List<FixtureSearchIndex.Candidate> retval = index.findAsync(pattern, caseSensitive, prefix,
+				bookmarks, DIMENSIONS, selection, direction, orientation).get();
+		assertNotNull(retval, "Index should be ready");
+		return Objects.requireNonNull(retval);
+	}
+
+	private List<FixtureSearchIndex.Candidate> find(final String pattern)
+			throws InterruptedException, ExecutionException {
+		return find(pattern, false, false, Collections.emptyList(), Point.INVALID_POINT,
+				IterationDirection.Forwards, IterationOrientation.Horizontal);
+	}
+
+	private static List<Point> locations(final List<FixtureSearchIndex.Candidate> candidates) {
+		return candidates.stream().map(FixtureSearchIndex.Candidate::location).toList();
+	}
+
+	/**
+	 * Test that fixtures, including those inside fortresses, are found by name, kind, and ID.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testFind() throws InterruptedException, ExecutionException {
+		assertEquals(List.of(new FixtureSearchIndex.Candidate(new Point(2, 3), false, List.of(miners))),
+				find("miners"), "Unit in a fortress is found by name");
+		assertEquals(List.of(new Point(2, 3)), locations(find("12")), "Unit is found by ID");
+		assertEquals(List.of(new Point(0, 1)), locations(find("explor")), "Unit is found by part of its kind");
+		assertEquals(List.of(new Point(0, 1), new Point(3, 0)), locations(find("sc")),
+				"Matches by name and by kind are both found");
+		assertEquals(List.of(new Point(3, 0)),
+				locations(find("scouts", true, true, Collections.emptyList(), Point.INVALID_POINT,
+						IterationDirection.Forwards, IterationOrientation.Horizontal)),
+				"Case-sensitive search does not match a name in a different case");
+		assertEquals(List.of(), find("nothing"), "Nothing is found for a pattern nothing matches");
+		assertEquals(List.of(new FixtureSearchIndex.Candidate(new Point(1, 1), true, List.of())),
+				find("nothing", false, false, List.of(new Point(1, 1)), Point.INVALID_POINT,
+						IterationDirection.Forwards, IterationOrientation.Horizontal),
+				"Bookmarks are included");
+	}
+
+	/**
+	 * Test that candidates come in the order the map would be searched from the selection.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testOrdering() throws InterruptedException, ExecutionException {
+		final List<Point> empty = Collections.emptyList();
+		assertEquals(List.of(new Point(0, 1), new Point(3, 0)),
+				locations(find("sc", false, false, empty, new Point(0, 0), IterationDirection.Forwards,
+						IterationOrientation.Horizontal)), "Forwards across rows");
+		assertEquals(List.of(new Point(3, 0), new Point(0, 1)),
+				locations(find("sc", false, false, empty, new Point(0, 0), IterationDirection.Forwards,
+						IterationOrientation.Vertical)), "Forwards down columns");
+		assertEquals(List.of(new Point(3, 0), new Point(0, 1)),
+				locations(find("sc", false, false, empty, new Point(0, 0), IterationDirection.Backwards,
+						IterationOrientation.Horizontal)), "Backwards across rows");
+		assertEquals(List.of(new Point(3, 0), new Point(0, 1)),
+				locations(find("sc", false, false, empty, new Point(0, 1), IterationDirection.Forwards,
+						IterationOrientation.Horizontal)), "Search wraps around, and the selection comes last");
+	}
+
+	/**
+	 * Test that the index follows changes it is told about, and is rebuilt
+	 * after changes it is not told about.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testUpdates() throws InterruptedException, ExecutionException {
+		find("warm up");
+		assertTrue(index.isReady(), "Index is ready once built");
+		map.addFixture(new Point(1, 1), new Unit(player, "explorers", "Newcomers", 14));
+		index.tileChanged(new Point(1, 1));
+		assertTrue(index.isReady(), "Index is still ready after a change it was told about");
+		assertEquals(List.of(new Point(1, 1)), locations(find("newc")), "Added unit is found");
+
+		miners.setName("Diggers");
+		index.fixtureChanged(miners);
+		assertEquals(List.of(new Point(2, 3)), locations(find("diggers")), "Renamed unit is found by its new name");
+		assertEquals(List.of(), find("miners"), "Renamed unit is not found by its old name");
+
+		map.removeFixture(new Point(0, 1), scouts);
+		assertFalse(index.isReady(), "Index is not ready after a change it was not told about");
+		assertEquals(List.of(new Point(3, 0)), locations(find("scouts")),
+				"Rebuilt index does not find the removed unit");
+		assertTrue(index.isReady(), "Index is ready again once rebuilt");
+	}
+}
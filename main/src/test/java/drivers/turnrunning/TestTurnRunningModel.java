@@ -0,0 +1,93 @@
+package drivers.turnrunning;
+
+import common.xmlio.SPFormatException;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.fixtures.mobile.IMutableUnit;
+import legacy.map.fixtures.mobile.IUnit;
+import legacy.map.fixtures.mobile.IWorker;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.mobile.Worker;
+import legacy.map.fixtures.mobile.worker.ISkill;
+import legacy.map.fixtures.mobile.worker.Job;
+import legacy.map.fixtures.mobile.worker.Skill;
+import legacy.xmlio.MapIOHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link TurnRunningModel}'s changes to a map are reported to it
+ * in enough detail that saving the map again writes only what changed.
+ */
+public final class TestTurnRunningModel {
+	@TempDir
+	private Path tempDir;
+
+	/**
+	 * The identity of the file at the given path, which changes if the file
+	 * is replaced (as a full export does) rather than changed in place.
+	 */
+	private static Object fileKey(final Path file) throws IOException {
+		return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+	}
+
+	/**
+	 * Test that after changing a unit's orders and a worker's skills, the
+	 * map is still tracking its changes against the file it was read from,
+	 * and that saving it updates that file in place rather than replacing it.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testChangesWrittenIncrementally() throws IOException, XMLStreamException, SPFormatException {
+		final Path file = tempDir.resolve("map.db");
+		final Player player = new PlayerImpl(1, "player");
+		final IMutableLegacyMap original = new LegacyMap(new MapDimensionsImpl(2, 2, 2),
+				new LegacyPlayerCollection(), 3);
+		original.addPlayer(player);
+		final IMutableUnit originalUnit = new Unit(player, "kind", "unit", 2);
+		originalUnit.addMember(new Worker("worker", "human", 3, new Job("job", 2, new Skill("skill", 1, 0))));
+		original.addFixture(new Point(1, 1), originalUnit);
+		MapIOHelper.writeMap(file, original);
+		final Object key = fileKey(file);
+
+		final IMutableLegacyMap map = MapIOHelper.readMap(file);
+		final IUnit unit = map.streamFixtures(new Point(1, 1)).filter(IUnit.class::isInstance)
+				.map(IUnit.class::cast).findAny().orElseThrow();
+		final IWorker worker = unit.stream().filter(IWorker.class::isInstance).map(IWorker.class::cast)
+				.findAny().orElseThrow();
+		final TurnRunningModel model = new TurnRunningModel(map);
+		assertTrue(model.setUnitOrders(unit, 3, "new orders"), "Unit's orders set");
+		assertTrue(model.addHoursToSkill(worker, "job", "skill", 5, total -> false,
+				(workerName, jobName, skillName, gains, level) -> {}), "Hours added to worker's skill");
+		assertEquals(file, map.getChanges().getBaseline(), "Map is still tracking changes against its file");
+		assertTrue(map.getChanges().getChangedFixtures().contains(unit), "Unit is recorded as changed");
+		assertTrue(map.getChanges().getChangedFixtures().contains(worker), "Worker is recorded as changed");
+
+		MapIOHelper.writeMap(file, map);
+		assertEquals(key, fileKey(file), "Changes were written into the file rather than replacing it");
+		final IMutableLegacyMap reread = MapIOHelper.readMap(file);
+		final IUnit rereadUnit = reread.streamFixtures(new Point(1, 1)).filter(IUnit.class::isInstance)
+				.map(IUnit.class::cast).findAny().orElseThrow();
+		assertEquals("new orders", rereadUnit.getOrders(3), "Orders were saved");
+		final ISkill skill = rereadUnit.stream().filter(IWorker.class::isInstance).map(IWorker.class::cast)
+				.flatMap(w -> StreamSupport.stream(w.spliterator(), false))
+				.flatMap(j -> StreamSupport.stream(j.spliterator(), false))
+				.filter(s -> "skill".equals(s.getName())).findAny().orElseThrow();
+		assertEquals(5, skill.getHours(), "Hours were saved");
+	}
+}
@@ -37,7 +37,8 @@ public abstract class AbstractDatabaseWriter<Item, Context> implements DatabaseW
 
 	@Override
 	public final void initialize(final Transactional sql) throws SQLException {
-		if (!connections.contains(sql)) {
+		final Transactional database = BatchingTransactional.underlying(sql);
+		if (!connections.contains(database)) {
 			sql.transaction().accept(db -> {
 				for (final Query initializer : getInitializers()) {
 					initializer.execute(db);
@@ -45,10 +46,15 @@ public abstract class AbstractDatabaseWriter<Item, Context> implements DatabaseW
 							LINEBREAK.split(initializer.rawSql())[0]);
 				}
 			});
-			connections.add(sql);
+			connections.add(database);
 		}
 	}
 
+	@Override
+	public final void forget(final Transactional sql) {
+		connections.remove(BatchingTransactional.underlying(sql));
+	}
+
 	/**
 	 *
 	 * @param obj an object
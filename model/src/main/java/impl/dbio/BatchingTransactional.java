@@ -0,0 +1,200 @@
+package impl.dbio;
+
+import io.jenetics.facilejdbc.Param;
+import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.SingleParam;
+import io.jenetics.facilejdbc.Transaction;
+import io.jenetics.facilejdbc.Transactional;
+import io.jenetics.facilejdbc.function.SqlFunction;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Transactional} for writing a large amount of data in a single
+ * transaction on a single connection. INSERT statements passed to {@link
+ * #insert} are queued, with one prepared statement per {@link Query}, and
+ * sent to the database in batches rather than one at a time.
+ *
+ * Both {@link #connection} and {@link #transaction} hand out the one
+ * connection, which the caller that created this object is responsible for
+ * committing and closing; transactions begun on this object simply join that
+ * one. Queued rows are flushed before any such transaction runs, but not
+ * before other uses of {@link #connection}.
+ */
+public final class BatchingTransactional implements Transactional, AutoCloseable {
+	/**
+	 * How many rows to queue for any one statement before sending them to the database.
+	 */
+	private static final int BATCH_SIZE = 512;
+
+	public BatchingTransactional(final Transactional underlying, final Connection connection) {
+		this.underlying = underlying;
+		this.connection = connection;
+	}
+
+	/**
+	 * The database this is writing to, for callers that remember which databases they have set up.
+	 */
+	private final Transactional underlying;
+
+	private final Connection connection;
+
+	/**
+	 * Rows not yet sent to the database, by the query they are for. Queries
+	 * are compared by identity, since they are all constants.
+	 */
+	private final Map<Query, PendingBatch> batches = new IdentityHashMap<>();
+
+	/**
+	 * How many rows have been passed to {@link #insert}.
+	 */
+	private long rowCount = 0;
+
+	private static final class PendingBatch {
+		private final PreparedStatement statement;
+		private final List<String> paramNames;
+		private int size = 0;
+
+		public PendingBatch(final Connection connection, final Query query) throws SQLException {
+			statement = connection.prepareStatement(query.sql());
+			paramNames = query.paramNames();
+		}
+
+		public void add(final Collection<? extends Param> params) throws SQLException {
+			statement.clearParameters();
+			for (final Param param : params) {
+				if (!(param instanceof final SingleParam single)) {
+					throw new IllegalArgumentException("Only single-valued parameters can be batched");
+				}
+				for (int i = 0; i < paramNames.size(); i++) {
+					if (paramNames.get(i).equals(param.name())) {
+						single.value().set(i + 1, statement);
+					}
+				}
+			}
+			statement.addBatch();
+			size++;
+		}
+
+		public void flush() throws SQLException {
+			if (size > 0) {
+				statement.executeBatch();
+				size = 0;
+			}
+		}
+	}
+
+	/**
+	 * The database this is writing to, for callers that remember which databases they have set up.
+	 */
+	public Transactional getUnderlying() {
+		return underlying;
+	}
+
+	/**
+	 * How many rows have been queued for insertion so far.
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Queue a row to be inserted. Parameters the query has but that are not
+	 * given are set to NULL. Note that some errors (constraint violations,
+	 * for example) will not be reported until the row is actually sent to the
+	 * database.
+	 */
+	public void insert(final Query query, final Collection<? extends Param> params) throws SQLException {
+		PendingBatch batch = batches.get(query);
+		if (batch == null) {
+			batch = new PendingBatch(connection, query);
+			batches.put(query, batch);
+		}
+		batch.add(params);
+		rowCount++;
+		if (batch.size >= BATCH_SIZE) {
+			batch.flush();
+		}
+	}
+
+	/**
+	 * Send all queued rows to the database.
+	 */
+	public void flush() throws SQLException {
+		for (final PendingBatch batch : batches.values()) {
+			batch.flush();
+		}
+	}
+
+	/**
+	 * Insert a row into the given database, batching it if that is a {@link
+	 * BatchingTransactional}, and otherwise executing it immediately in its own transaction.
+	 */
+	public static void insert(final Transactional db, final Query query, final Collection<? extends Param> params)
+			throws SQLException {
+		if (db instanceof final BatchingTransactional batching) {
+			batching.insert(query, params);
+		} else {
+			db.transaction().accept(sql -> query.on(params).execute(sql));
+		}
+	}
+
+	/**
+	 * Insert a row into the given database, batching it if that is a {@link
+	 * BatchingTransactional}, and otherwise executing it immediately in its own transaction.
+	 */
+	public static void insert(final Transactional db, final Query query, final Param... params)
+			throws SQLException {
+		insert(db, query, Arrays.asList(params));
+	}
+
+	/**
+	 * The database that the given one writes to, which is itself unless it is a {@link BatchingTransactional}.
+	 */
+	public static Transactional underlying(final Transactional db) {
+		if (db instanceof final BatchingTransactional batching) {
+			return batching.getUnderlying();
+		} else {
+			return db;
+		}
+	}
+
+	@Override
+	public Connection connection() {
+		return connection;
+	}
+
+	@Override
+	public Transaction transaction() {
+		return new Transaction() {
+			@Override
+			public <T> T apply(final SqlFunction<? super Connection, ? extends T> block) throws SQLException {
+				flush();
+				return block.apply(connection);
+			}
+		};
+	}
+
+	/**
+	 * Flush any queued rows and release the prepared statements. This does
+	 * not commit or close the connection.
+	 */
+	@Override
+	public void close() throws SQLException {
+		try {
+			flush();
+		} finally {
+			for (final PendingBatch batch : batches.values()) {
+				batch.statement.close();
+			}
+			batches.clear();
+		}
+	}
+}
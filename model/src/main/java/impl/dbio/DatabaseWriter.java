@@ -18,6 +18,12 @@ public interface DatabaseWriter<Item, Context> {
 	 */
 	void initialize(Transactional db) throws SQLException;
 
+	/**
+	 * Forget that tables have been set up on the given connection, which
+	 * will not be used again.
+	 */
+	void forget(Transactional db);
+
 	/**
 	 * Write an object to the database.
 	 */
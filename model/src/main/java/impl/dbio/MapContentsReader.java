@@ -54,7 +54,8 @@ public interface MapContentsReader {
 	/**
 	 * Run the given method on each row returned by the given query.
 	 *
-	 * FIXME: Provide a version taking a RowParser, for the more common case of 1:1 object-to-row mapping
+	 * Prefer {@link #handleQueryResults(Connection, Warning, String, RowParser, TryBiConsumer, Query)} where
+	 * possible, as this copies every column of every row into a map.
 	 */
 	default void handleQueryResults(final Connection db, final Warning warner, final String description,
 									final TryBiConsumer<Map<String, Object>, Warning, SQLException> handler,
@@ -73,6 +74,28 @@ public interface MapContentsReader {
 		LovelaceLogger.debug("Finished reading %s", description);
 	}
 
+	/**
+	 * Parse each row returned by the given query with the given parser,
+	 * which should read only the columns it needs, and run the given method on
+	 * the result.
+	 */
+	default <Type> void handleQueryResults(final Connection db, final Warning warner, final String description,
+	                                       final RowParser<Type> parser,
+	                                       final TryBiConsumer<Type, Warning, SQLException> handler,
+	                                       final Query query) throws SQLException {
+		LovelaceLogger.debug("About to read %s", description);
+		final Accumulator<Integer> count = new IntAccumulator(0);
+		try (final Stream<Type> stream = query.as(parser.stream(), db)) {
+			stream.forEach(handler.andThen((t, w) -> {
+				count.add(1);
+				if (count.getSum() % READ_LOG_INTERVAL == 0) {
+					LovelaceLogger.debug("Finished reading %d %s", count.getSum(), description);
+				}
+			}).wrappedPartial(warner));
+		}
+		LovelaceLogger.debug("Finished reading %s", description);
+	}
+
 	default void multimapPut(final Map<Integer, List<Object>> mapping, final Integer key, final Object val) {
 		mapping.computeIfAbsent(key, _ -> new ArrayList<>()).add(val);
 	}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBAdventureHandler extends AbstractDatabaseWriter<AdventureFixture, Point>
@@ -50,10 +51,10 @@ public final class DBAdventureHandler extends AbstractDatabaseWriter<AdventureFi
 
 	@Override
 	public void write(final Transactional db, final AdventureFixture obj, final Point context) throws SQLException {
-		INSERT_QUERY.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_QUERY, value("row", context.row()), value("column", context.column()),
 				value("id", obj.getId()), value("brief", obj.getBriefDescription()),
 				value("full", obj.getFullDescription()), value("owner", obj.owner().getPlayerId()),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException>
@@ -28,6 +28,7 @@ import java.util.Objects;
 import java.util.Map;
 import java.util.OptionalInt;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBAnimalHandler extends AbstractDatabaseWriter<AnimalOrTracks, /*Point|IUnit|IWorker*/Object>
@@ -97,9 +98,8 @@ public final class DBAnimalHandler extends AbstractDatabaseWriter<AnimalOrTracks
 		switch (obj) {
 			case final AnimalTracks animalTracks -> {
 				if (context instanceof Point(final int row, final int column)) {
-					INSERT_TRACKS.on(value("row", row), value("column", column),
-									value("kind", obj.getKind()), value("image", animalTracks.getImage()))
-							.execute(db.connection());
+					insert(db, INSERT_TRACKS, value("row", row), value("column", column),
+							value("kind", obj.getKind()), value("image", animalTracks.getImage()));
 				} else {
 					throw new IllegalArgumentException("Animal tracks can't occur inside a unit or worker");
 				}
@@ -122,7 +122,7 @@ public final class DBAnimalHandler extends AbstractDatabaseWriter<AnimalOrTracks
 				params.add(value("count", a.getPopulation()));
 				params.add(value("id", obj.getId()));
 				params.add(value("image", a.getImage()));
-				INSERT_ANIMAL.on(params).execute(db.connection());
+				insert(db, INSERT_ANIMAL, params);
 			}
 			default -> {
 			}
@@ -19,6 +19,7 @@ import legacy.map.IMutableLegacyMap;
 import legacy.map.fixtures.resources.CacheFixture;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBCacheHandler extends AbstractDatabaseWriter<CacheFixture, Point> implements MapContentsReader {
@@ -47,9 +48,9 @@ public final class DBCacheHandler extends AbstractDatabaseWriter<CacheFixture, P
 
 	@Override
 	public void write(final Transactional db, final CacheFixture obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()), value("id", obj.getId()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()), value("id", obj.getId()),
 				value("kind", obj.getKind()), value("contents", obj.getContents()),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readCache(final IMutableLegacyMap map) {
@@ -23,6 +23,7 @@ import legacy.map.fixtures.towns.CommunityStatsImpl;
 import legacy.map.fixtures.towns.ITownFixture;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBCommunityStatsHandler extends AbstractDatabaseWriter<CommunityStats, ITownFixture>
@@ -84,31 +85,28 @@ public final class DBCommunityStatsHandler extends AbstractDatabaseWriter<Commun
 	@Override
 	public void write(final Transactional db, final CommunityStats obj, final ITownFixture context)
 			throws SQLException {
-		db.transaction().accept(sql -> {
-			// TODO: Use batch mode
-			for (final Map.Entry<String, Integer> entry :
-					obj.getHighestSkillLevels().entrySet()) {
-				INSERT_EXPERTISE.on(value("town", context.getId()), value("skill", entry.getKey()),
-						value("level", entry.getValue())).execute(sql);
-			}
-			for (final Integer field : obj.getWorkedFields()) {
-				INSERT_FIELDS.on(value("town", context.getId()), value("resource", field)).execute(sql);
-			}
-			for (final IResourcePile resource : obj.getYearlyProduction()) {
-				INSERT_PRODUCTION.on(value("town", context.getId()), value("id", resource.getId()),
-						value("kind", resource.getKind()), value("contents", resource.getContents()),
-						value("quantity", resource.getQuantity().number().toString()),
-						value("units", resource.getQuantity().units()),
-						value("created", resource.getCreated())).execute(sql);
-			}
-			for (final IResourcePile resource : obj.getYearlyConsumption()) {
-				INSERT_CONSUMPTION.on(value("town", context.getId()), value("id", resource.getId()),
-						value("kind", resource.getKind()), value("contents", resource.getContents()),
-						value("quantity", resource.getQuantity().number().toString()),
-						value("units", resource.getQuantity().units()),
-						value("created", resource.getCreated())).execute(sql);
-			}
-		});
+		for (final Map.Entry<String, Integer> entry :
+				obj.getHighestSkillLevels().entrySet()) {
+			insert(db, INSERT_EXPERTISE, value("town", context.getId()), value("skill", entry.getKey()),
+					value("level", entry.getValue()));
+		}
+		for (final Integer field : obj.getWorkedFields()) {
+			insert(db, INSERT_FIELDS, value("town", context.getId()), value("resource", field));
+		}
+		for (final IResourcePile resource : obj.getYearlyProduction()) {
+			insert(db, INSERT_PRODUCTION, value("town", context.getId()), value("id", resource.getId()),
+					value("kind", resource.getKind()), value("contents", resource.getContents()),
+					value("quantity", resource.getQuantity().number().toString()),
+					value("units", resource.getQuantity().units()),
+					value("created", resource.getCreated()));
+		}
+		for (final IResourcePile resource : obj.getYearlyConsumption()) {
+			insert(db, INSERT_CONSUMPTION, value("town", context.getId()), value("id", resource.getId()),
+					value("kind", resource.getKind()), value("contents", resource.getContents()),
+					value("quantity", resource.getQuantity().number().toString()),
+					value("units", resource.getQuantity().units()),
+					value("created", resource.getCreated()));
+		}
 	}
 
 	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readTownPopulations(
@@ -3,8 +3,8 @@ package legacy.dbio;
 import legacy.map.IFixture;
 import impl.dbio.AbstractDatabaseWriter;
 import impl.dbio.MapContentsReader;
-import impl.dbio.TryBiConsumer;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.Row;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
@@ -21,7 +21,9 @@ import legacy.map.fixtures.resources.CultivationStatus;
 import legacy.map.fixtures.resources.Meadow;
 import common.map.fixtures.resources.FieldStatus;
 import common.xmlio.Warning;
+import org.javatuples.Pair;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBFieldHandler extends AbstractDatabaseWriter<Meadow, Point> implements MapContentsReader {
@@ -56,31 +58,25 @@ public final class DBFieldHandler extends AbstractDatabaseWriter<Meadow, Point>
 
 	@Override
 	public void write(final Transactional db, final Meadow obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
 				value("id", obj.getId()), value("type", obj.getType().toString()),
 				value("kind", obj.getKind()), value("cultivated", obj.getCultivation() == CultivationStatus.CULTIVATED),
 				value("status", obj.getStatus().toString()), value("acres", obj.getAcres().toString()),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
-	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readMeadow(final IMutableLegacyMap map) {
-		return (dbRow, warner) -> {
-			final int row = (Integer) dbRow.get("row");
-			final int column = (Integer) dbRow.get("column");
-			final int id = (Integer) dbRow.get("id");
-			final Meadow.MeadowType type = Meadow.MeadowType.parse((String) dbRow.get("type"));
-			final String kind = (String) dbRow.get("kind");
-			final CultivationStatus cultivation = getBooleanValue(dbRow, "cultivated") ?
-					CultivationStatus.CULTIVATED : CultivationStatus.WILD;
-			final FieldStatus status = FieldStatus.parse((String) dbRow.get("status"));
-			final String image = (String) dbRow.get("image");
-			final Number acres = parseNumber((String) dbRow.get("acres"));
-			final Meadow meadow = new Meadow(kind, type, cultivation, id, status, acres);
-			if (Objects.nonNull(image)) {
-				meadow.setImage(image);
-			}
-			map.addFixture(new Point(row, column), meadow);
-		};
+	private static Pair<Point, Meadow> parseMeadow(final Row dbRow, final Connection sql) throws SQLException {
+		final Meadow.MeadowType type = Meadow.MeadowType.parse(dbRow.getString("type"));
+		final CultivationStatus cultivation = dbRow.getBoolean("cultivated") ?
+				CultivationStatus.CULTIVATED : CultivationStatus.WILD;
+		final FieldStatus status = FieldStatus.parse(dbRow.getString("status"));
+		final Meadow meadow = new Meadow(dbRow.getString("kind"), type, cultivation, dbRow.getInt("id"), status,
+				parseNumber(dbRow.getString("acres")));
+		final String image = dbRow.getString("image");
+		if (Objects.nonNull(image)) {
+			meadow.setImage(image);
+		}
+		return Pair.with(new Point(dbRow.getInt("row"), dbRow.getInt("column")), meadow);
 	}
 
 	private static final Query SELECT = Query.of("SELECT * FROM fields");
@@ -89,6 +85,7 @@ public final class DBFieldHandler extends AbstractDatabaseWriter<Meadow, Point>
 	public void readMapContents(final Connection db, final IMutableLegacyMap map,
 	                            final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees,
 	                            final Warning warner) throws SQLException {
-		handleQueryResults(db, warner, "meadows", readMeadow(map), SELECT);
+		handleQueryResults(db, warner, "meadows", DBFieldHandler::parseMeadow,
+				(located, _) -> map.addFixture(located.getValue0(), located.getValue1()), SELECT);
 	}
 }
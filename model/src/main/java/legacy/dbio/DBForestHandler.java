@@ -3,8 +3,8 @@ package legacy.dbio;
 import legacy.map.IFixture;
 import impl.dbio.AbstractDatabaseWriter;
 import impl.dbio.MapContentsReader;
-import impl.dbio.TryBiConsumer;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.Row;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
@@ -19,7 +19,9 @@ import legacy.map.Point;
 import legacy.map.IMutableLegacyMap;
 import legacy.map.fixtures.terrain.Forest;
 import common.xmlio.Warning;
+import org.javatuples.Pair;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBForestHandler extends AbstractDatabaseWriter<Forest, Point> implements MapContentsReader {
@@ -49,26 +51,19 @@ public final class DBForestHandler extends AbstractDatabaseWriter<Forest, Point>
 
 	@Override
 	public void write(final Transactional db, final Forest obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
 				value("id", obj.getId()), value("kind", obj.getKind()), value("rows", obj.isRows()),
-				value("acres", obj.getAcres().toString()), value("image", obj.getImage())).execute(db.connection());
+				value("acres", obj.getAcres().toString()), value("image", obj.getImage()));
 	}
 
-	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readForest(final IMutableLegacyMap map) {
-		return (dbRow, warner) -> {
-			final int row = (Integer) dbRow.get("row");
-			final int column = (Integer) dbRow.get("column");
-			final int id = (Integer) dbRow.get("id");
-			final String kind = (String) dbRow.get("kind");
-			final boolean rows = getBooleanValue(dbRow, "rows");
-			final String image = (String) dbRow.get("image");
-			final Number acres = parseNumber((String) dbRow.get("acres"));
-			final Forest forest = new Forest(kind, rows, id, acres);
-			if (Objects.nonNull(image)) {
-				forest.setImage(image);
-			}
-			map.addFixture(new Point(row, column), forest);
-		};
+	private static Pair<Point, Forest> parseForest(final Row dbRow, final Connection sql) throws SQLException {
+		final Forest forest = new Forest(dbRow.getString("kind"), dbRow.getBoolean("rows"), dbRow.getInt("id"),
+				parseNumber(dbRow.getString("acres")));
+		final String image = dbRow.getString("image");
+		if (Objects.nonNull(image)) {
+			forest.setImage(image);
+		}
+		return Pair.with(new Point(dbRow.getInt("row"), dbRow.getInt("column")), forest);
 	}
 
 	private static final Query SELECT = Query.of("SELECT * FROM forests");
@@ -77,6 +72,7 @@ public final class DBForestHandler extends AbstractDatabaseWriter<Forest, Point>
 	public void readMapContents(final Connection db, final IMutableLegacyMap map,
 	                            final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees,
 	                            final Warning warner) throws SQLException {
-		handleQueryResults(db, warner, "forests", readForest(map), SELECT);
+		handleQueryResults(db, warner, "forests", DBForestHandler::parseForest,
+				(located, _) -> map.addFixture(located.getValue0(), located.getValue1()), SELECT);
 	}
 }
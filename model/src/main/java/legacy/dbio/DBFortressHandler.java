@@ -24,6 +24,7 @@ import common.xmlio.Warning;
 import legacy.map.fixtures.FortressMember;
 import org.jspecify.annotations.Nullable;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBFortressHandler extends AbstractDatabaseWriter<IFortress, Point> implements MapContentsReader {
@@ -61,11 +62,10 @@ public final class DBFortressHandler extends AbstractDatabaseWriter<IFortress, P
 
 	@Override
 	public void write(final Transactional db, final IFortress obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
-						value("owner", obj.owner().getPlayerId()), value("name", obj.getName()),
-						value("size", obj.getTownSize().toString()), value("id", obj.getId()),
-						value("image", obj.getImage()), value("portrait", obj.getPortrait()))
-				.execute(db.connection());
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
+				value("owner", obj.owner().getPlayerId()), value("name", obj.getName()),
+				value("size", obj.getTownSize().toString()), value("id", obj.getId()),
+				value("image", obj.getImage()), value("portrait", obj.getPortrait()));
 		for (final FortressMember member : obj) {
 			Objects.requireNonNull(parent).writeSPObjectInContext(db, member, obj);
 		}
@@ -3,8 +3,8 @@ package legacy.dbio;
 import legacy.map.IFixture;
 import impl.dbio.AbstractDatabaseWriter;
 import impl.dbio.MapContentsReader;
-import impl.dbio.TryBiConsumer;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.Row;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
@@ -18,8 +18,10 @@ import legacy.map.Point;
 import legacy.map.IMutableLegacyMap;
 import legacy.map.fixtures.Ground;
 import common.xmlio.Warning;
+import org.javatuples.Pair;
 import legacy.map.fixtures.resources.ExposureStatus;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBGroundHandler extends AbstractDatabaseWriter<Ground, Point> implements MapContentsReader {
@@ -49,27 +51,21 @@ public final class DBGroundHandler extends AbstractDatabaseWriter<Ground, Point>
 
 	@Override
 	public void write(final Transactional db, final Ground obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
 				value("id", obj.getId()), value("kind", obj.getKind()),
 				value("exposed", obj.getExposure() == ExposureStatus.EXPOSED),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
-	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readGround(final IMutableLegacyMap map) {
-		return (dbRow, warner) -> {
-			final int row = (Integer) dbRow.get("row");
-			final int column = (Integer) dbRow.get("column");
-			final int id = (Integer) dbRow.get("id");
-			final String kind = (String) dbRow.get("kind");
-			final ExposureStatus exposed = getBooleanValue(dbRow, "exposed") ? ExposureStatus.EXPOSED :
-					ExposureStatus.HIDDEN;
-			final String image = (String) dbRow.get("image");
-			final Ground ground = new Ground(id, kind, exposed);
-			if (Objects.nonNull(image)) {
-				ground.setImage(image);
-			}
-			map.addFixture(new Point(row, column), ground);
-		};
+	private static Pair<Point, Ground> parseGround(final Row dbRow, final Connection sql) throws SQLException {
+		final ExposureStatus exposed = dbRow.getBoolean("exposed") ? ExposureStatus.EXPOSED :
+				ExposureStatus.HIDDEN;
+		final Ground ground = new Ground(dbRow.getInt("id"), dbRow.getString("kind"), exposed);
+		final String image = dbRow.getString("image");
+		if (Objects.nonNull(image)) {
+			ground.setImage(image);
+		}
+		return Pair.with(new Point(dbRow.getInt("row"), dbRow.getInt("column")), ground);
 	}
 
 	private static final Query SELECT = Query.of("SELECT * FROM ground");
@@ -78,6 +74,7 @@ public final class DBGroundHandler extends AbstractDatabaseWriter<Ground, Point>
 	public void readMapContents(final Connection db, final IMutableLegacyMap map,
 	                            final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees,
 	                            final Warning warner) throws SQLException {
-		handleQueryResults(db, warner, "ground", readGround(map), SELECT);
+		handleQueryResults(db, warner, "ground", DBGroundHandler::parseGround,
+				(located, _) -> map.addFixture(located.getValue0(), located.getValue1()), SELECT);
 	}
 }
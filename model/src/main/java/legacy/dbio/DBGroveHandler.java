@@ -3,8 +3,8 @@ package legacy.dbio;
 import legacy.map.IFixture;
 import impl.dbio.AbstractDatabaseWriter;
 import impl.dbio.MapContentsReader;
-import impl.dbio.TryBiConsumer;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.Row;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
@@ -19,7 +19,9 @@ import legacy.map.IMutableLegacyMap;
 import legacy.map.fixtures.resources.CultivationStatus;
 import legacy.map.fixtures.resources.Grove;
 import common.xmlio.Warning;
+import org.javatuples.Pair;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBGroveHandler extends AbstractDatabaseWriter<Grove, Point> implements MapContentsReader {
@@ -51,29 +53,23 @@ public final class DBGroveHandler extends AbstractDatabaseWriter<Grove, Point> i
 
 	@Override
 	public void write(final Transactional db, final Grove obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
 				value("id", obj.getId()), value("type", obj.getType().toString()),
 				value("kind", obj.getKind()), value("cultivated", obj.getCultivation() == CultivationStatus.CULTIVATED),
-				value("count", obj.getPopulation()), value("image", obj.getImage())).execute(db.connection());
+				value("count", obj.getPopulation()), value("image", obj.getImage()));
 	}
 
-	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readGrove(final IMutableLegacyMap map) {
-		return (dbRow, warner) -> {
-			final int row = (Integer) dbRow.get("row");
-			final int column = (Integer) dbRow.get("column");
-			final int id = (Integer) dbRow.get("id");
-			final String kind = (String) dbRow.get("kind");
-			final boolean cultivated = getBooleanValue(dbRow, "cultivated");
-			final int count = (Integer) dbRow.get("count");
-			final String image = (String) dbRow.get("image");
-			final Grove.GroveType type = Grove.GroveType.parse((String) dbRow.get("type"));
-			final Grove grove = new Grove(type, cultivated ? CultivationStatus.CULTIVATED : CultivationStatus.WILD,
-					kind, id, count);
-			if (Objects.nonNull(image)) {
-				grove.setImage(image);
-			}
-			map.addFixture(new Point(row, column), grove);
-		};
+	private static Pair<Point, Grove> parseGrove(final Row dbRow, final Connection sql) throws SQLException {
+		final Grove.GroveType type = Grove.GroveType.parse(dbRow.getString("type"));
+		final CultivationStatus cultivation = dbRow.getBoolean("cultivated") ? CultivationStatus.CULTIVATED :
+				CultivationStatus.WILD;
+		final Grove grove = new Grove(type, cultivation, dbRow.getString("kind"), dbRow.getInt("id"),
+				dbRow.getInt("count"));
+		final String image = dbRow.getString("image");
+		if (Objects.nonNull(image)) {
+			grove.setImage(image);
+		}
+		return Pair.with(new Point(dbRow.getInt("row"), dbRow.getInt("column")), grove);
 	}
 
 	private static final Query SELECT = Query.of("SELECT * FROM groves");
@@ -82,6 +78,7 @@ public final class DBGroveHandler extends AbstractDatabaseWriter<Grove, Point> i
 	public void readMapContents(final Connection db, final IMutableLegacyMap map,
 	                            final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees,
 	                            final Warning warner) throws SQLException {
-		handleQueryResults(db, warner, "groves", readGrove(map), SELECT);
+		handleQueryResults(db, warner, "groves", DBGroveHandler::parseGrove,
+				(located, _) -> map.addFixture(located.getValue0(), located.getValue1()), SELECT);
 	}
 }
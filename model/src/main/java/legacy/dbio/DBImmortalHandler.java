@@ -38,6 +38,7 @@ import legacy.map.fixtures.mobile.Troll;
 import legacy.map.fixtures.mobile.ImmortalAnimal;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBImmortalHandler extends AbstractDatabaseWriter<Immortal, /*Point|IUnit*/ Object>
@@ -118,6 +119,7 @@ public final class DBImmortalHandler extends AbstractDatabaseWriter<Immortal, /*
 	@Override
 	public void write(final Transactional db, final Immortal obj, final Object context) throws SQLException {
 		if (obj instanceof SimpleImmortal || obj instanceof ImmortalAnimal) {
+			// Not batched, because we need to see constraint failures (from an old schema) right away.
 			try {
 				switch (context) {
 					case final Point p -> INSERT_SIMPLE.on(value("row", p.row()),
@@ -151,14 +153,14 @@ public final class DBImmortalHandler extends AbstractDatabaseWriter<Immortal, /*
 				default -> throw new IllegalArgumentException("Unexpected immortal type");
 			};
 			switch (context) {
-				case final Point p -> INSERT_KINDED.on(value("row", p.row()),
+				case final Point p -> insert(db, INSERT_KINDED, value("row", p.row()),
 						value("column", p.column()),
 						value("type", type), value("kind", ((HasKind) obj).getKind()),
-						value("id", obj.getId()), value("image", ((HasImage) obj).getImage())).execute(db.connection());
-				case final IUnit u -> INSERT_KINDED.on(
+						value("id", obj.getId()), value("image", ((HasImage) obj).getImage()));
+				case final IUnit u -> insert(db, INSERT_KINDED,
 						value("parent", u.getId()), value("type", type),
 						value("kind", ((HasKind) obj).getKind()), value("id", obj.getId()),
-						value("image", ((HasImage) obj).getImage())).execute(db.connection());
+						value("image", ((HasImage) obj).getImage()));
 				default -> throw new IllegalArgumentException("context must be Point or IUnit");
 			}
 		}
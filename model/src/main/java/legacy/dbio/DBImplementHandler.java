@@ -21,6 +21,7 @@ import legacy.map.fixtures.towns.IFortress;
 import common.xmlio.Warning;
 import legacy.map.IFixture;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBImplementHandler extends AbstractDatabaseWriter<Implement, /*IUnit|IFortress|IWorker*/IFixture>
@@ -54,9 +55,9 @@ public final class DBImplementHandler extends AbstractDatabaseWriter<Implement,
 
 	@Override
 	public void write(final Transactional db, final Implement obj, final IFixture context) throws SQLException {
-		INSERT_SQL.on(value("parent", context.getId()), value("id", obj.getId()),
+		insert(db, INSERT_SQL, value("parent", context.getId()), value("id", obj.getId()),
 				value("kind", obj.getKind()), value("count", obj.getCount()),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
 	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readImplement(
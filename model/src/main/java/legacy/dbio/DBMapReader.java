@@ -13,6 +13,7 @@ import legacy.map.ILegacyMap;
 import legacy.map.IMutableLegacyMap;
 import legacy.map.IMutableLegacyPlayerCollection;
 import legacy.map.LegacyMap;
+import legacy.map.LegacyMapFactory;
 import legacy.map.LegacyPlayerCollection;
 import legacy.map.MapDimensionsImpl;
 import legacy.map.MutablePlayer;
@@ -20,6 +21,7 @@ import legacy.map.Player;
 import legacy.map.PlayerImpl;
 import legacy.map.Point;
 import legacy.map.River;
+import legacy.map.TileFixture;
 import legacy.map.TileType;
 import legacy.map.fixtures.FortressMember;
 import legacy.map.fixtures.Implement;
@@ -42,23 +44,55 @@ import org.javatuples.Triplet;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 public final class DBMapReader {
 	private static final int TERRAIN_LOG_INTERVAL = 50;
 	// FIXME: Passing null when we don't want to construct the parent object is a *really* bad idea!
-	private final List<MapContentsReader> readers = List.of(new DBPlayerHandler(), new DBCacheHandler(),
+	/**
+	 * The reader for players, which must run before the other readers.
+	 */
+	private final MapContentsReader playerReader = new DBPlayerHandler();
+
+	// FIXME: Passing null when we don't want to construct the parent object is a *really* bad idea!
+	private final List<MapContentsReader> readers = List.of(new DBCacheHandler(),
 			new DBExplorableHandler(), new DBFieldHandler(), new DBFortressHandler(null), new DBUnitHandler(null),
 			new DBGroundHandler(), new DBGroveHandler(), new DBImmortalHandler(), new DBImplementHandler(),
 			new DBMineralHandler(), new DBMineHandler(), new DBPortalHandler(), new DBShrubHandler(),
 			new DBSimpleTerrainHandler(), new DBTextHandler(), new DBTownHandler(), new DBVillageHandler(),
-			new DBResourcePileHandler(), new DBAnimalHandler(), new DBCommunityStatsHandler(), new DBWorkerHandler(),
+			new DBResourcePileHandler(), new DBAnimalHandler(), new DBWorkerHandler(),
 			new DBAdventureHandler(), new DBForestHandler());
 
+	/**
+	 * Readers that fill in what other readers have read (the community
+	 * stats that the town and village readers put in {@link #containees}),
+	 * and so must run after all of those have finished and been merged.
+	 */
+	private final List<MapContentsReader> laterReaders = List.of(new DBCommunityStatsHandler());
+
+	/**
+	 * How to construct the map being read.
+	 */
+	private final LegacyMapFactory mapFactory;
+
+	public DBMapReader(final LegacyMapFactory mapFactory) {
+		this.mapFactory = mapFactory;
+	}
+
+	public DBMapReader() {
+		this(LegacyMap::new);
+	}
+
 	private final Map<Integer, IFixture> containers = new HashMap<>();
 	private final Map<Integer, List<Object>> containees = new HashMap<>();
 
@@ -117,6 +151,139 @@ public final class DBMapReader {
 		return Pair.with(new Point(row.getInt("row"), row.getInt("column")), row.getInt("player"));
 	}
 
+	private static void readContents(final Connection conn, final MapContentsReader reader,
+	                                 final IMutableLegacyMap map, final Map<Integer, IFixture> containers,
+	                                 final Map<Integer, List<Object>> containees, final Warning warner)
+			throws SQLException {
+		// Ignore no-such-table exceptions, but propagate all others
+		try {
+			reader.readMapContents(conn, map, containers, containees, warner);
+		} catch (final RuntimeException | SQLException exception) {
+			if (!exception.getMessage().contains("no such table")) {
+				throw exception;
+			}
+		}
+	}
+
+	/**
+	 * The results of one reader, kept apart from those of the others until all have finished.
+	 */
+	private static final class Stage {
+		private final MapContentsReader reader;
+
+		/**
+		 * The map the reader adds fixtures to. This is only one tile in
+		 * size, so that iterating over it visits little more than the tiles
+		 * the reader put something in.
+		 */
+		private final IMutableLegacyMap map;
+
+		private final Map<Integer, IFixture> containers = new HashMap<>();
+		private final Map<Integer, List<Object>> containees = new HashMap<>();
+
+		/**
+		 * Warnings from the reader, to be passed on (in order) once it has finished.
+		 */
+		private final List<Throwable> warnings = new ArrayList<>();
+
+		public Stage(final MapContentsReader reader, final ILegacyMap target) {
+			this.reader = reader;
+			final IMutableLegacyPlayerCollection players = new LegacyPlayerCollection();
+			for (final Player player : target.getPlayers()) {
+				players.add(player);
+			}
+			map = new LegacyMap(new MapDimensionsImpl(1, 1, target.getDimensions().version()), players,
+					target.getCurrentTurn());
+		}
+
+		public void read(final Connection conn) throws SQLException {
+			readContents(conn, reader, map, containers, containees, new Warning(warnings::add));
+		}
+
+		private static boolean hasPlayer(final ILegacyMap map, final int id) {
+			for (final Player player : map.getPlayers()) {
+				if (player.getPlayerId() == id) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public void mergeInto(final IMutableLegacyMap target, final Map<Integer, IFixture> allContainers,
+		                      final Map<Integer, List<Object>> allContainees, final Warning warner) {
+			warnings.forEach(warner::handle);
+			// The reader may have encountered references to players not in the players table.
+			for (final Player player : map.getPlayers()) {
+				if (!hasPlayer(target, player.getPlayerId())) {
+					target.addPlayer(player);
+				}
+			}
+			for (final Point location : map.getLocations()) {
+				for (final TileFixture fixture : map.getFixtures(location)) {
+					target.addFixture(location, fixture);
+				}
+			}
+			allContainers.putAll(containers);
+			for (final Map.Entry<Integer, List<Object>> entry : containees.entrySet()) {
+				allContainees.computeIfAbsent(entry.getKey(), _ -> new ArrayList<>()).addAll(entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Run the readers concurrently, each on a connection of its own, with
+	 * no more threads than there are available cores. Each reader's results
+	 * are kept apart until all have finished, and then merged into the map in
+	 * the order the readers are listed, so that the result is the same as if
+	 * they had been run one after another.
+	 *
+	 * @param first A connection, not otherwise in use, for the first thread to use
+	 */
+	private void readConcurrently(final Transactional db, final Connection first, final IMutableLegacyMap map,
+	                              final Warning warner) throws SQLException {
+		final List<Stage> stages = new ArrayList<>(readers.size());
+		for (final MapContentsReader reader : readers) {
+			stages.add(new Stage(reader, map));
+		}
+		final AtomicInteger next = new AtomicInteger(0);
+		final int threads = Math.min(readers.size(), Runtime.getRuntime().availableProcessors());
+		LovelaceLogger.debug("Reading %d tables on %d threads", readers.size(), threads);
+		final List<Future<@Nullable Void>> futures = new ArrayList<>(threads);
+		try (final ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int i = 0; i < threads; i++) {
+				final boolean useFirst = i == 0;
+				futures.add(executor.submit(() -> {
+					try (final Connection conn = useFirst ? first : db.connection()) {
+						for (int index = next.getAndIncrement(); index < stages.size();
+						     index = next.getAndIncrement()) {
+							stages.get(index).read(conn);
+						}
+					}
+					return null;
+				}));
+			}
+			for (final Future<@Nullable Void> future : futures) {
+				try {
+					future.get();
+				} catch (final InterruptedException except) {
+					Thread.currentThread().interrupt();
+					throw new SQLException("Interrupted while reading map contents", except);
+				} catch (final ExecutionException except) {
+					switch (except.getCause()) {
+						case final SQLException cause -> throw cause;
+						case final RuntimeException cause -> throw cause;
+						case final Error cause -> throw cause;
+						case null, default -> throw new SQLException(except.getCause());
+					}
+				}
+			}
+		}
+		LovelaceLogger.debug("Finished reading tables, about to merge results");
+		for (final Stage stage : stages) {
+			stage.mergeInto(map, containers, containees, warner);
+		}
+	}
+
 	public IMutableLegacyMap readMap(final Transactional db, final Warning warner) throws SQLException {
 		final Connection conn = db.connection();
 		final Quartet<Integer, Integer, Integer, Integer> metadata =
@@ -141,7 +308,7 @@ public final class DBMapReader {
 		}
 		LovelaceLogger.debug("Finished reading players, about to start on terrain");
 		final IMutableLegacyMap retval =
-				new LegacyMap(new MapDimensionsImpl(rows, columns, version), players, turn);
+				mapFactory.create(new MapDimensionsImpl(rows, columns, version), players, turn);
 		final Accumulator<Integer> count = new IntAccumulator(0);
 		final RowParser<Triplet<Point, @Nullable TileType, Sextet<Boolean, Boolean, Boolean, Boolean, Boolean, Boolean>>> terrainParser = DBMapReader::parseTerrain;
 		try (final var terrainStream = TERRAIN_SELECT.as(terrainParser.stream(), conn)) {
@@ -192,15 +359,18 @@ public final class DBMapReader {
 							 conn)) {
 			bStream.forEach(p -> retval.addBookmark(p.getValue0(), players.getPlayer(p.getValue1())));
 		}
-		for (final MapContentsReader reader : readers) {
-			// Ignore no-such-table exceptions, but propagate all others
-			try {
-				reader.readMapContents(conn, retval, containers, containees, warner);
-			} catch (final RuntimeException | SQLException exception) {
-				if (!exception.getMessage().contains("no such table")) {
-					throw exception;
-				}
+		readContents(conn, playerReader, retval, containers, containees, warner);
+		final Connection second = db.connection();
+		if (second == conn) {
+			LovelaceLogger.debug("Database only provides one connection, so reading tables one at a time");
+			for (final MapContentsReader reader : readers) {
+				readContents(conn, reader, retval, containers, containees, warner);
 			}
+		} else {
+			readConcurrently(db, second, retval, warner);
+		}
+		for (final MapContentsReader reader : laterReaders) {
+			readContents(conn, reader, retval, containers, containees, warner);
 		}
 		LovelaceLogger.debug("Finished reading the map except adding members to parents");
 
@@ -3,24 +3,34 @@ package legacy.dbio;
 import legacy.map.TileType;
 import impl.dbio.AbstractDatabaseWriter;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.RowParser;
 import io.jenetics.facilejdbc.Transactional;
 
-import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import legacy.map.IFixture;
 import legacy.map.IMutableLegacyMap;
 import legacy.map.ILegacyMap;
+import legacy.map.MapChanges;
 import legacy.map.River;
 import legacy.map.Player;
 import legacy.map.Direction;
 import legacy.map.TileFixture;
 import legacy.map.Point;
+import legacy.map.fixtures.FixtureIterable;
 import lovelace.util.LovelaceLogger;
+import org.javatuples.Pair;
+import org.jspecify.annotations.Nullable;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBMapWriter extends AbstractDatabaseWriter<IMutableLegacyMap, ILegacyMap> {
@@ -94,47 +104,194 @@ public final class DBMapWriter extends AbstractDatabaseWriter<IMutableLegacyMap,
 	private static final Query INSERT_METADATA = Query.of(
 			"INSERT INTO metadata (version, rows, columns, current_turn) VALUES(:version, :rows, :columns, :turn);");
 
-	@Override
-	public void write(final Transactional db, final IMutableLegacyMap obj, final ILegacyMap context)
-			throws SQLException {
-		final Connection conn = db.connection(); // TODO: work inside a transaction instead, surely?
+	/**
+	 * A table holding fixtures, or data about them or about tiles: whether
+	 * it has "row" and "column" columns, for things directly on a tile;
+	 * the column, if any, holding the ID of the fixture that contains each
+	 * row's fixture; and whether it has an "id" column.
+	 */
+	private record FixtureTable(String name, boolean located, @Nullable String parentColumn, boolean hasId) {
+	}
+
+	/**
+	 * Every table that holds data about tiles or fixtures, so that we can
+	 * clear them before writing a whole map, or delete what has changed
+	 * before writing only that.
+	 */
+	private static final List<FixtureTable> FIXTURE_TABLES = List.of(
+			new FixtureTable("terrain", true, null, false),
+			new FixtureTable("bookmarks", true, null, false),
+			new FixtureTable("roads", true, null, false),
+			new FixtureTable("tracks", true, null, false),
+			new FixtureTable("text_notes", true, null, false),
+			new FixtureTable("adventures", true, null, true),
+			new FixtureTable("caches", true, null, true),
+			new FixtureTable("caves", true, null, true),
+			new FixtureTable("battlefields", true, null, true),
+			new FixtureTable("fields", true, null, true),
+			new FixtureTable("forests", true, null, true),
+			new FixtureTable("fortresses", true, null, true),
+			new FixtureTable("ground", true, null, true),
+			new FixtureTable("groves", true, null, true),
+			new FixtureTable("mines", true, null, true),
+			new FixtureTable("minerals", true, null, true),
+			new FixtureTable("portals", true, null, true),
+			new FixtureTable("shrubs", true, null, true),
+			new FixtureTable("simple_terrain", true, null, true),
+			new FixtureTable("towns", true, null, true),
+			new FixtureTable("villages", true, null, true),
+			new FixtureTable("animals", true, "parent", true),
+			new FixtureTable("simple_immortals", true, "parent", true),
+			new FixtureTable("kinded_immortals", true, "parent", true),
+			new FixtureTable("units", true, "parent", true),
+			new FixtureTable("implements", false, "parent", true),
+			new FixtureTable("resource_piles", false, "parent", true),
+			new FixtureTable("workers", false, "unit", true),
+			new FixtureTable("orders", false, "unit", false),
+			new FixtureTable("results", false, "unit", false),
+			new FixtureTable("worker_job_levels", false, "worker", false),
+			new FixtureTable("worker_skill_levels", false, "worker", false),
+			new FixtureTable("town_expertise", false, "town", false),
+			new FixtureTable("town_worked_resources", false, "town", false),
+			new FixtureTable("town_production", false, "town", true),
+			new FixtureTable("town_consumption", false, "town", true),
+			new FixtureTable("notes", false, "fixture", false));
+
+	/**
+	 * Tables holding data about the map as a whole, rather than about any particular tile.
+	 */
+	private static final List<String> MAP_TABLES = List.of("metadata", "players");
+
+	private static final List<Query> CHANGE_INITIALIZERS = List.of(
+			Query.of("CREATE TEMP TABLE IF NOT EXISTS changed_tiles (" +
+					"    row INTEGER NOT NULL," +
+					"    column INTEGER NOT NULL" +
+					");"),
+			Query.of("CREATE TEMP TABLE IF NOT EXISTS changed_fixtures (" +
+					"    row INTEGER NOT NULL," +
+					"    column INTEGER NOT NULL," +
+					"    id INTEGER NOT NULL" +
+					");"),
+			Query.of("CREATE TEMP TABLE IF NOT EXISTS doomed (" +
+					"    id INTEGER PRIMARY KEY" +
+					");"),
+			Query.of("DELETE FROM temp.changed_tiles"),
+			Query.of("DELETE FROM temp.changed_fixtures"),
+			Query.of("DELETE FROM temp.doomed"));
+
+	private static final Query INSERT_CHANGED_TILE =
+			Query.of("INSERT INTO temp.changed_tiles (row, column) VALUES(:row, :column)");
+
+	private static final Query INSERT_CHANGED_FIXTURE =
+			Query.of("INSERT INTO temp.changed_fixtures (row, column, id) VALUES(:row, :column, :id)");
+
+	/**
+	 * An SQL condition matching the rows of the given table that are on a
+	 * changed tile or are a changed fixture. Each part is wrapped in
+	 * {@code coalesce()} because rows for contained fixtures have NULL
+	 * locations, and NOT NULL is not true.
+	 */
+	private static String locatedCondition(final FixtureTable table) {
+		if (table.hasId()) {
+			return "coalesce((row, column) IN (SELECT row, column FROM temp.changed_tiles), 0) OR " +
+					"coalesce((row, column, id) IN (SELECT row, column, id FROM temp.changed_fixtures), 0)";
+		} else {
+			return "coalesce((row, column) IN (SELECT row, column FROM temp.changed_tiles), 0)";
+		}
+	}
+
+	/**
+	 * An SQL condition matching the rows of the given table that belong to
+	 * something being deleted, once {@code temp.doomed} holds the IDs of
+	 * every fixture to be deleted.
+	 */
+	private static String doomedCondition(final FixtureTable table) {
+		final List<String> parts = new ArrayList<>(2);
+		if (table.located()) {
+			parts.add(locatedCondition(table));
+		}
+		if (Objects.nonNull(table.parentColumn())) {
+			parts.add("coalesce(%s IN (SELECT id FROM temp.doomed), 0)".formatted(table.parentColumn()));
+		}
+		return String.join(" OR ", parts);
+	}
+
+	/**
+	 * Delete every row in every table of map contents, so that writing a
+	 * map replaces, rather than adds to, anything already in the database.
+	 */
+	private void clear(final Transactional db) throws SQLException {
+		parent.initializeAll(db);
+		db.transaction().accept(sql -> {
+			for (final String table : MAP_TABLES) {
+				Query.of("DELETE FROM " + table).execute(sql);
+			}
+			for (final FixtureTable table : FIXTURE_TABLES) {
+				Query.of("DELETE FROM " + table.name()).execute(sql);
+			}
+		});
+	}
+
+	/**
+	 * Write the metadata and players of the map.
+	 */
+	private void writeMetadata(final Transactional db, final ILegacyMap obj) throws SQLException {
 		// Assignment to static field is deliberate
 		//noinspection AssignmentToStaticFieldFromInstanceMethod
 		currentTurn = obj.getCurrentTurn();
-		INSERT_METADATA.on(value("version", obj.getDimensions().version()),
+		insert(db, INSERT_METADATA, value("version", obj.getDimensions().version()),
 				value("rows", obj.getDimensions().rows()),
 				value("columns", obj.getDimensions().columns()),
-				value("turn", currentTurn)).execute(conn);
+				value("turn", currentTurn));
 		playerWriter.initialize(db);
 		for (final Player player : obj.getPlayers()) {
 			playerWriter.write(db, player, obj);
 		}
+	}
+
+	/**
+	 * Write the terrain, fixtures, bookmarks, and roads at a location.
+	 *
+	 * @return the number of fixtures written
+	 */
+	private int writeTile(final Transactional db, final ILegacyMap obj, final Point location)
+			throws SQLException {
+		final Collection<River> rivers = obj.getRivers(location);
+		insert(db, INSERT_TERRAIN, value("row", location.row()), value("column", location.column()),
+				value("terrain", Optional.ofNullable(obj.getBaseTerrain(location))
+						.map(TileType::getXml).orElse("")),
+				value("mountain", obj.isMountainous(location)),
+				value("north", rivers.contains(River.North)),
+				value("south", rivers.contains(River.South)),
+				value("east", rivers.contains(River.East)),
+				value("west", rivers.contains(River.West)),
+				value("lake", rivers.contains(River.Lake)));
+		int fixtureCount = 0;
+		for (final TileFixture fixture : obj.getFixtures(location)) {
+			parent.writeSPObjectInContext(db, fixture, location);
+			fixtureCount++;
+		}
+		for (final Player player : obj.getAllBookmarks(location)) {
+			insert(db, INSERT_BOOKMARK, value("row", location.row()), value("column", location.column()),
+					value("player", player.getPlayerId()));
+		}
+		for (final Map.Entry<Direction, Integer> entry : obj.getRoads(location).entrySet()) {
+			insert(db, INSERT_ROADS, value("row", location.row()), value("column", location.column()),
+					value("direction", entry.getKey().toString()),
+					value("quality", entry.getValue()));
+		}
+		return fixtureCount;
+	}
+
+	@Override
+	public void write(final Transactional db, final IMutableLegacyMap obj, final ILegacyMap context)
+			throws SQLException {
+		clear(db);
+		writeMetadata(db, obj);
 		int count = 0;
 		int fixtureCount = 0;
 		for (final Point location : obj.getLocations()) {
-			final Collection<River> rivers = obj.getRivers(location);
-			INSERT_TERRAIN.on(value("row", location.row()), value("column", location.column()),
-					value("terrain", Optional.ofNullable(obj.getBaseTerrain(location))
-							.map(TileType::getXml).orElse("")),
-					value("mountain", obj.isMountainous(location)),
-					value("north", rivers.contains(River.North)),
-					value("south", rivers.contains(River.South)),
-					value("east", rivers.contains(River.East)),
-					value("west", rivers.contains(River.West)),
-					value("lake", rivers.contains(River.Lake))).execute(conn);
-			for (final TileFixture fixture : obj.getFixtures(location)) {
-				parent.writeSPObjectInContext(db, fixture, location);
-				fixtureCount++;
-			}
-			for (final Player player : obj.getAllBookmarks(location)) {
-				INSERT_BOOKMARK.on(value("row", location.row()), value("column", location.column()),
-						value("player", player.getPlayerId())).execute(conn);
-			}
-			for (final Map.Entry<Direction, Integer> entry : obj.getRoads(location).entrySet()) {
-				INSERT_ROADS.on(value("row", location.row()), value("column", location.column()),
-						value("direction", entry.getKey().toString()),
-						value("quality", entry.getValue())).execute(conn);
-			}
+			fixtureCount += writeTile(db, obj, location);
 			count++;
 			if (count % FIXTURE_WRITE_LOG_INTERVAL == 0) {
 				LovelaceLogger.debug("Wrote %d points with %d fixtures so far",
@@ -142,4 +299,128 @@ public final class DBMapWriter extends AbstractDatabaseWriter<IMutableLegacyMap,
 			}
 		}
 	}
+
+	/**
+	 * Whether the given fixture, or anything it (perhaps indirectly) contains, is among the given fixtures.
+	 */
+	private static boolean containsAny(final IFixture fixture, final Collection<IFixture> changed) {
+		if (changed.contains(fixture)) {
+			return true;
+		} else if (fixture instanceof final FixtureIterable<?> iter) {
+			for (final IFixture member : iter) {
+				if (containsAny(member, changed)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Write to the database only what has {@link ILegacyMap#getChanges
+	 * changed} in the map, which the caller guarantees has not changed in
+	 * any other way since it was last read from or written to this
+	 * database. Every row for each changed tile is deleted and rewritten;
+	 * a fixture changed in place, on a tile that has not otherwise
+	 * changed, is deleted and rewritten on its own, along with everything
+	 * it contains. Metadata and players are always rewritten.
+	 *
+	 * Rows for fixtures inside others are tied to their container only by
+	 * its ID, so if deleting what has changed would also delete rows
+	 * belonging to some other fixture sharing an ID with something being
+	 * deleted, this changes nothing and returns false, and the caller
+	 * should write the whole map instead.
+	 *
+	 * @return whether the changes were written
+	 */
+	public boolean writeChanges(final Transactional db, final ILegacyMap obj) throws SQLException {
+		final MapChanges changes = obj.getChanges();
+		final Set<Point> tiles = new LinkedHashSet<>(changes.getChangedLocations());
+		final List<Pair<Point, TileFixture>> fixtures = new ArrayList<>();
+		final Collection<IFixture> changed = changes.getChangedFixtures();
+		if (!changed.isEmpty()) {
+			for (final Point location : obj.getLocations()) {
+				if (tiles.contains(location)) {
+					continue;
+				}
+				final Collection<TileFixture> local = obj.getFixtures(location);
+				for (final TileFixture fixture : local) {
+					if (!containsAny(fixture, changed)) {
+						continue;
+					}
+					final int id = fixture.getId();
+					// A fixture is found in the database by location and ID, so if those
+					// don't identify it uniquely, rewrite the whole tile.
+					if (id < 0 || local.stream().filter(f -> f.getId() == id).count() > 1) {
+						tiles.add(location);
+						fixtures.removeIf(pair -> pair.getValue0().equals(location));
+						break;
+					}
+					fixtures.add(Pair.with(location, fixture));
+				}
+			}
+		}
+		db.transaction().accept(sql -> {
+			for (final Query initializer : CHANGE_INITIALIZERS) {
+				initializer.execute(sql);
+			}
+		});
+		for (final Point location : tiles) {
+			insert(db, INSERT_CHANGED_TILE, value("row", location.row()), value("column", location.column()));
+		}
+		for (final Pair<Point, TileFixture> pair : fixtures) {
+			insert(db, INSERT_CHANGED_FIXTURE, value("row", pair.getValue0().row()),
+					value("column", pair.getValue0().column()), value("id", pair.getValue1().getId()));
+		}
+		final boolean safe = db.transaction().apply(sql -> {
+			for (final FixtureTable table : FIXTURE_TABLES) {
+				if (table.located() && table.hasId()) {
+					Query.of("INSERT OR IGNORE INTO temp.doomed SELECT id FROM %s WHERE %s"
+							.formatted(table.name(), locatedCondition(table))).executeUpdate(sql);
+				}
+			}
+			// Anything inside a doomed fixture is also doomed, to any depth.
+			int added;
+			do {
+				added = 0;
+				for (final FixtureTable table : FIXTURE_TABLES) {
+					if (table.hasId() && Objects.nonNull(table.parentColumn())) {
+						added += Query.of(("INSERT OR IGNORE INTO temp.doomed SELECT id FROM %s " +
+										"WHERE %s IN (SELECT id FROM temp.doomed)")
+								.formatted(table.name(), table.parentColumn())).executeUpdate(sql);
+					}
+				}
+			} while (added > 0);
+			for (final FixtureTable table : FIXTURE_TABLES) {
+				if (table.hasId() && Query.of(("SELECT EXISTS (SELECT 1 FROM %s WHERE " +
+								"id IN (SELECT id FROM temp.doomed) AND NOT (%s))")
+								.formatted(table.name(), doomedCondition(table)))
+						.as(RowParser.bool(1).single(), sql)) {
+					LovelaceLogger.info("A fixture ID in %s is shared with a changed fixture", table.name());
+					return false;
+				}
+			}
+			return true;
+		});
+		if (!safe) {
+			return false;
+		}
+		db.transaction().accept(sql -> {
+			for (final String table : MAP_TABLES) {
+				Query.of("DELETE FROM " + table).execute(sql);
+			}
+			for (final FixtureTable table : FIXTURE_TABLES) {
+				Query.of("DELETE FROM %s WHERE %s".formatted(table.name(), doomedCondition(table))).execute(sql);
+			}
+		});
+		writeMetadata(db, obj);
+		for (final Point location : tiles) {
+			writeTile(db, obj, location);
+		}
+		for (final Pair<Point, TileFixture> pair : fixtures) {
+			parent.writeSPObjectInContext(db, pair.getValue1(), pair.getValue0());
+		}
+		LovelaceLogger.debug("Rewrote %d changed tiles and %d changed fixtures", tiles.size(), fixtures.size());
+		return true;
+	}
 }
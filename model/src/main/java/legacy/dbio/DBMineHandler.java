@@ -20,6 +20,7 @@ import legacy.map.fixtures.resources.Mine;
 import common.map.fixtures.towns.TownStatus;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBMineHandler extends AbstractDatabaseWriter<Mine, Point> implements MapContentsReader {
@@ -49,10 +50,9 @@ public final class DBMineHandler extends AbstractDatabaseWriter<Mine, Point> imp
 
 	@Override
 	public void write(final Transactional db, final Mine obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
-						value("id", obj.getId()), value("kind", obj.getKind()),
-						value("status", obj.getStatus().toString()), value("image", obj.getImage()))
-				.execute(db.connection());
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
+				value("id", obj.getId()), value("kind", obj.getKind()),
+				value("status", obj.getStatus().toString()), value("image", obj.getImage()));
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readMine(final IMutableLegacyMap map) {
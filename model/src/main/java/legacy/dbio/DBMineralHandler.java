@@ -25,6 +25,7 @@ import legacy.map.fixtures.resources.StoneKind;
 import common.xmlio.Warning;
 import legacy.map.HasImage;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBMineralHandler extends AbstractDatabaseWriter<MineralFixture, Point>
@@ -75,10 +76,10 @@ public final class DBMineralHandler extends AbstractDatabaseWriter<MineralFixtur
 			}
 			default -> throw new IllegalArgumentException("Unhandled mineral fixture type");
 		}
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
 				value("type", type), value("id", obj.getId()), value("kind", obj.getKind()),
 				value("exposed", exposed), value("dc", obj.getDC()),
-				value("image", ((HasImage) obj).getImage())).execute(db.connection());
+				value("image", ((HasImage) obj).getImage()));
 	}
 
 	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readMineralVein(final IMutableLegacyMap map) {
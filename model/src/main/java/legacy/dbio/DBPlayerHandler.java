@@ -25,6 +25,7 @@ import legacy.map.PlayerImpl;
 
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBPlayerHandler extends AbstractDatabaseWriter<Player, ILegacyMap> implements MapContentsReader {
@@ -65,12 +66,11 @@ public final class DBPlayerHandler extends AbstractDatabaseWriter<Player, ILegac
 			params.add(value("country", obj.getCountry()));
 		}
 		try {
-			// FIXME: Throughout this module, use executeUpdate or equivalent for non-schema-changing queries.
-			INSERT_SQL.on(params).execute(db.connection());
+			insert(db, INSERT_SQL, params);
 		} catch (final SQLException except) {
 			if (except.getMessage().contains("table players has no column named country)")) {
-				UPDATE_SCHEMA.execute(db.connection());
-				INSERT_SQL.on(params).execute(db.connection());
+				db.transaction().accept(UPDATE_SCHEMA::execute);
+				insert(db, INSERT_SQL, params);
 			} else {
 				throw except;
 			}
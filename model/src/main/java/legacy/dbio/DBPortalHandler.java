@@ -23,6 +23,7 @@ import legacy.map.IMutableLegacyMap;
 import legacy.map.fixtures.explorable.Portal;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBPortalHandler extends AbstractDatabaseWriter<Portal, Point> implements MapContentsReader {
@@ -66,7 +67,7 @@ public final class DBPortalHandler extends AbstractDatabaseWriter<Portal, Point>
 			params.add(value("destination_row", obj.getDestinationCoordinates().row()));
 			params.add(value("destination_column", obj.getDestinationCoordinates().column()));
 		}
-		INSERT_SQL.on(params).execute(db.connection());
+		insert(db, INSERT_SQL, params);
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readPortal(final IMutableLegacyMap map) {
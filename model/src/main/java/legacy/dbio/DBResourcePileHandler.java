@@ -25,6 +25,7 @@ import legacy.map.fixtures.mobile.IUnit;
 import legacy.map.fixtures.towns.IFortress;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBResourcePileHandler
@@ -64,10 +65,10 @@ public final class DBResourcePileHandler
 
 	@Override
 	public void write(final Transactional db, final IResourcePile obj, final TileFixture context) throws SQLException {
-		INSERT_SQL.on(value("parent", context.getId()), value("id", obj.getId()), value("kind", obj.getKind()),
+		insert(db, INSERT_SQL, value("parent", context.getId()), value("id", obj.getId()), value("kind", obj.getKind()),
 				value("contents", obj.getContents()), value("quantity", obj.getQuantity().number().toString()),
 				value("units", obj.getQuantity().units()), value("created", obj.getCreated()),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
 	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readResourcePile(
@@ -3,8 +3,8 @@ package legacy.dbio;
 import legacy.map.IFixture;
 import impl.dbio.AbstractDatabaseWriter;
 import impl.dbio.MapContentsReader;
-import impl.dbio.TryBiConsumer;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.Row;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
@@ -19,7 +19,9 @@ import legacy.map.IMutableLegacyMap;
 
 import legacy.map.fixtures.resources.Shrub;
 import common.xmlio.Warning;
+import org.javatuples.Pair;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBShrubHandler extends AbstractDatabaseWriter<Shrub, Point> implements MapContentsReader {
@@ -49,26 +51,21 @@ public final class DBShrubHandler extends AbstractDatabaseWriter<Shrub, Point> i
 
 	@Override
 	public void write(final Transactional db, final Shrub obj, final Point context) throws SQLException {
-		INSERT_SQL.on(value("row", context.row()), value("column", context.column()),
+		insert(db, INSERT_SQL, value("row", context.row()), value("column", context.column()),
 				value("id", obj.getId()), value("kind", obj.getKind()),
 				value("count", obj.getPopulation()),
-				value("image", obj.getImage())).execute(db.connection());
+				value("image", obj.getImage()));
 	}
 
-	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readShrub(final IMutableLegacyMap map) {
-		return (dbRow, warner) -> {
-			final int row = (Integer) dbRow.get("row");
-			final int column = (Integer) dbRow.get("column");
-			final int id = (Integer) dbRow.get("id");
-			final String kind = (String) dbRow.get("kind");
-			final Integer count = (Integer) dbRow.get("count");
-			final String image = (String) dbRow.get("image");
-			final Shrub shrub = new Shrub(kind, id, Objects.requireNonNullElse(count, -1));
-			if (Objects.nonNull(image)) {
-				shrub.setImage(image);
-			}
-			map.addFixture(new Point(row, column), shrub);
-		};
+	private static Pair<Point, Shrub> parseShrub(final Row dbRow, final Connection sql) throws SQLException {
+		final int rawCount = dbRow.getInt("count");
+		final int count = dbRow.wasNull() ? -1 : rawCount;
+		final Shrub shrub = new Shrub(dbRow.getString("kind"), dbRow.getInt("id"), count);
+		final String image = dbRow.getString("image");
+		if (Objects.nonNull(image)) {
+			shrub.setImage(image);
+		}
+		return Pair.with(new Point(dbRow.getInt("row"), dbRow.getInt("column")), shrub);
 	}
 
 	private static final Query SELECT = Query.of("SELECT * FROM shrubs");
@@ -77,6 +74,7 @@ public final class DBShrubHandler extends AbstractDatabaseWriter<Shrub, Point> i
 	public void readMapContents(final Connection db, final IMutableLegacyMap map,
 	                            final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees,
 	                            final Warning warner) throws SQLException {
-		handleQueryResults(db, warner, "shrubs", readShrub(map), SELECT);
+		handleQueryResults(db, warner, "shrubs", DBShrubHandler::parseShrub,
+				(located, _) -> map.addFixture(located.getValue0(), located.getValue1()), SELECT);
 	}
 }
@@ -24,6 +24,7 @@ import common.xmlio.Warning;
 import legacy.map.fixtures.TerrainFixture;
 import lovelace.util.LovelaceLogger;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBSimpleTerrainHandler extends AbstractDatabaseWriter<TerrainFixture, Point>
@@ -63,8 +64,8 @@ public final class DBSimpleTerrainHandler extends AbstractDatabaseWriter<Terrain
 			case final Oasis oasis -> "oasis";
 			default -> throw new IllegalArgumentException("Unhandled terrain fixture type");
 		};
-		INSERT.on(value("row", context.row()), value("column", context.column()), value("type", type),
-				value("id", obj.getId()), value("image", ((HasImage) obj).getImage())).execute(db.connection());
+		insert(db, INSERT, value("row", context.row()), value("column", context.column()), value("type", type),
+				value("id", obj.getId()), value("image", ((HasImage) obj).getImage()));
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readSimpleTerrain(
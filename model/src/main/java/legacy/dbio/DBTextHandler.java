@@ -23,6 +23,7 @@ import legacy.map.IMutableLegacyMap;
 import legacy.map.fixtures.TextFixture;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBTextHandler extends AbstractDatabaseWriter<TextFixture, Point> implements MapContentsReader {
@@ -57,7 +58,7 @@ public final class DBTextHandler extends AbstractDatabaseWriter<TextFixture, Poi
 		}
 		params.add(value("text", obj.getText()));
 		params.add(value("image", obj.getImage()));
-		INSERT.on(params).execute(db.connection());
+		insert(db, INSERT, params);
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readTextNote(final IMutableLegacyMap map) {
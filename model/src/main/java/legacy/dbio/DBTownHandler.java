@@ -33,6 +33,7 @@ import legacy.map.fixtures.towns.CommunityStats;
 import legacy.map.fixtures.towns.CommunityStatsImpl;
 import common.xmlio.Warning;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBTownHandler extends AbstractDatabaseWriter<AbstractTown, Point> implements MapContentsReader {
@@ -92,7 +93,7 @@ public final class DBTownHandler extends AbstractDatabaseWriter<AbstractTown, Po
 		if (Objects.nonNull(stats)) {
 			params.add(value("population", stats.getPopulation()));
 		}
-		INSERT_SQL.on(params).execute(db.connection());
+		insert(db, INSERT_SQL, params);
 		if (Objects.nonNull(stats)) {
 			CS_WRITER.initialize(db);
 			CS_WRITER.write(db, stats, obj);
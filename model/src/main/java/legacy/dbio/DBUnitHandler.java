@@ -9,6 +9,7 @@ import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +24,7 @@ import common.xmlio.Warning;
 import legacy.map.fixtures.UnitMember;
 import org.jspecify.annotations.Nullable;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBUnitHandler extends AbstractDatabaseWriter<IUnit, Object> implements MapContentsReader {
@@ -83,59 +85,65 @@ public final class DBUnitHandler extends AbstractDatabaseWriter<IUnit, Object> i
 
 	@Override
 	public void write(final Transactional db, final IUnit obj, final Object context) throws SQLException {
-		db.transaction().accept(sql -> {
-			final String portrait = obj.getPortrait();
-			switch (context) {
-				case final Point p -> INSERT_UNIT.on(value("row", p.row()),
-						value("column", p.column()),
-						value("owner", obj.owner().getPlayerId()),
-						value("kind", obj.getKind()), value("name", obj.getName()),
-						value("id", obj.getId()), value("image", obj.getImage()),
-						value("portrait", portrait)).execute(sql);
-				case final IFortress f -> INSERT_UNIT.on(
-						value("parent", f.getId()),
-						value("owner", obj.owner().getPlayerId()), value("kind", obj.getKind()),
-						value("name", obj.getName()), value("id", obj.getId()),
-						value("image", obj.getImage()), value("portrait", portrait)).execute(sql);
-				default -> throw new IllegalArgumentException(
-						"Context must be point or fortress");
-			}
-			for (final Map.Entry<Integer, String> entry : obj.getAllOrders().entrySet()) {
-				INSERT_ORDER.on(value("unit", obj.getId()), value("turn", entry.getKey()),
-						value("orders", entry.getValue())).execute(sql);
-			}
-			for (final Map.Entry<Integer, String> entry : obj.getAllResults().entrySet()) {
-				INSERT_RESULT.on(value("unit", obj.getId()), value("turn", entry.getKey()),
-						value("result", entry.getValue())).execute(sql);
-			}
-		});
+		final String portrait = obj.getPortrait();
+		switch (context) {
+			case final Point p -> insert(db, INSERT_UNIT, value("row", p.row()),
+					value("column", p.column()),
+					value("owner", obj.owner().getPlayerId()),
+					value("kind", obj.getKind()), value("name", obj.getName()),
+					value("id", obj.getId()), value("image", obj.getImage()),
+					value("portrait", portrait));
+			case final IFortress f -> insert(db, INSERT_UNIT,
+					value("parent", f.getId()),
+					value("owner", obj.owner().getPlayerId()), value("kind", obj.getKind()),
+					value("name", obj.getName()), value("id", obj.getId()),
+					value("image", obj.getImage()), value("portrait", portrait));
+			default -> throw new IllegalArgumentException(
+					"Context must be point or fortress");
+		}
+		for (final Map.Entry<Integer, String> entry : obj.getAllOrders().entrySet()) {
+			insert(db, INSERT_ORDER, value("unit", obj.getId()), value("turn", entry.getKey()),
+					value("orders", entry.getValue()));
+		}
+		for (final Map.Entry<Integer, String> entry : obj.getAllResults().entrySet()) {
+			insert(db, INSERT_RESULT, value("unit", obj.getId()), value("turn", entry.getKey()),
+					value("result", entry.getValue()));
+		}
 		for (final UnitMember member : obj) {
 			Objects.requireNonNull(parent).writeSPObjectInContext(db, member, obj);
 		}
 	}
 
-	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readOrders(final IMutableUnit unit) {
+	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readOrders(
+			final Map<Integer, IMutableUnit> units) {
 		return (dbRow, warner) -> {
+			final IMutableUnit unit = units.get((Integer) dbRow.get("unit"));
 			final Integer turn = (Integer) dbRow.get("turn");
 			final String orders = (String) dbRow.get("orders");
-			unit.setOrders(Objects.requireNonNullElse(turn, -1), orders);
+			if (Objects.nonNull(unit)) {
+				unit.setOrders(Objects.requireNonNullElse(turn, -1), orders);
+			}
 		};
 	}
 
-	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readResults(final IMutableUnit unit) {
+	private static TryBiConsumer<Map<String, Object>, Warning, SQLException> readResults(
+			final Map<Integer, IMutableUnit> units) {
 		return (dbRow, warner) -> {
+			final IMutableUnit unit = units.get((Integer) dbRow.get("unit"));
 			final Integer turn = (Integer) dbRow.get("turn");
-			final String results = (String) dbRow.get("results");
-			unit.setResults(Objects.requireNonNullElse(turn, -1), results);
+			final String results = (String) dbRow.get("result");
+			if (Objects.nonNull(unit)) {
+				unit.setResults(Objects.requireNonNullElse(turn, -1), results);
+			}
 		};
 	}
 
-	private static final Query SELECT_ORDERS = Query.of("SELECT * FROM orders WHERE unit = ?"); // TODO: named param?
-	private static final Query SELECT_RESULTS = Query.of("SELECT * FROM results WHERE unit = ?"); // TODO: named param?
+	private static final Query SELECT_ORDERS = Query.of("SELECT * FROM orders");
+	private static final Query SELECT_RESULTS = Query.of("SELECT * FROM results");
 
 	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readUnit(
-			final IMutableLegacyMap map, final Connection db, final Map<Integer, IFixture> containers,
-			final Map<Integer, List<Object>> containees) {
+			final IMutableLegacyMap map, final Map<Integer, IMutableUnit> units,
+			final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees) {
 		return (dbRow, warner) -> {
 			final int ownerNum = (Integer) dbRow.get("owner");
 			final String kind = (String) dbRow.get("kind");
@@ -150,10 +158,6 @@ public final class DBUnitHandler extends AbstractDatabaseWriter<IUnit, Object> i
 			if (Objects.nonNull(portrait)) {
 				unit.setPortrait(portrait);
 			}
-			handleQueryResults(db, warner, "turns' orders", readOrders(unit),
-					SELECT_ORDERS, id);
-			handleQueryResults(db, warner, "turns' results", readResults(unit),
-					SELECT_RESULTS, id);
 			final Integer row = (Integer) dbRow.get("row");
 			final Integer column = (Integer) dbRow.get("column");
 			if (Objects.nonNull(row) && Objects.nonNull(column)) {
@@ -161,6 +165,7 @@ public final class DBUnitHandler extends AbstractDatabaseWriter<IUnit, Object> i
 			} else {
 				multimapPut(containees, (Integer) dbRow.get("parent"), unit);
 			}
+			units.put(id, unit);
 			containers.put(unit.getId(), unit);
 		};
 	}
@@ -171,7 +176,9 @@ public final class DBUnitHandler extends AbstractDatabaseWriter<IUnit, Object> i
 	public void readMapContents(final Connection db, final IMutableLegacyMap map,
 	                            final Map<Integer, IFixture> containers, final Map<Integer, List<Object>> containees,
 	                            final Warning warner) throws SQLException {
-		// FIXME: Move orders and results handling to here so we don't have to pass DB to the row-handler
-		handleQueryResults(db, warner, "units", readUnit(map, db, containers, containees), SELECT_UNITS);
+		final Map<Integer, IMutableUnit> units = new HashMap<>();
+		handleQueryResults(db, warner, "units", readUnit(map, units, containers, containees), SELECT_UNITS);
+		handleQueryResults(db, warner, "turns' orders", readOrders(units), SELECT_ORDERS);
+		handleQueryResults(db, warner, "turns' results", readResults(units), SELECT_RESULTS);
 	}
 }
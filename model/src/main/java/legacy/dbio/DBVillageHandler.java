@@ -28,6 +28,7 @@ import legacy.map.fixtures.towns.CommunityStats;
 import common.xmlio.Warning;
 import legacy.map.fixtures.towns.ITownFixture;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBVillageHandler extends AbstractDatabaseWriter<Village, Point> implements MapContentsReader {
@@ -79,7 +80,7 @@ public final class DBVillageHandler extends AbstractDatabaseWriter<Village, Poin
 		if (Objects.nonNull(stats)) {
 			params.add(value("population", stats.getPopulation()));
 		}
-		INSERT_SQL.on(params).execute(db.connection());
+		insert(db, INSERT_SQL, params);
 		if (Objects.nonNull(stats)) {
 			CS_WRITER.initialize(db);
 			CS_WRITER.write(db, stats, obj);
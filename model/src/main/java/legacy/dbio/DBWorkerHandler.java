@@ -8,6 +8,7 @@ import impl.dbio.AbstractDatabaseWriter;
 import impl.dbio.MapContentsReader;
 import impl.dbio.TryBiConsumer;
 import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.Row;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.sql.Connection;
@@ -31,7 +32,10 @@ import legacy.map.fixtures.mobile.worker.IJob;
 import legacy.map.fixtures.mobile.worker.Skill;
 import legacy.map.fixtures.mobile.worker.ISkill;
 import common.xmlio.Warning;
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class DBWorkerHandler extends AbstractDatabaseWriter<IWorker, IUnit> implements MapContentsReader {
@@ -106,40 +110,38 @@ public final class DBWorkerHandler extends AbstractDatabaseWriter<IWorker, IUnit
 	// FIXME: Need to write notes, unless that's handled centrally
 	@Override
 	public void write(final Transactional db, final IWorker obj, final IUnit context) throws SQLException {
-		db.transaction().accept(sql -> {
-			final String portrait = obj.getPortrait();
-			final WorkerStats stats = obj.getStats();
-			if (Objects.isNull(stats)) {
-				WORKER_SQL.on(value("unit", context.getId()), value("id", obj.getId()),
-						value("name", obj.getName()), value("race", obj.getRace()),
-						value("image", obj.getImage()), value("portrait", portrait)).execute(sql);
-			} else {
-				WORKER_SQL.on(value("unit", context.getId()), value("id", obj.getId()),
-						value("name", obj.getName()), value("race", obj.getRace()),
-						value("image", obj.getImage()), value("portrait", portrait),
-						value("hp", stats.getHitPoints()), value("max_hp", stats.getMaxHitPoints()),
-						value("str", stats.getStrength()), value("dex", stats.getDexterity()),
-						value("con", stats.getConstitution()), value("int", stats.getIntelligence()),
-						value("wis", stats.getWisdom()), value("cha", stats.getCharisma())).execute(sql);
+		final String portrait = obj.getPortrait();
+		final WorkerStats stats = obj.getStats();
+		if (Objects.isNull(stats)) {
+			insert(db, WORKER_SQL, value("unit", context.getId()), value("id", obj.getId()),
+					value("name", obj.getName()), value("race", obj.getRace()),
+					value("image", obj.getImage()), value("portrait", portrait));
+		} else {
+			insert(db, WORKER_SQL, value("unit", context.getId()), value("id", obj.getId()),
+					value("name", obj.getName()), value("race", obj.getRace()),
+					value("image", obj.getImage()), value("portrait", portrait),
+					value("hp", stats.getHitPoints()), value("max_hp", stats.getMaxHitPoints()),
+					value("str", stats.getStrength()), value("dex", stats.getDexterity()),
+					value("con", stats.getConstitution()), value("int", stats.getIntelligence()),
+					value("wis", stats.getWisdom()), value("cha", stats.getCharisma()));
+		}
+		for (final IJob job : obj) {
+			insert(db, JOB_SQL, value("worker", obj.getId()), value("job", job.getName()),
+					value("level", job.getLevel()));
+			for (final ISkill skill : job) {
+				insert(db, SKILL_SQL, value("worker", obj.getId()), value("job", job.getName()),
+						value("skill", skill.getName()), value("level", skill.getLevel()),
+						value("hours", skill.getHours()));
 			}
-			for (final IJob job : obj) {
-				JOB_SQL.on(value("worker", obj.getId()), value("job", job.getName()),
-						value("level", job.getLevel())).execute(sql);
-				for (final ISkill skill : job) {
-					SKILL_SQL.on(value("worker", obj.getId()), value("job", job.getName()),
-							value("skill", skill.getName()), value("level", skill.getLevel()),
-							value("hours", skill.getHours())).execute(sql);
-				}
-			}
-			if (Objects.nonNull(obj.getMount())) {
-				animalHandler.initialize(db);
-				animalHandler.write(db, obj.getMount(), obj);
-			}
-			for (final Implement item : obj.getEquipment()) {
-				equipmentHandler.initialize(db);
-				equipmentHandler.write(db, item, obj);
-			}
-		});
+		}
+		if (Objects.nonNull(obj.getMount())) {
+			animalHandler.initialize(db);
+			animalHandler.write(db, obj.getMount(), obj);
+		}
+		for (final Implement item : obj.getEquipment()) {
+			equipmentHandler.initialize(db);
+			equipmentHandler.write(db, item, obj);
+		}
 	}
 
 	private TryBiConsumer<Map<String, Object>, Warning, SQLException> readWorkerStats(
@@ -178,28 +180,14 @@ public final class DBWorkerHandler extends AbstractDatabaseWriter<IWorker, IUnit
 		};
 	}
 
-	private static TryBiConsumer<Map<String, Object>, Warning, SQLException>
-	readJobLevel(final IMutableLegacyMap map, final Map<Integer, Worker> workers) {
-		return (dbRow, warner) -> {
-			final int id = (Integer) dbRow.get("worker");
-			final Worker worker = workers.get(id);
-			final String job = (String) dbRow.get("job");
-			final int level = (Integer) dbRow.get("level");
-			worker.addJob(new Job(job, level));
-		};
+	private static Pair<Integer, Job> parseJobLevel(final Row dbRow, final Connection sql) throws SQLException {
+		return Pair.with(dbRow.getInt("worker"), new Job(dbRow.getString("job"), dbRow.getInt("level")));
 	}
 
-	private static TryBiConsumer<Map<String, Object>, Warning, SQLException>
-	readSkillLevel(final IMutableLegacyMap map, final Map<Integer, Worker> workers) {
-		return (dbRow, warner) -> {
-			final int id = (Integer) dbRow.get("worker");
-			final Worker worker = workers.get(id);
-			final String skill = (String) dbRow.get("skill");
-			final int level = (Integer) dbRow.get("level");
-			final int hours = (Integer) dbRow.get("hours");
-			final IMutableJob job = (IMutableJob) worker.getJob((String) dbRow.get("associated_job"));
-			job.addSkill(new Skill(skill, level, hours));
-		};
+	private static Triplet<Integer, String, Skill> parseSkillLevel(final Row dbRow, final Connection sql)
+			throws SQLException {
+		return Triplet.with(dbRow.getInt("worker"), dbRow.getString("associated_job"),
+				new Skill(dbRow.getString("skill"), dbRow.getInt("level"), dbRow.getInt("hours")));
 	}
 
 	private static TryBiConsumer<Map<String, Object>, Warning, SQLException>
@@ -226,8 +214,11 @@ public final class DBWorkerHandler extends AbstractDatabaseWriter<IWorker, IUnit
 	                            final Warning warner) throws SQLException {
 		final Map<Integer, Worker> workers = new HashMap<>();
 		handleQueryResults(db, warner, "worker stats", readWorkerStats(map, workers, containees), WORKER_SELECT);
-		handleQueryResults(db, warner, "Job levels", readJobLevel(map, workers), JOB_SELECT);
-		handleQueryResults(db, warner, "Skill levels", readSkillLevel(map, workers), SKILL_SELECT);
+		handleQueryResults(db, warner, "Job levels", DBWorkerHandler::parseJobLevel,
+				(job, _) -> workers.get(job.getValue0()).addJob(job.getValue1()), JOB_SELECT);
+		handleQueryResults(db, warner, "Skill levels", DBWorkerHandler::parseSkillLevel,
+				(skill, _) -> ((IMutableJob) workers.get(skill.getValue0()).getJob(skill.getValue1()))
+						.addSkill(skill.getValue2()), SKILL_SELECT);
 		handleQueryResults(db, warner, "Worker notes", readWorkerNotes(map, workers), NOTE_SELECT);
 		containers.putAll(workers);
 	}
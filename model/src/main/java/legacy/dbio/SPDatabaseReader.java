@@ -3,6 +3,7 @@ package legacy.dbio;
 import legacy.xmlio.IMapReader;
 import common.xmlio.Warning;
 import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMapFactory;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.io.IOException;
@@ -28,6 +29,7 @@ public final class SPDatabaseReader implements IMapReader {
 		} else {
 			LovelaceLogger.info("Setting up an SQLite database for file %s", path);
 			retval.setUrl("jdbc:sqlite:" + path);
+			retval.setReadOnly(true);
 		}
 		return retval;
 	}
@@ -36,14 +38,30 @@ public final class SPDatabaseReader implements IMapReader {
 		return connections.computeIfAbsent(path, p -> getBaseConnection(p)::getConnection);
 	}
 
-	private final DBMapReader dbMapReader = new DBMapReader();
+	private final DBMapReader dbMapReader;
+
+	/**
+	 * @param mapFactory How to construct the maps that are read
+	 */
+	public SPDatabaseReader(final LegacyMapFactory mapFactory) {
+		dbMapReader = new DBMapReader(mapFactory);
+	}
+
+	public SPDatabaseReader() {
+		dbMapReader = new DBMapReader();
+	}
 
 	@Override
 	public IMutableLegacyMap readMap(final Path file, final Warning warner)
 			throws IOException {
 		final Transactional db = getDB(file);
 		try {
-			return dbMapReader.readMap(db, warner);
+			final IMutableLegacyMap retval = dbMapReader.readMap(db, warner);
+			if (!file.toString().isEmpty()) {
+				// Let SPDatabaseWriter save only what changes from here on.
+				retval.resetChanges(file);
+			}
+			return retval;
 		} catch (final SQLException except) {
 			throw new IOException(except);
 		}
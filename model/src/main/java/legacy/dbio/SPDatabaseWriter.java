@@ -1,9 +1,11 @@
 package legacy.dbio;
 
+import impl.dbio.BatchingTransactional;
 import impl.dbio.DatabaseWriter;
 import impl.xmlio.SPWriter;
 import io.jenetics.facilejdbc.Query;
 import io.jenetics.facilejdbc.Transactional;
+import io.jenetics.facilejdbc.function.SqlFunction;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -19,21 +21,40 @@ import javax.sql.DataSource;
 
 import legacy.map.HasNotes;
 import legacy.map.ILegacyMap;
+import legacy.map.IMutableLegacyMap;
+import org.javatuples.Pair;
 
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import lovelace.util.ThrowingConsumer;
 
 import java.io.IOException;
 import java.util.regex.Pattern;
 
+import static impl.dbio.BatchingTransactional.insert;
 import static io.jenetics.facilejdbc.Param.value;
 
 public final class SPDatabaseWriter implements SPWriter {
 	private static final Pattern LINEBREAK = Pattern.compile("\\R");
+
+	/**
+	 * The SQLite page-cache size to use when writing; negative values are in KiB rather than pages.
+	 */
+	private static final int BULK_CACHE_SIZE = -64 * 1024;
 	private final Map<Path, Transactional> connections = new HashMap<>();
 
-	private static DataSource getBaseConnection(final Path path) {
+	/**
+	 * Set up a connection to the given database file, or to an in-memory
+	 * database if the path is empty. This keeps SQLite's default
+	 * rollback journal and synchronous writes, so a crash or power failure
+	 * in the middle of saving changes to a map cannot corrupt the file.
+	 */
+	private static SQLiteDataSource getBaseConnection(final Path path) {
 		final SQLiteDataSource retval = new SQLiteDataSource();
 		if (path.toString().isEmpty()) {
 			LovelaceLogger.info("Trying to set up an in-memory database");
@@ -42,6 +63,23 @@ public final class SPDatabaseWriter implements SPWriter {
 			LovelaceLogger.info("Setting up an SQLite database for file %s", path);
 			retval.setUrl("jdbc:sqlite:" + path);
 		}
+		retval.setTempStore("MEMORY");
+		retval.setCacheSize(BULK_CACHE_SIZE);
+		return retval;
+	}
+
+	/**
+	 * Set up a connection for writing a whole map to a new file that
+	 * nothing else is using, which will only be moved into place once it
+	 * is complete and flushed to disk (see {@link #export}). Since a crash
+	 * can then lose only the new file, durability is traded for speed:
+	 * the rollback journal is kept in memory, and SQLite does not wait for
+	 * the OS to flush to disk.
+	 */
+	private static DataSource getBulkConnection(final Path path) {
+		final SQLiteDataSource retval = getBaseConnection(path);
+		retval.setJournalMode("MEMORY");
+		retval.setSynchronous("OFF");
 		return retval;
 	}
 
@@ -51,8 +89,10 @@ public final class SPDatabaseWriter implements SPWriter {
 
 	private final DBPlayerHandler playerHandler = new DBPlayerHandler();
 
+	private final DBMapWriter mapWriter = new DBMapWriter(this, playerHandler);
+
 	private final List<DatabaseWriter<?, ?>> writers = List.of(new DBAdventureHandler(), new DBExplorableHandler(),
-			new DBGroundHandler(), new DBImplementHandler(), new DBMapWriter(this, playerHandler),
+			new DBGroundHandler(), new DBImplementHandler(), mapWriter,
 			new DBAnimalHandler(), new DBImmortalHandler(), playerHandler, new DBPortalHandler(),
 			new DBResourcePileHandler(), new DBCacheHandler(), new DBFieldHandler(), new DBGroveHandler(),
 			new DBMineHandler(), new DBMineralHandler(), new DBShrubHandler(), new DBSimpleTerrainHandler(),
@@ -74,26 +114,83 @@ public final class SPDatabaseWriter implements SPWriter {
 	private static final Query INSERT_NOTE =
 			Query.of("INSERT INTO notes (fixture, player, note) VALUES(:fixture, :player, :note)");
 
+	/**
+	 * Write an object to the database. If the database is not already a
+	 * {@link BatchingTransactional}, the object and everything it contains
+	 * is written in a single transaction, with rows batched by table.
+	 */
 	public void writeSPObjectInContext(final Transactional sql, final Object obj, final Object context)
 			throws SQLException {
-		if (!notesInitialized.contains(sql)) {
+		if (sql instanceof final BatchingTransactional batching) {
+			writeBatched(batching, obj, context);
+		} else {
+			inBatch(sql, batching -> {
+				writeBatched(batching, obj, context);
+				return true;
+			});
+		}
+	}
+
+	/**
+	 * Run the given writes in a single transaction, with rows batched by
+	 * table, and log how quickly they were written.
+	 *
+	 * @return the value returned by the writes
+	 */
+	private <T> T inBatch(final Transactional sql, final SqlFunction<BatchingTransactional, T> writes)
+			throws SQLException {
+		final long start = System.nanoTime();
+		final Pair<T, Long> result = sql.transaction().apply(conn -> {
+			try (final BatchingTransactional batching = new BatchingTransactional(sql, conn)) {
+				final T retval = writes.apply(batching);
+				batching.flush();
+				return Pair.with(retval, batching.getRowCount());
+			}
+		});
+		final long rows = result.getValue1();
+		final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		LovelaceLogger.info("Wrote %d rows in %.2f seconds (%.0f rows per second)", rows, seconds,
+				rows / Math.max(seconds, Double.MIN_NORMAL));
+		return result.getValue0();
+	}
+
+	/**
+	 * Make sure the notes table exists in the database.
+	 */
+	private void initializeNotes(final Transactional sql) throws SQLException {
+		final Transactional database = BatchingTransactional.underlying(sql);
+		if (!notesInitialized.contains(database)) {
 			sql.transaction().accept(db -> {
 				NOTES_SCHEMA.execute(db);
 				LovelaceLogger.debug("Executed initializer beginning %s",
 						LINEBREAK.split(NOTES_SCHEMA.rawSql())[0]);
 			});
-			notesInitialized.add(sql);
+			notesInitialized.add(database);
+		}
+	}
+
+	/**
+	 * Make sure every table any of our writers uses exists in the
+	 * database, so that it is safe to delete from all of them.
+	 */
+	/* package */ void initializeAll(final Transactional sql) throws SQLException {
+		initializeNotes(sql);
+		for (final DatabaseWriter<?, ?> writer : writers) {
+			writer.initialize(sql);
 		}
+	}
+
+	private void writeBatched(final BatchingTransactional sql, final Object obj, final Object context)
+			throws SQLException {
+		initializeNotes(sql);
 		if (obj instanceof final HasNotes hn) {
-			sql.transaction().accept(db -> {
-				for (final Integer player : hn.getNotesPlayers()) {
-					final String note = hn.getNote(player);
-					if (!note.isEmpty()) {
-						INSERT_NOTE.on(value("fixture", hn.getId()),
-								value("player", player), value("note", note)).executeInsert(db);
-					}
+			for (final Integer player : hn.getNotesPlayers()) {
+				final String note = hn.getNote(player);
+				if (!note.isEmpty()) {
+					insert(sql, INSERT_NOTE, value("fixture", hn.getId()),
+							value("player", player), value("note", note));
 				}
-			});
+			}
 		}
 		for (final DatabaseWriter<?, ?> writer : writers) {
 			if (writer.canWrite(obj, context)) {
@@ -121,9 +218,27 @@ public final class SPDatabaseWriter implements SPWriter {
 				"SPDatabaseWriter can only write to a database file, not to a stream");
 	}
 
+	/**
+	 * Write a map to a database file. If the map was last read from or
+	 * written to that same file, and has been tracking its changes since,
+	 * only what has changed is written; otherwise, the whole map replaces
+	 * whatever the file held.
+	 */
 	@Override
 	public void write(final Path arg, final ILegacyMap map) throws IOException {
-		writeSPObject(arg, map);
+		try {
+			if (arg.toString().isEmpty()) {
+				writeToDatabase(getDB(arg), map);
+			} else if (!arg.equals(map.getChanges().getBaseline()) || !Files.exists(arg) ||
+					!writeChanges(getDB(arg), map)) {
+				export(arg, map);
+			}
+		} catch (final SQLException except) {
+			throw new IOException(except);
+		}
+		if (map instanceof final IMutableLegacyMap mutable && !arg.toString().isEmpty()) {
+			mutable.resetChanges(arg);
+		}
 	}
 
 	@Override
@@ -131,7 +246,62 @@ public final class SPDatabaseWriter implements SPWriter {
 		writeSPObject(arg, map);
 	}
 
+	/**
+	 * Write the whole of a map to a new database file beside the given
+	 * path, flush it to disk, and then move it into place, replacing
+	 * whatever was there, so the file at the given path always holds
+	 * either the old map or the new one in full.
+	 */
+	private void export(final Path path, final ILegacyMap map) throws IOException, SQLException {
+		final Path target = path.toAbsolutePath();
+		final Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		final Transactional db = getBulkConnection(temp)::getConnection;
+		try {
+			inBatch(db, batching -> {
+				// Create every table, even those this map has nothing to put in,
+				// since later incremental saves will expect to find them.
+				initializeAll(batching);
+				writeBatched(batching, map, map);
+				return true;
+			});
+			try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				channel.force(true);
+			}
+			// If a crash left a journal beside the old file, let SQLite roll
+			// it back now, rather than into the new file after the move.
+			if (Files.exists(target)) {
+				getDB(path).transaction().accept(conn -> Query.of("PRAGMA schema_version").execute(conn));
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException except) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+			notesInitialized.remove(db);
+			for (final DatabaseWriter<?, ?> writer : writers) {
+				writer.forget(db);
+			}
+		}
+	}
+
 	public void writeToDatabase(final Transactional db, final ILegacyMap map) throws SQLException {
 		writeSPObjectInContext(db, map, map);
 	}
+
+	/**
+	 * Write only what has changed in the map since it was last read from or
+	 * written to the given database, in a single transaction.
+	 *
+	 * @return false, having changed nothing, if that could not be done
+	 * safely, in which case the caller should write the whole map instead
+	 * @see DBMapWriter#writeChanges
+	 */
+	public boolean writeChanges(final Transactional db, final ILegacyMap map) throws SQLException {
+		return inBatch(db, batching -> {
+			initializeAll(batching);
+			return mapWriter.writeChanges(batching, map);
+		});
+	}
 }
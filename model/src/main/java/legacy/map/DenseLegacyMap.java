@@ -0,0 +1,857 @@
+package legacy.map;
+
+import lovelace.util.LovelaceLogger;
+import org.javatuples.Pair;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A game-world map that stores per-tile data in flat row-major arrays indexed
+ * by {@code row * columns + column}, rather than in hash tables keyed by
+ * {@link Point}, so that looking up a tile is an index computation rather
+ * than several hash probes.
+ *
+ * Fixtures at points outside the map's dimensions (such as "elsewhere") are
+ * still supported, but are kept in a {@link LegacyMap} used as overflow
+ * storage.
+ */
+public final class DenseLegacyMap implements IMutableLegacyMap {
+	/**
+	 * Tile types, indexed by ordinal. Slots in {@link #terrain} hold the ordinal plus one, so zero means "none".
+	 */
+	private static final TileType[] TILE_TYPES = TileType.values();
+
+	/**
+	 * The directions a road can run, indexed by their bit in {@link #roads}.
+	 */
+	private static final List<Direction> ROAD_DIRECTIONS = Stream.of(Direction.values())
+			.filter(d -> d != Direction.Nowhere).toList();
+
+	/**
+	 * The (unmodifiable) set of rivers represented by each possible value of a
+	 * slot in {@link #rivers}, so that querying rivers does not allocate.
+	 */
+	private static final List<Set<River>> RIVER_SETS;
+
+	static {
+		final River[] all = River.values();
+		final List<Set<River>> temp = new ArrayList<>(1 << all.length);
+		for (int mask = 0; mask < (1 << all.length); mask++) {
+			final Set<River> set = EnumSet.noneOf(River.class);
+			for (final River river : all) {
+				if ((mask & riverBit(river)) != 0) {
+					set.add(river);
+				}
+			}
+			temp.add(Collections.unmodifiableSet(set));
+		}
+		RIVER_SETS = Collections.unmodifiableList(temp);
+	}
+
+	private static int riverBit(final River river) {
+		return 1 << river.ordinal();
+	}
+
+	private static int roadBit(final Direction direction) {
+		return 1 << ROAD_DIRECTIONS.indexOf(direction);
+	}
+
+	/**
+	 * The file from which the map was loaded, or to which it should be saved, if known
+	 */
+	private @Nullable Path filename = null;
+
+	/**
+	 * Whether the map has been modified since it was last saved.
+	 */
+	private ModificationStatus status = ModificationStatus.Unmodified;
+
+	/**
+	 * The version and dimensions of the map.
+	 */
+	private final MapDimensions mapDimensions;
+
+	/**
+	 * The number of rows in the map, cached from {@link #mapDimensions}.
+	 */
+	private final int rows;
+
+	/**
+	 * The number of columns in the map, cached from {@link #mapDimensions}.
+	 */
+	private final int columns;
+
+	/**
+	 * The players in the map.
+	 */
+	private final IMutableLegacyPlayerCollection playerCollection;
+
+	/**
+	 * The current turn.
+	 */
+	private int currentTurn;
+
+	/**
+	 * The base terrain of each tile, as its ordinal plus one, with zero meaning no terrain.
+	 */
+	private final byte[] terrain;
+
+	/**
+	 * Which tiles are mountainous.
+	 */
+	private final BitSet mountains;
+
+	/**
+	 * The rivers in each tile, as a bitmask of {@link River} ordinals.
+	 */
+	private final byte[] rivers;
+
+	/**
+	 * The directions in which each tile has roads, as a bitmask indexed by {@link #ROAD_DIRECTIONS}.
+	 */
+	private final byte[] roads;
+
+	/**
+	 * The quality of each road, eight slots per tile, allocated only once the first road is added.
+	 */
+	private int @Nullable [] roadQualities = null;
+
+	/**
+	 * The fixtures in each tile, with null meaning none.
+	 */
+	private final @Nullable List<TileFixture>[] fixtures;
+
+	/**
+	 * Bookmarks, which are sparse enough to not merit a per-tile slot.
+	 */
+	private final Map<Point, Set<Player>> bookmarksImpl = new HashMap<>();
+
+	/**
+	 * Storage for data at points outside the dimensions of the map.
+	 */
+	private final LegacyMap overflow;
+
+	/**
+	 * Points outside the dimensions of the map that have fixtures, in the order they were first used.
+	 */
+	private final Set<Point> overflowPoints = new LinkedHashSet<>();
+
+	/**
+	 * Every point within the dimensions of the map, in row-major order,
+	 * built the first time it is needed. Since points are immutable and
+	 * the dimensions cannot change, this can be shared by every caller.
+	 */
+	private @Nullable List<Point> validLocations = null;
+
+	public DenseLegacyMap(final MapDimensions dimensions, final IMutableLegacyPlayerCollection players,
+	                      final int turn) {
+		mapDimensions = dimensions;
+		rows = Math.max(dimensions.rows(), 0);
+		columns = Math.max(dimensions.columns(), 0);
+		final int size = rows * columns;
+		terrain = new byte[size];
+		mountains = new BitSet(size);
+		rivers = new byte[size];
+		roads = new byte[size];
+		// Generic array creation is impossible, so this unchecked cast is unavoidable
+		//noinspection unchecked
+		fixtures = (List<TileFixture>[]) new List<?>[size];
+		playerCollection = players;
+		currentTurn = turn;
+		overflow = new LegacyMap(dimensions, players, turn);
+	}
+
+	/**
+	 * The index of the given point in the per-tile arrays, or -1 if it is
+	 * outside the dimensions of the map.
+	 */
+	private int index(final Point point) {
+		final int row = point.row();
+		final int column = point.column();
+		if (row < 0 || column < 0 || row >= rows || column >= columns) {
+			return -1;
+		} else {
+			return row * columns + column;
+		}
+	}
+
+	/**
+	 * If a mutation delegated to {@link #overflow} at the given location
+	 * changed it, record that we have been modified there.
+	 */
+	private void syncOverflowStatus(final Point location) {
+		if (overflow.getStatus() == ModificationStatus.Modified) {
+			markModified(location);
+			overflow.setStatus(ModificationStatus.Unmodified);
+		}
+	}
+
+	/**
+	 * Whether the given collection contains the given fixture itself, not merely one equal to it.
+	 */
+	private static boolean containsInstance(final Collection<TileFixture> collection, final TileFixture fixture) {
+		return collection.stream().anyMatch(item -> item == fixture);
+	}
+
+	/**
+	 * After a mutation delegated to {@link #overflow} at the given location,
+	 * tell our indexes about every fixture that was removed from or added to
+	 * it, given the fixtures that were there before.
+	 */
+	private void syncOverflowIndexes(final Point location, final Collection<TileFixture> before) {
+		final Collection<TileFixture> after = overflow.getFixtures(location);
+		for (final TileFixture fixture : before) {
+			if (!containsInstance(after, fixture)) {
+				indexRemoved(location, fixture);
+			}
+		}
+		for (final TileFixture fixture : after) {
+			if (!containsInstance(before, fixture)) {
+				indexAdded(location, fixture);
+			}
+		}
+	}
+
+	@Override
+	public @Nullable Path getFilename() {
+		return filename;
+	}
+
+	@Override
+	public void setFilename(final @Nullable Path filename) {
+		this.filename = filename;
+	}
+
+	@Override
+	public ModificationStatus getStatus() {
+		return status;
+	}
+
+	@Override
+	public void setStatus(final ModificationStatus status) {
+		this.status = status;
+		if (status == ModificationStatus.Modified) {
+			changes.reset(null);
+			fixtureIndex.invalidate();
+			mobileLocations.invalidate();
+		}
+	}
+
+	/**
+	 * A counter incremented by every mutation of the map's contents.
+	 */
+	private long revision = 0;
+
+	@Override
+	public long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * Record that the map's contents have changed.
+	 */
+	private void markModified() {
+		status = ModificationStatus.Modified;
+		revision++;
+	}
+
+	/**
+	 * Record that the map's contents at the given location have changed.
+	 */
+	private void markModified(final Point location) {
+		markModified();
+		changes.locationChanged(location);
+	}
+
+	/**
+	 * What has changed since the map was last known to match a file.
+	 */
+	private final MapChanges changes = new MapChanges();
+
+	/**
+	 * An index of the fixtures in the map by ID.
+	 */
+	private final FixtureIndex fixtureIndex = new FixtureIndex(this);
+
+	@Override
+	public @Nullable FixtureLocation findFixture(final int id) {
+		return fixtureIndex.find(id);
+	}
+
+	/**
+	 * Where each mobile fixture in the map is.
+	 */
+	private final MobileLocations mobileLocations = new MobileLocations(this);
+
+	@Override
+	public List<FixtureLocation> locateMobile(final int id) {
+		return mobileLocations.find(id);
+	}
+
+	/**
+	 * An index of where fixtures of the types asked about are.
+	 */
+	private final SpatialIndex spatialIndex = new SpatialIndex(this);
+
+	@Override
+	public <T> List<Pair<Point, T>> fixturesWithin(final Class<T> type, final Point point, final double radius) {
+		return spatialIndex.within(type, point, radius);
+	}
+
+	@Override
+	public <T> List<Pair<Point, T>> nearestFixtures(final Class<T> type, final Point point, final int count) {
+		return spatialIndex.nearest(type, point, count);
+	}
+
+	/**
+	 * Tell the indexes that the given fixture has been added to the given tile.
+	 */
+	private void indexAdded(final Point location, final TileFixture fixture) {
+		fixtureIndex.added(location, fixture);
+		spatialIndex.added(location, fixture);
+		mobileLocations.added(location, fixture);
+	}
+
+	/**
+	 * Tell the indexes that the given fixture has been removed from the given tile.
+	 */
+	private void indexRemoved(final Point location, final TileFixture fixture) {
+		fixtureIndex.removed(fixture);
+		spatialIndex.removed(location, fixture);
+		mobileLocations.removed(location, fixture);
+	}
+
+	@Override
+	public MapChanges getChanges() {
+		return changes;
+	}
+
+	@Override
+	public void markChanged(final IFixture fixture) {
+		markModified();
+		changes.fixtureChanged(fixture);
+		fixtureIndex.changed(fixture);
+		mobileLocations.changed(fixture);
+	}
+
+	@Override
+	public void resetChanges(final @Nullable Path baseline) {
+		changes.reset(baseline);
+	}
+
+	@Override
+	public int getCurrentTurn() {
+		return currentTurn;
+	}
+
+	@Override
+	public void setCurrentTurn(final int currentTurn) {
+		this.currentTurn = currentTurn;
+		revision++;
+	}
+
+	@Override
+	public MapDimensions getDimensions() {
+		return mapDimensions;
+	}
+
+	@Override
+	public ILegacyPlayerCollection getPlayers() {
+		return playerCollection;
+	}
+
+	private List<Point> getValidLocations() {
+		List<Point> retval = validLocations;
+		if (Objects.isNull(retval)) {
+			final List<Point> temp = new ArrayList<>(rows * columns);
+			for (int row = 0; row < rows; row++) {
+				for (int column = 0; column < columns; column++) {
+					temp.add(new Point(row, column));
+				}
+			}
+			retval = Collections.unmodifiableList(temp);
+			validLocations = retval;
+		}
+		return retval;
+	}
+
+	/**
+	 * The locations in the map: every point within its dimensions, in
+	 * row-major order, followed by any points outside its dimensions that
+	 * have fixtures (matching {@link LegacyMap#getLocations}).
+	 */
+	@Override
+	public Iterable<Point> getLocations() {
+		if (overflowPoints.isEmpty()) {
+			return getValidLocations();
+		} else {
+			return streamLocations().toList();
+		}
+	}
+
+	@Override
+	public Stream<Point> streamLocations() {
+		if (overflowPoints.isEmpty()) {
+			return getValidLocations().stream();
+		} else {
+			return Stream.concat(getValidLocations().stream(), List.copyOf(overflowPoints).stream());
+		}
+	}
+
+	@Override
+	public @Nullable TileType getBaseTerrain(final Point location) {
+		final int index = index(location);
+		if (index < 0) {
+			return overflow.getBaseTerrain(location);
+		}
+		final int stored = terrain[index];
+		return (stored == 0) ? null : TILE_TYPES[stored - 1];
+	}
+
+	@Override
+	public @Nullable TileType setBaseTerrain(final Point location, final @Nullable TileType item) {
+		final int index = index(location);
+		if (index < 0) {
+			final TileType retval = overflow.setBaseTerrain(location, item);
+			syncOverflowStatus(location);
+			return retval;
+		}
+		markModified(location); // TODO: Only if this is a change
+		final TileType retval = getBaseTerrain(location);
+		terrain[index] = (byte) (Objects.isNull(item) ? 0 : item.ordinal() + 1);
+		return retval;
+	}
+
+	@Override
+	public boolean isMountainous(final Point location) {
+		final int index = index(location);
+		if (index < 0) {
+			return overflow.isMountainous(location);
+		}
+		return mountains.get(index);
+	}
+
+	@Override
+	public boolean setMountainous(final Point location, final boolean item) {
+		final int index = index(location);
+		if (index < 0) {
+			final boolean retval = overflow.setMountainous(location, item);
+			syncOverflowStatus(location);
+			return retval;
+		}
+		markModified(location); // TODO: Only if this is a change
+		final boolean retval = mountains.get(index);
+		mountains.set(index, item);
+		return retval;
+	}
+
+	@Override
+	public Collection<River> getRivers(final Point location) {
+		final int index = index(location);
+		if (index < 0) {
+			return overflow.getRivers(location);
+		}
+		return RIVER_SETS.get(rivers[index]);
+	}
+
+	@Override
+	public void addRivers(final Point location, final River... addedRivers) {
+		final int index = index(location);
+		if (index < 0) {
+			overflow.addRivers(location, addedRivers);
+			syncOverflowStatus(location);
+			return;
+		}
+		int mask = rivers[index];
+		for (final River river : addedRivers) {
+			mask |= riverBit(river);
+		}
+		if (mask != rivers[index]) {
+			markModified(location);
+			rivers[index] = (byte) mask;
+		}
+	}
+
+	@Override
+	public void removeRivers(final Point location, final River... removedRivers) {
+		final int index = index(location);
+		if (index < 0) {
+			overflow.removeRivers(location, removedRivers);
+			syncOverflowStatus(location);
+			return;
+		}
+		int mask = rivers[index];
+		for (final River river : removedRivers) {
+			mask &= ~riverBit(river);
+		}
+		if (mask != rivers[index]) {
+			markModified(location);
+			rivers[index] = (byte) mask;
+		}
+	}
+
+	@Override
+	public Map<Direction, Integer> getRoads(final Point location) {
+		final int index = index(location);
+		if (index < 0) {
+			return overflow.getRoads(location);
+		}
+		final int mask = Byte.toUnsignedInt(roads[index]);
+		final int[] qualities = roadQualities;
+		if (mask == 0 || Objects.isNull(qualities)) {
+			return Collections.emptyMap();
+		}
+		final Map<Direction, Integer> retval = new EnumMap<>(Direction.class);
+		for (int i = 0; i < ROAD_DIRECTIONS.size(); i++) {
+			if ((mask & (1 << i)) != 0) {
+				retval.put(ROAD_DIRECTIONS.get(i), qualities[index * ROAD_DIRECTIONS.size() + i]);
+			}
+		}
+		return Collections.unmodifiableMap(retval);
+	}
+
+	@Override
+	public void setRoadLevel(final Point location, final Direction direction, final int quality) {
+		if (direction == Direction.Nowhere) {
+			return;
+		} else if (quality < 0) {
+			throw new IllegalArgumentException("Road quality must be nonnegative");
+		}
+		final int index = index(location);
+		if (index < 0) {
+			overflow.setRoadLevel(location, direction, quality);
+			syncOverflowStatus(location);
+			return;
+		}
+		int[] qualities = roadQualities;
+		if (Objects.isNull(qualities)) {
+			qualities = new int[terrain.length * ROAD_DIRECTIONS.size()];
+			roadQualities = qualities;
+		}
+		final int bit = roadBit(direction);
+		final int slot = index * ROAD_DIRECTIONS.size() + ROAD_DIRECTIONS.indexOf(direction);
+		if ((roads[index] & bit) == 0 || qualities[slot] != quality) {
+			markModified(location);
+		}
+		roads[index] |= (byte) bit;
+		qualities[slot] = quality;
+	}
+
+	@Override
+	public Collection<TileFixture> getFixtures(final Point location) {
+		final int index = index(location);
+		if (index < 0) {
+			return overflow.getFixtures(location);
+		}
+		final List<TileFixture> retval = fixtures[index];
+		if (Objects.isNull(retval)) {
+			return Collections.emptyList();
+		} else {
+			return Collections.unmodifiableCollection(retval);
+		}
+	}
+
+	@Override
+	public Stream<TileFixture> streamFixtures(final Point location) {
+		final int index = index(location);
+		if (index < 0) {
+			return overflow.streamFixtures(location);
+		}
+		final List<TileFixture> retval = fixtures[index];
+		if (Objects.isNull(retval)) {
+			return Stream.empty();
+		} else {
+			return retval.stream();
+		}
+	}
+
+	/**
+	 * Add a fixture at a location, and return whether the "all fixtures at
+	 * this point" set has an additional member as a result of this. This
+	 * follows the same rules for duplicate IDs as {@link LegacyMap#addFixture}.
+	 */
+	@Override
+	public boolean addFixture(final Point location, final TileFixture fixture) {
+		if (fixture instanceof FakeFixture) {
+			LovelaceLogger.error("Fake fixture passed to DenseLegacyMap.addFixture()");
+			LovelaceLogger.debug(new Exception("Fake fixture"),
+					"Stack trace for fake fixture in DenseLegacyMap.addFixture()");
+			return false;
+		}
+		final int index = index(location);
+		if (index < 0) {
+			final Collection<TileFixture> before = List.copyOf(overflow.getFixtures(location));
+			final boolean retval = overflow.addFixture(location, fixture);
+			overflowPoints.add(location);
+			syncOverflowStatus(location);
+			syncOverflowIndexes(location, before);
+			return retval;
+		}
+		markModified(location); // TODO: Only if this is a change
+		List<TileFixture> local = fixtures[index];
+		if (Objects.isNull(local)) {
+			local = new ArrayList<>();
+			fixtures[index] = local;
+		}
+		final Optional<TileFixture> existing = local.stream()
+				.filter(f -> f.getId() == fixture.getId()).findAny();
+		if (fixture.getId() >= 0 && existing.isPresent()) {
+			if (existing.get().equals(fixture) || LegacyMap.subsetCheck(existing.get(), fixture)) {
+				local.remove(existing.get());
+				local.add(fixture);
+				indexRemoved(location, existing.get());
+				indexAdded(location, fixture);
+				return false;
+			} else {
+				local.add(fixture);
+				indexAdded(location, fixture);
+				LovelaceLogger.warning("Inserted duplicate-ID fixture at %s", location);
+				LovelaceLogger.debug(new Exception("Duplicate ID"), "Stack trace of this location: ");
+				LovelaceLogger.info("Existing fixture was: %s", existing.get().getShortDescription());
+				LovelaceLogger.info("Added: %s", fixture.getShortDescription());
+				return true;
+			}
+		} else {
+			indexAdded(location, fixture);
+			return local.add(fixture);
+		}
+	}
+
+	@Override
+	public void removeFixture(final Point location, final TileFixture fixture) {
+		final int index = index(location);
+		if (index < 0) {
+			final Collection<TileFixture> before = List.copyOf(overflow.getFixtures(location));
+			overflow.removeFixture(location, fixture);
+			if (overflow.getFixtures(location).isEmpty()) {
+				overflowPoints.remove(location);
+			}
+			syncOverflowStatus(location);
+			syncOverflowIndexes(location, before);
+			return;
+		}
+		final List<TileFixture> local = fixtures[index];
+		if (Objects.nonNull(local)) {
+			final int position = local.indexOf(fixture);
+			if (position >= 0) {
+				indexRemoved(location, local.remove(position));
+				markModified(location);
+				if (local.isEmpty()) {
+					fixtures[index] = null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void replace(final Point location, final TileFixture original, final TileFixture replacement) {
+		final int index = index(location);
+		if (index < 0) {
+			final Collection<TileFixture> before = List.copyOf(overflow.getFixtures(location));
+			overflow.replace(location, original, replacement);
+			overflowPoints.add(location);
+			if (overflow.getFixtures(location).isEmpty()) {
+				overflowPoints.remove(location);
+			}
+			syncOverflowStatus(location);
+			syncOverflowIndexes(location, before);
+			return;
+		}
+		markModified(location); // TODO: Only if this is a change
+		final List<TileFixture> local = fixtures[index];
+		if (Objects.nonNull(local) && local.contains(replacement) && !original.equals(replacement)) {
+			removeFixture(location, original);
+		} else {
+			final int existing = Objects.isNull(local) ? -1 : local.indexOf(original);
+			if (existing >= 0) {
+				indexRemoved(location, local.set(existing, replacement));
+				indexAdded(location, replacement);
+			} else {
+				addFixture(location, replacement);
+			}
+		}
+	}
+
+	@Override
+	public Player getCurrentPlayer() {
+		return playerCollection.getCurrentPlayer();
+	}
+
+	@Override
+	public void setCurrentPlayer(final Player currentPlayer) {
+		if (playerCollection.getCurrentPlayer().getPlayerId() != currentPlayer.getPlayerId()) {
+			markModified();
+			playerCollection.setCurrentPlayer(currentPlayer);
+		}
+	}
+
+	@Override
+	public void addPlayer(final Player player) {
+		markModified(); // TODO: Only if this is a change
+		playerCollection.add(player);
+	}
+
+	@Override
+	public Set<Point> getBookmarksFor(final Player player) {
+		return bookmarksImpl.entrySet().stream().filter(e -> e.getValue().contains(player))
+				.map(Map.Entry::getKey).collect(Collectors.toSet());
+	}
+
+	@Override
+	public Set<Point> getBookmarks() {
+		return getBookmarksFor(getCurrentPlayer());
+	}
+
+	@Override
+	public Collection<Player> getAllBookmarks(final Point location) {
+		final Collection<Player> retval = bookmarksImpl.get(location);
+		if (Objects.isNull(retval)) {
+			return Collections.emptyList();
+		} else {
+			return Collections.unmodifiableCollection(retval);
+		}
+	}
+
+	@Override
+	public void addBookmark(final Point point, final Player player) {
+		if (bookmarksImpl.computeIfAbsent(point, _ -> new HashSet<>()).add(player)) {
+			markModified(point);
+		}
+	}
+
+	@Override
+	public void removeBookmark(final Point point, final Player player) {
+		final Set<Player> marks = bookmarksImpl.get(point);
+		if (Objects.nonNull(marks) && marks.remove(player)) {
+			markModified(point);
+			if (marks.isEmpty()) {
+				bookmarksImpl.remove(point);
+			}
+		}
+	}
+
+	/**
+	 * Clone the map, possibly for a specific player, who shouldn't see
+	 * other players' details. Terrain, mountains, rivers, and roads are
+	 * copied wholesale from the underlying arrays; as with {@link
+	 * LegacyMap#copy}, bookmarks are not copied.
+	 */
+	@Override
+	public ILegacyMap copy(final IFixture.CopyBehavior zero, final @Nullable Player player) {
+		final DenseLegacyMap retval = copyTerrain();
+		// TODO: what other fixtures should we zero, or skip?
+		for (final Point point : getLocations()) {
+			final int index = index(point);
+			if (index < 0) {
+				final TileType tileType = overflow.getBaseTerrain(point);
+				if (Objects.nonNull(tileType)) {
+					retval.setBaseTerrain(point, tileType);
+				}
+				retval.setMountainous(point, overflow.isMountainous(point));
+				retval.addRivers(point, overflow.getRivers(point).toArray(River[]::new));
+			} else if (Objects.isNull(fixtures[index])) {
+				continue;
+			}
+			for (final TileFixture fixture : getFixtures(point)) {
+				retval.addFixture(point, fixture.copy(LegacyMap.copyBehavior(zero, fixture, player)));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * A map with the same players, turn, terrain, mountains, rivers, and
+	 * roads (at valid locations) as this one, but no fixtures.
+	 */
+	private DenseLegacyMap copyTerrain() {
+		final DenseLegacyMap retval = new DenseLegacyMap(mapDimensions, playerCollection.copy(), currentTurn);
+		System.arraycopy(terrain, 0, retval.terrain, 0, terrain.length);
+		retval.mountains.or(mountains);
+		System.arraycopy(rivers, 0, retval.rivers, 0, rivers.length);
+		System.arraycopy(roads, 0, retval.roads, 0, roads.length);
+		if (Objects.nonNull(roadQualities)) {
+			retval.roadQualities = Arrays.copyOf(roadQualities, roadQualities.length);
+		}
+		return retval;
+	}
+
+	/**
+	 * Clone the map for each of the given players in one pass over its
+	 * fixtures. The arrays holding terrain, mountains, rivers, and roads
+	 * are compact enough that each copy gets its own, copied wholesale.
+	 */
+	@Override
+	public List<ILegacyMap> copyForPlayers(final IFixture.CopyBehavior zero, final List<Player> players) {
+		final List<DenseLegacyMap> retval = new ArrayList<>(players.size());
+		for (final Player player : players) {
+			retval.add(copyTerrain());
+		}
+		for (final Point point : getLocations()) {
+			final int index = index(point);
+			if (index < 0) {
+				final TileType tileType = overflow.getBaseTerrain(point);
+				final boolean mountainous = overflow.isMountainous(point);
+				final River[] tileRivers = overflow.getRivers(point).toArray(River[]::new);
+				for (final DenseLegacyMap map : retval) {
+					if (Objects.nonNull(tileType)) {
+						map.setBaseTerrain(point, tileType);
+					}
+					map.setMountainous(point, mountainous);
+					map.addRivers(point, tileRivers);
+				}
+			} else if (Objects.isNull(fixtures[index])) {
+				continue;
+			}
+			for (final TileFixture fixture : getFixtures(point)) {
+				for (int i = 0; i < players.size(); i++) {
+					retval.get(i).addFixture(point,
+							fixture.copy(LegacyMap.copyBehavior(zero, fixture, players.get(i))));
+				}
+			}
+		}
+		return Collections.unmodifiableList(retval);
+	}
+
+	/**
+	 * Returns true if the other map is a "strict subset" of this one,
+	 * except for those cases we deliberately ignore.
+	 */
+	@Override
+	public boolean isSubset(final ILegacyMap obj, final Consumer<String> report) {
+		return new SubsetChecker(this).isSubset(obj, report);
+	}
+
+	@Override
+	public int hashCode() {
+		return getDimensions().hashCode() + currentTurn << 3 + getCurrentPlayer().hashCode() << 5;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof final ILegacyMap that && LegacyMap.mapsEqual(this, that);
+	}
+
+	@Override
+	public String toString() {
+		return LegacyMap.describe(this, "DenseLegacyMap:");
+	}
+}
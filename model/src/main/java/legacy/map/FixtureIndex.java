@@ -0,0 +1,179 @@
+package legacy.map;
+
+import legacy.map.fixtures.FixtureIterable;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An index from ID numbers to the fixtures in a map, including those inside
+ * fortresses and units, and where they are, for the maps' implementation of
+ * {@link ILegacyMap#findFixture}.
+ *
+ * The index is only built when it is first used, by searching the whole
+ * map. After that, the map keeps it up to date as fixtures are added to and
+ * removed from tiles, and as fixtures are reported as changed in place. But
+ * fortresses and units can gain and lose members without the map being told,
+ * so every entry is checked against the map before it is returned. If that
+ * check fails, or an ID is not found after the map has been changed in a way
+ * the index could not follow, the index is rebuilt.
+ *
+ * Fixtures with negative IDs are not indexed.
+ */
+/* package */ final class FixtureIndex {
+	/**
+	 * The map being indexed.
+	 */
+	private final ILegacyMap map;
+
+	private final Map<Integer, FixtureLocation> entries = new HashMap<>();
+
+	/**
+	 * Whether every fixture in the map is known to be in the index. False
+	 * until the index is first built, and after any change the index could
+	 * not follow.
+	 */
+	private boolean complete = false;
+
+	/**
+	 * Whether more than one fixture has been found with the same ID, in
+	 * which case removing one could leave the other unindexed.
+	 */
+	private boolean duplicates = false;
+
+	public FixtureIndex(final ILegacyMap map) {
+		this.map = map;
+	}
+
+	/**
+	 * Add the given fixture, and everything it contains, to the index.
+	 */
+	private void index(final IFixture fixture, final Point location, final List<IFixture> parents) {
+		if (fixture.getId() >= 0) {
+			final FixtureLocation previous = entries.put(fixture.getId(),
+					new FixtureLocation(fixture, location, parents));
+			if (Objects.nonNull(previous) && previous.fixture() != fixture) {
+				duplicates = true;
+			}
+		}
+		if (fixture instanceof final FixtureIterable<?> iter) {
+			final List<IFixture> inner = new ArrayList<>(parents);
+			inner.add(fixture);
+			for (final IFixture member : iter) {
+				index(member, location, inner);
+			}
+		}
+	}
+
+	/**
+	 * Remove the given fixture, and everything it contains, from the index.
+	 */
+	private void unindex(final IFixture fixture) {
+		final FixtureLocation entry = entries.get(fixture.getId());
+		if (Objects.nonNull(entry) && entry.fixture() == fixture) {
+			entries.remove(fixture.getId());
+			if (duplicates) {
+				complete = false;
+			}
+		}
+		if (fixture instanceof final FixtureIterable<?> iter) {
+			for (final IFixture member : iter) {
+				unindex(member);
+			}
+		}
+	}
+
+	private static boolean containsSame(final Iterable<? extends IFixture> collection, final IFixture fixture) {
+		for (final IFixture item : collection) {
+			if (item == fixture) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the given entry still describes where its fixture is in the map.
+	 */
+	private boolean isCurrent(final int id, final FixtureLocation entry) {
+		if (entry.fixture().getId() != id || !containsSame(map.getFixtures(entry.location()), entry.tileFixture())) {
+			return false;
+		}
+		final List<IFixture> parents = entry.parents();
+		for (int i = 0; i < parents.size(); i++) {
+			final IFixture child = (i + 1 < parents.size()) ? parents.get(i + 1) : entry.fixture();
+			if (!(parents.get(i) instanceof final FixtureIterable<?> iter) || !containsSame(iter, child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void rebuild() {
+		entries.clear();
+		duplicates = false;
+		for (final Point location : map.getLocations()) {
+			for (final TileFixture fixture : map.getFixtures(location)) {
+				index(fixture, location, List.of());
+			}
+		}
+		complete = true;
+	}
+
+	/**
+	 * Find the fixture with the given ID, and where it is.
+	 */
+	public synchronized @Nullable FixtureLocation find(final int id) {
+		final FixtureLocation entry = entries.get(id);
+		if (Objects.nonNull(entry) && isCurrent(id, entry)) {
+			return entry;
+		} else if (Objects.nonNull(entry) || !complete) {
+			rebuild();
+			return entries.get(id);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Record that the given fixture has been added to the given tile.
+	 */
+	public synchronized void added(final Point location, final TileFixture fixture) {
+		if (complete) {
+			index(fixture, location, List.of());
+		}
+	}
+
+	/**
+	 * Record that the given fixture has been removed from a tile.
+	 */
+	public synchronized void removed(final TileFixture fixture) {
+		unindex(fixture);
+	}
+
+	/**
+	 * Record that the given fixture has been changed in place, which may
+	 * include fixtures having been added to it.
+	 */
+	public synchronized void changed(final IFixture fixture) {
+		if (complete) {
+			final FixtureLocation entry = entries.get(fixture.getId());
+			if (Objects.nonNull(entry) && entry.fixture() == fixture) {
+				index(fixture, entry.location(), entry.parents());
+			} else {
+				complete = false;
+			}
+		}
+	}
+
+	/**
+	 * Record that the map has been changed in some way the index was not told about.
+	 */
+	public synchronized void invalidate() {
+		complete = false;
+	}
+}
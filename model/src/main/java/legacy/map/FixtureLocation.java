@@ -0,0 +1,33 @@
+package legacy.map;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Where a fixture is in a map: the tile it is on, and the fixtures (a
+ * fortress, a unit) it is inside, if any.
+ *
+ * @param fixture  The fixture
+ * @param location The tile it is on, or that the outermost of its containers is on
+ * @param parents  The fixtures it is (indirectly) inside, outermost (the one on the tile itself) first
+ */
+public record FixtureLocation(IFixture fixture, Point location, List<IFixture> parents) {
+	public FixtureLocation {
+		parents = List.copyOf(parents);
+	}
+
+	/**
+	 * The fixture on the tile itself: the fixture if it is not inside anything, or else its outermost container.
+	 */
+	public TileFixture tileFixture() {
+		return (TileFixture) (parents.isEmpty() ? fixture : parents.getFirst());
+	}
+
+	/**
+	 * The fixture's immediate container, or null if it is directly on the tile.
+	 */
+	public @Nullable IFixture parent() {
+		return parents.isEmpty() ? null : parents.getLast();
+	}
+}
@@ -2,11 +2,13 @@ package legacy.map;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import org.javatuples.Pair;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -103,6 +105,56 @@ public interface ILegacyMap extends Subsettable<ILegacyMap> {
 		return streamLocations().flatMap(this::streamFixtures);
 	}
 
+	/**
+	 * Find the fixture with the given ID, whether it is on a tile or
+	 * (perhaps indirectly) inside a fortress or unit that is, and where it
+	 * is; or null if there is none. If more than one fixture has the ID,
+	 * which is returned is undefined. Fixtures with negative IDs are never
+	 * found.
+	 *
+	 * Implementations keep an index, so this does not search the map.
+	 * Members added to a fortress or unit in place will be found once that
+	 * change has been reported through {@link IMutableLegacyMap#markChanged}
+	 * or {@link IMutableLegacyMap#setStatus}.
+	 */
+	@Nullable
+	FixtureLocation findFixture(int id);
+
+	/**
+	 * Every place a mobile fixture (such as a unit) with the given ID is in
+	 * the map, either directly on a tile or inside a fortress on one. Unlike
+	 * {@link #findFixture}, if more than one fixture has the ID, all are
+	 * returned, those directly on tiles first. Fixtures with negative IDs
+	 * are never found.
+	 *
+	 * Implementations keep track of where mobile fixtures are, so this does
+	 * not search the map. Members added to or removed from a fortress in
+	 * place will be seen once that change has been reported through {@link
+	 * IMutableLegacyMap#markChanged} or {@link IMutableLegacyMap#setStatus}.
+	 */
+	List<FixtureLocation> locateMobile(int id);
+
+	/**
+	 * The fixtures of the given type (on tiles, not inside fortresses or
+	 * units) within the given distance of the given point, nearest first,
+	 * with where they are. Distance is measured as {@link
+	 * legacy.DistanceComparatorImpl} does, wrapping around the edges of the
+	 * map; fixtures outside the map's dimensions are never included.
+	 *
+	 * Implementations keep an index, so this does not search the whole map.
+	 */
+	<T> List<Pair<Point, T>> fixturesWithin(Class<T> type, Point point, double radius);
+
+	/**
+	 * The given number of fixtures of the given type (on tiles, not inside
+	 * fortresses or units) nearest to the given point, nearest first, with
+	 * where they are, measuring distance as {@link #fixturesWithin} does.
+	 * If there are fewer than that many in the map, all of them.
+	 *
+	 * Implementations keep an index, so this does not search the whole map.
+	 */
+	<T> List<Pair<Point, T>> nearestFixtures(Class<T> type, Point point, int count);
+
 	/**
 	 * The current turn.
 	 */
@@ -134,10 +186,24 @@ public interface ILegacyMap extends Subsettable<ILegacyMap> {
 	 * TODO: What should this do with the filename? Take a filename parameter?
 	 *
 	 * @param zero   Whether to "zero" sensitive data TODO: move CopyBehavior elsewhere than IFixture
-	 * @param player The player for whom the copied map is being prepared, if any.
+	 * @param player The player for whom the copied map is being prepared, if any. If
+	 *               given, the details of fixtures not owned by that player are zeroed.
 	 */
 	ILegacyMap copy(IFixture.CopyBehavior zero, @Nullable Player player);
 
+	/**
+	 * Clone the map once for each of the given players, as {@link #copy}
+	 * does for one player. Implementations should do this in a single pass
+	 * over the map, and may share data that the copies do not change.
+	 *
+	 * @param zero    Whether to "zero" sensitive data
+	 * @param players The players for whom the copies are being prepared
+	 * @return The copies, in the same order as the players
+	 */
+	default List<ILegacyMap> copyForPlayers(final IFixture.CopyBehavior zero, final List<Player> players) {
+		return players.stream().map(player -> copy(zero, player)).toList();
+	}
+
 	/**
 	 * The file from which the map was loaded, or to which it should be saved, if known
 	 */
@@ -163,6 +229,22 @@ public interface ILegacyMap extends Subsettable<ILegacyMap> {
 	 */
 	ModificationStatus getStatus();
 
+	/**
+	 * A counter that changes whenever the contents of the map are changed
+	 * through its mutator methods, so that callers can cheaply tell whether
+	 * data they have derived from the map is stale. (Changes made to
+	 * fixtures in place, rather than by adding, removing, or replacing
+	 * them, are not tracked.) Unlike {@link #getStatus}, this is not reset
+	 * when the map is saved.
+	 */
+	long getRevision();
+
+	/**
+	 * What has changed in the map since it was last known to match a file,
+	 * for writers that can save only what has changed.
+	 */
+	MapChanges getChanges();
+
 	/**
 	 * A location is empty if it has no terrain, no Ground, no Forest, no
 	 * rivers, no roads, no bookmarks, and no other fixtures
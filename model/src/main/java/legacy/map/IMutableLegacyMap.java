@@ -77,11 +77,29 @@ public interface IMutableLegacyMap extends ILegacyMap {
 
 	/**
 	 * Set whether the map has been modified since it was last saved.
+	 * Because this does not say <em>what</em> was modified, marking the
+	 * map as modified this way stops {@link #getChanges change tracking}
+	 * until it is next {@link #resetChanges reset}; callers that have
+	 * changed a fixture in place should prefer {@link #markChanged}.
 	 *
 	 * FIXME: Notify map metadata listeners when changed
 	 */
 	void setStatus(ModificationStatus status);
 
+	/**
+	 * Record that the given fixture, which is either on a tile in the map
+	 * or (perhaps indirectly) a member of something that is, has been
+	 * changed in place, and mark the map as modified.
+	 */
+	void markChanged(IFixture fixture);
+
+	/**
+	 * Forget what has changed, because the map has just been read from or
+	 * written to the given file, and track further changes relative to
+	 * that file; or, if it is null, stop tracking changes.
+	 */
+	void resetChanges(@Nullable Path baseline);
+
 	/**
 	 * Add a bookmark.
 	 *
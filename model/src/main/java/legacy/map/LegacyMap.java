@@ -1,11 +1,8 @@
 package legacy.map;
 
-import legacy.map.fixtures.mobile.IUnit;
-
 import java.util.Arrays;
 
 import lovelace.util.LovelaceLogger;
-import org.javatuples.Pair;
 
 import java.nio.file.Path;
 
@@ -16,6 +13,8 @@ import java.util.Map;
 import java.util.List;
 import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Spliterators;
 import java.util.HashMap;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,10 +26,8 @@ import java.util.stream.StreamSupport;
 import java.util.stream.Stream;
 
 import java.util.function.Consumer;
-import java.util.function.BiPredicate;
-
-import legacy.map.fixtures.towns.AbstractTown;
 
+import org.javatuples.Pair;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -41,21 +38,38 @@ public final class LegacyMap implements IMutableLegacyMap {
 	private static final int HASHMAP_SMALL_SIZE = 20;
 
 	/**
-	 * Whether the given fixture should be zeroed out if the map is for the given player.
+	 * Whether the given fixture should be zeroed out if the map is for the
+	 * given player: unless the fixture belongs to that player. If the map
+	 * is not for any particular player, nothing need be zeroed.
 	 */
-	private static boolean shouldZero(final TileFixture fixture, final @Nullable Player player) {
-		if (Objects.nonNull(player) && fixture instanceof final HasOwner owned) {
-			return player.equals(owned.owner());
+	static boolean shouldZero(final TileFixture fixture, final @Nullable Player player) {
+		if (Objects.isNull(player)) {
+			return false;
+		} else if (fixture instanceof final HasOwner owned) {
+			return owned.owner().getPlayerId() != player.getPlayerId();
 		} else {
 			return true;
 		}
 	}
 
+	/**
+	 * How to copy the given fixture into a copy of the map for the given
+	 * player, if any, when the caller asked for the given behavior.
+	 */
+	static IFixture.CopyBehavior copyBehavior(final IFixture.CopyBehavior zero, final TileFixture fixture,
+	                                          final @Nullable Player player) {
+		if (zero == IFixture.CopyBehavior.ZERO || shouldZero(fixture, player)) {
+			return IFixture.CopyBehavior.ZERO;
+		} else {
+			return IFixture.CopyBehavior.KEEP;
+		}
+	}
+
 	/**
 	 * If either of the provided fixtures is a subset of the other, return
 	 * true; otherwise return false.
 	 */
-	private static boolean subsetCheck(final IFixture one, final IFixture two) {
+	static boolean subsetCheck(final IFixture one, final IFixture two) {
 		if (one instanceof final SubsettableFixture sf && sf.isSubset(two, x -> {
 		})) {
 			return true;
@@ -105,17 +119,124 @@ public final class LegacyMap implements IMutableLegacyMap {
 	@Override
 	public void setStatus(final ModificationStatus status) {
 		this.status = status;
+		if (status == ModificationStatus.Modified) {
+			changes.reset(null);
+			fixtureIndex.invalidate();
+			mobileLocations.invalidate();
+		}
+	}
+
+	/**
+	 * A counter incremented by every mutation of the map's contents.
+	 */
+	private long revision = 0;
+
+	@Override
+	public long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * Record that the map's contents have changed.
+	 */
+	private void markModified() {
+		status = ModificationStatus.Modified;
+		revision++;
+	}
+
+	/**
+	 * Record that the map's contents at the given location have changed.
+	 */
+	private void markModified(final Point location) {
+		markModified();
+		changes.locationChanged(location);
+	}
+
+	/**
+	 * What has changed since the map was last known to match a file.
+	 */
+	private final MapChanges changes = new MapChanges();
+
+	@Override
+	public MapChanges getChanges() {
+		return changes;
+	}
+
+	@Override
+	public void markChanged(final IFixture fixture) {
+		markModified();
+		changes.fixtureChanged(fixture);
+		fixtureIndex.changed(fixture);
+		mobileLocations.changed(fixture);
+	}
+
+	@Override
+	public void resetChanges(final @Nullable Path baseline) {
+		changes.reset(baseline);
+	}
+
+	/**
+	 * An index of the fixtures in the map by ID.
+	 */
+	private final FixtureIndex fixtureIndex = new FixtureIndex(this);
+
+	@Override
+	public @Nullable FixtureLocation findFixture(final int id) {
+		return fixtureIndex.find(id);
+	}
+
+	/**
+	 * Where each mobile fixture in the map is.
+	 */
+	private final MobileLocations mobileLocations = new MobileLocations(this);
+
+	@Override
+	public List<FixtureLocation> locateMobile(final int id) {
+		return mobileLocations.find(id);
+	}
+
+	/**
+	 * An index of where fixtures of the types asked about are.
+	 */
+	private final SpatialIndex spatialIndex = new SpatialIndex(this);
+
+	@Override
+	public <T> List<Pair<Point, T>> fixturesWithin(final Class<T> type, final Point point, final double radius) {
+		return spatialIndex.within(type, point, radius);
+	}
+
+	@Override
+	public <T> List<Pair<Point, T>> nearestFixtures(final Class<T> type, final Point point, final int count) {
+		return spatialIndex.nearest(type, point, count);
+	}
+
+	/**
+	 * Tell the indexes that the given fixture has been added to the given tile.
+	 */
+	private void indexAdded(final Point location, final TileFixture fixture) {
+		fixtureIndex.added(location, fixture);
+		spatialIndex.added(location, fixture);
+		mobileLocations.added(location, fixture);
+	}
+
+	/**
+	 * Tell the indexes that the given fixture has been removed from the given tile.
+	 */
+	private void indexRemoved(final Point location, final TileFixture fixture) {
+		fixtureIndex.removed(fixture);
+		spatialIndex.removed(location, fixture);
+		mobileLocations.removed(location, fixture);
 	}
 
 	/**
 	 * The set of mountainous places.
 	 */
-	private final Set<Point> mountains;
+	private Set<Point> mountains;
 
 	/**
 	 * The base terrain at points in the map.
 	 */
-	private final Map<Point, TileType> terrain;
+	private Map<Point, TileType> terrain;
 
 	/**
 	 * The players in the map.
@@ -128,6 +249,12 @@ public final class LegacyMap implements IMutableLegacyMap {
 	// TODO: Use Guava multimap?
 	private final Map<Point, List<TileFixture>> fixturesMap;
 
+	/**
+	 * The points outside the map's dimensions that have fixtures, so that
+	 * {@link #getLocations} can include them without searching {@link #fixturesMap}.
+	 */
+	private final Set<Point> overflowPoints = new LinkedHashSet<>();
+
 	/**
 	 * The version and dimensions of the map.
 	 */
@@ -136,12 +263,19 @@ public final class LegacyMap implements IMutableLegacyMap {
 	/**
 	 * The rivers in the map.
 	 */
-	private final Map<Point, Set<River>> riversMap;
+	private Map<Point, Set<River>> riversMap;
 
 	/**
 	 * Roads in the map.
 	 */
-	private final Map<Point, Map<Direction, Integer>> roadsMap;
+	private Map<Point, Map<Direction, Integer>> roadsMap;
+
+	/**
+	 * Whether {@link #terrain}, {@link #mountains}, {@link #riversMap}, and
+	 * {@link #roadsMap} may be shared with other maps (by {@link
+	 * #copyForPlayers}), so that they must be copied before they are changed.
+	 */
+	private boolean layersShared = false;
 
 	/**
 	 * The current turn.
@@ -162,6 +296,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 	@Override
 	public void setCurrentTurn(final int currentTurn) {
 		this.currentTurn = currentTurn;
+		revision++;
 	}
 
 	/**
@@ -206,6 +341,47 @@ public final class LegacyMap implements IMutableLegacyMap {
 		currentTurn = turn;
 	}
 
+	/**
+	 * Make a map that shares the given map's terrain, mountains, rivers,
+	 * and roads until either is changed, but has no fixtures.
+	 */
+	private LegacyMap(final LegacyMap source, final IMutableLegacyPlayerCollection players) {
+		final int size = source.mapDimensions.rows() * source.mapDimensions.columns();
+		terrain = source.terrain;
+		mountains = source.mountains;
+		riversMap = source.riversMap;
+		roadsMap = source.roadsMap;
+		fixturesMap = new HashMap<>(reduceLarge(size), 0.5f);
+		bookmarksImpl = new HashMap<>(reduceMore(size), 0.5f);
+		mapDimensions = source.mapDimensions;
+		playerCollection = players;
+		currentTurn = source.currentTurn;
+		layersShared = true;
+		source.layersShared = true;
+	}
+
+	/**
+	 * If the terrain, mountains, rivers, and roads may be shared with
+	 * other maps, copy them so they can be changed.
+	 */
+	private void unshareLayers() {
+		if (layersShared) {
+			terrain = new HashMap<>(terrain);
+			mountains = new HashSet<>(mountains);
+			final Map<Point, Set<River>> rivers = HashMap.newHashMap(riversMap.size());
+			for (final Map.Entry<Point, Set<River>> entry : riversMap.entrySet()) {
+				rivers.put(entry.getKey(), EnumSet.copyOf(entry.getValue()));
+			}
+			riversMap = rivers;
+			final Map<Point, Map<Direction, Integer>> roads = HashMap.newHashMap(roadsMap.size());
+			for (final Map.Entry<Point, Map<Direction, Integer>> entry : roadsMap.entrySet()) {
+				roads.put(entry.getKey(), new EnumMap<>(entry.getValue()));
+			}
+			roadsMap = roads;
+			layersShared = false;
+		}
+	}
+
 	/**
 	 * The dimensions of the map.
 	 */
@@ -229,25 +405,36 @@ public final class LegacyMap implements IMutableLegacyMap {
 	 * could get invalid-but-used points from {@code fixtures.keys};
 	 * we include the invalid-but-apparently-used points here in Java
 	 * because we don't expose fixtures as a Map now.
+	 *
+	 * This does not build a collection: each iteration visits the valid
+	 * locations in row-major order, then the invalid points that had
+	 * fixtures when this was called.
 	 */
 	@Override
 	public Iterable<Point> getLocations() {
-		return Stream.concat(
-				StreamSupport.stream(new PointIterable(getDimensions(), true, true).spliterator(),
-						false),
-				fixturesMap.keySet().stream()).distinct().collect(Collectors.toList());
+		if (overflowPoints.isEmpty()) {
+			return () -> Spliterators.iterator(new LocationSpliterator(mapDimensions));
+		} else {
+			final List<Point> overflow = List.copyOf(overflowPoints);
+			return () -> Stream.concat(StreamSupport.stream(new LocationSpliterator(mapDimensions), false),
+					overflow.stream()).iterator();
+		}
 	}
 
 	/**
-	 * Stream the locations in the map.
+	 * Stream the locations in the map: the valid locations in row-major
+	 * order, then any invalid points that have fixtures. This stream
+	 * knows its size and splits well, so parallel streams of it are
+	 * worthwhile.
 	 */
 	@Override
 	public Stream<Point> streamLocations() {
-		// TODO: Add stream() to PointIterable
-		return Stream.concat(
-				StreamSupport.stream(new PointIterable(getDimensions(), true, true).spliterator(),
-						false),
-				fixturesMap.keySet().stream()).distinct();
+		final Stream<Point> valid = StreamSupport.stream(new LocationSpliterator(mapDimensions), false);
+		if (overflowPoints.isEmpty()) {
+			return valid;
+		} else {
+			return Stream.concat(valid, List.copyOf(overflowPoints).stream());
+		}
 	}
 
 	/**
@@ -263,7 +450,8 @@ public final class LegacyMap implements IMutableLegacyMap {
 	 */
 	@Override
 	public @Nullable TileType setBaseTerrain(final Point key, final @Nullable TileType item) {
-		status = ModificationStatus.Modified; // TODO: Only if this is a change
+		markModified(key); // TODO: Only if this is a change
+		unshareLayers();
 		final TileType retval = getBaseTerrain(key);
 		if (Objects.isNull(item)) {
 			terrain.remove(key);
@@ -283,7 +471,8 @@ public final class LegacyMap implements IMutableLegacyMap {
 
 	@Override
 	public boolean setMountainous(final Point key, final boolean item) {
-		status = ModificationStatus.Modified; // TODO: Only if this is a change
+		markModified(key); // TODO: Only if this is a change
+		unshareLayers();
 		final boolean retval = isMountainous(key);
 		if (item) {
 			mountains.add(key);
@@ -326,10 +515,11 @@ public final class LegacyMap implements IMutableLegacyMap {
 		} else if (quality < 0) {
 			throw new IllegalArgumentException("Road quality must be nonnegative");
 		}
+		unshareLayers();
 		final Map<Direction, Integer> roadsAtPoint = roadsMap.computeIfAbsent(point,
 				_ -> new EnumMap<>(Direction.class));
 		if (!Objects.equals(quality, roadsAtPoint.get(direction))) {
-			status = ModificationStatus.Modified;
+			markModified(point);
 		}
 		roadsAtPoint.put(direction, quality);
 	}
@@ -363,7 +553,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 	@Override
 	public void setCurrentPlayer(final Player currentPlayer) {
 		if (playerCollection.getCurrentPlayer().getPlayerId() != currentPlayer.getPlayerId()) {
-			status = ModificationStatus.Modified;
+			markModified();
 			playerCollection.setCurrentPlayer(currentPlayer);
 		}
 	}
@@ -393,7 +583,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 	public void addBookmark(final Point point, final Player player) {
 		final Set<Player> marks = bookmarksImpl.computeIfAbsent(point, _ -> new HashSet<>());
 		if (marks.add(player)) {
-			status = ModificationStatus.Modified;
+			markModified(point);
 		}
 	}
 
@@ -401,7 +591,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 	public void removeBookmark(final Point point, final Player player) {
 		final Set<Player> marks = bookmarksImpl.getOrDefault(point, Collections.emptySet());
 		if (marks.remove(player)) {
-			status = ModificationStatus.Modified;
+			markModified(point);
 		}
 		if (marks.isEmpty()) {
 			bookmarksImpl.remove(point);
@@ -415,7 +605,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 	 */
 	@Override
 	public void addPlayer(final Player player) {
-		status = ModificationStatus.Modified; // TODO: Only if this is a change
+		markModified(); // TODO: Only if this is a change
 		playerCollection.add(player);
 	}
 
@@ -425,9 +615,10 @@ public final class LegacyMap implements IMutableLegacyMap {
 	@Override
 	public void addRivers(final Point location, final River... addedRivers) {
 		if (addedRivers.length > 0) {
+			unshareLayers();
 			final Set<River> set = riversMap.computeIfAbsent(location, _ -> EnumSet.noneOf(River.class));
 			if (set.addAll(Arrays.asList(addedRivers))) {
-				status = ModificationStatus.Modified;
+				markModified(location);
 			}
 		}
 	}
@@ -437,10 +628,11 @@ public final class LegacyMap implements IMutableLegacyMap {
 	 */
 	@Override
 	public void removeRivers(final Point location, final River... removedRivers) {
+		unshareLayers();
 		final Set<River> set = riversMap.getOrDefault(location, EnumSet.noneOf(River.class));
 		for (final River river : removedRivers) {
 			if (set.remove(river)) {
-				status = ModificationStatus.Modified;
+				markModified(location);
 			}
 		}
 		if (set.isEmpty()) {
@@ -461,8 +653,11 @@ public final class LegacyMap implements IMutableLegacyMap {
 			LovelaceLogger.debug(new Exception("Fake fixture"), "Stack trace for fake fixture in SPMapNG.addFixture()");
 			return false;
 		}
-		status = ModificationStatus.Modified; // TODO: Only if this is a change
+		markModified(location); // TODO: Only if this is a change
 		final List<TileFixture> local = fixturesMap.computeIfAbsent(location, _ -> new ArrayList<>());
+		if (!mapDimensions.contains(location)) {
+			overflowPoints.add(location);
+		}
 		final Optional<TileFixture> existing = local.stream()
 				.filter(f -> f.getId() == fixture.getId()).findAny();
 		if (fixture.getId() >= 0 && existing.isPresent()) {
@@ -470,6 +665,8 @@ public final class LegacyMap implements IMutableLegacyMap {
 				local.remove(existing.get());
 				local.add(fixture);
 				fixturesMap.put(location, local);
+				indexRemoved(location, existing.get());
+				indexAdded(location, fixture);
 				// The return value is primarily used by {@link
 				// FixtureListModel}, which won't care about
 				// differences, but would end up with double
@@ -478,6 +675,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 			} else {
 				local.add(fixture);
 				fixturesMap.put(location, local);
+				indexAdded(location, fixture);
 				LovelaceLogger.warning("Inserted duplicate-ID fixture at %s", location);
 				LovelaceLogger.debug(new Exception("Duplicate ID"), "Stack trace of this location: ");
 				LovelaceLogger.info("Existing fixture was: %s", existing.get().getShortDescription());
@@ -488,6 +686,7 @@ public final class LegacyMap implements IMutableLegacyMap {
 			final int oldSize = local.size();
 			local.add(fixture);
 			fixturesMap.put(location, local);
+			indexAdded(location, fixture);
 			return oldSize < fixturesMap.get(location).size();
 		}
 	}
@@ -498,11 +697,13 @@ public final class LegacyMap implements IMutableLegacyMap {
 	@Override
 	public void removeFixture(final Point location, final TileFixture fixture) {
 		final List<TileFixture> local = fixturesMap.getOrDefault(location, Collections.emptyList());
-		if (local.contains(fixture)) {
-			status = ModificationStatus.Modified;
-			local.remove(fixture);
+		final int index = local.indexOf(fixture);
+		if (index >= 0) {
+			markModified(location);
+			indexRemoved(location, local.remove(index));
 			if (local.isEmpty()) {
 				fixturesMap.remove(location);
+				overflowPoints.remove(location);
 			} else {
 				fixturesMap.put(location, local);
 			}
@@ -516,41 +717,54 @@ public final class LegacyMap implements IMutableLegacyMap {
 
 	@Override
 	public boolean equals(final Object obj) {
-		if (obj instanceof final ILegacyMap that) {
-			if (getDimensions().equals(that.getDimensions()) &&
-					getPlayers().containsAll(that.getPlayers()) &&
-					that.getPlayers().containsAll(getPlayers()) &&
-					currentTurn == that.getCurrentTurn() &&
-					getCurrentPlayer().equals(that.getCurrentPlayer())) {
-				for (final Point point : getLocations()) {
-					if (getBaseTerrain(point) != that.getBaseTerrain(point) ||
-							isMountainous(point) != that.isMountainous(point) ||
-							!getRivers(point).equals(
-									that.getRivers(point)) ||
-							!getFixtures(point).containsAll(that.getFixtures(point)) ||
-							!that.getFixtures(point).containsAll(getFixtures(point)) ||
-							!getRoads(point).equals(that.getRoads(point))) {
-						return false;
-					}
+		return obj instanceof final ILegacyMap that && mapsEqual(this, that);
+	}
+
+	/**
+	 * Whether two maps, possibly of different implementations, have the
+	 * same dimensions, players, turn, and contents.
+	 */
+	static boolean mapsEqual(final ILegacyMap one, final ILegacyMap that) {
+		if (one.getDimensions().equals(that.getDimensions()) &&
+				one.getPlayers().containsAll(that.getPlayers()) &&
+				that.getPlayers().containsAll(one.getPlayers()) &&
+				one.getCurrentTurn() == that.getCurrentTurn() &&
+				one.getCurrentPlayer().equals(that.getCurrentPlayer())) {
+			for (final Point point : one.getLocations()) {
+				if (one.getBaseTerrain(point) != that.getBaseTerrain(point) ||
+						one.isMountainous(point) != that.isMountainous(point) ||
+						!one.getRivers(point).equals(
+								that.getRivers(point)) ||
+						!one.getFixtures(point).containsAll(that.getFixtures(point)) ||
+						!that.getFixtures(point).containsAll(one.getFixtures(point)) ||
+						!one.getRoads(point).equals(that.getRoads(point))) {
+					return false;
 				}
-				return true;
 			}
+			return true;
 		}
 		return false;
 	}
 
 	@Override
 	public String toString() {
+		return describe(this, "SPMapNG:");
+	}
+
+	/**
+	 * A diagnostic description of a map's metadata and non-empty tiles, under the given heading.
+	 */
+	static String describe(final ILegacyMap map, final String heading) {
 		final StringBuilder builder = new StringBuilder();
-		builder.append("SPMapNG:").append(System.lineSeparator())
-				.append("Map version: ").append(getDimensions().version())
+		builder.append(heading).append(System.lineSeparator())
+				.append("Map version: ").append(map.getDimensions().version())
 				.append(System.lineSeparator())
-				.append("Rows: ").append(getDimensions().rows()).append(System.lineSeparator())
-				.append("Columns: ").append(getDimensions().columns())
+				.append("Rows: ").append(map.getDimensions().rows()).append(System.lineSeparator())
+				.append("Columns: ").append(map.getDimensions().columns())
 				.append(System.lineSeparator())
-				.append("Current Turn: ").append(currentTurn).append(System.lineSeparator())
+				.append("Current Turn: ").append(map.getCurrentTurn()).append(System.lineSeparator())
 				.append("Players:").append(System.lineSeparator());
-		for (final Player player : getPlayers()) {
+		for (final Player player : map.getPlayers()) {
 			builder.append(player.toString());
 			if (player.isCurrent()) {
 				builder.append(" (current)");
@@ -559,27 +773,26 @@ public final class LegacyMap implements IMutableLegacyMap {
 		}
 		builder.append(System.lineSeparator());
 		builder.append("Contents:").append(System.lineSeparator());
-		for (final Point location : getLocations()) {
-			if (isLocationEmpty(location)) {
+		for (final Point location : map.getLocations()) {
+			if (map.isLocationEmpty(location)) {
 				continue;
 			}
 			builder.append("At ").append(location);
-			final TileType tileTerrain = terrain.get(location);
+			final TileType tileTerrain = map.getBaseTerrain(location);
 			if (Objects.nonNull(tileTerrain)) {
 				builder.append("terrain: ").append(tileTerrain).append(", ");
 			}
-			if (isMountainous(location)) {
+			if (map.isMountainous(location)) {
 				builder.append("mountains, ");
 			}
-			if (!getRivers(location).isEmpty()) {
+			if (!map.getRivers(location).isEmpty()) {
 				builder.append("rivers: ");
-				builder.append(getRivers(location).stream().map(Object::toString)
+				builder.append(map.getRivers(location).stream().map(Object::toString)
 						.collect(Collectors.joining(" ")));
 				builder.append(", ");
 			}
-			final Collection<TileFixture> localFixtures =
-					fixturesMap.get(location);
-			if (Objects.nonNull(localFixtures)) {
+			final Collection<TileFixture> localFixtures = map.getFixtures(location);
+			if (!localFixtures.isEmpty()) {
 				builder.append("fixtures: ").append(System.lineSeparator());
 				builder.append(localFixtures.stream().map(Object::toString)
 						.collect(Collectors.joining(System.lineSeparator())));
@@ -589,227 +802,13 @@ public final class LegacyMap implements IMutableLegacyMap {
 		return builder.toString();
 	}
 
-	// FIXME: Inline this into all callers, or figure out what's missing
-	// FIXME: Remove 'movedFrom' once that's converted to a member function
-	private static <Target extends IFixture, SubsetType extends Subsettable<Target>>
-	boolean testAgainstList(final Target desideratum, final Point location,
-	                        final Iterable<Pair<SubsetType, Point>> list, final Consumer<String> ostream,
-	                        final BiPredicate<Point, TileFixture> movedFrom) {
-		int count = 0;
-		boolean unmatched = true;
-		SubsetType match = null;
-		Point matchPoint = null;
-		boolean exactly = false;
-		for (final Pair<SubsetType, Point> pair : list) {
-			count++;
-			match = pair.getValue0();
-			matchPoint = pair.getValue1();
-			if (match.equals(desideratum)) {
-				exactly = true;
-				break;
-			} else if (match.isSubset(desideratum, x -> {
-			})) {
-				unmatched = false;
-				break;
-			}
-		}
-		boolean retval = true;
-		if (exactly || count == 1) {
-			if (!matchPoint.equals(location)) {
-				final String idStr;
-				if (match instanceof final IUnit unit && unit.isIndependent()) {
-					idStr = " (ID #" + unit.getId();
-				} else {
-					idStr = "";
-				}
-				ostream.accept("%s%s apparently moved from our %s to %s".formatted(
-						match, idStr, matchPoint, location));
-				retval = false;
-			}
-			retval = match.isSubset(desideratum, ostream) && retval;
-		} else if (desideratum instanceof final TileFixture tf && movedFrom.test(location, tf)) {
-			retval = false;
-		} else if (count == 0) {
-			retval = false;
-			ostream.accept("Extra fixture:\t" + desideratum);
-		} else if (unmatched) {
-			ostream.accept("Fixture with ID #%d didn't match any of the subsettable fixtures sharing that ID"
-					.formatted(desideratum.getId()));
-			retval = false;
-		}
-		return retval;
-	}
-
 	/**
 	 * Returns true if the other map is a "strict subset" of this one,
 	 * except for those cases we deliberately ignore.
 	 */
 	@Override
 	public boolean isSubset(final ILegacyMap obj, final Consumer<String> report) {
-		if (getDimensions().equals(obj.getDimensions())) {
-			boolean retval = playerCollection.isSubset(obj.getPlayers(), report);
-			// Declared here to avoid object allocations in the loop.
-			final Collection<TileFixture> ourFixtures = new ArrayList<>();
-			// TODO: Use Guava Multimap for this
-			final Map<Integer, List<Pair<Subsettable<IFixture>, Point>>> ourSubsettables =
-					new HashMap<>(50, 0.4f);
-			final Map<TileFixture, Point> ourLocations = fixturesMap.entrySet().stream()
-					.flatMap(e -> e.getValue().stream().map(f -> Pair.with(f, e.getKey())))
-					.collect(Collectors.toMap(Pair::getValue0, Pair::getValue1));
-			// IUnit is Subsettable<IUnit> and thus incompatible with SubsettableFixture // FIXME: No longer true
-			final Map<Integer, List<Pair<IUnit, Point>>> ourUnits = new HashMap<>(50, 0.4f);
-			// AbstractTown is Subsettable<AbstractTown>
-			final Map<Integer, List<Pair<AbstractTown, Point>>> ourTowns = new HashMap<>(50, 0.4f);
-
-			for (final Map.Entry<TileFixture, Point> entry : ourLocations.entrySet()) {
-				final Point point = entry.getValue();
-				final TileFixture fixture = entry.getKey();
-				switch (fixture) {
-					case final IUnit unit -> {
-						final List<Pair<IUnit, Point>> list;
-						final List<Pair<IUnit, Point>> temp =
-								ourUnits.get(fixture.getId());
-						if (Objects.isNull(temp)) {
-							list = new ArrayList<>();
-						} else {
-							list = temp;
-						}
-						list.add(Pair.with(unit, point));
-						ourUnits.put(fixture.getId(), list);
-					}
-					case final AbstractTown town -> {
-						final List<Pair<AbstractTown, Point>> list;
-						final List<Pair<AbstractTown, Point>> temp =
-								ourTowns.get(fixture.getId());
-						if (Objects.isNull(temp)) {
-							list = new ArrayList<>();
-						} else {
-							list = temp;
-						}
-						list.add(Pair.with(town, point));
-						ourTowns.put(fixture.getId(), list);
-					}
-					case final Subsettable<?> subsettable -> {
-						final List<Pair<Subsettable<IFixture>, Point>> list;
-						final List<Pair<Subsettable<IFixture>, Point>> temp =
-								ourSubsettables.get(fixture.getId());
-						if (Objects.isNull(temp)) {
-							list = new ArrayList<>();
-						} else {
-							list = temp;
-						}
-						// Unchecked cast is unavoiddable without reified generics
-						//noinspection unchecked
-						list.add(Pair.with((Subsettable<IFixture>) fixture, point));
-						ourSubsettables.put(fixture.getId(), list);
-					}
-					default -> {
-					}
-				}
-			}
-
-			// TODO: Convert to member function
-			final BiPredicate<Point, TileFixture> movedFrom = (point, fixture) -> {
-				final Point tPoint = ourLocations.get(fixture);
-				if (Objects.nonNull(tPoint) && !tPoint.equals(point)) {
-					report.accept("%s moved from our %s to %s".formatted(
-							fixture, tPoint,
-							point));
-					return true;
-				} else {
-					return false;
-				}
-			};
-
-			for (final Point point : getLocations()) {
-				final Consumer<String> localReport =
-						str -> report.accept("At %s:\t%s".formatted(point.toString(), str));
-				final TileType theirTerrain = obj.getBaseTerrain(point);
-				final TileType ourTerrain = terrain.get(point);
-				if (Objects.nonNull(theirTerrain)) {
-					if (Objects.isNull(ourTerrain)) {
-						localReport.accept("Has terrain information we don't");
-						retval = false;
-						continue;
-					} else {
-						if (ourTerrain != theirTerrain) {
-							localReport.accept("Base terrain differs");
-							retval = false;
-							continue;
-						} else if (!getRivers(point).isEmpty() &&
-								obj.getRivers(point).isEmpty()) {
-							localReport.accept("Has terrain but not our rivers");
-						}
-					}
-				}
-				if (obj.isMountainous(point) && !isMountainous(point)) {
-					localReport.accept("Has mountains we don't");
-					retval = false; // return false;
-				}
-				ourFixtures.clear();
-				for (final TileFixture fixture : getFixtures(point)) {
-					final int idNum = fixture.getId();
-					// FIXME: Should add to ourUnits, ourTowns, etc, if of the right type and not in those, right?
-					switch (fixture) {
-						case final IUnit unitMembers when ourUnits.containsKey(idNum) -> {
-						}
-						case final AbstractTown abstractTown when ourTowns.containsKey(idNum) -> {
-						}
-						default ->  // FIXME: Also check ourSubsettables, right?
-								ourFixtures.add(fixture);
-					}
-				}
-				final Collection<TileFixture> theirFixtures = obj.getFixtures(point);
-				for (final TileFixture fixture : theirFixtures) {
-					final List<Pair<IUnit, Point>> unitLocs = ourUnits.get(fixture.getId());
-					final List<Pair<AbstractTown, Point>> townLocs = ourTowns.get(fixture.getId());
-					final List<Pair<Subsettable<IFixture>, Point>> subsetLocs = ourSubsettables.get(fixture.getId());
-					if (ourFixtures.contains(fixture) || fixture.subsetShouldSkip()) {
-						continue;
-					}
-					switch (fixture) {
-						case final IUnit unitMembers when Objects.nonNull(unitLocs) ->
-								retval = testAgainstList(unitMembers, point,
-										unitLocs, localReport, movedFrom) && retval;
-						case final AbstractTown town when Objects.nonNull(townLocs) ->
-								retval = testAgainstList(town, point,
-										townLocs, localReport, movedFrom)
-										&& retval;
-						case final Subsettable<?> subsettable when Objects.nonNull(subsetLocs) ->
-								retval = testAgainstList(fixture, point,
-										subsetLocs,
-										localReport, movedFrom) && retval;
-						default -> {
-							if (movedFrom.test(point, fixture)) {
-								retval = false; // return false;
-							} else {
-								localReport.accept("Extra fixture:\t" + fixture);
-								retval = false; // return false;
-							}
-						}
-					}
-				}
-				if (!getRivers(point).containsAll(obj.getRivers(point))) {
-					localReport.accept("Extra river(s)");
-					retval = false; // return false;
-					break;
-				}
-				final Map<Direction, Integer> theirRoads = obj.getRoads(point);
-				final Map<Direction, Integer> ourRoads = getRoads(point);
-				// TODO: Extract road-subset method
-				for (final Map.Entry<Direction, Integer> entry : theirRoads.entrySet()) {
-					if (ourRoads.getOrDefault(entry.getKey(), 0) < entry.getValue()) {
-						localReport.accept("Has road information we don't");
-						retval = false;
-						break;
-					}
-				}
-			}
-			return retval;
-		} else {
-			report.accept("Dimension mismatch");
-			return false;
-		}
+		return new SubsetChecker(this).isSubset(obj, report);
 	}
 
 	/**
@@ -831,25 +830,45 @@ public final class LegacyMap implements IMutableLegacyMap {
 			}
 			retval.setMountainous(point, isMountainous(point));
 			retval.addRivers(point, getRivers(point).toArray(River[]::new));
+			for (final Map.Entry<Direction, Integer> entry : getRoads(point).entrySet()) {
+				retval.setRoadLevel(point, entry.getKey(), entry.getValue());
+			}
 			// TODO: what other fixtures should we zero, or skip?
 			for (final TileFixture fixture : getFixtures(point)) {
-				final IFixture.CopyBehavior cb;
-				if (zero == IFixture.CopyBehavior.ZERO) {
-					cb = IFixture.CopyBehavior.ZERO;
-				} else if (shouldZero(fixture, player)) {
-					cb = IFixture.CopyBehavior.ZERO;
-				} else {
-					cb = IFixture.CopyBehavior.KEEP;
-				}
-				retval.addFixture(point, fixture.copy(cb));
+				retval.addFixture(point, fixture.copy(copyBehavior(zero, fixture, player)));
 			}
 		}
 		return retval;
 	}
 
+	/**
+	 * Clone the map for each of the given players in one pass over it. The
+	 * copies share this map's terrain, mountains, rivers, and roads until
+	 * any of them (or this map) changes them; each gets its own copies of
+	 * the fixtures.
+	 */
+	@Override
+	public List<ILegacyMap> copyForPlayers(final IFixture.CopyBehavior zero, final List<Player> players) {
+		final List<LegacyMap> retval = new ArrayList<>(players.size());
+		for (final Player player : players) {
+			retval.add(new LegacyMap(this, playerCollection.copy()));
+		}
+		for (final Point point : getLocations()) {
+			for (final TileFixture fixture : getFixtures(point)) {
+				for (int i = 0; i < players.size(); i++) {
+					retval.get(i).addFixture(point, fixture.copy(copyBehavior(zero, fixture, players.get(i))));
+				}
+			}
+		}
+		for (final LegacyMap map : retval) {
+			map.markModified();
+		}
+		return Collections.unmodifiableList(retval);
+	}
+
 	@Override
 	public void replace(final Point location, final TileFixture original, final TileFixture replacement) {
-		status = ModificationStatus.Modified; // TODO: Only if this is a change
+		markModified(location); // TODO: Only if this is a change
 		if (getFixtures(location).contains(replacement) && !original.equals(replacement)) {
 			removeFixture(location, original);
 		} else {
@@ -859,6 +878,8 @@ public final class LegacyMap implements IMutableLegacyMap {
 			for (final TileFixture item : existing) {
 				if (original.equals(item)) {
 					fixturesMap.get(location).set(index, replacement);
+					indexRemoved(location, item);
+					indexAdded(location, replacement);
 					replaced = true;
 					break;
 				}
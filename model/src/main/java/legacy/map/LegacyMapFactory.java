@@ -0,0 +1,17 @@
+package legacy.map;
+
+/**
+ * A way of constructing an empty mutable map, so map readers can be told which
+ * implementation to build.
+ */
+@FunctionalInterface
+public interface LegacyMapFactory {
+	/**
+	 * Create an empty map.
+	 *
+	 * @param dimensions The dimensions (and version) of the map
+	 * @param players    The players in the map
+	 * @param turn       The current turn
+	 */
+	IMutableLegacyMap create(MapDimensions dimensions, IMutableLegacyPlayerCollection players, int turn);
+}
@@ -0,0 +1,98 @@
+package legacy.map;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the valid locations in a map, in row-major
+ * order, handing out points from the {@link PointPool} for its dimensions.
+ * It knows its exact size, and splits evenly, so parallel streams of
+ * locations divide the work among threads well.
+ */
+public final class LocationSpliterator implements Spliterator<Point> {
+	private final PointPool pool;
+
+	/**
+	 * The number of columns in the map.
+	 */
+	private final int columns;
+
+	/**
+	 * The row-major index of the next location to visit.
+	 */
+	private int index;
+
+	/**
+	 * One past the row-major index of the last location to visit.
+	 */
+	private final int fence;
+
+	private LocationSpliterator(final PointPool pool, final int columns, final int origin, final int fence) {
+		this.pool = pool;
+		this.columns = columns;
+		index = origin;
+		this.fence = fence;
+	}
+
+	/**
+	 * A spliterator over every valid location in a map of the given dimensions.
+	 */
+	public LocationSpliterator(final MapDimensions dimensions) {
+		this(PointPool.forDimensions(dimensions), dimensions.columns(), 0,
+				Math.multiplyExact(dimensions.rows(), dimensions.columns()));
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super Point> action) {
+		if (index < fence) {
+			final int current = index;
+			index++;
+			action.accept(pool.get(current / columns, current % columns));
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public void forEachRemaining(final Consumer<? super Point> action) {
+		if (index >= fence) {
+			return;
+		}
+		int row = index / columns;
+		int column = index % columns;
+		for (int current = index; current < fence; current++) {
+			action.accept(pool.get(row, column));
+			column++;
+			if (column == columns) {
+				column = 0;
+				row++;
+			}
+		}
+		index = fence;
+	}
+
+	@Override
+	public @Nullable Spliterator<Point> trySplit() {
+		final int middle = (index + fence) >>> 1;
+		if (middle <= index) {
+			return null;
+		} else {
+			final Spliterator<Point> prefix = new LocationSpliterator(pool, columns, index, middle);
+			index = middle;
+			return prefix;
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+}
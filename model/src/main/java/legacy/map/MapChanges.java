@@ -0,0 +1,105 @@
+package legacy.map;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A record of what has changed in a map since it was last known to match a
+ * file, so that writers that can do so need save only what has changed.
+ *
+ * Changes are tracked at two levels: tiles, for changes to terrain, rivers,
+ * roads, or bookmarks, and for fixtures being added, removed, or replaced;
+ * and fixtures, for changes (such as a unit's orders) made to a fixture, or
+ * to something it contains, in place. The map records the former itself,
+ * but callers that change fixtures in place must report that through {@link
+ * IMutableLegacyMap#markChanged}.
+ *
+ * Until a map is first {@link IMutableLegacyMap#resetChanges reset} against a
+ * file, or if it is changed in a way that cannot be tracked (such as a caller
+ * marking the map as modified without saying what changed), there is no
+ * {@link #getBaseline baseline} and everything must be treated as changed.
+ */
+public final class MapChanges {
+	/**
+	 * The file the map matched when tracking was last reset, or null if changes are not being tracked.
+	 */
+	private @Nullable Path baseline = null;
+
+	/**
+	 * Locations at which the tile itself, or the set of fixtures on it, has changed.
+	 */
+	private final Set<Point> locations = new LinkedHashSet<>();
+
+	/**
+	 * Fixtures that have been changed in place. These are compared by
+	 * identity, since fixture equality and hash codes depend on the very
+	 * state that has changed.
+	 */
+	private final Set<IFixture> fixtures = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * The file that the map, apart from the changes recorded here, is known
+	 * to match, or null if changes are not being tracked.
+	 */
+	public @Nullable Path getBaseline() {
+		return baseline;
+	}
+
+	/**
+	 * The locations at which terrain, rivers, roads, bookmarks, or the set of fixtures have changed.
+	 */
+	public Set<Point> getChangedLocations() {
+		return Collections.unmodifiableSet(locations);
+	}
+
+	/**
+	 * Fixtures, whether on a tile or contained in something that is, that
+	 * have been reported as changed in place. Some may since have been
+	 * removed from the map.
+	 */
+	public Collection<IFixture> getChangedFixtures() {
+		return Collections.unmodifiableSet(fixtures);
+	}
+
+	/**
+	 * Whether nothing has been recorded as changed since tracking was last reset.
+	 */
+	public boolean isEmpty() {
+		return locations.isEmpty() && fixtures.isEmpty();
+	}
+
+	/**
+	 * Record that the tile at the given location has changed.
+	 */
+	/* package */ void locationChanged(final Point location) {
+		if (Objects.nonNull(baseline)) {
+			locations.add(location);
+		}
+	}
+
+	/**
+	 * Record that the given fixture has been changed in place.
+	 */
+	/* package */ void fixtureChanged(final IFixture fixture) {
+		if (Objects.nonNull(baseline)) {
+			fixtures.add(fixture);
+		}
+	}
+
+	/**
+	 * Forget what has changed, and start tracking changes relative to the
+	 * given file, or, if it is null, stop tracking changes.
+	 */
+	/* package */ void reset(final @Nullable Path baseline) {
+		this.baseline = baseline;
+		locations.clear();
+		fixtures.clear();
+	}
+}
@@ -0,0 +1,170 @@
+package legacy.map;
+
+import legacy.map.fixtures.mobile.MobileFixture;
+import legacy.map.fixtures.towns.IFortress;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A record of where each mobile fixture in a map is, by ID, for the maps'
+ * implementation of {@link ILegacyMap#locateMobile}. Unlike {@link
+ * FixtureIndex}, this keeps every place a fixture with a given ID is found,
+ * since finding copies of a unit left behind after it moved is what it is
+ * for, and it never searches the whole map after it is first built.
+ *
+ * Mobile fixtures directly on tiles are kept up to date as fixtures are
+ * added to and removed from tiles. Fortresses can gain and lose members
+ * without the map being told, so the map's fortresses are also recorded, and
+ * their members are looked at again (but nothing else is) after the map
+ * reports that a fortress, or the map as a whole, has changed.
+ *
+ * Fixtures with negative IDs are not recorded.
+ */
+/* package */ final class MobileLocations {
+	/**
+	 * The map being tracked.
+	 */
+	private final ILegacyMap map;
+
+	/**
+	 * Mobile fixtures directly on tiles.
+	 */
+	private final Map<Integer, List<FixtureLocation>> onTiles = new HashMap<>();
+
+	/**
+	 * The fortresses in the map, and where they are.
+	 */
+	private final Map<IFortress, Point> fortresses = new IdentityHashMap<>();
+
+	/**
+	 * Mobile fixtures inside fortresses.
+	 */
+	private final Map<Integer, List<FixtureLocation>> inFortresses = new HashMap<>();
+
+	/**
+	 * Whether the map's contents have been recorded. False until the first query.
+	 */
+	private boolean built = false;
+
+	/**
+	 * Whether {@link #inFortresses} may be out of date.
+	 */
+	private boolean fortressesStale = true;
+
+	public MobileLocations(final ILegacyMap map) {
+		this.map = map;
+	}
+
+	private static void put(final Map<Integer, List<FixtureLocation>> entries, final FixtureLocation entry) {
+		entries.computeIfAbsent(entry.fixture().getId(), k -> new ArrayList<>(1)).add(entry);
+	}
+
+	private void record(final Point location, final TileFixture fixture) {
+		if (fixture instanceof MobileFixture && fixture.getId() >= 0) {
+			put(onTiles, new FixtureLocation(fixture, location, List.of()));
+		} else if (fixture instanceof final IFortress fortress) {
+			fortresses.put(fortress, location);
+			fortressesStale = true;
+		}
+	}
+
+	private void build() {
+		for (final Point location : map.getLocations()) {
+			for (final TileFixture fixture : map.getFixtures(location)) {
+				record(location, fixture);
+			}
+		}
+		built = true;
+	}
+
+	private void rebuildFortressMembers() {
+		inFortresses.clear();
+		for (final Map.Entry<IFortress, Point> entry : fortresses.entrySet()) {
+			final IFortress fortress = entry.getKey();
+			for (final IFixture member : fortress) {
+				if (member instanceof MobileFixture && member.getId() >= 0) {
+					put(inFortresses, new FixtureLocation(member, entry.getValue(), List.of(fortress)));
+				}
+			}
+		}
+		fortressesStale = false;
+	}
+
+	/**
+	 * Every place a mobile fixture with the given ID is.
+	 */
+	public synchronized List<FixtureLocation> find(final int id) {
+		if (!built) {
+			build();
+		}
+		if (fortressesStale) {
+			rebuildFortressMembers();
+		}
+		final List<FixtureLocation> direct = onTiles.getOrDefault(id, List.of());
+		final List<FixtureLocation> inside = inFortresses.getOrDefault(id, List.of());
+		if (inside.isEmpty()) {
+			return List.copyOf(direct);
+		}
+		final List<FixtureLocation> retval = new ArrayList<>(direct.size() + inside.size());
+		retval.addAll(direct);
+		retval.addAll(inside);
+		return retval;
+	}
+
+	/**
+	 * Record that the given fixture has been added to the given tile.
+	 */
+	public synchronized void added(final Point location, final TileFixture fixture) {
+		if (built) {
+			record(location, fixture);
+		}
+	}
+
+	/**
+	 * Record that the given fixture has been removed from the given tile.
+	 */
+	public synchronized void removed(final Point location, final TileFixture fixture) {
+		if (!built) {
+			return;
+		}
+		if (fixture instanceof final IFortress fortress) {
+			fortresses.remove(fortress);
+			fortressesStale = true;
+		} else {
+			final List<FixtureLocation> entries = onTiles.get(fixture.getId());
+			if (Objects.nonNull(entries)) {
+				for (int i = 0; i < entries.size(); i++) {
+					if (entries.get(i).fixture() == fixture && entries.get(i).location().equals(location)) {
+						entries.remove(i);
+						break;
+					}
+				}
+				if (entries.isEmpty()) {
+					onTiles.remove(fixture.getId());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record that the given fixture has been changed in place.
+	 */
+	public synchronized void changed(final IFixture fixture) {
+		if (fixture instanceof IFortress) {
+			fortressesStale = true;
+		}
+	}
+
+	/**
+	 * Record that the map has been changed in some way this was not told
+	 * about, which may include fortresses' members changing.
+	 */
+	public synchronized void invalidate() {
+		fortressesStale = true;
+	}
+}
@@ -47,9 +47,15 @@ public record Point(int row, int column) implements Comparable<Point>, Serializa
 		}
 	}
 
+	/**
+	 * Pack the coordinates together, which keeps distinct points distinct
+	 * for any map smaller than 65536 tiles on a side, and then multiply by
+	 * a large odd constant to spread them across the bits, so that nearby
+	 * points fall in different buckets of a hash table.
+	 */
 	@Override
 	public int hashCode() {
-		return row << 9 + column;
+		return ((row << 16) ^ column) * 0x9E3779B9;
 	}
 
 	@Override
@@ -99,6 +99,11 @@ public final class PointIterable implements Iterable<Point> {
 		 */
 		private final IterationOrientation orientation;
 
+		/**
+		 * The pool of points to hand out.
+		 */
+		private final PointPool pool;
+
 		/**
 		 * The maximum row in the map.
 		 */
@@ -128,6 +133,7 @@ public final class PointIterable implements Iterable<Point> {
 
 		public PointIteratorImpl(final MapDimensions dimensions, final @Nullable Point selection,
 		                         final IterationDirection direction, final IterationOrientation orientation) {
+			pool = PointPool.forDimensions(dimensions);
 			maxRow = dimensions.rows() - 1;
 			maxColumn = dimensions.columns() - 1;
 			this.direction = direction;
@@ -234,7 +240,7 @@ public final class PointIterable implements Iterable<Point> {
 						}
 					}
 				}
-				return new Point(row, column);
+				return pool.get(row, column);
 			}
 		}
 	}
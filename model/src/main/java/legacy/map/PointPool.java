@@ -0,0 +1,112 @@
+package legacy.map;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A pool of canonical {@link Point} instances for the locations in maps of a
+ * given size, so that scans of the whole map, and the map readers, can hand
+ * out shared points instead of allocating millions of short-lived ones.
+ * Points are created the first time they are asked for; points outside the
+ * map (including {@link Point#INVALID_POINT}) are allocated afresh every
+ * time, as before.
+ *
+ * A pool is shared by every map of the same size, and we keep pools for only
+ * the few sizes most recently asked for. This is thread-safe.
+ */
+public final class PointPool {
+	/**
+	 * The most points a pool will hold. Maps with more locations than this
+	 * (which would be far larger than any in use) get a pool that does not
+	 * actually pool anything.
+	 */
+	private static final int MAX_POOLED = 1 << 24;
+
+	/**
+	 * How many pools to keep.
+	 */
+	private static final int CACHED_POOLS = 8;
+
+	private record Size(int rows, int columns) {
+	}
+
+	/**
+	 * The pools, in order from least to most recently used.
+	 */
+	private static final Map<Size, PointPool> POOLS = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Size, PointPool> eldest) {
+			return size() > CACHED_POOLS;
+		}
+	};
+
+	/**
+	 * The pool most recently asked for, so the common case of asking for
+	 * the same one again and again needs no locking.
+	 */
+	private static volatile @Nullable PointPool lastPool = null;
+
+	/**
+	 * Get the pool for maps of the given dimensions.
+	 */
+	public static PointPool forDimensions(final MapDimensions dimensions) {
+		final PointPool last = lastPool;
+		if (Objects.nonNull(last) && last.rows == dimensions.rows() && last.columns == dimensions.columns()) {
+			return last;
+		}
+		final PointPool retval;
+		synchronized (POOLS) {
+			retval = POOLS.computeIfAbsent(new Size(dimensions.rows(), dimensions.columns()),
+					size -> new PointPool(size.rows(), size.columns()));
+		}
+		lastPool = retval;
+		return retval;
+	}
+
+	private final int rows;
+	private final int columns;
+
+	/**
+	 * The points, in row-major order, each null until first asked for.
+	 * Because points are immutable, it does no harm if two threads race to
+	 * create the same one; one is simply discarded.
+	 */
+	private final @Nullable Point[] points;
+
+	private PointPool(final int rows, final int columns) {
+		this.rows = rows;
+		this.columns = columns;
+		if ((long) rows * columns > MAX_POOLED) {
+			points = new Point[0];
+		} else {
+			points = new Point[rows * columns];
+		}
+	}
+
+	/**
+	 * Get the point at the given row and column: the canonical instance if
+	 * it is in the map, or a new one if it is not.
+	 */
+	public Point get(final int row, final int column) {
+		if (row < 0 || column < 0 || row >= rows || column >= columns || points.length == 0) {
+			return new Point(row, column);
+		}
+		final int index = row * columns + column;
+		final Point existing = points[index];
+		if (Objects.isNull(existing)) {
+			final Point retval = new Point(row, column);
+			points[index] = retval;
+			return retval;
+		} else {
+			return existing;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PointPool for %d rows x %d columns".formatted(rows, columns);
+	}
+}
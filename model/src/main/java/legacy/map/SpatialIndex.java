@@ -0,0 +1,273 @@
+package legacy.map;
+
+import org.javatuples.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An index of where the fixtures of particular types are in a map, for the
+ * maps' implementations of {@link ILegacyMap#fixturesWithin} and {@link
+ * ILegacyMap#nearestFixtures}, so those queries need not look at tiles far
+ * from the point they are asked about.
+ *
+ * For each type asked about, the fixtures (directly on tiles, not inside
+ * fortresses or units) of that type are kept in buckets, each covering a
+ * square of {@link #CELL_SIZE} by {@link #CELL_SIZE} tiles. A type's buckets
+ * are only filled when that type is first asked about, by searching the
+ * whole map; after that, the map keeps them up to date as fixtures are added
+ * to and removed from tiles. Fixtures outside the map's dimensions are not
+ * indexed.
+ *
+ * Distance is measured as {@link legacy.DistanceComparatorImpl} does,
+ * wrapping around the edges of the map.
+ */
+/* package */ final class SpatialIndex {
+	/**
+	 * The width and height, in tiles, of the area each bucket covers.
+	 */
+	private static final int CELL_SIZE = 8;
+
+	/**
+	 * A fixture and where it is.
+	 */
+	private record Entry(Point location, Object fixture) {
+	}
+
+	/**
+	 * The buckets for one type of fixture, in row-major order.
+	 */
+	private record Layer(Class<?> type, List<List<Entry>> cells) {
+	}
+
+	/**
+	 * A fixture found by a query, and its (squared) distance from the point asked about.
+	 */
+	private record Found(Entry entry, int distance) {
+	}
+
+	private static final Comparator<Found> NEAREST_FIRST = Comparator.comparingInt(Found::distance)
+			.thenComparingInt(f -> f.entry().location().row())
+			.thenComparingInt(f -> f.entry().location().column());
+
+	/**
+	 * The map being indexed.
+	 */
+	private final ILegacyMap map;
+
+	// The map's dimensions, and how many rows and columns of buckets that
+	// makes, are only found when the first layer is built, because maps
+	// create their indexes before their dimensions are set.
+	private int rows = 0;
+	private int columns = 0;
+	private int cellRows = 0;
+	private int cellColumns = 0;
+
+	private final Map<Class<?>, Layer> layers = new HashMap<>();
+
+	public SpatialIndex(final ILegacyMap map) {
+		this.map = map;
+	}
+
+	private boolean contains(final Point location) {
+		return location.row() >= 0 && location.row() < rows && location.column() >= 0 &&
+				location.column() < columns;
+	}
+
+	private List<Entry> cellFor(final Layer layer, final Point location) {
+		return layer.cells().get((location.row() / CELL_SIZE) * cellColumns + location.column() / CELL_SIZE);
+	}
+
+	/**
+	 * Get the buckets for the given type, filling them if this is the
+	 * first time that type has been asked about.
+	 */
+	private Layer layerFor(final Class<?> type) {
+		final Layer existing = layers.get(type);
+		if (Objects.nonNull(existing)) {
+			return existing;
+		} else if (layers.isEmpty()) {
+			rows = map.getDimensions().rows();
+			columns = map.getDimensions().columns();
+			cellRows = (rows + CELL_SIZE - 1) / CELL_SIZE;
+			cellColumns = (columns + CELL_SIZE - 1) / CELL_SIZE;
+		}
+		final List<List<Entry>> cells = new ArrayList<>(cellRows * cellColumns);
+		for (int i = 0; i < cellRows * cellColumns; i++) {
+			cells.add(new ArrayList<>());
+		}
+		final Layer layer = new Layer(type, cells);
+		for (final Point location : map.getLocations()) {
+			if (contains(location)) {
+				for (final TileFixture fixture : map.getFixtures(location)) {
+					if (type.isInstance(fixture)) {
+						cellFor(layer, location).add(new Entry(location, fixture));
+					}
+				}
+			}
+		}
+		layers.put(type, layer);
+		return layer;
+	}
+
+	/**
+	 * The distance, along one axis of a map of the given size, between two
+	 * coordinates, going the shorter way around.
+	 */
+	private static int axisDistance(final int first, final int second, final int size) {
+		final int raw = Math.abs(first - second);
+		return (raw > size / 2) ? size - raw : raw;
+	}
+
+	/**
+	 * The square of the distance between two points.
+	 */
+	private int distance(final Point base, final Point point) {
+		final int rowDist = axisDistance(base.row(), point.row(), rows);
+		final int colDist = axisDistance(base.column(), point.column(), columns);
+		return rowDist * rowDist + colDist * colDist;
+	}
+
+	/**
+	 * Which bucket rows (or columns) hold tiles within the given number of
+	 * tiles of the given coordinate, wrapping around.
+	 */
+	private static boolean[] cellsNear(final int coordinate, final int reach, final int size, final int cellCount) {
+		final boolean[] retval = new boolean[cellCount];
+		if (2 * reach + 1 >= size) {
+			Arrays.fill(retval, true);
+		} else {
+			for (int delta = -reach; delta <= reach; delta++) {
+				retval[Math.floorMod(coordinate + delta, size) / CELL_SIZE] = true;
+			}
+		}
+		return retval;
+	}
+
+	private static <T> List<Pair<Point, T>> toPairs(final Class<T> type, final List<Found> found) {
+		found.sort(NEAREST_FIRST);
+		final List<Pair<Point, T>> retval = new ArrayList<>(found.size());
+		for (final Found item : found) {
+			retval.add(Pair.with(item.entry().location(), type.cast(item.entry().fixture())));
+		}
+		return retval;
+	}
+
+	/**
+	 * The fixtures of the given type within the given distance of the
+	 * given point, nearest first.
+	 */
+	public synchronized <T> List<Pair<Point, T>> within(final Class<T> type, final Point center,
+	                                                    final double radius) {
+		final Layer layer = layerFor(type);
+		if (radius < 0 || !contains(center)) {
+			return List.of();
+		}
+		final int reach = (int) Math.min(Math.ceil(radius), Math.max(rows, columns));
+		final double limit = radius * radius;
+		final boolean[] nearRows = cellsNear(center.row(), reach, rows, cellRows);
+		final boolean[] nearColumns = cellsNear(center.column(), reach, columns, cellColumns);
+		final List<Found> found = new ArrayList<>();
+		for (int cellRow = 0; cellRow < cellRows; cellRow++) {
+			if (!nearRows[cellRow]) {
+				continue;
+			}
+			for (int cellColumn = 0; cellColumn < cellColumns; cellColumn++) {
+				if (!nearColumns[cellColumn]) {
+					continue;
+				}
+				for (final Entry entry : layer.cells().get(cellRow * cellColumns + cellColumn)) {
+					final int distance = distance(center, entry.location());
+					if (distance <= limit) {
+						found.add(new Found(entry, distance));
+					}
+				}
+			}
+		}
+		return toPairs(type, found);
+	}
+
+	/**
+	 * The given number of fixtures of the given type nearest to the given
+	 * point, nearest first (or all of them, if there are not that many).
+	 * Buckets are searched in rings outward from the one holding the
+	 * point, stopping once no bucket not yet searched could hold anything
+	 * nearer than the farthest of those found.
+	 */
+	public synchronized <T> List<Pair<Point, T>> nearest(final Class<T> type, final Point center, final int count) {
+		final Layer layer = layerFor(type);
+		if (count <= 0 || !contains(center)) {
+			return List.of();
+		}
+		final int centerRow = center.row() / CELL_SIZE;
+		final int centerColumn = center.column() / CELL_SIZE;
+		final boolean[] visited = new boolean[cellRows * cellColumns];
+		final int maxRing = Math.max(cellRows, cellColumns) / 2 + 1;
+		final List<Found> found = new ArrayList<>();
+		for (int ring = 0; ring <= maxRing; ring++) {
+			for (int dRow = -ring; dRow <= ring; dRow++) {
+				for (int dColumn = -ring; dColumn <= ring; dColumn++) {
+					if (Math.abs(dRow) != ring && Math.abs(dColumn) != ring) {
+						continue;
+					}
+					final int cell = Math.floorMod(centerRow + dRow, cellRows) * cellColumns +
+							Math.floorMod(centerColumn + dColumn, cellColumns);
+					if (visited[cell]) {
+						continue;
+					}
+					visited[cell] = true;
+					for (final Entry entry : layer.cells().get(cell)) {
+						found.add(new Found(entry, distance(center, entry.location())));
+					}
+				}
+			}
+			if (found.size() >= count) {
+				found.sort(NEAREST_FIRST);
+				// Anything in a bucket not yet searched is more than this many tiles away along one axis
+				// (allowing for the last row or column of buckets being narrower than the rest).
+				final int nextMinimum = Math.max(0, ring - 1) * CELL_SIZE;
+				if (found.get(count - 1).distance() < nextMinimum * nextMinimum) {
+					break;
+				}
+			}
+		}
+		return toPairs(type, found.size() > count ? new ArrayList<>(found.subList(0, count)) : found);
+	}
+
+	/**
+	 * Record that the given fixture has been added to the given tile.
+	 */
+	public synchronized void added(final Point location, final TileFixture fixture) {
+		if (contains(location)) {
+			for (final Layer layer : layers.values()) {
+				if (layer.type().isInstance(fixture)) {
+					cellFor(layer, location).add(new Entry(location, fixture));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record that the given fixture has been removed from the given tile.
+	 */
+	public synchronized void removed(final Point location, final TileFixture fixture) {
+		if (contains(location)) {
+			for (final Layer layer : layers.values()) {
+				if (layer.type().isInstance(fixture)) {
+					final List<Entry> cell = cellFor(layer, location);
+					for (int i = 0; i < cell.size(); i++) {
+						if (cell.get(i).fixture() == fixture && cell.get(i).location().equals(location)) {
+							cell.remove(i);
+							break;
+						}
+					}
+				}
+			}
+		}
+	}
+}
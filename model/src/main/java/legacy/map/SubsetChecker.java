@@ -0,0 +1,357 @@
+package legacy.map;
+
+import legacy.map.fixtures.mobile.IUnit;
+import legacy.map.fixtures.towns.AbstractTown;
+import org.javatuples.Pair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Checks whether other maps are "strict subsets" of a map, except for those
+ * cases we deliberately ignore; this is the implementation of {@link
+ * ILegacyMap#isSubset} shared between the map implementations.
+ *
+ * The fixtures of the map are indexed once, when this is created, so
+ * checking several maps (such as every player's map) against the same map
+ * should use the same instance. The map must not be changed while it is in
+ * use. Tiles are compared in parallel, in contiguous partitions, but
+ * messages are reported in the order of the tiles they concern, as if the
+ * tiles had been compared one at a time.
+ */
+public final class SubsetChecker {
+	/**
+	 * How much of the other map to compare.
+	 */
+	public enum Mode {
+		/**
+		 * Compare every tile, reporting every difference.
+		 */
+		Complete,
+		/**
+		 * Stop at the first tile (in the order tiles are reported in)
+		 * that makes the other map not a subset, reporting only the
+		 * differences found up to and including that tile. This is meant
+		 * for automated checks that only care whether the other map is a
+		 * subset.
+		 */
+		FailFast
+	}
+
+	/**
+	 * How many tiles to compare in each partition.
+	 */
+	private static final int PARTITION_SIZE = 2048;
+
+	private final ILegacyMap ours;
+
+	/**
+	 * The locations in our map, in the order we compare them.
+	 */
+	private final List<Point> locations;
+
+	/**
+	 * Where each fixture on a tile of our map is.
+	 */
+	private final Map<TileFixture, Point> ourLocations;
+
+	// IUnit is Subsettable<IUnit> and thus incompatible with SubsettableFixture // FIXME: No longer true
+	/**
+	 * The units in our map, and where they are, by ID.
+	 */
+	private final Map<Integer, List<Pair<IUnit, Point>>> ourUnits = new HashMap<>(50, 0.4f);
+
+	// AbstractTown is Subsettable<AbstractTown>
+	/**
+	 * The towns in our map, and where they are, by ID.
+	 */
+	private final Map<Integer, List<Pair<AbstractTown, Point>>> ourTowns = new HashMap<>(50, 0.4f);
+
+	/**
+	 * The other subsettable fixtures in our map, and where they are, by ID.
+	 */
+	private final Map<Integer, List<Pair<Subsettable<IFixture>, Point>>> ourSubsettables = new HashMap<>(50, 0.4f);
+
+	public SubsetChecker(final ILegacyMap ours) {
+		this.ours = ours;
+		locations = ours.streamLocations().toList();
+		ourLocations = ours.streamLocations()
+				.flatMap(p -> ours.streamFixtures(p).map(f -> Pair.with(f, p)))
+				.collect(Collectors.toMap(Pair::getValue0, Pair::getValue1));
+		for (final Map.Entry<TileFixture, Point> entry : ourLocations.entrySet()) {
+			final Point point = entry.getValue();
+			final TileFixture fixture = entry.getKey();
+			switch (fixture) {
+				case final IUnit unit ->
+						ourUnits.computeIfAbsent(fixture.getId(), _ -> new ArrayList<>()).add(Pair.with(unit, point));
+				case final AbstractTown town ->
+						ourTowns.computeIfAbsent(fixture.getId(), _ -> new ArrayList<>()).add(Pair.with(town, point));
+				case final Subsettable<?> subsettable ->
+						// Unchecked cast is unavoidable without reified generics
+						//noinspection unchecked
+						ourSubsettables.computeIfAbsent(fixture.getId(), _ -> new ArrayList<>())
+								.add(Pair.with((Subsettable<IFixture>) subsettable, point));
+				default -> {
+				}
+			}
+		}
+	}
+
+	// FIXME: Remove 'movedFrom' once that's converted to a member function
+	private static <Target extends IFixture, SubsetType extends Subsettable<Target>>
+	boolean testAgainstList(final Target desideratum, final Point location,
+	                        final Iterable<Pair<SubsetType, Point>> list, final Consumer<String> ostream,
+	                        final BiPredicate<Point, TileFixture> movedFrom) {
+		int count = 0;
+		boolean unmatched = true;
+		SubsetType match = null;
+		Point matchPoint = null;
+		boolean exactly = false;
+		for (final Pair<SubsetType, Point> pair : list) {
+			count++;
+			match = pair.getValue0();
+			matchPoint = pair.getValue1();
+			if (match.equals(desideratum)) {
+				exactly = true;
+				break;
+			} else if (match.isSubset(desideratum, x -> {
+			})) {
+				unmatched = false;
+				break;
+			}
+		}
+		boolean retval = true;
+		if (exactly || count == 1) {
+			if (!matchPoint.equals(location)) {
+				final String idStr;
+				if (match instanceof final IUnit unit && unit.isIndependent()) {
+					idStr = " (ID #" + unit.getId();
+				} else {
+					idStr = "";
+				}
+				ostream.accept("%s%s apparently moved from our %s to %s".formatted(
+						match, idStr, matchPoint, location));
+				retval = false;
+			}
+			retval = match.isSubset(desideratum, ostream) && retval;
+		} else if (desideratum instanceof final TileFixture tf && movedFrom.test(location, tf)) {
+			retval = false;
+		} else if (count == 0) {
+			retval = false;
+			ostream.accept("Extra fixture:\t" + desideratum);
+		} else if (unmatched) {
+			ostream.accept("Fixture with ID #%d didn't match any of the subsettable fixtures sharing that ID"
+					.formatted(desideratum.getId()));
+			retval = false;
+		}
+		return retval;
+	}
+
+	/**
+	 * What comparing one tile found.
+	 */
+	private enum TileResult {
+		/**
+		 * Nothing that makes the other map not a subset.
+		 */
+		Subset,
+		/**
+		 * Something that makes the other map not a subset.
+		 */
+		NotSubset,
+		/**
+		 * Something that makes the other map not a subset, and that
+		 * (for historical reasons) stops the comparison of any further tiles.
+		 */
+		NotSubsetAndStop
+	}
+
+	/**
+	 * Compare one tile of the other map to ours.
+	 *
+	 * @param report Where to send messages about this tile
+	 */
+	private TileResult compareTile(final ILegacyMap obj, final Point point, final Consumer<String> report) {
+		final Consumer<String> localReport =
+				str -> report.accept("At %s:\t%s".formatted(point.toString(), str));
+		// TODO: Convert to member function
+		final BiPredicate<Point, TileFixture> movedFrom = (location, fixture) -> {
+			final Point tPoint = ourLocations.get(fixture);
+			if (Objects.nonNull(tPoint) && !tPoint.equals(location)) {
+				report.accept("%s moved from our %s to %s".formatted(
+						fixture, tPoint,
+						location));
+				return true;
+			} else {
+				return false;
+			}
+		};
+		boolean retval = true;
+		final TileType theirTerrain = obj.getBaseTerrain(point);
+		final TileType ourTerrain = ours.getBaseTerrain(point);
+		if (Objects.nonNull(theirTerrain)) {
+			if (Objects.isNull(ourTerrain)) {
+				localReport.accept("Has terrain information we don't");
+				return TileResult.NotSubset;
+			} else {
+				if (ourTerrain != theirTerrain) {
+					localReport.accept("Base terrain differs");
+					return TileResult.NotSubset;
+				} else if (!ours.getRivers(point).isEmpty() &&
+						obj.getRivers(point).isEmpty()) {
+					localReport.accept("Has terrain but not our rivers");
+				}
+			}
+		}
+		if (obj.isMountainous(point) && !ours.isMountainous(point)) {
+			localReport.accept("Has mountains we don't");
+			retval = false; // return false;
+		}
+		final Collection<TileFixture> ourFixtures = new ArrayList<>();
+		for (final TileFixture fixture : ours.getFixtures(point)) {
+			final int idNum = fixture.getId();
+			// FIXME: Should add to ourUnits, ourTowns, etc, if of the right type and not in those, right?
+			switch (fixture) {
+				case final IUnit unitMembers when ourUnits.containsKey(idNum) -> {
+				}
+				case final AbstractTown abstractTown when ourTowns.containsKey(idNum) -> {
+				}
+				default ->  // FIXME: Also check ourSubsettables, right?
+						ourFixtures.add(fixture);
+			}
+		}
+		final Collection<TileFixture> theirFixtures = obj.getFixtures(point);
+		for (final TileFixture fixture : theirFixtures) {
+			final List<Pair<IUnit, Point>> unitLocs = ourUnits.get(fixture.getId());
+			final List<Pair<AbstractTown, Point>> townLocs = ourTowns.get(fixture.getId());
+			final List<Pair<Subsettable<IFixture>, Point>> subsetLocs = ourSubsettables.get(fixture.getId());
+			if (ourFixtures.contains(fixture) || fixture.subsetShouldSkip()) {
+				continue;
+			}
+			switch (fixture) {
+				case final IUnit unitMembers when Objects.nonNull(unitLocs) ->
+						retval = testAgainstList(unitMembers, point,
+								unitLocs, localReport, movedFrom) && retval;
+				case final AbstractTown town when Objects.nonNull(townLocs) ->
+						retval = testAgainstList(town, point,
+								townLocs, localReport, movedFrom)
+								&& retval;
+				case final Subsettable<?> subsettable when Objects.nonNull(subsetLocs) ->
+						retval = testAgainstList(fixture, point,
+								subsetLocs,
+								localReport, movedFrom) && retval;
+				default -> {
+					if (movedFrom.test(point, fixture)) {
+						retval = false; // return false;
+					} else {
+						localReport.accept("Extra fixture:\t" + fixture);
+						retval = false; // return false;
+					}
+				}
+			}
+		}
+		if (!ours.getRivers(point).containsAll(obj.getRivers(point))) {
+			localReport.accept("Extra river(s)");
+			return TileResult.NotSubsetAndStop;
+		}
+		final Map<Direction, Integer> theirRoads = obj.getRoads(point);
+		final Map<Direction, Integer> ourRoads = ours.getRoads(point);
+		// TODO: Extract road-subset method
+		for (final Map.Entry<Direction, Integer> entry : theirRoads.entrySet()) {
+			if (ourRoads.getOrDefault(entry.getKey(), 0) < entry.getValue()) {
+				localReport.accept("Has road information we don't");
+				retval = false;
+				break;
+			}
+		}
+		return retval ? TileResult.Subset : TileResult.NotSubset;
+	}
+
+	/**
+	 * What comparing one partition of the map found.
+	 *
+	 * @param messages What to report, in order
+	 * @param subset   Whether the partition was found to be a subset
+	 * @param stopped  Whether comparison should not go on to later partitions
+	 */
+	private record Partition(List<String> messages, boolean subset, boolean stopped) {
+	}
+
+	/**
+	 * Compare the tiles in the given partition of the other map to ours.
+	 *
+	 * @param failed In fail-fast mode, the lowest-numbered partition known
+	 *               to have failed, so that later partitions can give up early
+	 */
+	private Partition comparePartition(final ILegacyMap obj, final int index, final Mode mode,
+	                                   final AtomicInteger failed) {
+		final List<String> messages = new ArrayList<>();
+		boolean subset = true;
+		final int end = Math.min(locations.size(), (index + 1) * PARTITION_SIZE);
+		for (int i = index * PARTITION_SIZE; i < end; i++) {
+			if (mode == Mode.FailFast && failed.get() < index) {
+				return new Partition(messages, subset, true);
+			}
+			switch (compareTile(obj, locations.get(i), messages::add)) {
+				case Subset -> {
+				}
+				case NotSubset -> {
+					subset = false;
+					if (mode == Mode.FailFast) {
+						failed.accumulateAndGet(index, Math::min);
+						return new Partition(messages, false, true);
+					}
+				}
+				case NotSubsetAndStop -> {
+					failed.accumulateAndGet(index, Math::min);
+					return new Partition(messages, false, true);
+				}
+			}
+		}
+		return new Partition(messages, subset, false);
+	}
+
+	/**
+	 * Returns true if "obj" is a "strict subset" of our map, except for
+	 * those cases we deliberately ignore, reporting every difference.
+	 */
+	public boolean isSubset(final ILegacyMap obj, final Consumer<String> report) {
+		return isSubset(obj, report, Mode.Complete);
+	}
+
+	/**
+	 * Returns true if "obj" is a "strict subset" of our map, except for
+	 * those cases we deliberately ignore, reporting the differences found.
+	 */
+	public boolean isSubset(final ILegacyMap obj, final Consumer<String> report, final Mode mode) {
+		if (!ours.getDimensions().equals(obj.getDimensions())) {
+			report.accept("Dimension mismatch");
+			return false;
+		}
+		boolean retval = ours.getPlayers().isSubset(obj.getPlayers(), report);
+		if (!retval && mode == Mode.FailFast) {
+			return false;
+		}
+		final AtomicInteger failed = new AtomicInteger(Integer.MAX_VALUE);
+		final int partitions = (locations.size() + PARTITION_SIZE - 1) / PARTITION_SIZE;
+		final List<Partition> results = IntStream.range(0, partitions).parallel()
+				.mapToObj(index -> comparePartition(obj, index, mode, failed)).toList();
+		for (final Partition partition : results) {
+			partition.messages().forEach(report);
+			retval = partition.subset() && retval;
+			if (partition.stopped()) {
+				break;
+			}
+		}
+		return retval;
+	}
+}
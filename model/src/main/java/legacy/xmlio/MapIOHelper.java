@@ -7,17 +7,24 @@ import java.nio.file.Path;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
 import javax.xml.stream.XMLStreamException;
 
 import legacy.dbio.SPDatabaseWriter;
 import legacy.dbio.SPDatabaseReader;
 import common.xmlio.SPFormatException;
+import legacy.map.DenseLegacyMap;
 import legacy.map.IMutableLegacyMap;
 import legacy.map.ILegacyMap;
 import impl.xmlio.SPWriter;
-import legacy.xmlio.fluidxml.SPFluidReader;
+import legacy.xmlio.fluidxml.SPCursorReader;
 import legacy.xmlio.yaxml.YAXMLWriter;
 import common.xmlio.Warning;
 import lovelace.util.LovelaceLogger;
@@ -26,6 +33,12 @@ import lovelace.util.LovelaceLogger;
  * A helper to abstract the details of specific I/O implementations to shield
  * callers from them, and in particular to encapsulate the decision of which
  * implementation to use in one place.
+ *
+ * This is safe to call from several threads at once, but SQLite databases
+ * are read and written one at a time: each of {@link #DB_READER}, {@link
+ * #DENSE_DB_READER}, and {@link #DB_WRITER} is shared, and keeps state while
+ * working, so we hold its lock for the whole of each read or write. Only XML
+ * files are actually read or written in parallel.
  */
 public final class MapIOHelper {
 	private MapIOHelper() {
@@ -34,9 +47,10 @@ public final class MapIOHelper {
 	/**
 	 * The reader to use to read from XML. (The FluidXML implementation
 	 * turned out to be significantly faster than YAXML, which was written
-	 * to replace it ...)
+	 * to replace it ...; the cursor-based reader, which shares much of its
+	 * code, is faster still.)
 	 */
-	public static final IMapReader READER = new SPFluidReader();
+	public static final IMapReader READER = new SPCursorReader();
 
 	/**
 	 * The writer to use to write to XML.
@@ -53,6 +67,16 @@ public final class MapIOHelper {
 	 */
 	public static final IMapReader DB_READER = new SPDatabaseReader();
 
+	/**
+	 * The reader to use to read from XML into a {@link DenseLegacyMap}.
+	 */
+	public static final IMapReader DENSE_READER = new SPCursorReader(DenseLegacyMap::new);
+
+	/**
+	 * The reader to use to read from SQLite databases into a {@link DenseLegacyMap}.
+	 */
+	public static final IMapReader DENSE_DB_READER = new SPDatabaseReader(DenseLegacyMap::new);
+
 	/**
 	 * Turn a series of Strings into a series of equvalent Paths.
 	 */
@@ -60,6 +84,13 @@ public final class MapIOHelper {
 		return Stream.of(names).map(Paths::get).collect(Collectors.toList());
 	}
 
+	/**
+	 * Whether the given file is (to be) a gzip-compressed XML file, i.e. whether its name ends in ".gz".
+	 */
+	public static boolean isCompressed(final Path file) {
+		return file.toString().endsWith(".gz");
+	}
+
 	/**
 	 * Read a map from a file.
 	 */
@@ -73,15 +104,41 @@ public final class MapIOHelper {
 	 */
 	public static IMutableLegacyMap readMap(final Path file, final Warning warner)
 			throws SPFormatException, IOException, XMLStreamException {
+		return readMap(file, warner, READER, DB_READER);
+	}
+
+	/**
+	 * Read a map from a file into the array-backed {@link DenseLegacyMap}
+	 * implementation, which is faster to scan for large maps.
+	 */
+	public static IMutableLegacyMap readDenseMap(final Path file, final Warning warner)
+			throws SPFormatException, IOException, XMLStreamException {
+		return readMap(file, warner, DENSE_READER, DENSE_DB_READER);
+	}
+
+	private static IMutableLegacyMap readMap(final Path file, final Warning warner, final IMapReader xmlReader,
+	                                         final IMapReader dbReader)
+			throws SPFormatException, IOException, XMLStreamException {
 		LovelaceLogger.debug("In mapIOHelper.readMap");
 		final IMutableLegacyMap retval;
 		if (file.toString().endsWith(".db")) {
 			LovelaceLogger.debug("Reading from %s as an SQLite database",
 					file.toString());
-			retval = DB_READER.readMap(file, warner);
+			// The database readers keep state while reading, so can only read one database at a time;
+			// this serializes all database reads through this reader, from every thread.
+			synchronized (dbReader) {
+				retval = dbReader.readMap(file, warner);
+			}
+		} else if (isCompressed(file)) {
+			LovelaceLogger.debug("Reading from %s as compressed XML", file);
+			try (final InputStream compressed = new GZIPInputStream(Files.newInputStream(file), 1 << 16);
+			     final BufferedReader istream = new BufferedReader(
+					     new InputStreamReader(compressed, StandardCharsets.UTF_8))) {
+				retval = xmlReader.readMapFromStream(file, istream, warner);
+			}
 		} else {
 			LovelaceLogger.debug("Reading from %s", file);
-			retval = READER.readMap(file, warner);
+			retval = xmlReader.readMap(file, warner);
 		}
 		retval.setFilename(file);
 		LovelaceLogger.debug("Finished reading from %s", file);
@@ -107,14 +164,19 @@ public final class MapIOHelper {
 	}
 
 	/**
-	 * Write a map to file.
+	 * Write a map to file. If the filename ends in ".gz", the XML is compressed.
 	 */
 	public static void writeMap(final Path file, final ILegacyMap map) throws IOException, XMLStreamException {
 		if (file.toString().endsWith(".db") || file.toString().isEmpty()) {
 			LovelaceLogger.debug("Writing to %s as an SQLite database", file);
-			DB_WRITER.write(file, map);
+			// The database writer caches connections and keeps state while writing, so this serializes
+			// all database writes, from every thread.
+			synchronized (DB_WRITER) {
+				DB_WRITER.write(file, map);
+			}
 		} else {
-			LovelaceLogger.debug("Writing to %s", file);
+			// The writer itself compresses the XML if the filename calls for it.
+			LovelaceLogger.debug("Writing to %s%s", file, isCompressed(file) ? " as compressed XML" : "");
 			WRITER.write(file, map);
 		}
 	}
@@ -2,6 +2,8 @@ package legacy.xmlio;
 
 import impl.xmlio.ISPReader;
 import impl.xmlio.SPWriter;
+import legacy.map.DenseLegacyMap;
+import legacy.xmlio.fluidxml.SPCursorReader;
 import legacy.xmlio.fluidxml.SPFluidReader;
 import legacy.xmlio.fluidxml.SPFluidWriter;
 import legacy.xmlio.yaxml.YAXMLReader;
@@ -17,20 +19,41 @@ public final class TestReaderFactory {
 	}
 
 	/**
-	 * The "new" (currently-used-by-default) reader implementation.
-	 * (Actually older than {@link #getOldSPReader}, but we switched back because
-	 * this is the faster implementation.)
+	 * The "new" (currently-used-by-default) reader implementation, which
+	 * walks the XML with a cursor rather than a stream of events.
 	 */
 	public static ISPReader getNewSPReader() {
-		return new SPFluidReader();
+		return new SPCursorReader();
 	}
 
 	/**
-	 * The "new" (currently-used-by-default) reader implementation.
-	 * (Actually older than {@link #getOldMapReader()}, but we switched back because
-	 * this is the faster implementation.)
+	 * The "new" (currently-used-by-default) reader implementation, which
+	 * walks the XML with a cursor rather than a stream of events.
 	 */
 	public static IMapReader getNewMapReader() {
+		return new SPCursorReader();
+	}
+
+	/**
+	 * The "new" reader implementation, producing array-backed {@link DenseLegacyMap maps}.
+	 */
+	public static IMapReader getDenseMapReader() {
+		return new SPCursorReader(DenseLegacyMap::new);
+	}
+
+	/**
+	 * The event-based reader implementation, which {@link #getNewSPReader}
+	 * hands the tags it does not read itself to.
+	 */
+	public static ISPReader getFluidSPReader() {
+		return new SPFluidReader();
+	}
+
+	/**
+	 * The event-based reader implementation, which {@link #getNewMapReader}
+	 * hands the tags it does not read itself to.
+	 */
+	public static IMapReader getFluidMapReader() {
 		return new SPFluidReader();
 	}
 
@@ -0,0 +1,885 @@
+package legacy.xmlio.fluidxml;
+
+import common.map.fixtures.mobile.MaturityModel;
+import common.xmlio.SPFormatException;
+import common.xmlio.Warning;
+import impl.xmlio.ISPReader;
+import impl.xmlio.exceptions.MapVersionException;
+import impl.xmlio.exceptions.MissingChildException;
+import impl.xmlio.exceptions.MissingPropertyException;
+import impl.xmlio.exceptions.UnsupportedTagException;
+import impl.xmlio.exceptions.UnwantedChildException;
+import legacy.idreg.IDRegistrar;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.IMutableLegacyPlayerCollection;
+import legacy.map.LegacyMapFactory;
+import legacy.map.MapDimensions;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.Point;
+import legacy.map.River;
+import legacy.map.TileFixture;
+import legacy.map.fixtures.FortressMember;
+import legacy.map.fixtures.TextFixture;
+import legacy.map.fixtures.UnitMember;
+import legacy.map.fixtures.mobile.Centaur;
+import legacy.map.fixtures.mobile.Djinn;
+import legacy.map.fixtures.mobile.Dragon;
+import legacy.map.fixtures.mobile.Fairy;
+import legacy.map.fixtures.mobile.Giant;
+import legacy.map.fixtures.mobile.Griffin;
+import legacy.map.fixtures.mobile.IMutableUnit;
+import legacy.map.fixtures.mobile.ImmortalAnimal;
+import legacy.map.fixtures.mobile.Kraken;
+import legacy.map.fixtures.mobile.Minotaur;
+import legacy.map.fixtures.mobile.Ogre;
+import legacy.map.fixtures.mobile.Pegasus;
+import legacy.map.fixtures.mobile.Phoenix;
+import legacy.map.fixtures.mobile.Simurgh;
+import legacy.map.fixtures.mobile.Snowbird;
+import legacy.map.fixtures.mobile.Sphinx;
+import legacy.map.fixtures.mobile.Thunderbird;
+import legacy.map.fixtures.mobile.Troll;
+import legacy.map.fixtures.mobile.Unicorn;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.resources.CacheFixture;
+import legacy.map.fixtures.resources.Grove;
+import legacy.map.fixtures.resources.Meadow;
+import legacy.map.fixtures.terrain.Hill;
+import legacy.map.fixtures.terrain.Oasis;
+import legacy.map.fixtures.towns.IFortress;
+import legacy.map.fixtures.towns.IMutableFortress;
+import lovelace.util.IteratorWrapper;
+import lovelace.util.TypesafeXMLEventReader;
+import org.jspecify.annotations.Nullable;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+import static impl.xmlio.ISPReader.SP_NAMESPACE;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * The state of reading one document for {@link SPCursorReader}, and the code
+ * to read each kind of tag from it.
+ *
+ * Each read method is called with the cursor on the start of the tag it reads,
+ * and returns with the cursor on the matching end tag. A tag's attributes are
+ * read, while the cursor is still on it, by the same helpers (in {@link
+ * FluidBase} and the handler classes) that {@link SPFluidReader} uses, so this
+ * class only differs from that one in how it moves through the document.
+ *
+ * Event objects are only created when they are needed for an error or warning,
+ * or to hand a tag this class does not read itself (workers and towns, for
+ * example) to an {@link SPFluidReader}.
+ */
+/* package */ final class CursorParser {
+	/**
+	 * The name to give as the parent of the document's root tag.
+	 */
+	private static final QName ROOT = new QName("root");
+
+	/**
+	 * The tags this reader dispatches on.
+	 */
+	private enum Tag {
+		MAP, VIEW, PLAYER, ROW, TILE, ELSEWHERE, MOUNTAIN, BOOKMARK, ROAD, SANDBAR, RIVER, LAKE, ORDERS,
+		RESULTS, SCIENCE, UNIT, FORTRESS, ANIMAL, GROUND, FOREST, SHRUB, STONE, MINERAL, GROVE, ORCHARD, MEADOW,
+		FIELD, MINE, CACHE, RESOURCE, IMPLEMENT, ADVENTURE, PORTAL, CAVE, BATTLEFIELD, TEXT, HILL, OASIS, SPHINX,
+		DJINN, GRIFFIN, MINOTAUR, OGRE, PHOENIX, SIMURGH, TROLL, SNOWBIRD, THUNDERBIRD, PEGASUS, UNICORN, KRAKEN,
+		CENTAUR, DRAGON, FAIRY, GIANT,
+		/**
+		 * Any other tag in {@link ISPReader#FUTURE_TAGS}.
+		 */
+		FUTURE,
+		/**
+		 * Any other tag.
+		 */
+		OTHER;
+
+		private static final Map<String, Tag> BY_NAME = new HashMap<>();
+
+		static {
+			for (final Tag tag : values()) {
+				if (tag != FUTURE && tag != OTHER) {
+					BY_NAME.put(tag.name().toLowerCase(), tag);
+				}
+			}
+			for (final String tag : ISPReader.FUTURE_TAGS) {
+				BY_NAME.putIfAbsent(tag.toLowerCase(), FUTURE);
+			}
+		}
+
+		/**
+		 * The tag with the given local name. Tag names are matched
+		 * case-insensitively, but the parser hands us the same (already
+		 * hashed) string for every occurrence of a name, so in the usual
+		 * case of a name that is already lower-case this is a single lookup.
+		 */
+		public static Tag of(final String localName) {
+			final Tag retval = BY_NAME.get(localName);
+			if (Objects.isNull(retval)) {
+				return BY_NAME.getOrDefault(localName.toLowerCase(), OTHER);
+			} else {
+				return retval;
+			}
+		}
+
+		/**
+		 * Whether a tag of this kind is always read as a {@link River} or
+		 * a {@link TileFixture} other than a fortress, so that a caller
+		 * adding it to a tile will not need the tag for an error message.
+		 */
+		public boolean isTileContent() {
+			return switch (this) {
+				case MAP, VIEW, PLAYER, ROW, TILE, ELSEWHERE, MOUNTAIN, BOOKMARK, ROAD, SANDBAR, ORDERS, RESULTS,
+					 SCIENCE, FORTRESS, RESOURCE, IMPLEMENT, FUTURE, OTHER -> false;
+				default -> true;
+			};
+		}
+	}
+
+	public CursorParser(final XMLInputFactory factory, final XMLStreamReader reader, final @Nullable Path path,
+	                    final IMutableLegacyPlayerCollection players, final Warning warner,
+	                    final IDRegistrar idFactory, final LegacyMapFactory mapFactory,
+	                    final SPFluidReader fallback) {
+		this.factory = factory;
+		this.reader = reader;
+		this.path = path;
+		this.players = players;
+		this.warner = warner;
+		this.idFactory = idFactory;
+		this.mapFactory = mapFactory;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * The factory that created {@link #reader}, used to create event objects when we need them.
+	 */
+	private final XMLInputFactory factory;
+	private final XMLStreamReader reader;
+	private final @Nullable Path path;
+	private final IMutableLegacyPlayerCollection players;
+	private final Warning warner;
+	private final IDRegistrar idFactory;
+	private final LegacyMapFactory mapFactory;
+
+	/**
+	 * The reader to hand tags we do not read ourselves to.
+	 */
+	private final SPFluidReader fallback;
+
+	/**
+	 * Used to create event objects for error messages and warnings.
+	 */
+	private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+
+	/**
+	 * The attributes of the tag the cursor is on.
+	 */
+	private final TagAttributes attributes = new CurrentTag();
+
+	/**
+	 * The most recent name returned by {@link #name}, reused while the
+	 * cursor stays on tags with the same name (every tile in a map, for example).
+	 */
+	private @Nullable QName lastName = null;
+
+	/**
+	 * The attributes of the tag the cursor is on, for the helpers shared
+	 * with {@link SPFluidReader}. This only looks at the cursor when it is
+	 * asked, so it is only valid while the cursor stays on the tag.
+	 */
+	private final class CurrentTag implements TagAttributes {
+		@Override
+		public @Nullable String getValue(final String param) {
+			String retval = null;
+			final int count = reader.getAttributeCount();
+			for (int i = 0; i < count; i++) {
+				if (param.equals(reader.getAttributeLocalName(i))) {
+					final String namespace = reader.getAttributeNamespace(i);
+					if (SP_NAMESPACE.equals(namespace)) {
+						return reader.getAttributeValue(i);
+					} else if (Objects.isNull(retval) && (Objects.isNull(namespace) || namespace.isEmpty())) {
+						retval = reader.getAttributeValue(i);
+					}
+				}
+			}
+			return retval;
+		}
+
+		@Override
+		public int getAttributeCount() {
+			return reader.getAttributeCount();
+		}
+
+		@Override
+		public String getAttributeLocalName(final int index) {
+			return reader.getAttributeLocalName(index);
+		}
+
+		@Override
+		public @Nullable String getAttributeNamespace(final int index) {
+			return reader.getAttributeNamespace(index);
+		}
+
+		@Override
+		public Location getLocation() {
+			return reader.getLocation();
+		}
+
+		@Override
+		public StartElement getElement() {
+			return element();
+		}
+	}
+
+	/**
+	 * Read the first tag in the document in our namespace.
+	 */
+	public Object readRoot() throws SPFormatException, XMLStreamException {
+		while (reader.hasNext()) {
+			if (reader.next() == START_ELEMENT && isSPStartElement()) {
+				return readObject(ROOT);
+			}
+		}
+		throw new XMLStreamException("XML stream didn't contain a start element");
+	}
+
+	/**
+	 * Whether the cursor is on a start tag in a namespace we support.
+	 */
+	private boolean isSPStartElement() {
+		return reader.getEventType() == START_ELEMENT && FluidBase.isSupportedNamespace(reader.getNamespaceURI());
+	}
+
+	private static QName qname(final @Nullable String namespace, final String localName,
+	                           final @Nullable String prefix) {
+		return new QName(Objects.requireNonNullElse(namespace, XMLConstants.NULL_NS_URI), localName,
+				Objects.requireNonNullElse(prefix, XMLConstants.DEFAULT_NS_PREFIX));
+	}
+
+	/**
+	 * The name of the tag the cursor is on.
+	 */
+	private QName name() {
+		final String localName = reader.getLocalName();
+		final String namespace = Objects.requireNonNullElse(reader.getNamespaceURI(), XMLConstants.NULL_NS_URI);
+		final String prefix = Objects.requireNonNullElse(reader.getPrefix(), XMLConstants.DEFAULT_NS_PREFIX);
+		final QName last = lastName;
+		if (Objects.nonNull(last) && last.getLocalPart().equals(localName) &&
+				last.getNamespaceURI().equals(namespace) && last.getPrefix().equals(prefix)) {
+			return last;
+		}
+		final QName retval = new QName(namespace, localName, prefix);
+		lastName = retval;
+		return retval;
+	}
+
+	/**
+	 * Whether the tag the cursor is on has the given name.
+	 */
+	private boolean isNamed(final QName name) {
+		return name.getLocalPart().equals(reader.getLocalName()) && name.getNamespaceURI().equals(
+				Objects.requireNonNullElse(reader.getNamespaceURI(), XMLConstants.NULL_NS_URI));
+	}
+
+	/**
+	 * Create an event object for the start tag the cursor is on, for an error message or a warning.
+	 */
+	private StartElement element() {
+		eventFactory.setLocation(reader.getLocation());
+		final int attributeCount = reader.getAttributeCount();
+		final List<Attribute> attributeEvents = new ArrayList<>(attributeCount);
+		for (int i = 0; i < attributeCount; i++) {
+			attributeEvents.add(eventFactory.createAttribute(
+					Objects.requireNonNullElse(reader.getAttributePrefix(i), XMLConstants.DEFAULT_NS_PREFIX),
+					Objects.requireNonNullElse(reader.getAttributeNamespace(i), XMLConstants.NULL_NS_URI),
+					reader.getAttributeLocalName(i), reader.getAttributeValue(i)));
+		}
+		final int namespaceCount = reader.getNamespaceCount();
+		final List<Namespace> namespaces = new ArrayList<>(namespaceCount);
+		for (int i = 0; i < namespaceCount; i++) {
+			namespaces.add(eventFactory.createNamespace(
+					Objects.requireNonNullElse(reader.getNamespacePrefix(i), XMLConstants.DEFAULT_NS_PREFIX),
+					reader.getNamespaceURI(i)));
+		}
+		final QName name = name();
+		return eventFactory.createStartElement(name.getPrefix(), name.getNamespaceURI(), name.getLocalPart(),
+				attributeEvents.iterator(), namespaces.iterator());
+	}
+
+	/**
+	 * Hand the tag the cursor is on to the event-based reader.
+	 */
+	private Object delegate(final QName parent) throws SPFormatException, XMLStreamException {
+		final XMLEventReader events = factory.createXMLEventReader(reader);
+		final StartElement element = events.nextEvent().asStartElement();
+		final Iterable<XMLEvent> stream = new IteratorWrapper<>(new TypesafeXMLEventReader(events));
+		return fallback.readSPObject(element, path, parent, stream, players, warner, idFactory);
+	}
+
+	/**
+	 * Move to the end of the current tag, objecting to any child tags in our namespaces.
+	 */
+	private void spinUntilEnd() throws UnwantedChildException, XMLStreamException {
+		final String localName = reader.getLocalName();
+		final String namespace = reader.getNamespaceURI();
+		final String prefix = reader.getPrefix();
+		int depth = 0;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case START_ELEMENT -> {
+					if (isSPStartElement()) {
+						throw new UnwantedChildException(qname(namespace, localName, prefix), element(), path);
+					}
+					depth++;
+				}
+				case END_ELEMENT -> {
+					if (depth == 0) {
+						return;
+					}
+					depth--;
+				}
+				default -> {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Move to the end of the current tag, ignoring anything in it.
+	 */
+	private void skipElement() throws XMLStreamException {
+		int depth = 0;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case START_ELEMENT -> depth++;
+				case END_ELEMENT -> {
+					if (depth == 0) {
+						return;
+					}
+					depth--;
+				}
+				default -> {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the text between here and the end of the current tag, objecting
+	 * to any child tags in our namespaces.
+	 */
+	private String getTextUntil() throws UnwantedChildException, XMLStreamException {
+		final String localName = reader.getLocalName();
+		final String namespace = reader.getNamespaceURI();
+		final String prefix = reader.getPrefix();
+		final StringBuilder builder = new StringBuilder();
+		int depth = 0;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case START_ELEMENT -> {
+					if (isSPStartElement()) {
+						throw new UnwantedChildException(qname(namespace, localName, prefix), element(), path);
+					}
+					depth++;
+				}
+				case CHARACTERS, CDATA, SPACE ->
+						builder.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+				case END_ELEMENT -> {
+					if (depth == 0) {
+						return builder.toString().strip();
+					}
+					depth--;
+				}
+				default -> {
+				}
+			}
+		}
+		return builder.toString().strip();
+	}
+
+	/**
+	 * Move to the end of a tag that has been read from its attributes
+	 * alone, objecting to any child tags, and return what was read.
+	 */
+	private <Type> Type leaf(final Type fixture) throws UnwantedChildException, XMLStreamException {
+		spinUntilEnd();
+		return fixture;
+	}
+
+	/**
+	 * Read the tag the cursor is on, wherever it appears.
+	 */
+	private Object readObject(final QName parent) throws SPFormatException, XMLStreamException {
+		return switch (Tag.of(reader.getLocalName())) {
+			case MAP, VIEW -> readMapOrView(parent);
+			case PLAYER -> readPlayer();
+			case UNIT -> readUnit();
+			case FORTRESS -> readFortress();
+			case RIVER -> leaf(FluidTerrainHandler.createRiver(attributes, path, warner));
+			case LAKE -> readLake();
+			case ANIMAL -> readAnimal();
+			case GROUND -> leaf(FluidTerrainHandler.createGround(attributes, path, warner, idFactory));
+			case FOREST -> leaf(FluidTerrainHandler.createForest(attributes, path, warner, idFactory));
+			case SHRUB -> leaf(FluidResourceHandler.createShrub(attributes, path, warner, idFactory));
+			case STONE -> leaf(FluidResourceHandler.createStone(attributes, path, warner, idFactory));
+			case MINERAL -> leaf(FluidResourceHandler.createMineral(attributes, path, warner, idFactory));
+			case GROVE -> leaf(FluidResourceHandler.createGrove(attributes, Grove.GroveType.GROVE, path, warner,
+					idFactory));
+			case ORCHARD -> leaf(FluidResourceHandler.createGrove(attributes, Grove.GroveType.ORCHARD, path,
+					warner, idFactory));
+			case MEADOW -> leaf(FluidResourceHandler.createMeadow(attributes, Meadow.MeadowType.MEADOW, path,
+					warner, idFactory));
+			case FIELD -> leaf(FluidResourceHandler.createMeadow(attributes, Meadow.MeadowType.FIELD, path,
+					warner, idFactory));
+			case MINE -> leaf(FluidResourceHandler.createMine(attributes, path, warner, idFactory));
+			case CACHE -> readCache();
+			case RESOURCE -> leaf(FluidResourceHandler.createResource(attributes, path, warner, idFactory));
+			case IMPLEMENT -> leaf(FluidResourceHandler.createImplement(attributes, path, warner, idFactory));
+			case ADVENTURE -> leaf(FluidExplorableHandler.createAdventure(attributes, path, players, warner,
+					idFactory));
+			case PORTAL -> leaf(FluidExplorableHandler.createPortal(attributes, path, warner, idFactory));
+			case CAVE -> leaf(FluidExplorableHandler.createCave(attributes, path, warner, idFactory));
+			case BATTLEFIELD -> leaf(FluidExplorableHandler.createBattlefield(attributes, path, warner, idFactory));
+			case TEXT -> readTextFixture();
+			case HILL -> readSimpleFixture(Hill::new);
+			case OASIS -> readSimpleFixture(Oasis::new);
+			case SPHINX -> readSimpleFixture(Sphinx::new);
+			case DJINN -> readSimpleFixture(Djinn::new);
+			case GRIFFIN -> readSimpleFixture(Griffin::new);
+			case MINOTAUR -> readSimpleFixture(Minotaur::new);
+			case OGRE -> readSimpleFixture(Ogre::new);
+			case PHOENIX -> readSimpleFixture(Phoenix::new);
+			case SIMURGH -> readSimpleFixture(Simurgh::new);
+			case TROLL -> readSimpleFixture(Troll::new);
+			case SNOWBIRD -> readSimpleFixture(Snowbird::new);
+			case THUNDERBIRD -> readSimpleFixture(Thunderbird::new);
+			case PEGASUS -> readSimpleFixture(Pegasus::new);
+			case UNICORN -> readSimpleFixture(Unicorn::new);
+			case KRAKEN -> readSimpleFixture(Kraken::new);
+			case CENTAUR -> readHasKind(Centaur::new);
+			case DRAGON -> readHasKind(Dragon::new);
+			case FAIRY -> readHasKind(Fairy::new);
+			case GIANT -> readHasKind(Giant::new);
+			default -> delegate(parent);
+		};
+	}
+
+	private Object readSimpleFixture(final IntFunction<?> factory) throws SPFormatException, XMLStreamException {
+		return leaf(SPFluidReader.createSimpleFixture(attributes, factory, path, warner, idFactory));
+	}
+
+	private Object readHasKind(final SPFluidReader.HasKindFactory factory)
+			throws SPFormatException, XMLStreamException {
+		return leaf(SPFluidReader.createHasKind(attributes, factory, path, warner, idFactory));
+	}
+
+	/**
+	 * Advance to the first start tag in our namespaces inside the current
+	 * tag, which is given for the error message if there is none.
+	 */
+	private void nextStartElement(final StartElement parent) throws MissingChildException, XMLStreamException {
+		while (reader.hasNext()) {
+			if (reader.next() == START_ELEMENT && isSPStartElement()) {
+				return;
+			}
+		}
+		throw new MissingChildException(parent, path);
+	}
+
+	/**
+	 * Read a map. There is only one of these per document, so unlike the
+	 * rest of this class we create event objects for the tag(s) and use
+	 * the {@link FluidBase} helpers to read their attributes.
+	 */
+	private IMutableLegacyMap readMapOrView(final QName parent) throws SPFormatException, XMLStreamException {
+		final StartElement element = element();
+		final int currentTurn;
+		final StartElement mapTag;
+		if (Tag.of(reader.getLocalName()) == Tag.VIEW) {
+			FluidBase.expectAttributes(element, path, warner, "current_player", "current_turn");
+			currentTurn = FluidBase.getIntegerAttribute(element, path, "current_turn");
+			if (currentTurn >= 0) {
+				MaturityModel.setCurrentTurn(currentTurn);
+			}
+			nextStartElement(element);
+			mapTag = element();
+			FluidBase.requireTag(mapTag, path, element.getName(), "map");
+			FluidBase.expectAttributes(mapTag, path, warner, "version", "rows", "columns");
+		} else {
+			currentTurn = 0;
+			mapTag = element;
+			FluidBase.expectAttributes(mapTag, path, warner, "version", "rows", "columns", "current_player");
+		}
+		final MapDimensions dimensions;
+		final MapDimensions readDimensions = new MapDimensionsImpl(
+				FluidBase.getIntegerAttribute(mapTag, path, "rows"),
+				FluidBase.getIntegerAttribute(mapTag, path, "columns"),
+				FluidBase.getIntegerAttribute(mapTag, path, "version"));
+		if (readDimensions.version() == 2) {
+			dimensions = readDimensions;
+		} else {
+			warner.handle(new MapVersionException(mapTag, path, readDimensions.version(), 2, 2));
+			dimensions = new MapDimensionsImpl(readDimensions.rows(), readDimensions.columns(), 2);
+		}
+		final Deque<QName> tagStack = new ArrayDeque<>();
+		tagStack.addFirst(element.getName());
+		tagStack.addFirst(mapTag.getName());
+		final IMutableLegacyMap retval = mapFactory.create(dimensions, players, currentTurn);
+		while (reader.hasNext()) {
+			final int event = reader.next();
+			final QName stackTop = Objects.requireNonNull(tagStack.peekFirst());
+			if (event == START_ELEMENT && isSPStartElement()) {
+				switch (Tag.of(reader.getLocalName())) {
+					case ROW -> {
+						FluidBase.expectAttributes(attributes, path, warner, "index");
+						// Deliberately ignore
+						tagStack.addFirst(name());
+					}
+					case FUTURE, SCIENCE -> {
+						warner.handle(UnsupportedTagException.future(element(), path));
+						// Deliberately ignore
+						tagStack.addFirst(name());
+					}
+					case TILE -> parseTile(retval);
+					case ELSEWHERE -> parseElsewhere(retval);
+					default -> {
+						final StartElement se = element();
+						if (readObject(stackTop) instanceof final Player p) {
+							retval.addPlayer(p);
+						} else {
+							throw new UnwantedChildException(mapTag.getName(), se, path);
+						}
+					}
+				}
+			} else if (event == END_ELEMENT) {
+				if (isNamed(stackTop)) {
+					tagStack.removeFirst();
+				}
+				if (isNamed(element.getName())) {
+					break;
+				}
+			} else if ((event == CHARACTERS || event == CDATA) && !reader.isWhiteSpace() &&
+					!reader.getText().isBlank()) {
+				warner.handle(UnwantedChildException.childInTag(stackTop, path,
+						new QName(XMLConstants.NULL_NS_URI, "text"), reader.getLocation(),
+						new IllegalStateException("Random text outside any tile")));
+			}
+		}
+		if (FluidBase.hasAttribute(mapTag, "current_player")) {
+			retval.setCurrentPlayer(players.getPlayer(
+					FluidBase.getIntegerAttribute(mapTag, path, "current_player")));
+		} else if (FluidBase.hasAttribute(element, "current_player")) {
+			retval.setCurrentPlayer(players.getPlayer(
+					FluidBase.getIntegerAttribute(element, path, "current_player")));
+		} else {
+			warner.handle(new MissingPropertyException(mapTag, path, "current_player"));
+		}
+		retval.setStatus(IMutableLegacyMap.ModificationStatus.Unmodified);
+		return retval;
+	}
+
+	private void parseTile(final IMutableLegacyMap map) throws SPFormatException, XMLStreamException {
+		parseTileContents(map, SPFluidReader.parseTileAttributes(map, attributes, path, warner));
+	}
+
+	private void parseElsewhere(final IMutableLegacyMap map) throws SPFormatException, XMLStreamException {
+		FluidBase.expectAttributes(attributes, path, warner);
+		parseTileContents(map, Point.INVALID_POINT);
+	}
+
+	/**
+	 * Read the contents of a tile (or of the "elsewhere" tag), up to its end tag.
+	 *
+	 * A few child tags (mountains, bookmarks, roads, and tags we ignore)
+	 * are handled from their start tag alone; anything inside them is
+	 * treated as if it were directly inside the tile, as is anything
+	 * inside a tag in another namespace.
+	 */
+	private void parseTileContents(final IMutableLegacyMap map, final Point loc)
+			throws SPFormatException, XMLStreamException {
+		final QName tileName = name();
+		int depth = 0;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case START_ELEMENT -> {
+					if (!isSPStartElement() || !parseTileChild(map, tileName, loc)) {
+						depth++;
+					}
+				}
+				case END_ELEMENT -> {
+					if (depth == 0) {
+						return;
+					}
+					depth--;
+				}
+				case CHARACTERS, CDATA -> {
+					if (!reader.isWhiteSpace()) {
+						final String data = reader.getText().strip();
+						if (!data.isEmpty()) {
+							map.addFixture(loc, new TextFixture(data, -1));
+						}
+					}
+				}
+				default -> {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handle a child tag of a tile. Returns true if the tag was read to its
+	 * end, or false if only its start tag was handled.
+	 */
+	private boolean parseTileChild(final IMutableLegacyMap map, final QName tileName, final Point loc)
+			throws SPFormatException, XMLStreamException {
+		final Tag tag = Tag.of(reader.getLocalName());
+		switch (tag) {
+			case FUTURE, SCIENCE -> {
+				warner.handle(UnsupportedTagException.future(element(), path));
+				return false;
+			}
+			case SANDBAR -> {
+				warner.handle(UnsupportedTagException.obsolete(element(), path));
+				return false;
+			}
+			case TILE -> throw new UnwantedChildException(tileName, element(), path);
+			case MOUNTAIN -> {
+				map.setMountainous(loc, true);
+				return false;
+			}
+			case BOOKMARK -> {
+				SPFluidReader.parseBookmark(map, loc, attributes, path, players, warner);
+				return false;
+			}
+			case ROAD -> {
+				SPFluidReader.parseRoad(map, loc, attributes, path, warner);
+				return false;
+			}
+			default -> {
+			}
+		}
+		final @Nullable StartElement element = tag.isTileContent() ? null : element();
+		final Object child = readObject(tileName);
+		switch (child) {
+			case final River r -> map.addRivers(loc, r);
+			case final TileFixture tf -> {
+				if (tf instanceof final IFortress fort &&
+						map.streamFixtures(loc)
+								.filter(IFortress.class::isInstance)
+								.map(IFortress.class::cast)
+								.anyMatch(f -> f.owner().equals(fort.owner()))) {
+					warner.handle(new UnwantedChildException(tileName, path, Objects.requireNonNull(element),
+							"Multiple fortresses owned by same player on same tile"));
+				}
+				map.addFixture(loc, tf);
+			}
+			default -> throw new UnwantedChildException(tileName, Objects.requireNonNull(element), path);
+		}
+		return true;
+	}
+
+	private Player readPlayer() throws SPFormatException, XMLStreamException {
+		final Player retval = SPFluidReader.createPlayer(attributes, path, warner);
+		final QName name = name();
+		// We're thinking about storing "standing orders" in the XML under the <player>
+		// tag, and also possibly scientific progress; so as to not require players to
+		// upgrade to even read their maps once we start doing so, we *now* only *warn*
+		// instead of *dying* if the XML contains that idiom.
+		int depth = 0;
+		while (reader.hasNext()) {
+			final int event = reader.next();
+			if (event == START_ELEMENT) {
+				if (isSPStartElement()) {
+					switch (Tag.of(reader.getLocalName())) {
+						case ORDERS, RESULTS, SCIENCE ->
+								warner.handle(new UnwantedChildException(name, element(), path));
+						default -> throw new UnwantedChildException(name, element(), path);
+					}
+				}
+				depth++;
+			} else if (event == END_ELEMENT) {
+				if (depth == 0) {
+					break;
+				}
+				depth--;
+			}
+		}
+		return retval;
+	}
+
+	private IMutableUnit readUnit() throws SPFormatException, XMLStreamException {
+		final Unit retval = SPFluidReader.createUnit(attributes, path, players, warner, idFactory);
+		final QName name = name();
+		final StringBuilder orders = new StringBuilder();
+		int depth = 0;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case START_ELEMENT -> {
+					if (!isSPStartElement()) {
+						depth++;
+						continue;
+					}
+					switch (Tag.of(reader.getLocalName())) {
+						case ORDERS -> parseOrders(retval);
+						case RESULTS -> parseResults(retval);
+						default -> {
+							final StartElement se = element();
+							if (readObject(name) instanceof final UnitMember um) {
+								retval.addMember(um);
+							} else {
+								throw new UnwantedChildException(name, se, path);
+							}
+						}
+					}
+				}
+				case CHARACTERS, CDATA, SPACE -> {
+					if (!orders.isEmpty() || !reader.isWhiteSpace()) {
+						orders.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+					}
+				}
+				case END_ELEMENT -> {
+					if (depth == 0) {
+						final String tempOrders = orders.toString().strip();
+						if (!tempOrders.isEmpty()) {
+							retval.setOrders(-1, tempOrders);
+						}
+						return retval;
+					}
+					depth--;
+				}
+				default -> {
+				}
+			}
+		}
+		return retval;
+	}
+
+	private void parseOrders(final IMutableUnit unit) throws SPFormatException, XMLStreamException {
+		FluidBase.expectAttributes(attributes, path, warner, "turn");
+		final int turn = FluidBase.getIntegerAttribute(attributes, "turn", -1, warner);
+		unit.setOrders(turn, getTextUntil());
+	}
+
+	private void parseResults(final IMutableUnit unit) throws SPFormatException, XMLStreamException {
+		FluidBase.expectAttributes(attributes, path, warner, "turn");
+		final int turn = FluidBase.getIntegerAttribute(attributes, "turn", -1, warner);
+		unit.setResults(turn, getTextUntil());
+	}
+
+	private IFortress readFortress() throws SPFormatException, XMLStreamException {
+		final IMutableFortress retval = SPFluidReader.createFortress(attributes, path, players, warner, idFactory);
+		final QName name = name();
+		int depth = 0;
+		while (reader.hasNext()) {
+			final int event = reader.next();
+			if (event == START_ELEMENT) {
+				if (!isSPStartElement()) {
+					depth++;
+					continue;
+				}
+				switch (Tag.of(reader.getLocalName())) {
+					// We're thinking about storing per-fortress "standing orders" or general
+					// regulations, building-progress results, and possibly scientific
+					// research progress within fortresses. To ease the transition, we *now*
+					// warn, instead of aborting, if the tags we expect to use for this
+					// appear in this position in the XML.
+					case ORDERS, RESULTS, SCIENCE -> {
+						warner.handle(new UnwantedChildException(name, element(), path));
+						depth++;
+					}
+					default -> {
+						final StartElement se = element();
+						if (readObject(name) instanceof final FortressMember fm) {
+							retval.addMember(fm);
+						} else {
+							throw new UnwantedChildException(name, se, path);
+						}
+					}
+				}
+			} else if (event == END_ELEMENT) {
+				if (depth == 0) {
+					break;
+				}
+				depth--;
+			}
+		}
+		return retval;
+	}
+
+	private River readLake() throws SPFormatException, XMLStreamException {
+		FluidBase.expectAttributes(attributes, path, warner);
+		return leaf(River.Lake);
+	}
+
+	private Object readAnimal() throws SPFormatException, XMLStreamException {
+		final ImmortalAnimal immortal = UnitMemberHandler.createImmortalAnimal(attributes, path, warner,
+				idFactory);
+		if (Objects.nonNull(immortal)) {
+			skipElement();
+			return immortal;
+		}
+		return leaf(UnitMemberHandler.createAnimal(attributes, path, warner, idFactory));
+	}
+
+	private CacheFixture readCache() throws SPFormatException, XMLStreamException {
+		final CacheFixture retval = FluidResourceHandler.createCache(attributes, path, warner, idFactory);
+		final QName name = name();
+		// We want to transition from arbitrary-String 'contents' to sub-tags. As a first
+		// step, future-proof *this* version of the suite by only firing a warning if
+		// such children are detected, instead of aborting.
+		int depth = 0;
+		while (reader.hasNext()) {
+			final int event = reader.next();
+			if (event == START_ELEMENT) {
+				if (isSPStartElement()) {
+					switch (Tag.of(reader.getLocalName())) {
+						case RESOURCE, IMPLEMENT -> warner.handle(new UnwantedChildException(name, element(), path));
+						default -> throw new UnwantedChildException(name, element(), path);
+					}
+				}
+				depth++;
+			} else if (event == END_ELEMENT) {
+				if (depth == 0) {
+					break;
+				}
+				depth--;
+			}
+		}
+		return retval;
+	}
+
+	private TextFixture readTextFixture() throws SPFormatException, XMLStreamException {
+		FluidBase.expectAttributes(attributes, path, warner, "turn", "image");
+		final int turn = FluidBase.getIntegerAttribute(attributes, "turn", -1, warner);
+		final String image = FluidBase.getAttribute(attributes, "image", "");
+		final TextFixture retval = new TextFixture(getTextUntil(), turn);
+		retval.setImage(image);
+		return retval;
+	}
+}
@@ -0,0 +1,77 @@
+package legacy.xmlio.fluidxml;
+
+import lovelace.util.IteratorWrapper;
+import org.jspecify.annotations.Nullable;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static impl.xmlio.ISPReader.SP_NAMESPACE;
+
+/**
+ * The attributes of a start tag we have an event object for.
+ */
+/* package */ final class EventAttributes implements TagAttributes {
+	public EventAttributes(final StartElement element) {
+		this.element = element;
+	}
+
+	private final StartElement element;
+
+	/**
+	 * The tag's attributes, in the order the event object gives them,
+	 * collected the first time they are asked for by index.
+	 */
+	private @Nullable List<Attribute> attributes = null;
+
+	private List<Attribute> attributes() {
+		List<Attribute> retval = attributes;
+		if (Objects.isNull(retval)) {
+			retval = new ArrayList<>();
+			for (final Attribute attribute : new IteratorWrapper<>(element.getAttributes())) {
+				retval.add(attribute);
+			}
+			attributes = retval;
+		}
+		return retval;
+	}
+
+	@Override
+	public @Nullable String getValue(final String param) {
+		Attribute retval = element.getAttributeByName(new QName(SP_NAMESPACE, param));
+		if (Objects.isNull(retval)) {
+			retval = element.getAttributeByName(new QName(param));
+		}
+		return Objects.isNull(retval) ? null : retval.getValue();
+	}
+
+	@Override
+	public int getAttributeCount() {
+		return attributes().size();
+	}
+
+	@Override
+	public String getAttributeLocalName(final int index) {
+		return attributes().get(index).getName().getLocalPart();
+	}
+
+	@Override
+	public String getAttributeNamespace(final int index) {
+		return attributes().get(index).getName().getNamespaceURI();
+	}
+
+	@Override
+	public Location getLocation() {
+		return element.getLocation();
+	}
+
+	@Override
+	public StartElement getElement() {
+		return element;
+	}
+}
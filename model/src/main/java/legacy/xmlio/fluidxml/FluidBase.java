@@ -11,17 +11,14 @@ import legacy.map.HasImage;
 import legacy.map.HasMutableImage;
 import legacy.map.ILegacyPlayerCollection;
 import legacy.map.Player;
-import lovelace.util.IteratorWrapper;
 import lovelace.util.LovelaceLogger;
 import org.javatuples.Pair;
 import org.jspecify.annotations.Nullable;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
-import javax.xml.stream.Location;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.Characters;
 import javax.xml.stream.events.EndElement;
 import javax.xml.stream.events.StartElement;
@@ -31,7 +28,6 @@ import java.math.BigInteger;
 import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.text.ParseException;
-import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -65,18 +61,14 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	}
 
 	/**
-	 * Get a parameter from an XML tag by name. Returns null if not found
-	 * in either the SP namespace or the default namespace.
+	 * Get a parameter from the XML, returning the given default if the tag doesn't have that parameter.
 	 *
-	 * @param element The current XML tag
-	 * @param param   The parameter we want
+	 * @param attributes The current tag's attributes.
+	 * @param param      The parameter we want to get.
 	 */
-	private static @Nullable Attribute getAttributeByName(final StartElement element, final String param) {
-		Attribute retval = element.getAttributeByName(new QName(SP_NAMESPACE, param));
-		if (Objects.isNull(retval)) {
-			retval = element.getAttributeByName(new QName(param));
-		}
-		return retval;
+	protected static String getAttribute(final TagAttributes attributes, final String param,
+	                                     final String defaultValue) {
+		return Objects.requireNonNullElse(attributes.getValue(param), defaultValue);
 	}
 
 	/**
@@ -86,12 +78,24 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 * @param param   The parameter we want to get.
 	 */
 	protected static String getAttribute(final StartElement element, final String param, final String defaultValue) {
-		final Attribute attr = getAttributeByName(element, param);
-		String retval = null;
-		if (Objects.nonNull(attr)) {
-			retval = attr.getValue();
+		return getAttribute(TagAttributes.of(element), param, defaultValue);
+	}
+
+	/**
+	 * Get a parameter from the XML.
+	 *
+	 * @param attributes The current tag's attributes.
+	 * @param param      The parameter we want to get.
+	 * @throws MissingPropertyException if the tag doesn't have that parameter
+	 */
+	protected static String getAttribute(final TagAttributes attributes, final @Nullable Path file,
+	                                     final String param) throws MissingPropertyException {
+		final String retval = attributes.getValue(param);
+		if (Objects.isNull(retval)) {
+			throw new MissingPropertyException(attributes.getElement(), file, param);
+		} else {
+			return retval;
 		}
-		return Objects.requireNonNullElse(retval, defaultValue);
 	}
 
 	/**
@@ -103,16 +107,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 */
 	protected static String getAttribute(final StartElement element, final @Nullable Path file, final String param)
 			throws MissingPropertyException {
-		final Attribute attr = getAttributeByName(element, param);
-		if (Objects.isNull(attr)) {
-			throw new MissingPropertyException(element, file, param);
-		}
-		final String retval = attr.getValue();
-		if (Objects.isNull(retval)) {
-			throw new MissingPropertyException(element, file, param);
-		} else {
-			return retval;
-		}
+		return getAttribute(TagAttributes.of(element), file, param);
 	}
 
 	/**
@@ -126,7 +121,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 */
 	protected static boolean getBooleanAttribute(final StartElement element, final @Nullable Path path,
 	                                             final String param, final boolean defaultValue) {
-		return getBooleanAttribute(element, path, param, defaultValue, Warning.WARN);
+		return getBooleanAttribute(TagAttributes.of(element), path, param, defaultValue, Warning.WARN);
 	}
 
 	/**
@@ -134,19 +129,16 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 * XML, returning the specified value if the attribute does not exist
 	 * or has a non-boolean value.
 	 *
-	 * @param element      The current tag.
+	 * @param attributes   The current tag's attributes.
 	 * @param param        The parameter we want to get
 	 * @param defaultValue The value to return if the tag doesn't have that parameter
 	 * @param warner       The {@link Warning} instance to use if the attribute was present but non-Boolean but a
 	 *                     default was provided
 	 */
-	protected static boolean getBooleanAttribute(final StartElement element, final @Nullable Path path,
-	                                             final String param, final boolean defaultValue, final Warning warner) {
-		final Attribute attr = getAttributeByName(element, param);
-		if (Objects.isNull(attr)) {
-			return defaultValue;
-		}
-		final String val = attr.getValue();
+	protected static boolean getBooleanAttribute(final TagAttributes attributes, final @Nullable Path path,
+	                                             final String param, final boolean defaultValue,
+	                                             final Warning warner) {
+		final String val = attributes.getValue(param);
 		if (Objects.isNull(val) || val.isEmpty()) {
 			return defaultValue;
 		}
@@ -155,59 +147,85 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 		} else if ("false".equalsIgnoreCase(val)) {
 			return false;
 		} else {
-			warner.handle(new MissingPropertyException(element, path, param,
+			warner.handle(new MissingPropertyException(attributes.getElement(), path, param,
 					new IllegalArgumentException("Cannot parse boolean from " + val)));
 			return defaultValue;
 		}
 	}
 
+	/**
+	 * Get an attribute that should only contain "true" or "false" from the
+	 * XML, returning the specified value if the attribute does not exist
+	 * or has a non-boolean value.
+	 *
+	 * @param element      The current tag.
+	 * @param param        The parameter we want to get
+	 * @param defaultValue The value to return if the tag doesn't have that parameter
+	 * @param warner       The {@link Warning} instance to use if the attribute was present but non-Boolean but a
+	 *                     default was provided
+	 */
+	protected static boolean getBooleanAttribute(final StartElement element, final @Nullable Path path,
+	                                             final String param, final boolean defaultValue, final Warning warner) {
+		return getBooleanAttribute(TagAttributes.of(element), path, param, defaultValue, warner);
+	}
+
 	/**
 	 * Get an attribute that should only contain "true" or "false" from the
 	 * XML. If not provided or not "true" or "false", throws an exception.
 	 *
-	 * @param element The current tag.
-	 * @param param   The parameter we want to get
+	 * @param attributes The current tag's attributes.
+	 * @param param      The parameter we want to get
 	 * @throws MissingPropertyException if the tag doesn't have that parameter and no default was provided
 	 */
-	protected static boolean getBooleanAttribute(final StartElement element, final @Nullable Path path,
+	protected static boolean getBooleanAttribute(final TagAttributes attributes, final @Nullable Path path,
 	                                             final String param)
 			throws MissingPropertyException {
-		final Attribute attr = getAttributeByName(element, param);
-		if (Objects.isNull(attr)) {
-			throw new MissingPropertyException(element, path, param);
-		}
-		final String val = attr.getValue();
+		final String val = attributes.getValue(param);
 		if (Objects.isNull(val) || val.isEmpty()) {
-			throw new MissingPropertyException(element, path, param);
+			throw new MissingPropertyException(attributes.getElement(), path, param);
 		}
 		if ("true".equalsIgnoreCase(val)) {
 			return true;
 		} else if ("false".equalsIgnoreCase(val)) {
 			return false;
 		} else {
-			throw new MissingPropertyException(element, path, param,
+			throw new MissingPropertyException(attributes.getElement(), path, param,
 					new IllegalArgumentException("Cannot parse boolean from " + val));
 		}
 	}
 
+	/**
+	 * Get an attribute that should only contain "true" or "false" from the
+	 * XML. If not provided or not "true" or "false", throws an exception.
+	 *
+	 * @param element The current tag.
+	 * @param param   The parameter we want to get
+	 * @throws MissingPropertyException if the tag doesn't have that parameter and no default was provided
+	 */
+	protected static boolean getBooleanAttribute(final StartElement element, final @Nullable Path path,
+	                                             final String param)
+			throws MissingPropertyException {
+		return getBooleanAttribute(TagAttributes.of(element), path, param);
+	}
+
 	/**
 	 * Require (or recommend) that a parameter (to be subsequently
 	 * retrieved via {@link #getAttribute}) be non-empty.
 	 *
 	 * @throws SPFormatException if mandatory and missing
-	 * @param element   The current tag.
-	 * @param param     The desired parameter.
-	 * @param mandatory Whether this is a requirement. If true, we throw the exception; if false, we merely warn.
-	 * @param warner    The Warning instance to use if non-mandatory.
+	 * @param attributes The current tag's attributes.
+	 * @param param      The desired parameter.
+	 * @param mandatory  Whether this is a requirement. If true, we throw the exception; if false, we merely warn.
+	 * @param warner     The Warning instance to use if non-mandatory.
 	 *
 	 *
 	 * TODO: Split into "require" and "recommend" method rather than having Boolean parameter?
 	 */
-	protected static void requireNonEmptyAttribute(final StartElement element, final @Nullable Path path,
+	protected static void requireNonEmptyAttribute(final TagAttributes attributes, final @Nullable Path path,
 	                                               final String param, final boolean mandatory, final Warning warner)
 			throws SPFormatException {
-		if (getAttribute(element, param, "").isEmpty()) {
-			final SPFormatException except = new MissingPropertyException(element, path, param);
+		if (getAttribute(attributes, param, "").isEmpty()) {
+			final SPFormatException except = new MissingPropertyException(attributes.getElement(), path, param);
 			if (mandatory) {
 				throw except;
 			} else {
@@ -216,6 +234,22 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 		}
 	}
 
+	/**
+	 * Require (or recommend) that a parameter (to be subsequently
+	 * retrieved via {@link #getAttribute}) be non-empty.
+	 *
+	 * @throws SPFormatException if mandatory and missing
+	 * @param element   The current tag.
+	 * @param param     The desired parameter.
+	 * @param mandatory Whether this is a requirement. If true, we throw the exception; if false, we merely warn.
+	 * @param warner    The Warning instance to use if non-mandatory.
+	 */
+	protected static void requireNonEmptyAttribute(final StartElement element, final @Nullable Path path,
+	                                               final String param, final boolean mandatory, final Warning warner)
+			throws SPFormatException {
+		requireNonEmptyAttribute(TagAttributes.of(element), path, param, mandatory, warner);
+	}
+
 	/**
 	 * Whether the given XML element is a {@link StartElement} and in a namespace we support.
 	 */
@@ -249,6 +283,16 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 		}
 	}
 
+	/**
+	 * Whether an XML tag has the given parameter.
+	 *
+	 * @param attributes The current tag's attributes
+	 * @param param      The parameter we want
+	 */
+	protected static boolean hasAttribute(final TagAttributes attributes, final String param) {
+		return Objects.nonNull(attributes.getValue(param));
+	}
+
 	/**
 	 * Whether an XML tag has the given parameter.
 	 *
@@ -256,7 +300,49 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 * @param param   The parameter we want
 	 */
 	protected static boolean hasAttribute(final StartElement element, final String param) {
-		return Objects.nonNull(getAttributeByName(element, param));
+		return hasAttribute(TagAttributes.of(element), param);
+	}
+
+	/**
+	 * Register an ID read from a tag. The tag's location, which is only
+	 * needed if the ID is a duplicate, is only looked up if it is.
+	 *
+	 * @param attributes The tag the ID was read from
+	 * @param id         The ID to register
+	 * @param warner     The Warning instance to use if the ID is a duplicate
+	 * @param idFactory  The factory to register the ID with
+	 */
+	protected static int registerID(final TagAttributes attributes, final int id, final Warning warner,
+	                                final @Nullable Path path, final IDRegistrar idFactory) {
+		if (idFactory.isIDUnused(id)) {
+			return idFactory.register(id, warner);
+		} else {
+			return idFactory.register(id, warner, Pair.with(path, attributes.getLocation()));
+		}
+	}
+
+	/**
+	 * If the specified tag has an ID as a property, return it; otherwise
+	 * warn about its absence and generate one.
+	 *
+	 * @param attributes The tag we're working with
+	 * @param warner     The Warning instance to use if hte tag doesn't specify an ID
+	 * @param idFactory  The factory to use to register an existing ID or get a new one
+	 * @throws MissingPropertyException on SP format problems reading the property
+	 */
+	protected static int getOrGenerateID(final TagAttributes attributes, final Warning warner,
+	                                     final @Nullable Path path, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		final String val = attributes.getValue("id");
+		if (Objects.isNull(val)) {
+			warner.handle(new MissingPropertyException(attributes.getElement(), path, "id"));
+			return idFactory.createID();
+		}
+		try {
+			return registerID(attributes, parseInt(val), warner, path, idFactory);
+		} catch (final NumberFormatException | ParseException except) {
+			throw new MissingPropertyException(attributes.getElement(), path, "id", except);
+		}
 	}
 
 	/**
@@ -270,18 +356,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 */
 	protected static int getOrGenerateID(final StartElement element, final Warning warner, final @Nullable Path path,
 										 final IDRegistrar idFactory) throws MissingPropertyException {
-		if (hasAttribute(element, "id")) {
-			try {
-				return idFactory.register(
-						NUM_PARSER.parse(getAttribute(element, path, "id")).intValue(),
-						warner, Pair.with(path, element.getLocation()));
-			} catch (final NumberFormatException | ParseException except) {
-				throw new MissingPropertyException(element, path, "id", except);
-			}
-		} else {
-			warner.handle(new MissingPropertyException(element, path, "id"));
-			return idFactory.createID();
-		}
+		return getOrGenerateID(TagAttributes.of(element), warner, path, idFactory);
 	}
 
 	/**
@@ -289,7 +364,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 * if not, but it has the deprecated parameter, fire a warning but
 	 * return its value; otherwise, throw an exception.
 	 *
-	 * @param element    The current tag
+	 * @param attributes The current tag's attributes
 	 * @param file       The file containing the tag
 	 * @param preferred  The preferred name of the parameter
 	 * @param deprecated The deprecated name of the parameter
@@ -298,18 +373,39 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 *
 	 * TODO: Accept a default-value parameter and/or a type-conversion parameter
 	 */
-	protected static String getAttrWithDeprecatedForm(final StartElement element, final @Nullable Path file,
+	protected static String getAttrWithDeprecatedForm(final TagAttributes attributes, final @Nullable Path file,
 	                                                  final String preferred, final String deprecated,
 	                                                  final Warning warner)
 			throws MissingPropertyException {
-		if (hasAttribute(element, preferred)) {
-			return getAttribute(element, file, preferred);
-		} else if (hasAttribute(element, deprecated)) {
-			warner.handle(new DeprecatedPropertyException(element, file, deprecated, preferred));
-			return getAttribute(element, file, deprecated);
-		} else {
-			throw new MissingPropertyException(element, file, preferred);
+		final String retval = attributes.getValue(preferred);
+		if (Objects.nonNull(retval)) {
+			return retval;
 		}
+		final String old = attributes.getValue(deprecated);
+		if (Objects.nonNull(old)) {
+			warner.handle(new DeprecatedPropertyException(attributes.getElement(), file, deprecated, preferred));
+			return old;
+		}
+		throw new MissingPropertyException(attributes.getElement(), file, preferred);
+	}
+
+	/**
+	 * If the given XML tag has the preferred parameter, return its value;
+	 * if not, but it has the deprecated parameter, fire a warning but
+	 * return its value; otherwise, throw an exception.
+	 *
+	 * @param element    The current tag
+	 * @param file       The file containing the tag
+	 * @param preferred  The preferred name of the parameter
+	 * @param deprecated The deprecated name of the parameter
+	 * @param warner     The Warning instance to use
+	 * @throws MissingPropertyException if the tag has neither parameter
+	 */
+	protected static String getAttrWithDeprecatedForm(final StartElement element, final @Nullable Path file,
+	                                                  final String preferred, final String deprecated,
+	                                                  final Warning warner)
+			throws MissingPropertyException {
+		return getAttrWithDeprecatedForm(TagAttributes.of(element), file, preferred, deprecated, warner);
 	}
 
 	/**
@@ -363,14 +459,33 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	}
 
 	/**
-	 * Parse an integer, throwing an exception on non-numeric or otherwise malformed input.
+	 * Parse an integer, throwing an exception on non-numeric or otherwise
+	 * malformed input. The usual case of a short, plain decimal number is
+	 * parsed directly, without going through {@link NumberFormat}.
 	 *
-	 * @param string   The text to parse
-	 * @param location The current location in the XML.
+	 * @param string The text to parse
 	 * @throws ParseException if the string is non-numeric or otherwise malformed
 	 */
-	private static Integer parseInt(final String string, final Location location) throws ParseException {
-		return NUM_PARSER.parse(string).intValue();
+	protected static int parseInt(final String string) throws ParseException {
+		final int length = string.length();
+		final int start = (length > 1 && string.charAt(0) == '-') ? 1 : 0;
+		if (length > start && length - start <= 9) {
+			int retval = 0;
+			for (int i = start; i < length; i++) {
+				final char ch = string.charAt(i);
+				if (ch < '0' || ch > '9') {
+					retval = -1;
+					break;
+				}
+				retval = retval * 10 + (ch - '0');
+			}
+			if (retval >= 0) {
+				return (start == 0) ? retval : -retval;
+			}
+		}
+		synchronized (NUM_PARSER) {
+			return NUM_PARSER.parse(string).intValue();
+		}
 	}
 
 	/**
@@ -383,7 +498,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 * @param defaultValue The number to return if the parameter doesn't exist
 	 */
 	public static int getIntegerAttribute(final StartElement tag, final String parameter, final int defaultValue) {
-		return getIntegerAttribute(tag, parameter, defaultValue, Warning.WARN);
+		return getIntegerAttribute(TagAttributes.of(tag), parameter, defaultValue, Warning.WARN);
 	}
 
 	/**
@@ -391,34 +506,62 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 *
 	 * TODO: Replace this with a conversion function passed to {@link #getAttribute}
 	 *
-	 * @param tag          The tag to get the parameter from
+	 * @param attributes   The tag to get the parameter from
 	 * @param parameter    The name of the desired parameter
 	 * @param defaultValue The number to return if the parameter doesn't exist
 	 * @param warner       The {@link Warning} instance to use if input is malformed
 	 */
-	protected static int getIntegerAttribute(final StartElement tag, final String parameter, final int defaultValue,
-											 final Warning warner) {
-		final Attribute attr = getAttributeByName(tag, parameter);
-		if (Objects.isNull(attr)) {
-			return defaultValue;
-		}
-		final String val = attr.getValue();
+	protected static int getIntegerAttribute(final TagAttributes attributes, final String parameter,
+	                                         final int defaultValue, final Warning warner) {
+		final String val = attributes.getValue(parameter);
 		if (Objects.isNull(val)) {
 			return defaultValue;
 		}
 		try {
-			return parseInt(val, tag.getLocation());
+			return parseInt(val);
 		} catch (final ParseException except) {
 			warner.handle(except);
 			return defaultValue;
 		}
 	}
 
+	/**
+	 * Parse an Integer parameter.
+	 *
+	 * @param tag          The tag to get the parameter from
+	 * @param parameter    The name of the desired parameter
+	 * @param defaultValue The number to return if the parameter doesn't exist
+	 * @param warner       The {@link Warning} instance to use if input is malformed
+	 */
+	protected static int getIntegerAttribute(final StartElement tag, final String parameter, final int defaultValue,
+											 final Warning warner) {
+		return getIntegerAttribute(TagAttributes.of(tag), parameter, defaultValue, warner);
+	}
+
 	/**
 	 * Parse an Integer parameter.
 	 *
 	 * TODO: Replace this with a conversion function passed to {@link #getAttribute}
 	 *
+	 * @param attributes The tag to get the parameter from
+	 * @param parameter  The name of the desired parameter
+	 * @throws MissingPropertyException if the tag doesn't have that parameter, or
+	 *                           if its value is non-numeric or otherwise malformed
+	 */
+	protected static int getIntegerAttribute(final TagAttributes attributes, final @Nullable Path path,
+	                                         final String parameter)
+			throws MissingPropertyException {
+		final String val = getAttribute(attributes, path, parameter);
+		try {
+			return parseInt(val);
+		} catch (final ParseException except) {
+			throw new MissingPropertyException(attributes.getElement(), path, parameter, except);
+		}
+	}
+
+	/**
+	 * Parse an Integer parameter.
+	 *
 	 * @param tag       The tag to get the parameter from
 	 * @param parameter The name of the desired parameter
 	 * @throws MissingPropertyException if the tag doesn't have that parameter, or
@@ -427,75 +570,65 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	public static int getIntegerAttribute(final StartElement tag, final @Nullable Path path,
 	                                      final String parameter)
 			throws MissingPropertyException {
-		final Attribute attr = getAttributeByName(tag, parameter);
-		if (Objects.isNull(attr)) {
-			throw new MissingPropertyException(tag, path, parameter);
-		}
-		final String val = attr.getValue();
-		if (Objects.isNull(val)) {
-			throw new MissingPropertyException(tag, path, parameter);
-		}
-		try {
-			return parseInt(val, tag.getLocation());
-		} catch (final ParseException except) {
-			throw new MissingPropertyException(tag, path, parameter, except);
+		return getIntegerAttribute(TagAttributes.of(tag), path, parameter);
+	}
+
+	/**
+	 * Parse the value of an XML parameter that can be an Integer or a Decimal.
+	 *
+	 * @throws MissingPropertyException if the value is non-numeric or otherwise malformed
+	 */
+	private static Number parseNumber(final TagAttributes attributes, final @Nullable Path path,
+	                                  final String parameter, final String val) throws MissingPropertyException {
+		if (val.contains(".")) {
+			try {
+				return new BigDecimal(val);
+			} catch (final NumberFormatException except) {
+				throw new MissingPropertyException(attributes.getElement(), path, parameter, except);
+			}
+		} else {
+			try {
+				return parseInt(val);
+			} catch (final ParseException except) {
+				throw new MissingPropertyException(attributes.getElement(), path, parameter, except);
+			}
 		}
 	}
 
 	/**
-	 * Parse an XML parameter whose value can be an Integer or a Decimal. FIXME: Inline (callers pass warner)
+	 * Parse an XML parameter whose value can be an Integer or a Decimal.
 	 *
 	 * TODO: Replace this with a conversion function passed to {@link #getAttribute}
 	 *
-	 * @param tag          The tag to get the parameter from
+	 * @param attributes   The tag to get the parameter from
 	 * @param parameter    The name of the desired parameter
 	 * @param defaultValue The number to return if the parameter doesn't exist
 	 * @throws MissingPropertyException if the tag's value is non-numeric or
 	 *                           otherwise malformed
 	 */
-	protected static Number getNumericAttribute(final StartElement tag, final @Nullable Path path,
+	protected static Number getNumericAttribute(final TagAttributes attributes, final @Nullable Path path,
 	                                            final String parameter, final Number defaultValue)
 			throws MissingPropertyException {
-		return getNumericAttribute(tag, path, parameter, defaultValue, Warning.WARN);
+		final String val = attributes.getValue(parameter);
+		if (Objects.isNull(val)) {
+			return defaultValue;
+		}
+		return parseNumber(attributes, path, parameter, val);
 	}
 
 	/**
 	 * Parse an XML parameter whose value can be an Integer or a Decimal.
 	 *
-	 * TODO: Replace this with a conversion function passed to {@link #getAttribute}
-	 *
 	 * @param tag          The tag to get the parameter from
 	 * @param parameter    The name of the desired parameter
 	 * @param defaultValue The number to return if the parameter doesn't exist
-	 * @param warner       The {@link Warning} instance to use if input is malformed
 	 * @throws MissingPropertyException if the tag's value is non-numeric or
 	 *                           otherwise malformed
 	 */
 	protected static Number getNumericAttribute(final StartElement tag, final @Nullable Path path,
-	                                            final String parameter, final Number defaultValue,
-	                                            final Warning warner)
+	                                            final String parameter, final Number defaultValue)
 			throws MissingPropertyException {
-		final Attribute attr = getAttributeByName(tag, parameter);
-		if (Objects.isNull(attr)) {
-			return defaultValue;
-		}
-		final String val = attr.getValue();
-		if (Objects.isNull(val)) {
-			return defaultValue;
-		}
-		if (val.contains(".")) {
-			try {
-				return new BigDecimal(val);
-			} catch (final NumberFormatException except) {
-				throw new MissingPropertyException(tag, path, parameter, except);
-			}
-		} else {
-			try {
-				return parseInt(val, tag.getLocation());
-			} catch (final ParseException except) {
-				throw new MissingPropertyException(tag, path, parameter, except);
-			}
-		}
+		return getNumericAttribute(TagAttributes.of(tag), path, parameter, defaultValue);
 	}
 
 	/**
@@ -503,6 +636,20 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 *
 	 * TODO: Replace this with a conversion function passed to {@link #getAttribute}
 	 *
+	 * @param attributes The tag to get the parameter from
+	 * @param parameter  The name of the desired parameter
+	 * @throws MissingPropertyException if the tag doesn't have that parameter, or
+	 *                           if its value is non-numeric or otherwise malformed
+	 */
+	protected static Number getNumericAttribute(final TagAttributes attributes, final @Nullable Path path,
+	                                            final String parameter)
+			throws MissingPropertyException {
+		return parseNumber(attributes, path, parameter, getAttribute(attributes, path, parameter));
+	}
+
+	/**
+	 * Parse an XML parameter whose value can be an Integer or a Decimal.
+	 *
 	 * @param tag       The tag to get the parameter from
 	 * @param parameter The name of the desired parameter
 	 * @throws MissingPropertyException if the tag doesn't have that parameter, or
@@ -511,27 +658,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	protected static Number getNumericAttribute(final StartElement tag, final @Nullable Path path,
 	                                            final String parameter)
 			throws MissingPropertyException {
-		final Attribute attr = getAttributeByName(tag, parameter);
-		if (Objects.isNull(attr)) {
-			throw new MissingPropertyException(tag, path, parameter);
-		}
-		final String val = attr.getValue();
-		if (Objects.isNull(val)) {
-			throw new MissingPropertyException(tag, path, parameter);
-		}
-		if (val.contains(".")) {
-			try {
-				return new BigDecimal(val);
-			} catch (final NumberFormatException except) {
-				throw new MissingPropertyException(tag, path, parameter, except);
-			}
-		} else {
-			try {
-				return parseInt(val, tag.getLocation());
-			} catch (final ParseException except) {
-				throw new MissingPropertyException(tag, path, parameter, except);
-			}
-		}
+		return getNumericAttribute(TagAttributes.of(tag), path, parameter);
 	}
 
 	/**
@@ -602,6 +729,27 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 		}
 	}
 
+	/**
+	 * If the specified tag has an "owner" property, return the player it
+	 * indicates; otherwise warn about its absence and return the
+	 * "independent" player from the player collection.
+	 *
+	 * @param attributes The tag we're working with
+	 * @param warner     The Warning instance to use
+	 * @param players    The collection of players to refer to
+	 * @throws MissingPropertyException on SP format problems reading the attribute
+	 */
+	protected static Player getPlayerOrIndependent(final TagAttributes attributes, final @Nullable Path path,
+	                                               final Warning warner, final ILegacyPlayerCollection players)
+			throws MissingPropertyException {
+		if (hasAttribute(attributes, "owner")) {
+			return players.getPlayer(getIntegerAttribute(attributes, path, "owner"));
+		} else {
+			warner.handle(new MissingPropertyException(attributes.getElement(), path, "owner"));
+			return players.getIndependent();
+		}
+	}
+
 	/**
 	 * If the specified tag has an "owner" property, return the player it
 	 * indicates; otherwise warn about its absence and return the
@@ -615,12 +763,24 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	protected static Player getPlayerOrIndependent(final StartElement element, final @Nullable Path path,
 	                                               final Warning warner, final ILegacyPlayerCollection players)
 			throws MissingPropertyException {
-		if (hasAttribute(element, "owner")) {
-			return players.getPlayer(getIntegerAttribute(element, path, "owner"));
-		} else {
-			warner.handle(new MissingPropertyException(element, path, "owner"));
-			return players.getIndependent();
+		return getPlayerOrIndependent(TagAttributes.of(element), path, warner, players);
+	}
+
+	/**
+	 * Set an object's image property if an image filename is specified in the XML.
+	 *
+	 * @param obj        The object in question
+	 * @param attributes The current XML tag's attributes
+	 * @param warner     The Warning instance to use if the object can't have an image but the XML specifies one
+	 */
+	protected static <Type> Type setImage(final Type obj, final TagAttributes attributes, final @Nullable Path path,
+	                                      final Warning warner) {
+		if (obj instanceof final HasMutableImage hmi) {
+			hmi.setImage(getAttribute(attributes, "image", ""));
+		} else if (hasAttribute(attributes, "image")) {
+			warner.handle(new UnsupportedPropertyException(attributes.getElement(), path, "image"));
 		}
+		return obj;
 	}
 
 	/**
@@ -632,12 +792,7 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 	 */
 	protected static <Type> Type setImage(final Type obj, final StartElement element, final @Nullable Path path,
 	                                      final Warning warner) {
-		if (obj instanceof final HasMutableImage hmi) {
-			hmi.setImage(getAttribute(element, "image", ""));
-		} else if (hasAttribute(element, "image")) {
-			warner.handle(new UnsupportedPropertyException(element, path, "image"));
-		}
-		return obj;
+		return setImage(obj, TagAttributes.of(element), path, warner);
 	}
 
 	/**
@@ -679,25 +834,41 @@ import static impl.xmlio.ISPReader.SP_NAMESPACE;
 		};
 	}
 
-	private static boolean isSupportedNamespace(final QName name) {
-		return SP_NAMESPACE.equals(name.getNamespaceURI()) ||
-				XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI());
+	/**
+	 * Whether the given namespace, which may be null or empty for no namespace, is one we support.
+	 */
+	protected static boolean isSupportedNamespace(final @Nullable String namespace) {
+		return Objects.isNull(namespace) || namespace.isEmpty() || SP_NAMESPACE.equals(namespace);
 	}
 
 	/**
 	 * Warn if any unsupported attribute is on this tag.
 	 */
-	protected static void expectAttributes(final StartElement element, final @Nullable Path path, final Warning warner,
-	                                       final String... attributes) {
-		final List<String> local = Stream.of(attributes).map(String::toLowerCase).toList();
-		for (final Attribute attribute : new IteratorWrapper<>(
-				element.getAttributes())) {
-			final QName name = attribute.getName();
-			if (isSupportedNamespace(name) &&
-					!local.contains(name.getLocalPart().toLowerCase())) {
-				warner.handle(new UnsupportedPropertyException(element, path,
-						name.getLocalPart()));
+	protected static void expectAttributes(final TagAttributes attributes, final @Nullable Path path,
+	                                       final Warning warner, final String... expected) {
+		final int count = attributes.getAttributeCount();
+		for (int i = 0; i < count; i++) {
+			if (isSupportedNamespace(attributes.getAttributeNamespace(i))) {
+				final String name = attributes.getAttributeLocalName(i);
+				boolean found = false;
+				for (final String attribute : expected) {
+					if (attribute.equalsIgnoreCase(name)) {
+						found = true;
+						break;
+					}
+				}
+				if (!found) {
+					warner.handle(new UnsupportedPropertyException(attributes.getElement(), path, name));
+				}
 			}
 		}
 	}
+
+	/**
+	 * Warn if any unsupported attribute is on this tag.
+	 */
+	protected static void expectAttributes(final StartElement element, final @Nullable Path path, final Warning warner,
+	                                       final String... attributes) {
+		expectAttributes(TagAttributes.of(element), path, warner, attributes);
+	}
 }
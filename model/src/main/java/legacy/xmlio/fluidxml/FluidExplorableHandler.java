@@ -24,52 +24,94 @@ import javax.xml.stream.events.XMLEvent;
 import java.nio.file.Path;
 
 /* package */ class FluidExplorableHandler extends FluidBase {
+	/**
+	 * Create an adventure hook from its tag's attributes.
+	 */
+	/* package */ static AdventureFixtureImpl createAdventure(final TagAttributes attributes,
+	                                                         final @Nullable Path path,
+	                                                         final ILegacyPlayerCollection players,
+	                                                         final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "owner", "brief", "full", "id", "image");
+		final Player player;
+		if (hasAttribute(attributes, "owner")) {
+			player = players.getPlayer(getIntegerAttribute(attributes, path, "owner"));
+		} else {
+			player = players.getIndependent();
+		}
+		return setImage(new AdventureFixtureImpl(player,
+				getAttribute(attributes, "brief", ""),
+				getAttribute(attributes, "full", ""),
+				getOrGenerateID(attributes, warner, path, idFactory)), attributes, path, warner);
+	}
+
 	public static AdventureFixture readAdventure(final StartElement element, final @Nullable Path path,
 	                                             final QName parent, final Iterable<XMLEvent> stream,
 	                                             final ILegacyPlayerCollection players, final Warning warner,
 	                                             final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "adventure");
-		expectAttributes(element, path, warner, "owner", "brief", "full", "id", "image");
-		final Player player;
-		if (hasAttribute(element, "owner")) {
-			player = players.getPlayer(getIntegerAttribute(element, path, "owner"));
-		} else {
-			player = players.getIndependent();
-		}
-		final AdventureFixture retval = setImage(new AdventureFixtureImpl(player,
-				getAttribute(element, "brief", ""),
-				getAttribute(element, "full", ""),
-				getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
+		final AdventureFixture retval = createAdventure(TagAttributes.of(element), path, players, warner,
+				idFactory);
 		spinUntilEnd(element.getName(), path, stream);
 		return retval;
 	}
 
+	/**
+	 * Create a portal from its tag's attributes.
+	 */
+	/* package */ static Portal createPortal(final TagAttributes attributes, final @Nullable Path path,
+	                                         final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "row", "column", "world", "id", "image");
+		final Point location = new Point(getIntegerAttribute(attributes, path, "row"),
+				getIntegerAttribute(attributes, path, "column"));
+		return setImage(new Portal(
+				getAttribute(attributes, path, "world"), location,
+				getOrGenerateID(attributes, warner, path, idFactory)), attributes, path, warner);
+	}
+
 	public static Portal readPortal(final StartElement element, final @Nullable Path path, final QName parent,
 									final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
 									final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "portal");
-		expectAttributes(element, path, warner, "row", "column", "world", "id", "image");
-		final Point location = new Point(getIntegerAttribute(element, path, "row"),
-				getIntegerAttribute(element, path, "column"));
-		final Portal retval = setImage(new Portal(
-				getAttribute(element, path, "world"), location,
-				getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
+		final Portal retval = createPortal(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
 		return retval;
 	}
 
+	/**
+	 * Create a cave from its tag's attributes.
+	 */
+	/* package */ static Cave createCave(final TagAttributes attributes, final @Nullable Path path,
+	                                     final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "id", "dc", "image");
+		final int idNum = getOrGenerateID(attributes, warner, path, idFactory);
+		return setImage(new Cave(getIntegerAttribute(attributes, path, "dc"), idNum), attributes, path, warner);
+	}
+
 	public static Cave readCave(final StartElement element, final @Nullable Path path, final QName parent,
 	                            final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
 	                            final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "cave");
-		expectAttributes(element, path, warner, "id", "dc", "image");
-		final int idNum = getOrGenerateID(element, warner, path, idFactory);
-		final Cave retval = new Cave(getIntegerAttribute(element, path, "dc"), idNum);
+		final Cave retval = createCave(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		return setImage(retval, element, path, warner);
+		return retval;
+	}
+
+	/**
+	 * Create a battlefield from its tag's attributes.
+	 */
+	/* package */ static Battlefield createBattlefield(final TagAttributes attributes, final @Nullable Path path,
+	                                                   final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "id", "dc", "image");
+		final int idNum = getOrGenerateID(attributes, warner, path, idFactory);
+		return setImage(new Battlefield(getIntegerAttribute(attributes, path, "dc"), idNum), attributes, path,
+				warner);
 	}
 
 	public static Battlefield readBattlefield(final StartElement element, final @Nullable Path path, final QName parent,
@@ -77,11 +119,9 @@ import java.nio.file.Path;
 											  final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "battlefield");
-		expectAttributes(element, path, warner, "id", "dc", "image");
-		final int idNum = getOrGenerateID(element, warner, path, idFactory);
-		final Battlefield retval = new Battlefield(getIntegerAttribute(element, path, "dc"), idNum);
+		final Battlefield retval = createBattlefield(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		return setImage(retval, element, path, warner);
+		return retval;
 	}
 
 	public static TextFixture readTextFixture(final StartElement element, final @Nullable Path path, final QName parent,
@@ -36,25 +36,48 @@ import javax.xml.stream.events.XMLEvent;
 import java.nio.file.Path;
 
 /* package */ class FluidResourceHandler extends FluidBase {
+	/**
+	 * Create a resource pile from its tag's attributes.
+	 */
+	/* package */ static IMutableResourcePile createResource(final TagAttributes attributes,
+	                                                         final @Nullable Path path, final Warning warner,
+	                                                         final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "quantity", "kind", "contents", "unit",
+				"created", "id", "image");
+		final IMutableResourcePile retval = new ResourcePileImpl(
+				getOrGenerateID(attributes, warner, path, idFactory),
+				getAttribute(attributes, path, "kind"),
+				getAttribute(attributes, path, "contents"),
+				new LegacyQuantity(getNumericAttribute(attributes, path, "quantity"), getAttribute(attributes,
+						"unit", "")));
+		if (hasAttribute(attributes, "created")) {
+			retval.setCreated(getIntegerAttribute(attributes, path, "created"));
+		}
+		return setImage(retval, attributes, path, warner);
+	}
+
 	public static IMutableResourcePile readResource(final StartElement element, final @Nullable Path path,
 	                                                final QName parent, final Iterable<XMLEvent> stream,
 	                                                final ILegacyPlayerCollection players, final Warning warner,
 	                                                final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "resource");
-		expectAttributes(element, path, warner, "quantity", "kind", "contents", "unit",
-				"created", "id", "image");
+		final IMutableResourcePile retval = createResource(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		final IMutableResourcePile retval = new ResourcePileImpl(
-				getOrGenerateID(element, warner, path, idFactory),
-				getAttribute(element, path, "kind"),
-				getAttribute(element, path, "contents"),
-				new LegacyQuantity(getNumericAttribute(element, path, "quantity"), getAttribute(element,
-						"unit", "")));
-		if (hasAttribute(element, "created")) {
-			retval.setCreated(getIntegerAttribute(element, path, "created"));
-		}
-		return setImage(retval, element, path, warner);
+		return retval;
+	}
+
+	/**
+	 * Create an implement from its tag's attributes.
+	 */
+	/* package */ static Implement createImplement(final TagAttributes attributes, final @Nullable Path path,
+	                                               final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "kind", "id", "count", "image");
+		return setImage(new Implement(getAttribute(attributes, path, "kind"),
+				getOrGenerateID(attributes, warner, path, idFactory),
+				getIntegerAttribute(attributes, "count", 1, warner)), attributes, path, warner);
 	}
 
 	public static Implement readImplement(final StartElement element, final @Nullable Path path, final QName parent,
@@ -62,11 +85,23 @@ import java.nio.file.Path;
 										  final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "implement");
-		expectAttributes(element, path, warner, "kind", "id", "count", "image");
+		final Implement retval = createImplement(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		return setImage(new Implement(getAttribute(element, path, "kind"),
-				getOrGenerateID(element, warner, path, idFactory),
-				getIntegerAttribute(element, "count", 1, warner)), element, path, warner);
+		return retval;
+	}
+
+	/**
+	 * Create a cache from its tag's attributes.
+	 */
+	/* package */ static CacheFixture createCache(final TagAttributes attributes, final @Nullable Path path,
+	                                              final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "kind", "contents", "id", "image");
+		return setImage(
+				new CacheFixture(getAttribute(attributes, path, "kind"),
+						getAttribute(attributes, path, "contents"),
+						getOrGenerateID(attributes, warner, path, idFactory)),
+				attributes, path, warner);
 	}
 
 	@SuppressWarnings("ChainOfInstanceofChecks")
@@ -75,7 +110,7 @@ import java.nio.file.Path;
 										 final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "cache");
-		expectAttributes(element, path, warner, "kind", "contents", "id", "image");
+		final CacheFixture retval = createCache(TagAttributes.of(element), path, warner, idFactory);
 		// We want to transition from arbitrary-String 'contents' to sub-tags. As a first
 		// step, future-proof *this* version of the suite by only firing a warning if
 		// such children are detected, instead of aborting.
@@ -94,11 +129,32 @@ import java.nio.file.Path;
 				break;
 			}
 		}
+		return retval;
+	}
+
+	/**
+	 * Create a grove or orchard from its tag's attributes.
+	 */
+	/* package */ static Grove createGrove(final TagAttributes attributes, final Grove.GroveType type,
+	                                       final @Nullable Path path, final Warning warner,
+	                                       final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "cultivated", "wild", "kind", "tree", "id",
+				"image", "count");
+		final boolean cultivated;
+		if (hasAttribute(attributes, "cultivated")) {
+			cultivated = getBooleanAttribute(attributes, path, "cultivated");
+		} else if (hasAttribute(attributes, "wild")) {
+			warner.handle(new DeprecatedPropertyException(attributes.getElement(), path, "wild", "cultivated"));
+			cultivated = !getBooleanAttribute(attributes, path, "wild");
+		} else {
+			throw new MissingPropertyException(attributes.getElement(), path, "cultivated");
+		}
 		return setImage(
-				new CacheFixture(getAttribute(element, path, "kind"),
-						getAttribute(element, path, "contents"),
-						getOrGenerateID(element, warner, path, idFactory)),
-				element, path, warner);
+				new Grove(type, cultivated ? CultivationStatus.CULTIVATED : CultivationStatus.WILD,
+						getAttrWithDeprecatedForm(attributes, path, "kind", "tree", warner),
+						getOrGenerateID(attributes, warner, path, idFactory), getIntegerAttribute(attributes,
+						"count", -1, Warning.WARN)), attributes, path, warner);
 	}
 
 	public static Grove readGrove(final StartElement element, final @Nullable Path path, final QName parent,
@@ -106,23 +162,9 @@ import java.nio.file.Path;
 	                              final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "grove");
-		expectAttributes(element, path, warner, "cultivated", "wild", "kind", "tree", "id",
-				"image", "count");
+		final Grove retval = createGrove(TagAttributes.of(element), Grove.GroveType.GROVE, path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		final boolean cultivated;
-		if (hasAttribute(element, "cultivated")) {
-			cultivated = getBooleanAttribute(element, path, "cultivated");
-		} else if (hasAttribute(element, "wild")) {
-			warner.handle(new DeprecatedPropertyException(element, path, "wild", "cultivated"));
-			cultivated = !getBooleanAttribute(element, path, "wild");
-		} else {
-			throw new MissingPropertyException(element, path, "cultivated");
-		}
-		return setImage(
-				new Grove(Grove.GroveType.GROVE, cultivated ? CultivationStatus.CULTIVATED : CultivationStatus.WILD,
-						getAttrWithDeprecatedForm(element, path, "kind", "tree", warner),
-						getOrGenerateID(element, warner, path, idFactory), getIntegerAttribute(element,
-						"count", -1)), element, path, warner);
+		return retval;
 	}
 
 	public static Grove readOrchard(final StartElement element, final @Nullable Path path, final QName parent,
@@ -130,48 +172,47 @@ import java.nio.file.Path;
 	                                final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "orchard");
-		expectAttributes(element, path, warner, "cultivated", "wild", "kind", "tree", "id",
-				"image", "count");
+		final Grove retval = createGrove(TagAttributes.of(element), Grove.GroveType.ORCHARD, path, warner,
+				idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		final boolean cultivated;
-		if (hasAttribute(element, "cultivated")) {
-			cultivated = getBooleanAttribute(element, path, "cultivated");
-		} else if (hasAttribute(element, "wild")) {
-			warner.handle(new DeprecatedPropertyException(element, path, "wild", "cultivated"));
-			cultivated = !getBooleanAttribute(element, path, "wild");
-		} else {
-			throw new MissingPropertyException(element, path, "cultivated");
-		}
-		return setImage(
-				new Grove(Grove.GroveType.ORCHARD, cultivated ? CultivationStatus.CULTIVATED : CultivationStatus.WILD,
-						getAttrWithDeprecatedForm(element, path, "kind", "tree", warner),
-						getOrGenerateID(element, warner, path, idFactory), getIntegerAttribute(element,
-						"count", -1)), element, path, warner);
+		return retval;
 	}
 
-	public static Meadow readMeadow(final StartElement element, final @Nullable Path path, final QName parent,
-	                                final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
-	                                final Warning warner, final IDRegistrar idFactory)
-			throws UnwantedChildException, MissingPropertyException {
-		requireTag(element, path, parent, "meadow");
-		expectAttributes(element, path, warner, "status", "kind", "cultivated", "id", "image",
+	/**
+	 * Create a meadow or field from its tag's attributes.
+	 */
+	/* package */ static Meadow createMeadow(final TagAttributes attributes, final Meadow.MeadowType type,
+	                                         final @Nullable Path path, final Warning warner,
+	                                         final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "status", "kind", "cultivated", "id", "image",
 				"acres");
-		spinUntilEnd(element.getName(), path, stream);
-		final int id = getOrGenerateID(element, warner, path, idFactory);
-		if (!hasAttribute(element, "status")) {
-			warner.handle(new MissingPropertyException(element, path, "status"));
+		final int id = getOrGenerateID(attributes, warner, path, idFactory);
+		if (!hasAttribute(attributes, "status")) {
+			warner.handle(new MissingPropertyException(attributes.getElement(), path, "status"));
 		}
 		final FieldStatus status;
 		try {
-			status = FieldStatus.parse(getAttribute(element, "status",
+			status = FieldStatus.parse(getAttribute(attributes, "status",
 					FieldStatus.random(id).toString()));
 		} catch (final IllegalArgumentException except) {
-			throw new MissingPropertyException(element, path, "status", except);
+			throw new MissingPropertyException(attributes.getElement(), path, "status", except);
 		}
-		return setImage(new Meadow(getAttribute(element, path, "kind"), Meadow.MeadowType.MEADOW,
-				getBooleanAttribute(element, path, "cultivated") ? CultivationStatus.CULTIVATED :
+		return setImage(new Meadow(getAttribute(attributes, path, "kind"), type,
+				getBooleanAttribute(attributes, path, "cultivated") ? CultivationStatus.CULTIVATED :
 						CultivationStatus.WILD, id, status,
-				getNumericAttribute(element, path, "acres", -1)), element, path, warner);
+				getNumericAttribute(attributes, path, "acres", -1)), attributes, path, warner);
+	}
+
+	public static Meadow readMeadow(final StartElement element, final @Nullable Path path, final QName parent,
+	                                final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
+	                                final Warning warner, final IDRegistrar idFactory)
+			throws UnwantedChildException, MissingPropertyException {
+		requireTag(element, path, parent, "meadow");
+		final Meadow retval = createMeadow(TagAttributes.of(element), Meadow.MeadowType.MEADOW, path, warner,
+				idFactory);
+		spinUntilEnd(element.getName(), path, stream);
+		return retval;
 	}
 
 	public static Meadow readField(final StartElement element, final @Nullable Path path, final QName parent,
@@ -179,24 +220,29 @@ import java.nio.file.Path;
 	                               final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "field");
-		expectAttributes(element, path, warner, "status", "kind", "cultivated", "id", "image",
-				"acres");
+		final Meadow retval = createMeadow(TagAttributes.of(element), Meadow.MeadowType.FIELD, path, warner,
+				idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		final int id = getOrGenerateID(element, warner, path, idFactory);
-		if (!hasAttribute(element, "status")) {
-			warner.handle(new MissingPropertyException(element, path, "status"));
-		}
-		final FieldStatus status;
+		return retval;
+	}
+
+	/**
+	 * Create a mine from its tag's attributes.
+	 */
+	/* package */ static Mine createMine(final TagAttributes attributes, final @Nullable Path path,
+	                                     final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "status", "kind", "product", "id", "image");
+		final TownStatus status;
 		try {
-			status = FieldStatus.parse(getAttribute(element, "status",
-					FieldStatus.random(id).toString()));
+			status = TownStatus.parse(getAttribute(attributes, path, "status"));
 		} catch (final IllegalArgumentException except) {
-			throw new MissingPropertyException(element, path, "status", except);
+			throw new MissingPropertyException(attributes.getElement(), path, "status", except);
 		}
-		return setImage(new Meadow(getAttribute(element, path, "kind"), Meadow.MeadowType.FIELD,
-				getBooleanAttribute(element, path, "cultivated") ? CultivationStatus.CULTIVATED :
-						CultivationStatus.WILD, id, status,
-				getNumericAttribute(element, path, "acres", -1)), element, path, warner);
+		return setImage(
+				new Mine(getAttrWithDeprecatedForm(attributes, path, "kind", "product", warner),
+						status, getOrGenerateID(attributes, warner, path, idFactory)), attributes, path,
+				warner);
 	}
 
 	public static Mine readMine(final StartElement element, final @Nullable Path path, final QName parent,
@@ -204,18 +250,25 @@ import java.nio.file.Path;
 	                            final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "mine");
-		expectAttributes(element, path, warner, "status", "kind", "product", "id", "image");
+		final Mine retval = createMine(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		final TownStatus status;
-		try {
-			status = TownStatus.parse(getAttribute(element, path, "status"));
-		} catch (final IllegalArgumentException except) {
-			throw new MissingPropertyException(element, path, "status", except);
-		}
+		return retval;
+	}
+
+	/**
+	 * Create a mineral vein from its tag's attributes.
+	 */
+	/* package */ static MineralVein createMineral(final TagAttributes attributes, final @Nullable Path path,
+	                                               final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "kind", "mineral", "exposed", "dc", "id", "image");
 		return setImage(
-				new Mine(getAttrWithDeprecatedForm(element, path, "kind", "product", warner),
-						status, getOrGenerateID(element, warner, path, idFactory)), element, path,
-				warner);
+				new MineralVein(
+						getAttrWithDeprecatedForm(attributes, path, "kind", "mineral", warner),
+						getBooleanAttribute(attributes, path, "exposed") ? ExposureStatus.EXPOSED :
+								ExposureStatus.HIDDEN,
+						getIntegerAttribute(attributes, path, "dc"),
+						getOrGenerateID(attributes, warner, path, idFactory)), attributes, path, warner);
 	}
 
 	public static MineralVein readMineral(final StartElement element, final @Nullable Path path, final QName parent,
@@ -223,14 +276,22 @@ import java.nio.file.Path;
 										  final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "mineral");
-		expectAttributes(element, path, warner, "kind", "mineral", "exposed", "dc", "id", "image");
+		final MineralVein retval = createMineral(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		return setImage(
-				new MineralVein(
-						getAttrWithDeprecatedForm(element, path, "kind", "mineral", warner),
-						getBooleanAttribute(element, path, "exposed") ? ExposureStatus.EXPOSED : ExposureStatus.HIDDEN,
-						getIntegerAttribute(element, path, "dc"),
-						getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
+		return retval;
+	}
+
+	/**
+	 * Create a shrub from its tag's attributes.
+	 */
+	/* package */ static Shrub createShrub(final TagAttributes attributes, final @Nullable Path path,
+	                                       final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "kind", "shrub", "id", "image", "count");
+		return setImage(new Shrub(
+				getAttrWithDeprecatedForm(attributes, path, "kind", "shrub", warner),
+				getOrGenerateID(attributes, warner, path, idFactory), getIntegerAttribute(attributes,
+				"count", -1, Warning.WARN)), attributes, path, warner);
 	}
 
 	public static Shrub readShrub(final StartElement element, final @Nullable Path path, final QName parent,
@@ -238,31 +299,38 @@ import java.nio.file.Path;
 	                              final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "shrub");
-		expectAttributes(element, path, warner, "kind", "shrub", "id", "image", "count");
+		final Shrub retval = createShrub(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		return setImage(new Shrub(
-				getAttrWithDeprecatedForm(element, path, "kind", "shrub", warner),
-				getOrGenerateID(element, warner, path, idFactory), getIntegerAttribute(element,
-				"count", -1)), element, path, warner);
+		return retval;
 	}
 
-	public static StoneDeposit readStone(final StartElement element, final @Nullable Path path, final QName parent,
-										 final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
-										 final Warning warner, final IDRegistrar idFactory)
-			throws UnwantedChildException, MissingPropertyException {
-		requireTag(element, path, parent, "stone");
-		expectAttributes(element, path, warner, "kind", "stone", "dc", "id", "image");
-		spinUntilEnd(element.getName(), path, stream);
+	/**
+	 * Create a stone deposit from its tag's attributes.
+	 */
+	/* package */ static StoneDeposit createStone(final TagAttributes attributes, final @Nullable Path path,
+	                                              final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "kind", "stone", "dc", "id", "image");
 		final StoneKind stone;
 		try {
-			stone = StoneKind.parse(getAttrWithDeprecatedForm(element, path, "kind", "stone", warner));
+			stone = StoneKind.parse(getAttrWithDeprecatedForm(attributes, path, "kind", "stone", warner));
 		} catch (final IllegalArgumentException except) {
-			throw new MissingPropertyException(element, path, "kind", except);
+			throw new MissingPropertyException(attributes.getElement(), path, "kind", except);
 		}
 		return setImage(
 				new StoneDeposit(stone,
-						getIntegerAttribute(element, path, "dc"),
-						getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
+						getIntegerAttribute(attributes, path, "dc"),
+						getOrGenerateID(attributes, warner, path, idFactory)), attributes, path, warner);
+	}
+
+	public static StoneDeposit readStone(final StartElement element, final @Nullable Path path, final QName parent,
+										 final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
+										 final Warning warner, final IDRegistrar idFactory)
+			throws UnwantedChildException, MissingPropertyException {
+		requireTag(element, path, parent, "stone");
+		final StoneDeposit retval = createStone(TagAttributes.of(element), path, warner, idFactory);
+		spinUntilEnd(element.getName(), path, stream);
+		return retval;
 	}
 
 	public static void writeResource(final XMLStreamWriter ostream, final IResourcePile obj, final int indent)
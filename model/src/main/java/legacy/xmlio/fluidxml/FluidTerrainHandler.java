@@ -23,20 +23,46 @@ import java.text.ParseException;
 import java.util.Collection;
 
 /* package */ class FluidTerrainHandler extends FluidBase {
+	/**
+	 * Create a ground fixture from its tag's attributes.
+	 */
+	/* package */ static Ground createGround(final TagAttributes attributes, final @Nullable Path path,
+	                                         final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "id", "kind", "ground", "image", "exposed");
+		final int id = getIntegerAttribute(attributes, "id", -1, warner);
+		if (id >= 0) {
+			registerID(attributes, id, warner, path, idFactory);
+		}
+		final String kind = getAttrWithDeprecatedForm(attributes, path, "kind", "ground", warner);
+		return setImage(new Ground(id, kind, getBooleanAttribute(attributes, path, "exposed") ?
+				ExposureStatus.EXPOSED : ExposureStatus.HIDDEN), attributes, path, warner);
+	}
+
 	public static Ground readGround(final StartElement element, final @Nullable Path path, final QName parent,
 	                                final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
 	                                final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "ground");
-		expectAttributes(element, path, warner, "id", "kind", "ground", "image", "exposed");
-		final int id = getIntegerAttribute(element, "id", -1, warner);
+		final Ground retval = createGround(TagAttributes.of(element), path, warner, idFactory);
+		spinUntilEnd(element.getName(), path, stream);
+		return retval;
+	}
+
+	/**
+	 * Create a forest from its tag's attributes.
+	 */
+	/* package */ static Forest createForest(final TagAttributes attributes, final @Nullable Path path,
+	                                         final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "id", "kind", "rows", "image", "acres");
+		final int id = getIntegerAttribute(attributes, "id", -1, warner);
 		if (id >= 0) {
-			idFactory.register(id, warner, Pair.with(path, element.getLocation()));
+			registerID(attributes, id, warner, path, idFactory);
 		}
-		final String kind = getAttrWithDeprecatedForm(element, path, "kind", "ground", warner);
-		spinUntilEnd(element.getName(), path, stream);
-		return setImage(new Ground(id, kind, getBooleanAttribute(element, path, "exposed") ? ExposureStatus.EXPOSED :
-						ExposureStatus.HIDDEN), element, path, warner);
+		return setImage(new Forest(getAttribute(attributes, path, "kind"),
+				getBooleanAttribute(attributes, path, "rows", false, Warning.WARN), id,
+				getNumericAttribute(attributes, path, "acres", -1)), attributes, path, warner);
 	}
 
 	public static Forest readForest(final StartElement element, final @Nullable Path path, final QName parent,
@@ -44,16 +70,9 @@ import java.util.Collection;
 	                                final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "forest");
-		expectAttributes(element, path, warner, "id", "kind", "rows", "image", "acres");
-		final int id = getIntegerAttribute(element, "id", -1, warner);
-		if (id >= 0) {
-			idFactory.register(id, warner, Pair.with(path, element.getLocation()));
-		}
-		final Forest retval = new Forest(getAttribute(element, path, "kind"),
-				getBooleanAttribute(element, path, "rows", false), id,
-				getNumericAttribute(element, path, "acres", -1));
+		final Forest retval = createForest(TagAttributes.of(element), path, warner, idFactory);
 		spinUntilEnd(element.getName(), path, stream);
-		return setImage(retval, element, path, warner);
+		return retval;
 	}
 
 	public static void writeGround(final XMLStreamWriter ostream, final Ground obj, final int indent)
@@ -88,18 +107,27 @@ import java.util.Collection;
 		return River.Lake;
 	}
 
+	/**
+	 * Create a river from its tag's attributes.
+	 */
+	/* package */ static River createRiver(final TagAttributes attributes, final @Nullable Path path,
+	                                       final Warning warner) throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "direction");
+		try {
+			return River.parse(getAttribute(attributes, path, "direction"));
+		} catch (final ParseException | IllegalArgumentException except) {
+			throw new MissingPropertyException(attributes.getElement(), path, "direction", except);
+		}
+	}
+
 	public static River readRiver(final StartElement element, final @Nullable Path path, final QName parent,
 	                              final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
 	                              final Warning warner, final IDRegistrar idFactory)
 			throws UnwantedChildException, MissingPropertyException {
 		requireTag(element, path, parent, "river");
-		expectAttributes(element, path, warner, "direction");
+		final River retval = createRiver(TagAttributes.of(element), path, warner);
 		spinUntilEnd(element.getName(), path, stream);
-		try {
-			return River.parse(getAttribute(element, path, "direction"));
-		} catch (final ParseException | IllegalArgumentException except) {
-			throw new MissingPropertyException(element, path, "direction", except);
-		}
+		return retval;
 	}
 
 	public static void writeRiver(final XMLStreamWriter ostream, final River obj, final int indent)
@@ -0,0 +1,90 @@
+package legacy.xmlio.fluidxml;
+
+import common.xmlio.SPFormatException;
+import common.xmlio.Warning;
+import impl.xmlio.ISPReader;
+import legacy.idreg.IDFactory;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyMapFactory;
+import legacy.map.LegacyPlayerCollection;
+import legacy.xmlio.IMapReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A reader-from-XML that walks the document with a {@link XMLStreamReader}
+ * cursor, rather than the stream of event objects {@link SPFluidReader} uses,
+ * so that reading a map does not create an event object (with its name,
+ * location, and attributes) for every tag and every run of whitespace in it.
+ * The tags that make up the bulk of a map are read directly; the rest
+ * (workers and towns, for example) are handed to an {@link SPFluidReader}.
+ */
+public final class SPCursorReader implements IMapReader, ISPReader {
+	/**
+	 * How to construct the map being read.
+	 */
+	private final LegacyMapFactory mapFactory;
+
+	/**
+	 * The reader to hand tags we do not read ourselves to.
+	 */
+	private final SPFluidReader fallback;
+
+	public SPCursorReader() {
+		this(LegacyMap::new);
+	}
+
+	/**
+	 * @param mapFactory How to construct the maps that are read
+	 */
+	public SPCursorReader(final LegacyMapFactory mapFactory) {
+		this.mapFactory = mapFactory;
+		fallback = new SPFluidReader(mapFactory);
+	}
+
+	@Override
+	public <Type> Type readXML(final Path file, final Reader istream, final Warning warner)
+			throws SPFormatException, XMLStreamException {
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty("javax.xml.stream.isSupportingExternalEntities", false);
+		final XMLStreamReader reader = factory.createXMLStreamReader(istream);
+		try {
+			// unchecked cast is unavoidable unless we take a Class<Type> parameter
+			//noinspection unchecked
+			return (Type) new CursorParser(factory, reader, file, new LegacyPlayerCollection(), warner,
+					new IDFactory(), mapFactory, fallback).readRoot();
+		} finally {
+			reader.close();
+			try {
+				istream.close();
+			} catch (final IOException except) {
+				//noinspection ThrowFromFinallyBlock
+				throw new XMLStreamException(except);
+			}
+		}
+	}
+
+	@Override
+	public IMutableLegacyMap readMap(final Path file, final Warning warner)
+			throws SPFormatException, XMLStreamException, IOException {
+		try (final BufferedReader istream = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return readMapFromStream(file, istream, warner);
+		}
+	}
+
+	@Override
+	public IMutableLegacyMap readMapFromStream(final Path file, final Reader istream, final Warning warner)
+			throws SPFormatException, XMLStreamException {
+		return readXML(file, istream, warner);
+	}
+}
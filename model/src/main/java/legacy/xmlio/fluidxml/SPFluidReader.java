@@ -16,14 +16,17 @@ import legacy.map.Direction;
 import legacy.map.HasKind;
 import legacy.map.ILegacyMap;
 import legacy.map.IMutableLegacyMap;
+import legacy.map.ILegacyPlayerCollection;
 import legacy.map.IMutableLegacyPlayerCollection;
 import legacy.map.LegacyMap;
+import legacy.map.LegacyMapFactory;
 import legacy.map.LegacyPlayerCollection;
 import legacy.map.MapDimensions;
 import legacy.map.MapDimensionsImpl;
 import legacy.map.Player;
 import legacy.map.PlayerImpl;
 import legacy.map.Point;
+import legacy.map.PointPool;
 import legacy.map.River;
 import legacy.map.TileFixture;
 import legacy.map.TileType;
@@ -38,7 +41,6 @@ import legacy.map.fixtures.mobile.Giant;
 import legacy.map.fixtures.mobile.Griffin;
 import legacy.map.fixtures.mobile.IMutableUnit;
 import legacy.map.fixtures.mobile.IUnit;
-import legacy.map.fixtures.mobile.Immortal;
 import legacy.map.fixtures.mobile.ImmortalAnimal;
 import legacy.map.fixtures.mobile.Kraken;
 import legacy.map.fixtures.mobile.Minotaur;
@@ -105,19 +107,25 @@ import static legacy.xmlio.fluidxml.FluidBase.spinUntilEnd;
  * The main reader-from-XML class in the 'fluid XML' implementation.
  */
 public final class SPFluidReader implements IMapReader, ISPReader {
-	private Object readSPObject(final StartElement element, final @Nullable Path path, final QName parent,
-	                            final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
-	                            final Warning warner, final IDRegistrar idFactory) throws SPFormatException {
+	/**
+	 * Read the object represented by the given tag. Package-private so
+	 * {@link SPCursorReader} can hand off tags it does not read itself.
+	 */
+	/* package */ Object readSPObject(final StartElement element, final @Nullable Path path, final QName parent,
+	                                  final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
+	                                  final Warning warner, final IDRegistrar idFactory) throws SPFormatException {
 		final String namespace = element.getName().getNamespaceURI();
 		final String tag = element.getName().getLocalPart().toLowerCase();
 		if (namespace.isEmpty() || Objects.equals(namespace, SP_NAMESPACE) ||
 				Objects.equals(namespace, XMLConstants.NULL_NS_URI)) {
-			if ("animal".equals(tag) &&
-					Immortal.IMMORTAL_ANIMALS.contains(getAttribute(element, path, "kind")) &&
-					!getBooleanAttribute(element, path, "traces", false)) {
-				return setImage(ImmortalAnimal.parse(getAttribute(element, path, "kind"))
-						.apply(getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
-			} else if (readers.containsKey(tag)) {
+			if ("animal".equals(tag)) {
+				final ImmortalAnimal immortal = UnitMemberHandler.createImmortalAnimal(TagAttributes.of(element),
+						path, warner, idFactory);
+				if (Objects.nonNull(immortal)) {
+					return immortal;
+				}
+			}
+			if (readers.containsKey(tag)) {
 				return readers.get(tag).read(element, path, parent, stream,
 						players, warner, idFactory);
 			}
@@ -125,6 +133,18 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		throw UnsupportedTagException.future(element, path);
 	}
 
+	/**
+	 * Create a fixture whose tag has only an ID and an image from its tag's attributes.
+	 */
+	/* package */ static Object createSimpleFixture(final TagAttributes attributes,
+	                                                final IntFunction<?> factory, final @Nullable Path path,
+	                                                final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "id", "image");
+		return setImage(factory.apply(getOrGenerateID(attributes, warner, path, idFactory)), attributes, path,
+				warner);
+	}
+
 	private record SimpleFixtureReader(String tag, IntFunction<Object> factory) {
 
 		public Object reader(final StartElement element, final @Nullable Path path, final QName parent,
@@ -132,10 +152,9 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		                     final Warning warner, final IDRegistrar idFactory)
 				throws UnwantedChildException, MissingPropertyException {
 			requireTag(element, path, parent, tag);
-			expectAttributes(element, path, warner, "id", "image");
+			final Object retval = createSimpleFixture(TagAttributes.of(element), factory, path, warner, idFactory);
 			spinUntilEnd(element.getName(), path, stream);
-			return setImage(factory.apply(getOrGenerateID(element, warner,
-					path, idFactory)), element, path, warner);
+			return retval;
 		}
 
 		public Pair<String, FluidXMLReader<?>> getPair() {
@@ -144,10 +163,22 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 	}
 
 	@FunctionalInterface
-	private interface HasKindFactory {
+	/* package */ interface HasKindFactory {
 		HasKind apply(String string, int integer);
 	}
 
+	/**
+	 * Create a fixture whose tag has only a kind, an ID, and an image from its tag's attributes.
+	 */
+	/* package */ static HasKind createHasKind(final TagAttributes attributes, final HasKindFactory factory,
+	                                           final @Nullable Path path, final Warning warner,
+	                                           final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "id", "kind", "image");
+		return setImage(factory.apply(getAttribute(attributes, path, "kind"),
+				getOrGenerateID(attributes, warner, path, idFactory)), attributes, path, warner);
+	}
+
 	private record SimpleHasKindReader(String tag, HasKindFactory factory) {
 
 		public Object reader(final StartElement element, final @Nullable Path path, final QName parent,
@@ -155,10 +186,9 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		                     final Warning warner, final IDRegistrar idFactory)
 				throws UnwantedChildException, MissingPropertyException {
 			requireTag(element, path, parent, tag);
-			expectAttributes(element, path, warner, "id", "kind", "image");
+			final HasKind retval = createHasKind(TagAttributes.of(element), factory, path, warner, idFactory);
 			spinUntilEnd(element.getName(), path, stream);
-			return setImage(factory.apply(getAttribute(element, path, "kind"),
-					getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
+			return retval;
 		}
 
 		public Pair<String, FluidXMLReader<?>> getPair() {
@@ -202,22 +232,10 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 			map.setMountainous(currentTile, true);
 			return;
 		} else if ("bookmark".equals(type)) {
-			expectAttributes(element, path, warner, "player");
-			map.addBookmark(currentTile,
-					players.getPlayer(getIntegerAttribute(element, path, "player")));
+			parseBookmark(map, currentTile, TagAttributes.of(element), path, players, warner);
 			return;
 		} else if ("road".equals(type)) {
-			expectAttributes(element, path, warner, "direction", "quality");
-			final Direction direction;
-			try {
-				direction = Direction.parse(getAttribute(element, path, "direction"));
-			} catch (final IllegalArgumentException except) {
-				throw new MissingPropertyException(element, path, "direction", except);
-			}
-			if (Objects.isNull(direction)) {
-				throw new MissingPropertyException(element, path, "direction");
-			}
-			map.setRoadLevel(currentTile, direction, getIntegerAttribute(element, path, "quality"));
+			parseRoad(map, currentTile, TagAttributes.of(element), path, warner);
 			return;
 		}
 		final Object child = readSPObject(element, path, parent.getName(), stream, players, warner, idFactory);
@@ -238,27 +256,68 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		}
 	}
 
-	private void parseTile(final IMutableLegacyMap map, final StartElement element, final @Nullable Path path,
-	                       final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
-	                       final Warning warner, final IDRegistrar idFactory) throws SPFormatException {
-		expectAttributes(element, path, warner, "row", "column", "kind", "type", "mountain");
-		final Point loc = new Point(getIntegerAttribute(element, path, "row"),
-				getIntegerAttribute(element, path, "column"));
+	/**
+	 * Add the bookmark a tag describes to the given tile.
+	 */
+	/* package */ static void parseBookmark(final IMutableLegacyMap map, final Point currentTile,
+	                                        final TagAttributes attributes, final @Nullable Path path,
+	                                        final ILegacyPlayerCollection players, final Warning warner)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "player");
+		map.addBookmark(currentTile, players.getPlayer(getIntegerAttribute(attributes, path, "player")));
+	}
+
+	/**
+	 * Set the road a tag describes on the given tile.
+	 */
+	/* package */ static void parseRoad(final IMutableLegacyMap map, final Point currentTile,
+	                                    final TagAttributes attributes, final @Nullable Path path,
+	                                    final Warning warner) throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "direction", "quality");
+		final Direction direction;
+		try {
+			direction = Direction.parse(getAttribute(attributes, path, "direction"));
+		} catch (final IllegalArgumentException except) {
+			throw new MissingPropertyException(attributes.getElement(), path, "direction", except);
+		}
+		if (Objects.isNull(direction)) {
+			throw new MissingPropertyException(attributes.getElement(), path, "direction");
+		}
+		map.setRoadLevel(currentTile, direction, getIntegerAttribute(attributes, path, "quality"));
+	}
+
+	/**
+	 * Set the terrain (and mountain) a tile tag's attributes describe, and
+	 * return the tile's location.
+	 */
+	/* package */ static Point parseTileAttributes(final IMutableLegacyMap map, final TagAttributes attributes,
+	                                               final @Nullable Path path, final Warning warner)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "row", "column", "kind", "type", "mountain");
+		final Point loc = PointPool.forDimensions(map.getDimensions()).get(
+				getIntegerAttribute(attributes, path, "row"), getIntegerAttribute(attributes, path, "column"));
 		// Tiles have been known to be *written* without "kind" and then fail to load, so
 		// let's be liberal in what we accept here, since we can.
-		if ((hasAttribute(element, "kind") || hasAttribute(element, "type"))) {
+		if ((hasAttribute(attributes, "kind") || hasAttribute(attributes, "type"))) {
 			try {
-				map.setBaseTerrain(loc, TileType.parse(getAttrWithDeprecatedForm(element,
+				map.setBaseTerrain(loc, TileType.parse(getAttrWithDeprecatedForm(attributes,
 						path, "kind", "type", warner)));
 			} catch (final ParseException except) {
-				warner.handle(new MissingPropertyException(element, path, "kind", except));
+				warner.handle(new MissingPropertyException(attributes.getElement(), path, "kind", except));
 			}
 		} else {
-			warner.handle(new MissingPropertyException(element, path, "kind"));
+			warner.handle(new MissingPropertyException(attributes.getElement(), path, "kind"));
 		}
-		if (getBooleanAttribute(element, path, "mountain", false)) {
+		if (getBooleanAttribute(attributes, path, "mountain", false, Warning.WARN)) {
 			map.setMountainous(loc, true);
 		}
+		return loc;
+	}
+
+	private void parseTile(final IMutableLegacyMap map, final StartElement element, final @Nullable Path path,
+	                       final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
+	                       final Warning warner, final IDRegistrar idFactory) throws SPFormatException {
+		final Point loc = parseTileAttributes(map, TagAttributes.of(element), path, warner);
 		for (final XMLEvent event : stream) {
 			switch (event) {
 				case final StartElement se when isSPStartElement(event) ->
@@ -345,7 +404,7 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		final Deque<QName> tagStack = new LinkedList<>();
 		tagStack.addFirst(element.getName());
 		tagStack.addFirst(mapTag.getName());
-		final IMutableLegacyMap retval = new LegacyMap(dimensions, players, currentTurn);
+		final IMutableLegacyMap retval = mapFactory.create(dimensions, players, currentTurn);
 		for (final XMLEvent event : stream) {
 			final QName stackTop = tagStack.peekFirst();
 			// switch would require break-to-label
@@ -402,16 +461,34 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		return retval;
 	}
 
+	/**
+	 * Create a player from its tag's attributes.
+	 */
+	/* package */ static Player createPlayer(final TagAttributes attributes, final @Nullable Path path,
+	                                         final Warning warner) throws SPFormatException {
+		requireNonEmptyAttribute(attributes, path, "number", true, warner);
+		requireNonEmptyAttribute(attributes, path, "code_name", true, warner);
+		final String country = getAttribute(attributes, "country", "");
+		expectAttributes(attributes, path, warner, "number", "code_name", "country", "portrait");
+		final Player retval;
+		if (country.isEmpty()) {
+			retval = new PlayerImpl(getIntegerAttribute(attributes, path, "number"),
+					getAttribute(attributes, path, "code_name"));
+		} else {
+			retval = new PlayerImpl(getIntegerAttribute(attributes, path, "number"),
+					getAttribute(attributes, path, "code_name"), country);
+		}
+		retval.setPortrait(getAttribute(attributes, "portrait", ""));
+		return retval;
+	}
+
 	@SuppressWarnings("ChainOfInstanceofChecks")
 	private static Player readPlayer(final StartElement element, final @Nullable Path path, final QName parent,
 	                                 final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
 	                                 final Warning warner, final IDRegistrar idFactory)
 			throws SPFormatException {
 		requireTag(element, path, parent, "player");
-		requireNonEmptyAttribute(element, path, "number", true, warner);
-		requireNonEmptyAttribute(element, path, "code_name", true, warner);
-		final String country = getAttribute(element, "country", "");
-		expectAttributes(element, path, warner, "number", "code_name", "country", "portrait");
+		final Player retval = createPlayer(TagAttributes.of(element), path, warner);
 		// We're thinking about storing "standing orders" in the XML under the <player>
 		// tag, and also possibly scientific progress; so as to not require players to
 		// upgrade to even read their maps once we start doing so, we *now* only *warn*
@@ -432,15 +509,6 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 				break;
 			}
 		}
-		final Player retval;
-		if (country.isEmpty()) {
-			retval = new PlayerImpl(getIntegerAttribute(element, path, "number"),
-					getAttribute(element, path, "code_name"));
-		} else {
-			retval = new PlayerImpl(getIntegerAttribute(element,path,  "number"),
-					getAttribute(element, path, "code_name"), country);
-		}
-		retval.setPortrait(getAttribute(element, "portrait", ""));
 		return retval;
 	}
 
@@ -460,30 +528,40 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		unit.setResults(turn, getTextUntil(element.getName(), path, stream));
 	}
 
-	@SuppressWarnings("ChainOfInstanceofChecks")
-	private IUnit readUnit(final StartElement element, final @Nullable Path path, final QName parent,
-	                       final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
-	                       final Warning warner, final IDRegistrar idFactory) throws SPFormatException {
-		requireTag(element, path, parent, "unit");
-		requireNonEmptyAttribute(element, path, "name", false, warner);
-		requireNonEmptyAttribute(element, path, "owner", false, warner);
-		expectAttributes(element, path, warner, "name", "owner", "id", "kind", "image",
+	/**
+	 * Create a unit, without its members or orders, from its tag's attributes.
+	 */
+	/* package */ static Unit createUnit(final TagAttributes attributes, final @Nullable Path path,
+	                                     final ILegacyPlayerCollection players, final Warning warner,
+	                                     final IDRegistrar idFactory) throws SPFormatException {
+		requireNonEmptyAttribute(attributes, path, "name", false, warner);
+		requireNonEmptyAttribute(attributes, path, "owner", false, warner);
+		expectAttributes(attributes, path, warner, "name", "owner", "id", "kind", "image",
 				"portrait", "type");
 		String temp = null;
 		try {
-			temp = getAttrWithDeprecatedForm(element, path, "kind", "type", warner);
+			temp = getAttrWithDeprecatedForm(attributes, path, "kind", "type", warner);
 		} catch (final MissingPropertyException except) {
 			warner.handle(except);
 		}
 		final String kind = Objects.requireNonNullElse(temp, "");
 		if (kind.isEmpty()) {
-			warner.handle(new MissingPropertyException(element, path, "kind"));
+			warner.handle(new MissingPropertyException(attributes.getElement(), path, "kind"));
 		}
 		final Unit retval = setImage(new Unit(
-				getPlayerOrIndependent(element, path, warner, players), kind,
-				getAttribute(element, "name", ""),
-				getOrGenerateID(element, warner, path, idFactory)), element, path, warner);
-		retval.setPortrait(getAttribute(element, "portrait", ""));
+				getPlayerOrIndependent(attributes, path, warner, players), kind,
+				getAttribute(attributes, "name", ""),
+				getOrGenerateID(attributes, warner, path, idFactory)), attributes, path, warner);
+		retval.setPortrait(getAttribute(attributes, "portrait", ""));
+		return retval;
+	}
+
+	@SuppressWarnings("ChainOfInstanceofChecks")
+	private IUnit readUnit(final StartElement element, final @Nullable Path path, final QName parent,
+	                       final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
+	                       final Warning warner, final IDRegistrar idFactory) throws SPFormatException {
+		requireTag(element, path, parent, "unit");
+		final Unit retval = createUnit(TagAttributes.of(element), path, players, warner, idFactory);
 		final StringBuilder orders = new StringBuilder();
 		for (final XMLEvent event : stream) {
 			// switch would require break-to-label
@@ -516,26 +594,40 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 		return retval;
 	}
 
-	@SuppressWarnings("ChainOfInstanceofChecks")
-	private IFortress readFortress(final StartElement element, final @Nullable Path path, final QName parent,
-	                               final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
-	                               final Warning warner, final IDRegistrar idFactory)
+	/**
+	 * Create a fortress, without its members, from its tag's attributes.
+	 */
+	/* package */ static IMutableFortress createFortress(final TagAttributes attributes,
+	                                                     final @Nullable Path path,
+	                                                     final ILegacyPlayerCollection players,
+	                                                     final Warning warner, final IDRegistrar idFactory)
 			throws SPFormatException {
-		requireTag(element, path, parent, "fortress");
-		requireNonEmptyAttribute(element, path, "owner", false, warner);
-		requireNonEmptyAttribute(element, path, "name", false, warner);
-		expectAttributes(element, path, warner, "owner", "name", "id", "size", "status",
+		requireNonEmptyAttribute(attributes, path, "owner", false, warner);
+		requireNonEmptyAttribute(attributes, path, "name", false, warner);
+		expectAttributes(attributes, path, warner, "owner", "name", "id", "size", "status",
 				"image", "portrait");
 		final TownSize size;
 		try {
-			size = TownSize.parseTownSize(getAttribute(element, "size", "small"));
+			size = TownSize.parseTownSize(getAttribute(attributes, "size", "small"));
 		} catch (final IllegalArgumentException except) {
-			throw new MissingPropertyException(element, path, "size", except);
+			throw new MissingPropertyException(attributes.getElement(), path, "size", except);
 		}
 		final IMutableFortress retval = new FortressImpl(
-				getPlayerOrIndependent(element, path, warner, players),
-				getAttribute(element, "name", ""),
-				getOrGenerateID(element, warner, path, idFactory), size);
+				getPlayerOrIndependent(attributes, path, warner, players),
+				getAttribute(attributes, "name", ""),
+				getOrGenerateID(attributes, warner, path, idFactory), size);
+		retval.setPortrait(getAttribute(attributes, "portrait", ""));
+		return setImage(retval, attributes, path, warner);
+	}
+
+	@SuppressWarnings("ChainOfInstanceofChecks")
+	private IFortress readFortress(final StartElement element, final @Nullable Path path, final QName parent,
+	                               final Iterable<XMLEvent> stream, final IMutableLegacyPlayerCollection players,
+	                               final Warning warner, final IDRegistrar idFactory)
+			throws SPFormatException {
+		requireTag(element, path, parent, "fortress");
+		final IMutableFortress retval = createFortress(TagAttributes.of(element), path, players, warner,
+				idFactory);
 		for (final XMLEvent event : stream) {
 			// switch would require break-to-label
 			//noinspection IfCanBeSwitch
@@ -562,13 +654,25 @@ public final class SPFluidReader implements IMapReader, ISPReader {
 				break;
 			}
 		}
-		retval.setPortrait(getAttribute(element, "portrait", ""));
-		return setImage(retval, element, path, warner);
+		return retval;
 	}
 
 	private final Map<String, FluidXMLReader<?>> readers;
 
+	/**
+	 * How to construct the map being read.
+	 */
+	private final LegacyMapFactory mapFactory;
+
 	public SPFluidReader() {
+		this(LegacyMap::new);
+	}
+
+	/**
+	 * @param mapFactory How to construct the maps that are read
+	 */
+	public SPFluidReader(final LegacyMapFactory mapFactory) {
+		this.mapFactory = mapFactory;
 		final Map<String, FluidXMLReader<?>> temp = new HashMap<>();
 		temp.put("adventure", FluidExplorableHandler::readAdventure);
 		temp.put("portal", FluidExplorableHandler::readPortal);
@@ -0,0 +1,52 @@
+package legacy.xmlio.fluidxml;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.events.StartElement;
+
+/**
+ * The attributes of the start tag being read, so that the code reading them
+ * (in {@link FluidBase} and the handler classes) can be shared between {@link
+ * SPFluidReader}, which has an event object for every tag, and {@link
+ * SPCursorReader}, which reads them from its cursor.
+ */
+/* package */ interface TagAttributes {
+	/**
+	 * The value of the given attribute, preferring one in our namespace to
+	 * one in no namespace, or null if the tag has neither.
+	 */
+	@Nullable String getValue(String param);
+
+	/**
+	 * How many attributes, in any namespace, the tag has.
+	 */
+	int getAttributeCount();
+
+	/**
+	 * The local name of the attribute at the given index.
+	 */
+	String getAttributeLocalName(int index);
+
+	/**
+	 * The namespace of the attribute at the given index, which may be null or empty if it has none.
+	 */
+	@Nullable String getAttributeNamespace(int index);
+
+	/**
+	 * Where the tag is in the document.
+	 */
+	Location getLocation();
+
+	/**
+	 * An event object for the tag, for an error message or a warning.
+	 */
+	StartElement getElement();
+
+	/**
+	 * The attributes of the given event object.
+	 */
+	static TagAttributes of(final StartElement element) {
+		return new EventAttributes(element);
+	}
+}
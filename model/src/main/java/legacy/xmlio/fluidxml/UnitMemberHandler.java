@@ -6,7 +6,6 @@ import common.xmlio.SPFormatException;
 import common.xmlio.Warning;
 import impl.xmlio.exceptions.MissingPropertyException;
 import impl.xmlio.exceptions.UnsupportedPropertyException;
-import impl.xmlio.exceptions.UnsupportedTagException;
 import impl.xmlio.exceptions.UnwantedChildException;
 import legacy.idreg.IDRegistrar;
 import legacy.map.HasImage;
@@ -253,66 +252,87 @@ import static java.util.function.Predicate.not;
 		}
 	}
 
-	// TODO: split into Animal and Tracks methods, if at all possible
-	public static AnimalOrTracks readAnimal(final StartElement element, final @Nullable Path path, final QName parent,
-	                                        final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
-	                                        final Warning warner, final IDRegistrar idFactory)
-			throws UnwantedChildException, MissingPropertyException {
-		requireTag(element, path, parent, "animal");
-		final String tag = element.getName().getLocalPart().toLowerCase();
-		final String kind;
-		if ("animal".equals(tag)) {
-			expectAttributes(element, path, warner, "traces", "id", "count", "kind", "talking",
-					"status", "wild", "born", "image");
-			kind = getAttribute(element, path, "kind");
+	/**
+	 * If an animal tag describes one of the {@link Immortal#IMMORTAL_ANIMALS
+	 * immortal animals}, rather than its tracks, create that immortal from
+	 * the tag's attributes; otherwise, return null.
+	 */
+	/* package */ static @Nullable ImmortalAnimal createImmortalAnimal(final TagAttributes attributes,
+	                                                                   final @Nullable Path path,
+	                                                                   final Warning warner,
+	                                                                   final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		final String kind = getAttribute(attributes, path, "kind");
+		if (Immortal.IMMORTAL_ANIMALS.contains(kind) &&
+				!getBooleanAttribute(attributes, path, "traces", false, Warning.WARN)) {
+			return setImage(ImmortalAnimal.parse(kind).apply(getOrGenerateID(attributes, warner, path, idFactory)),
+					attributes, path, warner);
 		} else {
-			warner.handle(UnsupportedTagException.future(element, path));
-			expectAttributes(element, path, warner, "id", "count", "image");
-			kind = tag;
+			return null;
 		}
-		spinUntilEnd(element.getName(), path, stream);
+	}
+
+	/**
+	 * Create an animal, or its tracks, from its tag's attributes.
+	 *
+	 * TODO: split into Animal and Tracks methods, if at all possible
+	 */
+	/* package */ static AnimalOrTracks createAnimal(final TagAttributes attributes, final @Nullable Path path,
+	                                                 final Warning warner, final IDRegistrar idFactory)
+			throws MissingPropertyException {
+		expectAttributes(attributes, path, warner, "traces", "id", "count", "kind", "talking",
+				"status", "wild", "born", "image");
+		final String kind = getAttribute(attributes, path, "kind");
 		// To get the intended meaning of existing maps, we have to parse
 		// traces="" as traces="true". If compatibility with existing maps
 		// ever becomes unnecessary, I will change the default-value here to
 		// simply `false`.
-		final boolean traces = getBooleanAttribute(element, path, "traces",
-				hasAttribute(element, "traces") && getAttribute(element, "traces", "").isEmpty(),
+		final boolean traces = getBooleanAttribute(attributes, path, "traces",
+				hasAttribute(attributes, "traces") && getAttribute(attributes, "traces", "").isEmpty(),
 				warner);
-		final boolean talking = getBooleanAttribute(element, path, "talking", false, warner);
-		final String status = getAttribute(element, "status", "wild");
-		final int born = getIntegerAttribute(element, "born", -1, warner);
+		final boolean talking = getBooleanAttribute(attributes, path, "talking", false, warner);
+		final String status = getAttribute(attributes, "status", "wild");
+		final int born = getIntegerAttribute(attributes, "born", -1, warner);
 		// TODO: We'd like the default to be 1 inside a unit and -1 outside
-		final int count = getIntegerAttribute(element, "count", 1, warner);
-		final int id;
+		final int count = getIntegerAttribute(attributes, "count", 1, warner);
 		if (traces) {
-			if (hasAttribute(element, "id")) {
-				warner.handle(UnsupportedPropertyException.inContext(element, path, "id",
+			if (hasAttribute(attributes, "id")) {
+				warner.handle(UnsupportedPropertyException.inContext(attributes.getElement(), path, "id",
 						"when tracks=\"true\""));
 			}
 			if (talking) {
-				warner.handle(UnsupportedPropertyException.inContext(element, path, "talking",
+				warner.handle(UnsupportedPropertyException.inContext(attributes.getElement(), path, "talking",
 						"when tracks=\"true\""));
 			}
 			if (!"wild".equals(status)) {
-				warner.handle(UnsupportedPropertyException.inContext(element, path, "status",
+				warner.handle(UnsupportedPropertyException.inContext(attributes.getElement(), path, "status",
 						"when tracks=\"true\""));
 			}
 			if (born != -1) {
-				warner.handle(UnsupportedPropertyException.inContext(element, path, "born",
+				warner.handle(UnsupportedPropertyException.inContext(attributes.getElement(), path, "born",
 						"when tracks=\"true\""));
 			}
 			if (count != 1) {
-				warner.handle(UnsupportedPropertyException.inContext(element, path, "count",
+				warner.handle(UnsupportedPropertyException.inContext(attributes.getElement(), path, "count",
 						"when tracks=\"true\""));
 			}
-			return setImage(new AnimalTracks(kind), element, path, warner);
+			return setImage(new AnimalTracks(kind), attributes, path, warner);
 		} else {
-			id = getOrGenerateID(element, warner, path, idFactory);
-			return setImage(
-					new AnimalImpl(kind, talking, status, id, born, count), element, path, warner);
+			final int id = getOrGenerateID(attributes, warner, path, idFactory);
+			return setImage(new AnimalImpl(kind, talking, status, id, born, count), attributes, path, warner);
 		}
 	}
 
+	public static AnimalOrTracks readAnimal(final StartElement element, final @Nullable Path path, final QName parent,
+	                                        final Iterable<XMLEvent> stream, final ILegacyPlayerCollection players,
+	                                        final Warning warner, final IDRegistrar idFactory)
+			throws UnwantedChildException, MissingPropertyException {
+		requireTag(element, path, parent, "animal");
+		final AnimalOrTracks retval = createAnimal(TagAttributes.of(element), path, warner, idFactory);
+		spinUntilEnd(element.getName(), path, stream);
+		return retval;
+	}
+
 	public static void writeAnimalTracks(final XMLStreamWriter ostream, final AnimalTracks obj,
 	                                     final int indentation) throws XMLStreamException {
 		writeTag(ostream, "animal", indentation, true);
@@ -0,0 +1,176 @@
+package legacy.xmlio.yaxml;
+
+import lovelace.util.ThrowingConsumer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A destination for XML that collects it in a large character buffer, which
+ * is encoded and written to an underlying stream only when full. The helper
+ * methods in {@link YAAbstractReader} detect this class and write tags,
+ * attributes, and numbers directly into the buffer, quoting as they go,
+ * instead of building a String for each piece.
+ */
+/* package */ final class BufferedXMLSink implements ThrowingConsumer<String, IOException>, Closeable {
+	/**
+	 * The size of the buffer, in characters.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	/**
+	 * How much of the buffer is in use.
+	 */
+	private int position = 0;
+
+	private final Writer writer;
+
+	/**
+	 * @param ostream The stream to write to, as UTF-8. Closed when this is.
+	 */
+	public BufferedXMLSink(final OutputStream ostream) {
+		writer = new OutputStreamWriter(ostream, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Make sure there is room for at least the given number of characters
+	 * in the buffer, unless that is more than the whole buffer.
+	 */
+	private void reserve(final int length) throws IOException {
+		if (position + length > BUFFER_SIZE) {
+			drain();
+		}
+	}
+
+	/**
+	 * Write the contents of the buffer to the underlying stream.
+	 */
+	private void drain() throws IOException {
+		if (position > 0) {
+			writer.write(buffer, 0, position);
+			position = 0;
+		}
+	}
+
+	@Override
+	public void accept(final String text) throws IOException {
+		append(text);
+	}
+
+	public BufferedXMLSink append(final String text) throws IOException {
+		final int length = text.length();
+		if (length > BUFFER_SIZE) {
+			drain();
+			writer.write(text);
+		} else {
+			reserve(length);
+			text.getChars(0, length, buffer, position);
+			position += length;
+		}
+		return this;
+	}
+
+	public BufferedXMLSink append(final char ch) throws IOException {
+		reserve(1);
+		buffer[position] = ch;
+		position++;
+		return this;
+	}
+
+	/**
+	 * Append a number in decimal.
+	 */
+	public BufferedXMLSink append(final int number) throws IOException {
+		if (number == Integer.MIN_VALUE) {
+			return append(Integer.toString(number));
+		}
+		// Ten digits and a sign
+		reserve(11);
+		int remaining = number;
+		if (remaining < 0) {
+			buffer[position] = '-';
+			position++;
+			remaining = -remaining;
+		}
+		int digits = 1;
+		for (int i = remaining / 10; i > 0; i /= 10) {
+			digits++;
+		}
+		for (int i = position + digits - 1; i >= position; i--) {
+			buffer[i] = (char) ('0' + remaining % 10);
+			remaining /= 10;
+		}
+		position += digits;
+		return this;
+	}
+
+	public BufferedXMLSink appendLineSeparator() throws IOException {
+		return append(LINE_SEPARATOR);
+	}
+
+	public BufferedXMLSink appendTabs(final int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			append('\t');
+		}
+		return this;
+	}
+
+	/**
+	 * Append text, replacing XML meta-characters with their equivalents,
+	 * following the same rules as {@link YAAbstractReader#simpleQuote(String, char)}.
+	 */
+	public BufferedXMLSink appendQuoted(final String text, final char delimiter) throws IOException {
+		final boolean quoteDouble = delimiter == '"' || delimiter == '>' || delimiter == '=';
+		final boolean quoteSingle = delimiter == '\'' || delimiter == '>' || delimiter == '=';
+		final int length = text.length();
+		for (int i = 0; i < length; i++) {
+			final char ch = text.charAt(i);
+			switch (ch) {
+				case '&' -> append("&amp;");
+				case '<' -> append("&lt;");
+				case '>' -> append("&gt;");
+				case '"' -> {
+					if (quoteDouble) {
+						append("&quot;");
+					} else {
+						append(ch);
+					}
+				}
+				case '\'' -> {
+					if (quoteSingle) {
+						append("&apos;");
+					} else {
+						append(ch);
+					}
+				}
+				default -> append(ch);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Write everything buffered so far to the underlying stream, and flush it.
+	 */
+	public void flush() throws IOException {
+		drain();
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			drain();
+		} finally {
+			writer.close();
+		}
+	}
+}
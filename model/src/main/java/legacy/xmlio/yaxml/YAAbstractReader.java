@@ -20,6 +20,7 @@ import javax.xml.stream.events.Attribute;
 
 import legacy.idreg.IDRegistrar;
 import legacy.map.Point;
+import legacy.map.PointPool;
 import legacy.map.HasImage;
 import common.xmlio.Warning;
 import impl.xmlio.exceptions.UnwantedChildException;
@@ -180,13 +181,37 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 	 */
 	protected static void indent(final ThrowingConsumer<String, IOException> ostream, final int tabs)
 			throws IOException {
-		ostream.accept(String.join("", Collections.nCopies(tabs, "\t")));
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.appendTabs(tabs);
+		} else {
+			ostream.accept(String.join("", Collections.nCopies(tabs, "\t")));
+		}
+	}
+
+	/**
+	 * Whether the given string contains any characters that {@link #simpleQuote} might replace.
+	 */
+	private static boolean needsQuoting(final String text) {
+		final int length = text.length();
+		for (int i = 0; i < length; i++) {
+			switch (text.charAt(i)) {
+				case '&', '<', '>', '"', '\'' -> {
+					return true;
+				}
+				default -> {
+				}
+			}
+		}
+		return false;
 	}
 
 	/**
 	 * Replace XML meta-characters in a string with their equivalents.
 	 */
 	protected static String simpleQuote(final String text) {
+		if (!needsQuoting(text)) {
+			return text;
+		}
 		String retval = text;
 		for (final Pair<Pattern, String> pair : QUOTING) {
 			retval = pair.getValue0().matcher(retval).replaceAll(pair.getValue1());
@@ -204,6 +229,9 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 	 *                  a less-than sign, neither will be.
 	 */
 	protected static String simpleQuote(final String text, final char delimiter) {
+		if (!needsQuoting(text)) {
+			return text;
+		}
 		String retval = simpleQuote(text);
 		if (delimiter == '"' || delimiter == '>' || delimiter == '=') {
 			retval = QUOTE_DOUBLE_QUOTE.getValue0().matcher(retval)
@@ -222,7 +250,11 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 	protected static void writeProperty(final ThrowingConsumer<String, IOException> ostream, final String name,
 	                                    final String val)
 			throws IOException {
-		ostream.accept(" %s=\"%s\"".formatted(simpleQuote(name, '='), simpleQuote(val, '"')));
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.append(' ').appendQuoted(name, '=').append("=\"").appendQuoted(val, '"').append('"');
+		} else {
+			ostream.accept(" %s=\"%s\"".formatted(simpleQuote(name, '='), simpleQuote(val, '"')));
+		}
 	}
 
 	/**
@@ -231,7 +263,11 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 	protected static void writeProperty(final ThrowingConsumer<String, IOException> ostream, final String name,
 	                                    final int val)
 			throws IOException {
-		writeProperty(ostream, name, Integer.toString(val));
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.append(' ').appendQuoted(name, '=').append("=\"").append(val).append('"');
+		} else {
+			writeProperty(ostream, name, Integer.toString(val));
+		}
 	}
 
 	/**
@@ -373,7 +409,11 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 	                               final int tabs)
 			throws IOException {
 		indent(ostream, tabs);
-		ostream.accept("<%s".formatted(simpleQuote(tag, '>')));
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.append('<').appendQuoted(tag, '>');
+		} else {
+			ostream.accept("<%s".formatted(simpleQuote(tag, '>')));
+		}
 		if (tabs == 0) {
 			ostream.accept(" xmlns=\"%s\"".formatted(SP_NAMESPACE));
 		}
@@ -383,14 +423,22 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 	 * Close a tag with a right-bracket and add a newline.
 	 */
 	protected static void finishParentTag(final ThrowingConsumer<String, IOException> ostream) throws IOException {
-		ostream.accept(">" + System.lineSeparator());
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.append('>').appendLineSeparator();
+		} else {
+			ostream.accept(">" + System.lineSeparator());
+		}
 	}
 
 	/**
 	 * Close a 'leaf' tag and add a newline.
 	 */
 	protected static void closeLeafTag(final ThrowingConsumer<String, IOException> ostream) throws IOException {
-		ostream.accept(" />" + System.lineSeparator());
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.append(" />").appendLineSeparator();
+		} else {
+			ostream.accept(" />" + System.lineSeparator());
+		}
 	}
 
 	/**
@@ -401,7 +449,11 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 		if (tabs > 0) {
 			indent(ostream, tabs);
 		}
-		ostream.accept("</%s>%n".formatted(simpleQuote(tag, '>')));
+		if (ostream instanceof final BufferedXMLSink sink) {
+			sink.append("</").appendQuoted(tag, '>').append('>').appendLineSeparator();
+		} else {
+			ostream.accept("</%s>%n".formatted(simpleQuote(tag, '>')));
+		}
 	}
 
 	/**
@@ -413,6 +465,15 @@ abstract class YAAbstractReader<Item, Value> implements YAReader<Item, Value> {
 				getIntegerParameter(element, path, "column"));
 	}
 
+	/**
+	 * Parse a Point from a tag's properties, getting it from the given pool.
+	 */
+	protected static Point parsePoint(final StartElement element, final @Nullable Path path, final PointPool pool)
+			throws MissingPropertyException {
+		return pool.get(getIntegerParameter(element, path, "row"),
+				getIntegerParameter(element, path, "column"));
+	}
+
 	/**
 	 * The Warning instance to use.
 	 */
@@ -22,6 +22,7 @@ import legacy.map.Player;
 import legacy.map.MapDimensions;
 import legacy.map.MapDimensionsImpl;
 import legacy.map.Point;
+import legacy.map.PointPool;
 import legacy.map.River;
 import legacy.map.TileType;
 import legacy.map.TileFixture;
@@ -235,6 +236,7 @@ import java.util.function.Predicate;
 		tagStack.addFirst(element.getName());
 		tagStack.addFirst(mapTag.getName());
 		final IMutableLegacyMap retval = new LegacyMap(dimensions, players, currentTurn);
+		final PointPool pool = PointPool.forDimensions(dimensions);
 		Optional<Point> point = Optional.empty();
 		final Predicate<Object> isFortress = IFortress.class::isInstance;
 		final Function<Object, IFortress> fortressCast = IFortress.class::cast;
@@ -258,7 +260,7 @@ import java.util.function.Predicate;
 							"type", "mountain");
 					tagStack.addFirst(se.getName());
 					// TODO: Just assign to point, maybe?
-					final Point localPoint = parsePoint(se, path);
+					final Point localPoint = parsePoint(se, path, pool);
 					point = Optional.of(localPoint);
 					// Since tiles have sometimes been *written* without "kind", then
 					// failed to load, be liberal in what we accept here.
@@ -418,10 +420,11 @@ import java.util.function.Predicate;
 		final Function<Object, Ground> groundCast = Ground.class::cast;
 		final Predicate<Object> isForest = Forest.class::isInstance;
 		final Function<Object, Forest> forestCast = Forest.class::cast;
+		final PointPool pool = PointPool.forDimensions(dimensions);
 		for (int i = 0; i < dimensions.rows(); i++) {
 			boolean rowEmpty = true;
 			for (int j = 0; j < dimensions.columns(); j++) {
-				final Point loc = new Point(i, j);
+				final Point loc = pool.get(i, j);
 				final TileType terrain = obj.getBaseTerrain(loc);
 				if (!obj.isLocationEmpty(loc)) {
 					if (rowEmpty) {
@@ -22,7 +22,7 @@ import common.xmlio.SPFormatException;
 import impl.xmlio.exceptions.UnwantedChildException;
 import legacy.map.fixtures.towns.CommunityStats;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
 
 import lovelace.util.LovelaceLogger;
@@ -75,9 +75,10 @@ import java.util.List;
 	 */
 	private final List<YAReader<?, ?>> readers;
 
-	private final Map<String, YAReader<?, ?>> readerCache = new HashMap<>();
+	// Concurrent because one adapter (in the shared writer) may be used to write several maps at once.
+	private final Map<String, YAReader<?, ?>> readerCache = new ConcurrentHashMap<>();
 
-	private final Map<Class<?>, YAReader<?, ?>> writerCache = new HashMap<>();
+	private final Map<Class<?>, YAReader<?, ?>> writerCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Parse an object from XML.
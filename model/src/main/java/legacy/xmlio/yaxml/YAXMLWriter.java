@@ -1,10 +1,11 @@
 package legacy.xmlio.yaxml;
 
-import java.nio.charset.StandardCharsets;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import legacy.map.ILegacyMap;
+import legacy.xmlio.MapIOHelper;
 import impl.xmlio.SPWriter;
 
 import java.nio.file.Path;
@@ -14,12 +15,16 @@ import lovelace.util.ThrowingConsumer;
 
 /**
  * Sixth generation SP XML writer.
+ *
+ * When writing to a file or {@link OutputStream}, the XML is collected in a
+ * large character buffer rather than being passed along piece by piece; files
+ * whose names end in ".gz" are compressed.
  */
 public final class YAXMLWriter implements SPWriter {
 	private final YAReaderAdapter wrapped = new YAReaderAdapter();
 
 	/**
-	 * Write an object to a file.
+	 * Write an object to a file, compressing it if the filename ends in ".gz".
 	 *
 	 * @param arg The file to write to
 	 * @param obj The object to write
@@ -27,9 +32,30 @@ public final class YAXMLWriter implements SPWriter {
 	 */
 	@Override
 	public void writeSPObject(final Path arg, final Object obj) throws IOException {
-		try (final BufferedWriter writer = Files.newBufferedWriter(arg, StandardCharsets.UTF_8)) {
-			writeSPObject(writer::write, obj);
+		final OutputStream file = Files.newOutputStream(arg);
+		final OutputStream ostream;
+		try {
+			ostream = MapIOHelper.isCompressed(arg) ? new GZIPOutputStream(file, 1 << 16) : file;
+		} catch (final IOException except) {
+			file.close();
+			throw except;
 		}
+		try (final BufferedXMLSink sink = new BufferedXMLSink(ostream)) {
+			wrapped.write(sink, obj, 0);
+		}
+	}
+
+	/**
+	 * Write an object to a stream, as UTF-8. The stream is flushed but not closed.
+	 *
+	 * @param arg The stream to write to
+	 * @param obj The object to write
+	 * @throws IOException on I/O error
+	 */
+	public void writeSPObject(final OutputStream arg, final Object obj) throws IOException {
+		final BufferedXMLSink sink = new BufferedXMLSink(arg);
+		wrapped.write(sink, obj, 0);
+		sink.flush();
 	}
 
 	/**
@@ -46,7 +72,7 @@ public final class YAXMLWriter implements SPWriter {
 	}
 
 	/**
-	 * Write a map to a file.
+	 * Write a map to a file, compressing it if the filename ends in ".gz".
 	 *
 	 * @param file The file to write to.
 	 * @param map The map to write.
@@ -57,6 +83,17 @@ public final class YAXMLWriter implements SPWriter {
 		writeSPObject(file, map);
 	}
 
+	/**
+	 * Write a map to a stream, as UTF-8. The stream is flushed but not closed.
+	 *
+	 * @param arg The stream to write to.
+	 * @param map The map to write.
+	 * @throws IOException on I/O error
+	 */
+	public void write(final OutputStream arg, final ILegacyMap map) throws IOException {
+		writeSPObject(arg, map);
+	}
+
 	/**
 	 * Write a map to a file or stream.
 	 *
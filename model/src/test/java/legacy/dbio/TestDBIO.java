@@ -6,15 +6,20 @@ import legacy.map.HasNotes;
 import legacy.map.LegacyPlayerCollection;
 import legacy.map.fixtures.LegacyQuantity;
 import legacy.map.fixtures.mobile.IMutableWorker;
+import io.jenetics.facilejdbc.Query;
+import io.jenetics.facilejdbc.RowParser;
 import io.jenetics.facilejdbc.Transactional;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.SQLClientInfoException;
@@ -30,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import legacy.map.fixtures.resources.CultivationStatus;
@@ -123,6 +129,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -982,4 +989,169 @@ public final class TestDBIO {
 		}
 		assertDatabaseSerialization(map);
 	}
+
+	/**
+	 * A small map with several kinds of fixtures, including a fortress
+	 * containing a unit containing a worker, and a town with community
+	 * stats, for tests using database files.
+	 */
+	private static IMutableLegacyMap createFileTestMap() {
+		final IMutableLegacyMap map = new LegacyMap(new MapDimensionsImpl(2, 2, 2), new LegacyPlayerCollection(), 3);
+		final Player owner = new PlayerImpl(1, "owner");
+		map.addPlayer(owner);
+		map.setBaseTerrain(new Point(0, 0), TileType.Plains);
+		map.setBaseTerrain(new Point(1, 1), TileType.Steppe);
+		map.addFixture(new Point(0, 0), new Forest("oak", false, 1, 4));
+		map.addFixture(new Point(0, 0), new Ground(2, "granite", ExposureStatus.EXPOSED));
+		map.addFixture(new Point(1, 0), new Shrub("shrub", 3, 5));
+		map.addFixture(new Point(1, 1), new AnimalImpl("elephant", false, "wild", 4, -1, 2));
+		final IMutableFortress fortress = new FortressImpl(owner, "fortress", 5, TownSize.Small);
+		final IMutableUnit unit = new Unit(owner, "unitKind", "unitName", 6);
+		unit.addMember(new Worker("worker name", "elf", 7, new Job("job name", 2,
+				new Skill("first skill", 1, 2), new Skill("second skill", 3, 4)),
+				new Job("second job", 4)));
+		fortress.addMember(unit);
+		map.addFixture(new Point(1, 1), fortress);
+		final Town town = new Town(TownStatus.Active, TownSize.Medium, 12, "town", 8, owner);
+		final CommunityStats stats = new CommunityStatsImpl(20);
+		stats.setSkillLevel("farming", 3);
+		stats.addWorkedField(3);
+		stats.addYearlyProduction(new ResourcePileImpl(9, "food", "grain", new LegacyQuantity(40, "bushels")));
+		stats.addYearlyConsumption(new ResourcePileImpl(10, "food", "bread", new LegacyQuantity(
+				BigDecimal.valueOf(5).divide(BigDecimal.valueOf(4)), "loaves")));
+		town.setPopulation(stats);
+		map.addFixture(new Point(0, 1), town);
+		return map;
+	}
+
+	/**
+	 * The number of rows in the given table of the given database file.
+	 */
+	private static int countRows(final Path file, final String table) throws SQLException {
+		try (final Connection conn = DriverManager.getConnection("jdbc:sqlite:" + file)) {
+			return Query.of("SELECT COUNT(*) FROM " + table).as(RowParser.int32(1).single(), conn);
+		}
+	}
+
+	/**
+	 * The (only) unit in the (only) fortress in the map produced by {@link #createFileTestMap}.
+	 */
+	private static IMutableUnit getFortressUnit(final ILegacyMap map) {
+		return map.streamFixtures(new Point(1, 1)).filter(IMutableFortress.class::isInstance)
+				.map(IMutableFortress.class::cast).flatMap(IMutableFortress::stream)
+				.filter(IMutableUnit.class::isInstance).map(IMutableUnit.class::cast)
+				.findAny().orElseThrow();
+	}
+
+	/**
+	 * Test round-tripping a map through a database file, which (unlike the
+	 * in-memory database used in the other tests) lets the reader read tables concurrently.
+	 */
+	@Test
+	public void testFileSerialization(@TempDir final Path tempDir) throws IOException {
+		final IMutableLegacyMap map = createFileTestMap();
+		final Path file = tempDir.resolve("test.db");
+		new SPDatabaseWriter().write(file, map);
+		final ILegacyMap deserialized = new SPDatabaseReader().readMap(file, Warning.DIE);
+		assertEquals(map, deserialized, "Map read from a file is the same as the one written");
+		final CommunityStats stats = deserialized.streamFixtures(new Point(0, 1)).filter(Town.class::isInstance)
+				.map(Town.class::cast).map(Town::getPopulation).filter(Objects::nonNull).findAny().orElseThrow();
+		assertEquals(Map.of("farming", 3), stats.getHighestSkillLevels(), "Town's expertise is read");
+		assertEquals(Set.of(3), Set.copyOf(stats.getWorkedFields()), "Town's worked fields are read");
+		assertEquals(1, stats.getYearlyProduction().size(), "Town's production is read");
+		assertEquals(1, stats.getYearlyConsumption().size(), "Town's consumption is read");
+	}
+
+	/**
+	 * Test that writing a map over an existing database file replaces what was there.
+	 */
+	@Test
+	public void testOverwritingFile(@TempDir final Path tempDir) throws IOException, SQLException {
+		final Path file = tempDir.resolve("test.db");
+		final SPDatabaseWriter writer = new SPDatabaseWriter();
+		writer.write(file, createFileTestMap());
+		writer.write(file, createFileTestMap());
+		assertEquals(1, countRows(file, "metadata"), "Map metadata is not duplicated");
+		assertEquals(1, countRows(file, "forests"), "Fixtures are not duplicated");
+		assertEquals(1, countRows(file, "workers"), "Unit members are not duplicated");
+		assertEquals(createFileTestMap(), new SPDatabaseReader().readMap(file, Warning.DIE),
+				"Map read from an overwritten file is the one written last");
+	}
+
+	/**
+	 * Test that saving a map back to the file it was read from, which
+	 * writes only what has changed, leaves the file holding the changed map.
+	 */
+	@Test
+	public void testIncrementalSave(@TempDir final Path tempDir) throws IOException, SQLException {
+		final Path file = tempDir.resolve("test.db");
+		final SPDatabaseWriter writer = new SPDatabaseWriter();
+		writer.write(file, createFileTestMap());
+		final IMutableLegacyMap map = new SPDatabaseReader().readMap(file, Warning.DIE);
+		assertEquals(file, map.getChanges().getBaseline(), "Reading a map starts tracking changes against the file");
+		assertTrue(map.getChanges().isEmpty(), "A map just read has no changes");
+		final IMutableUnit unit = getFortressUnit(map);
+		unit.setOrders(3, "new orders");
+		map.markChanged(unit);
+		map.removeFixture(new Point(1, 0), new Shrub("shrub", 3, 5));
+		map.addFixture(new Point(0, 1), new Shrub("moved shrub", 3, 5));
+		map.setBaseTerrain(new Point(0, 1), TileType.Tundra);
+		assertEquals(Set.of(new Point(1, 0), new Point(0, 1)), map.getChanges().getChangedLocations(),
+				"Changed tiles are tracked");
+		writer.write(file, map);
+		assertTrue(map.getChanges().isEmpty(), "Saving a map resets its changes");
+		final ILegacyMap deserialized = new SPDatabaseReader().readMap(file, Warning.DIE);
+		assertEquals(map, deserialized, "Map saved incrementally reads back as changed");
+		assertEquals("new orders", getFortressUnit(deserialized).getOrders(3),
+				"Orders changed in place are saved");
+		assertEquals(1, countRows(file, "units"), "Rewritten unit is not duplicated");
+		assertEquals(1, countRows(file, "workers"), "Members of rewritten unit are not duplicated");
+		assertEquals(1, countRows(file, "shrubs"), "Moved fixture is not duplicated");
+	}
+
+	/**
+	 * Test that saving only what has changed falls back to saving the whole
+	 * map when a changed fixture shares its ID with a container elsewhere,
+	 * whose contents deleting its rows would otherwise also delete.
+	 */
+	@Test
+	public void testIncrementalSaveWithSharedId(@TempDir final Path tempDir) throws IOException {
+		final Path file = tempDir.resolve("test.db");
+		final IMutableLegacyMap original = createFileTestMap();
+		original.addFixture(new Point(0, 1), new Forest("pine", false, 5, 6));
+		new SPDatabaseWriter().write(file, original);
+		final IMutableLegacyMap map = new SPDatabaseReader().readMap(file, Warning.DIE);
+		map.setBaseTerrain(new Point(0, 1), TileType.Jungle);
+		new SPDatabaseWriter().write(file, map);
+		final ILegacyMap deserialized = new SPDatabaseReader().readMap(file, Warning.DIE);
+		assertEquals(map, deserialized, "Map saved with a changed fixture sharing an ID reads back as changed");
+		assertEquals(1, getFortressUnit(deserialized).stream().count(),
+				"Contents of fixture sharing an ID with a changed one are kept");
+	}
+
+	/**
+	 * Test that writing a whole map leaves no temporary files behind, that
+	 * the file keeps SQLite's durable default journal for later in-place
+	 * saves, and that those saves can add fixtures of kinds the map did not
+	 * have when it was first written.
+	 */
+	@Test
+	public void testExportThenIncrementalSave(@TempDir final Path tempDir) throws IOException, SQLException {
+		final Path file = tempDir.resolve("test.db");
+		final SPDatabaseWriter writer = new SPDatabaseWriter();
+		writer.write(file, createFileTestMap());
+		writer.write(file, createFileTestMap());
+		try (final Stream<Path> files = Files.list(tempDir)) {
+			assertEquals(List.of(file), files.toList(), "Only the database itself is left in the directory");
+		}
+		try (final Connection conn = DriverManager.getConnection("jdbc:sqlite:" + file)) {
+			assertEquals("delete", Query.of("PRAGMA journal_mode").as(RowParser.string(1).single(), conn),
+					"Database uses the default rollback journal");
+		}
+		final IMutableLegacyMap map = new SPDatabaseReader().readMap(file, Warning.DIE);
+		map.addFixture(new Point(0, 1), new TextFixture("new text", 2));
+		writer.write(file, map);
+		assertEquals(map, new SPDatabaseReader().readMap(file, Warning.DIE),
+				"Fixture of a new kind is saved incrementally");
+	}
 }
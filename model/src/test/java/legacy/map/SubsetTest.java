@@ -24,6 +24,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -178,6 +180,29 @@ public final class SubsetTest {
 				"Subset calculation does not ignore other fixtures");
 	}
 
+	/**
+	 * Test that a reused {@link SubsetChecker} reports differences in tile
+	 * order, and that fail-fast mode stops at the first.
+	 */
+	@Test
+	public void testSubsetCheckerModes() {
+		final IMutableLegacyMap mainMap = createMap(Pair.with(new Point(0, 0), TileType.Plains),
+				Pair.with(new Point(1, 1), TileType.Plains));
+		final SubsetChecker checker = new SubsetChecker(mainMap);
+		assertTrue(checker.isSubset(createMap(), SubsetTest::noop), "None is a subset of two");
+		final ILegacyMap secondMap = createMap(Pair.with(new Point(0, 0), TileType.Ocean),
+				Pair.with(new Point(1, 1), TileType.Jungle));
+		final List<String> messages = new ArrayList<>();
+		assertFalse(checker.isSubset(secondMap, messages::add), "Differing terrain breaks subset");
+		assertEquals(List.of("At (0,0):\tBase terrain differs", "At (1,1):\tBase terrain differs"),
+				messages, "Differences are reported in tile order");
+		messages.clear();
+		assertFalse(checker.isSubset(secondMap, messages::add, SubsetChecker.Mode.FailFast),
+				"Differing terrain breaks subset in fail-fast mode");
+		assertEquals(List.of("At (0,0):\tBase terrain differs"), messages,
+				"Fail-fast mode stops at the first difference");
+	}
+
 	@FunctionalInterface
 	private interface ITestMethod {
 		void apply(ILegacyMap one, ILegacyMap two, String message);
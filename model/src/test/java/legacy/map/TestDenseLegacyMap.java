@@ -0,0 +1,202 @@
+package legacy.map;
+
+import legacy.map.fixtures.TextFixture;
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.mobile.Ogre;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.terrain.Forest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link DenseLegacyMap} behaves the same as {@link LegacyMap}.
+ */
+public final class TestDenseLegacyMap {
+	private static final MapDimensions DIMENSIONS = new MapDimensionsImpl(3, 4, 2);
+
+	@SuppressWarnings("EmptyMethod")
+	private static void noop(final String str) {
+	}
+
+	/**
+	 * Apply the same series of mutations to the given map.
+	 */
+	@SuppressWarnings("MagicNumber")
+	private static IMutableLegacyMap populate(final IMutableLegacyMap map) {
+		map.setBaseTerrain(new Point(0, 0), TileType.Plains);
+		map.setBaseTerrain(new Point(2, 3), TileType.Ocean);
+		map.setBaseTerrain(new Point(1, 1), TileType.Jungle);
+		map.setBaseTerrain(new Point(1, 1), null);
+		map.setMountainous(new Point(1, 2), true);
+		map.addRivers(new Point(0, 0), River.North, River.Lake);
+		map.removeRivers(new Point(0, 0), River.North);
+		map.setRoadLevel(new Point(2, 3), Direction.Southeast, 3);
+		map.setRoadLevel(new Point(2, 3), Direction.North, 0);
+		map.addFixture(new Point(0, 0), new Forest("elm", false, 1));
+		map.addFixture(new Point(0, 0), new AnimalImpl("skunk", false, "wild", 2));
+		map.addFixture(new Point(2, 1), new TextFixture("text", -1));
+		map.addFixture(Point.INVALID_POINT, new Ogre(3));
+		return map;
+	}
+
+	/**
+	 * Test that the two implementations agree on a map's contents.
+	 */
+	@Test
+	public void testSameContents() {
+		final ILegacyMap hashed = populate(new LegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0));
+		final ILegacyMap dense = populate(new DenseLegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0));
+		assertEquals(hashed, dense, "Dense map equals hash-based map with the same contents");
+		assertEquals(dense, hashed, "Hash-based map equals dense map with the same contents");
+		assertEquals(StreamSupport.stream(hashed.getLocations().spliterator(), false).toList(),
+				StreamSupport.stream(dense.getLocations().spliterator(), false).toList(),
+				"Locations are the same, in the same order");
+		assertNull(dense.getBaseTerrain(new Point(1, 1)), "Terrain can be removed");
+		assertTrue(dense.isMountainous(new Point(1, 2)), "Mountains are stored");
+		assertFalse(dense.isMountainous(new Point(2, 1)), "Mountains are only where put");
+		assertEquals(List.of(River.Lake), List.copyOf(dense.getRivers(new Point(0, 0))),
+				"Rivers can be added and removed");
+		assertEquals(Map.of(Direction.Southeast, 3, Direction.North, 0), dense.getRoads(new Point(2, 3)),
+				"Roads are stored");
+		assertEquals(1, dense.getFixtures(Point.INVALID_POINT).size(),
+				"Fixtures outside the map's dimensions are kept");
+		assertTrue(dense.isSubset(hashed, TestDenseLegacyMap::noop), "Subset in one direction");
+		assertTrue(hashed.isSubset(dense, TestDenseLegacyMap::noop), "Subset in the other direction");
+	}
+
+	/**
+	 * Test removal and replacement of fixtures, and copying.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testFixtureMutation() {
+		final IMutableLegacyMap dense = populate(new DenseLegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0));
+		final TileFixture forest = new Forest("elm", false, 1);
+		final TileFixture replacement = new Forest("oak", false, 1);
+		dense.replace(new Point(0, 0), forest, replacement);
+		assertEquals(List.of("oak", "skunk"), dense.streamFixtures(new Point(0, 0))
+						.map(f -> ((HasKind) f).getKind()).collect(Collectors.toList()),
+				"Replacement is in place");
+		dense.removeFixture(new Point(2, 1), new TextFixture("text", -1));
+		assertTrue(dense.getFixtures(new Point(2, 1)).isEmpty(), "Fixture was removed");
+		dense.removeFixture(Point.INVALID_POINT, new Ogre(3));
+		assertEquals(DIMENSIONS.rows() * DIMENSIONS.columns(), dense.streamLocations().count(),
+				"No extra locations once fixture outside dimensions is removed");
+		dense.setStatus(ILegacyMap.ModificationStatus.Unmodified);
+		final ILegacyMap copy = dense.copy(IFixture.CopyBehavior.KEEP, null);
+		assertEquals(dense, copy, "Copy equals original");
+		assertEquals(ILegacyMap.ModificationStatus.Unmodified, dense.getStatus(),
+				"Copying does not modify the original");
+	}
+
+	/**
+	 * Test that both implementations can copy a map for several players at
+	 * once, and that changing one copy changes neither the original nor
+	 * the other copies.
+	 */
+	@Test
+	public void testCopyForPlayers() {
+		final List<Player> players = List.of(new PlayerImpl(1, "one"), new PlayerImpl(2, "two"));
+		for (final IMutableLegacyMap map : List.of(
+				populate(new LegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0)),
+				populate(new DenseLegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0)))) {
+			final List<ILegacyMap> copies = map.copyForPlayers(IFixture.CopyBehavior.KEEP, players);
+			assertEquals(players.size(), copies.size(), "One copy per player");
+			for (final ILegacyMap copy : copies) {
+				assertEquals(map, copy, "Copy equals original");
+				assertEquals(map.getRoads(new Point(2, 3)), copy.getRoads(new Point(2, 3)), "Roads are copied");
+			}
+			((IMutableLegacyMap) copies.getFirst()).setBaseTerrain(new Point(0, 0), TileType.Desert);
+			((IMutableLegacyMap) copies.getFirst()).addRivers(new Point(0, 0), River.East);
+			assertEquals(TileType.Plains, map.getBaseTerrain(new Point(0, 0)), "Original terrain is unchanged");
+			assertEquals(TileType.Plains, copies.getLast().getBaseTerrain(new Point(0, 0)),
+					"Other copy's terrain is unchanged");
+			assertEquals(List.of(River.Lake), List.copyOf(copies.getLast().getRivers(new Point(0, 0))),
+					"Other copy's rivers are unchanged");
+			map.setRoadLevel(new Point(2, 3), Direction.South, 1);
+			assertEquals(Map.of(Direction.Southeast, 3, Direction.North, 0),
+					copies.getLast().getRoads(new Point(2, 3)), "Copy's roads are unchanged");
+		}
+	}
+
+	/**
+	 * The unit with the given ID at the given location in the given map.
+	 */
+	private static Unit findUnit(final ILegacyMap map, final Point location, final int id) {
+		return map.streamFixtures(location).filter(Unit.class::isInstance).map(Unit.class::cast)
+				.filter(u -> u.getId() == id).findAny().orElseThrow();
+	}
+
+	/**
+	 * Test that, in both implementations, each map {@link
+	 * ILegacyMap#copyForPlayers} produces is the same as what {@link
+	 * ILegacyMap#copy} produces for that player, and that each player's
+	 * copy keeps the details of that player's own units but zeroes those
+	 * of other players' units.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testCopyForPlayersMatchesCopy() {
+		final Player one = new PlayerImpl(1, "one");
+		final Player two = new PlayerImpl(2, "two");
+		final List<Player> players = List.of(one, two);
+		final Point location = new Point(1, 0);
+		for (final IMutableLegacyMap map : List.of(
+				populate(new LegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0)),
+				populate(new DenseLegacyMap(DIMENSIONS, new LegacyPlayerCollection(), 0)))) {
+			map.addPlayer(one);
+			map.addPlayer(two);
+			final Unit scouts = new Unit(one, "explorers", "Scouts", 10);
+			scouts.addMember(new AnimalImpl("horse", false, "domesticated", 11, 2, 3));
+			scouts.setOrders(5, "explore");
+			map.addFixture(location, scouts);
+			final Unit miners = new Unit(two, "workers", "Miners", 12);
+			miners.addMember(new AnimalImpl("mule", false, "domesticated", 13, 1, 2));
+			miners.setOrders(5, "dig");
+			map.addFixture(location, miners);
+			final List<Unit> units = List.of(scouts, miners);
+			for (final IFixture.CopyBehavior zero : IFixture.CopyBehavior.values()) {
+				final List<ILegacyMap> copies = map.copyForPlayers(zero, players);
+				for (int i = 0; i < players.size(); i++) {
+					final ILegacyMap expected = map.copy(zero, players.get(i));
+					final ILegacyMap actual = copies.get(i);
+					assertEquals(expected, actual, "Copy for player %d matches single copy".formatted(i + 1));
+					assertEquals(expected.getRoads(new Point(2, 3)), actual.getRoads(new Point(2, 3)),
+							"Roads are copied both ways");
+					for (final Unit unit : units) {
+						final Unit expectedUnit = findUnit(expected, location, unit.getId());
+						final Unit actualUnit = findUnit(actual, location, unit.getId());
+						assertEquals(expectedUnit.getAllOrders(), actualUnit.getAllOrders(),
+								"Orders are kept or zeroed the same way");
+						assertEquals(expectedUnit.stream().toList(), actualUnit.stream().toList(),
+								"Members are kept or zeroed the same way");
+						final Unit copied = findUnit(copies.get(i), location, unit.getId());
+						if (zero == IFixture.CopyBehavior.KEEP && unit.owner().equals(players.get(i))) {
+							assertEquals(unit.getAllOrders(), copied.getAllOrders(),
+									"Player's own unit keeps its orders");
+							assertEquals(unit.stream().toList(), copied.stream().toList(),
+									"Player's own unit keeps its members");
+						} else {
+							assertTrue(copied.getAllOrders().isEmpty(), "Other unit's orders are zeroed");
+							assertTrue(copied.stream().toList().isEmpty(), "Other unit's members are zeroed");
+						}
+					}
+				}
+			}
+			final ILegacyMap clone = map.copy(IFixture.CopyBehavior.KEEP, null);
+			for (final Unit unit : units) {
+				assertEquals(unit.getAllOrders(), findUnit(clone, location, unit.getId()).getAllOrders(),
+						"Copy for no particular player keeps every unit's orders");
+			}
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package legacy.map;
+
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.mobile.Worker;
+import legacy.map.fixtures.terrain.Forest;
+import legacy.map.fixtures.towns.FortressImpl;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests of {@link ILegacyMap#findFixture} and {@link ILegacyMap#locateMobile}.
+ */
+public final class TestFixtureIndex {
+	private static final MapDimensions DIMENSIONS = new MapDimensionsImpl(3, 4, 2);
+
+	private static Stream<LegacyMapFactory> factories() {
+		return Stream.of(LegacyMap::new, DenseLegacyMap::new);
+	}
+
+	private static FixtureLocation find(final ILegacyMap map, final int id) {
+		final FixtureLocation retval = map.findFixture(id);
+		assertNotNull(retval, "Fixture %d is found".formatted(id));
+		return Objects.requireNonNull(retval);
+	}
+
+	/**
+	 * Test that fixtures on tiles, and inside fortresses and units, are found, and where.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@ParameterizedTest
+	@MethodSource("factories")
+	public void testFindNested(final LegacyMapFactory factory) {
+		final IMutableLegacyMap map = factory.create(DIMENSIONS, new LegacyPlayerCollection(), 0);
+		final Player player = new PlayerImpl(1, "one");
+		final Forest forest = new Forest("elm", false, 1);
+		final FortressImpl fortress = new FortressImpl(player, "HQ", 2);
+		final Unit unit = new Unit(player, "explorers", "unit", 3);
+		final Worker worker = new Worker("worker", "human", 4);
+		unit.addMember(worker);
+		fortress.addMember(unit);
+		map.addFixture(new Point(0, 0), forest);
+		map.addFixture(new Point(2, 3), fortress);
+		map.addFixture(Point.INVALID_POINT, new AnimalImpl("skunk", false, "wild", 5));
+		assertEquals(new FixtureLocation(forest, new Point(0, 0), List.of()), find(map, 1),
+				"Fixture directly on a tile is found");
+		assertEquals(new FixtureLocation(worker, new Point(2, 3), List.of(fortress, unit)), find(map, 4),
+				"Fixture inside a unit inside a fortress is found");
+		assertSame(fortress, find(map, 4).tileFixture(), "Outermost container is the fortress");
+		assertSame(unit, find(map, 4).parent(), "Immediate container is the unit");
+		assertEquals(Point.INVALID_POINT, find(map, 5).location(), "Fixture outside the map is found");
+		assertNull(map.findFixture(6), "Nonexistent ID is not found");
+	}
+
+	/**
+	 * Test that the index follows fixtures being added, removed, replaced, and moved.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@ParameterizedTest
+	@MethodSource("factories")
+	public void testIndexFollowsChanges(final LegacyMapFactory factory) {
+		final IMutableLegacyMap map = factory.create(DIMENSIONS, new LegacyPlayerCollection(), 0);
+		final Player player = new PlayerImpl(1, "one");
+		final FortressImpl fortress = new FortressImpl(player, "HQ", 1);
+		final Unit unit = new Unit(player, "explorers", "unit", 2);
+		map.addFixture(new Point(1, 1), fortress);
+		map.addFixture(new Point(1, 2), unit);
+		assertEquals(new Point(1, 2), find(map, 2).location(), "Unit is found where it was added");
+
+		final Forest forest = new Forest("elm", false, 3);
+		map.addFixture(new Point(0, 1), forest);
+		assertSame(forest, find(map, 3).fixture(), "Fixture added after the index was built is found");
+		map.replace(new Point(0, 1), forest, new Forest("oak", false, 4));
+		assertNull(map.findFixture(3), "Replaced fixture is no longer found");
+		assertEquals(new Point(0, 1), find(map, 4).location(), "Replacement is found");
+
+		map.removeFixture(new Point(1, 2), unit);
+		fortress.addMember(unit);
+		map.setStatus(ILegacyMap.ModificationStatus.Modified);
+		assertEquals(List.of(fortress), find(map, 2).parents(), "Unit moved into a fortress is found there");
+
+		final Worker worker = new Worker("worker", "human", 5);
+		unit.addMember(worker);
+		map.markChanged(unit);
+		assertEquals(List.of(fortress, unit), find(map, 5).parents(),
+				"Member added and reported through markChanged is found");
+
+		unit.removeMember(worker);
+		assertNull(map.findFixture(5), "Member removed without telling the map is not found");
+
+		fortress.removeMember(unit);
+		map.addFixture(new Point(2, 2), unit);
+		assertEquals(new FixtureLocation(unit, new Point(2, 2), List.of()), find(map, 2),
+				"Unit moved out of the fortress is found in its new place");
+	}
+
+	/**
+	 * Test that every copy of a mobile fixture is found, on tiles and in
+	 * fortresses, as fixtures are moved.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@ParameterizedTest
+	@MethodSource("factories")
+	public void testLocateMobile(final LegacyMapFactory factory) {
+		final IMutableLegacyMap map = factory.create(DIMENSIONS, new LegacyPlayerCollection(), 0);
+		final Player player = new PlayerImpl(1, "one");
+		final FortressImpl fortress = new FortressImpl(player, "HQ", 1);
+		final Unit unit = new Unit(player, "explorers", "unit", 2);
+		final Unit copy = new Unit(player, "explorers", "unit", 2);
+		map.addFixture(new Point(1, 1), fortress);
+		map.addFixture(new Point(1, 2), unit);
+		map.addFixture(new Point(0, 0), new Forest("elm", false, 3));
+		assertEquals(List.of(new FixtureLocation(unit, new Point(1, 2), List.of())), map.locateMobile(2),
+				"Unit is found where it was added");
+		assertEquals(List.of(), map.locateMobile(3), "Immobile fixtures are not tracked");
+
+		map.addFixture(new Point(2, 2), copy);
+		assertEquals(List.of(new Point(1, 2), new Point(2, 2)),
+				map.locateMobile(2).stream().map(FixtureLocation::location).toList(),
+				"Both copies of a unit are found");
+
+		map.removeFixture(new Point(1, 2), unit);
+		fortress.addMember(unit);
+		map.setStatus(ILegacyMap.ModificationStatus.Modified);
+		assertEquals(List.of(new FixtureLocation(copy, new Point(2, 2), List.of()),
+						new FixtureLocation(unit, new Point(1, 1), List.of(fortress))), map.locateMobile(2),
+				"Unit moved into a fortress is found there");
+
+		fortress.removeMember(unit);
+		map.markChanged(fortress);
+		map.removeFixture(new Point(2, 2), copy);
+		assertEquals(List.of(), map.locateMobile(2), "Removed units are not found");
+	}
+
+	/**
+	 * Test that units moved, replaced, or removed at points outside the
+	 * dimensions of the map are no longer reported where they were.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@ParameterizedTest
+	@MethodSource("factories")
+	public void testLocateMobileOutOfBounds(final LegacyMapFactory factory) {
+		final IMutableLegacyMap map = factory.create(DIMENSIONS, new LegacyPlayerCollection(), 0);
+		final Player player = new PlayerImpl(1, "one");
+		final Point outside = new Point(5, 7);
+		final Unit unit = new Unit(player, "explorers", "unit", 2);
+		final Unit replacement = new Unit(player, "explorers", "replacement", 2);
+		map.addFixture(outside, unit);
+		assertEquals(List.of(new FixtureLocation(unit, outside, List.of())), map.locateMobile(2),
+				"Unit is found outside the map");
+
+		map.replace(outside, unit, replacement);
+		assertEquals(List.of(new FixtureLocation(replacement, outside, List.of())), map.locateMobile(2),
+				"Only the replacement is found after a replacement");
+
+		map.removeFixture(outside, replacement);
+		map.addFixture(new Point(1, 1), replacement);
+		assertEquals(List.of(new FixtureLocation(replacement, new Point(1, 1), List.of())), map.locateMobile(2),
+				"Unit moved into the map is found only where it now is");
+
+		map.addFixture(outside, unit);
+		map.removeFixture(outside, new Unit(player, "explorers", "unit", 2));
+		assertEquals(List.of(new FixtureLocation(replacement, new Point(1, 1), List.of())), map.locateMobile(2),
+				"Unit removed by an equal copy is no longer found");
+	}
+}
@@ -0,0 +1,148 @@
+package legacy.map;
+
+import legacy.map.fixtures.mobile.Ogre;
+import legacy.map.fixtures.terrain.Forest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link LocationSpliterator}, and of the locations {@link LegacyMap} builds on it.
+ */
+public final class TestLocationSpliterator {
+	/**
+	 * Every valid location in a map of the given dimensions, in row-major order.
+	 */
+	private static List<Point> expectedLocations(final MapDimensions dimensions) {
+		final List<Point> retval = new ArrayList<>();
+		for (int row = 0; row < dimensions.rows(); row++) {
+			for (int column = 0; column < dimensions.columns(); column++) {
+				retval.add(new Point(row, column));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Split the given spliterator recursively, down to the given depth,
+	 * checking the size estimates as we go, and collect what every piece
+	 * visits, in encounter order, into the given list.
+	 */
+	private static void splitAndCollect(final Spliterator<Point> spliterator, final int depth,
+	                                    final List<Point> into) {
+		final long size = spliterator.estimateSize();
+		assertEquals(size, spliterator.getExactSizeIfKnown(), "Size is exact");
+		final Spliterator<Point> prefix = depth > 0 ? spliterator.trySplit() : null;
+		if (Objects.isNull(prefix)) {
+			final List<Point> visited = new ArrayList<>();
+			if (size > 0) {
+				assertTrue(spliterator.tryAdvance(visited::add), "Can advance while estimate is nonzero");
+				assertEquals(size - 1, spliterator.estimateSize(), "Advancing reduces the estimate by one");
+			}
+			spliterator.forEachRemaining(visited::add);
+			assertEquals(size, visited.size(), "Piece visits as many locations as it estimated");
+			assertEquals(0, spliterator.estimateSize(), "Nothing left once traversed");
+			assertFalse(spliterator.tryAdvance(visited::add), "Cannot advance once traversed");
+			into.addAll(visited);
+		} else {
+			assertTrue(prefix.hasCharacteristics(Spliterator.SIZED), "Split-off piece is SIZED");
+			assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED), "Split-off piece is SUBSIZED");
+			assertEquals(size, prefix.estimateSize() + spliterator.estimateSize(),
+					"Pieces' estimates add up to the whole");
+			assertTrue(Math.abs(prefix.estimateSize() - spliterator.estimateSize()) <= 1, "Splits are even");
+			splitAndCollect(prefix, depth - 1, into);
+			splitAndCollect(spliterator, depth - 1, into);
+		}
+	}
+
+	/**
+	 * Test that however far a spliterator is split, the pieces between
+	 * them visit every location exactly once, in row-major order, and
+	 * that their size estimates are exact.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testSplitCoverage() {
+		for (final MapDimensions dimensions : List.of(new MapDimensionsImpl(0, 0, 2),
+				new MapDimensionsImpl(1, 1, 2), new MapDimensionsImpl(3, 7, 2), new MapDimensionsImpl(7, 3, 2),
+				new MapDimensionsImpl(16, 16, 2), new MapDimensionsImpl(13, 29, 2))) {
+			final List<Point> expected = expectedLocations(dimensions);
+			for (int depth = 0; depth < 12; depth++) {
+				final Spliterator<Point> spliterator = new LocationSpliterator(dimensions);
+				assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED),
+						"Spliterator is SIZED and SUBSIZED");
+				assertEquals(expected.size(), spliterator.estimateSize(), "Estimate is the number of locations");
+				final List<Point> actual = new ArrayList<>();
+				splitAndCollect(spliterator, depth, actual);
+				assertEquals(expected, actual,
+						"Split %d deep, %s visits every location once, in order".formatted(depth, dimensions));
+			}
+		}
+	}
+
+	/**
+	 * Test that a spliterator over a single location cannot be split, and
+	 * that splitting the last piece of a larger one eventually stops.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testSplitStops() {
+		assertNull(new LocationSpliterator(new MapDimensionsImpl(1, 1, 2)).trySplit(),
+				"Single location cannot be split");
+		assertNull(new LocationSpliterator(new MapDimensionsImpl(0, 5, 2)).trySplit(),
+				"Empty spliterator cannot be split");
+		final Spliterator<Point> spliterator = new LocationSpliterator(new MapDimensionsImpl(4, 4, 2));
+		int splits = 0;
+		while (Objects.nonNull(spliterator.trySplit())) {
+			splits++;
+		}
+		assertEquals(4, splits, "Sixteen locations split in half four times");
+		assertEquals(1, spliterator.estimateSize(), "One location is left");
+	}
+
+	/**
+	 * Test that a map's locations include, after all the valid locations,
+	 * each point outside its dimensions that has fixtures, exactly once,
+	 * whether iterated or streamed (in parallel or not), and that such a
+	 * point is dropped once its fixtures are removed.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testOutOfBoundsLocations() {
+		final MapDimensions dimensions = new MapDimensionsImpl(3, 4, 2);
+		final IMutableLegacyMap map = new LegacyMap(dimensions, new LegacyPlayerCollection(), 0);
+		final Point outside = new Point(10, 10);
+		final Ogre ogre = new Ogre(1);
+		map.addFixture(Point.INVALID_POINT, ogre);
+		map.addFixture(outside, new Forest("elm", false, 2));
+		map.addFixture(outside, new Forest("oak", false, 3));
+		map.addFixture(new Point(1, 1), new Forest("ash", false, 4));
+
+		final List<Point> expected = new ArrayList<>(expectedLocations(dimensions));
+		expected.add(Point.INVALID_POINT);
+		expected.add(outside);
+		assertEquals(expected, StreamSupport.stream(map.getLocations().spliterator(), false).toList(),
+				"Iteration visits valid locations, then each point outside the map with fixtures");
+		assertEquals(expected, map.streamLocations().toList(), "Stream visits the same locations");
+		assertEquals(expected, map.streamLocations().parallel().toList(),
+				"Parallel stream visits the same locations, in the same order");
+		assertEquals(new HashSet<>(expected), map.streamLocations().parallel().collect(Collectors.toSet()),
+				"Parallel stream visits each location once");
+
+		map.removeFixture(Point.INVALID_POINT, ogre);
+		expected.remove(Point.INVALID_POINT);
+		assertEquals(expected, map.streamLocations().toList(),
+				"Point outside the map is dropped once it has no fixtures");
+	}
+}
@@ -0,0 +1,96 @@
+package legacy.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link Point}'s hash code and of {@link PointPool}.
+ */
+public final class TestPoint {
+	/**
+	 * The bucket a hash table of the given size (a power of two) would put
+	 * the given point in, spreading the hash code as {@link java.util.HashMap} does.
+	 */
+	private static int bucket(final Point point, final int tableSize) {
+		final int hash = point.hashCode();
+		return (hash ^ (hash >>> 16)) & (tableSize - 1);
+	}
+
+	/**
+	 * Test that distinct points in a map of any plausible size have distinct
+	 * hash codes, and that a block of nearby points is spread across a hash
+	 * table's buckets instead of piling into a few of them.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testHashCodeSpread() {
+		final Set<Integer> hashes = new HashSet<>();
+		for (int row = 0; row < 256; row++) {
+			for (int column = 0; column < 256; column++) {
+				hashes.add(new Point(row, column).hashCode());
+			}
+		}
+		assertEquals(256 * 256, hashes.size(), "Distinct points have distinct hash codes");
+
+		final Set<Integer> buckets = new HashSet<>();
+		for (int row = 100; row < 116; row++) {
+			for (int column = 200; column < 216; column++) {
+				buckets.add(bucket(new Point(row, column), 256));
+			}
+		}
+		assertTrue(buckets.size() >= 128,
+				"A 16x16 block of points uses at least half of a 256-bucket table, not %d buckets"
+						.formatted(buckets.size()));
+		assertEquals(new Point(3, 4).hashCode(), new Point(3, 4).hashCode(), "Equal points have equal hash codes");
+	}
+
+	/**
+	 * Test that the pool hands out the same instance every time for the same
+	 * location in the map, and that maps of the same size share a pool.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testPooledPointsIdentical() {
+		final PointPool pool = PointPool.forDimensions(new MapDimensionsImpl(10, 20, 2));
+		for (int row = 0; row < 10; row++) {
+			for (int column = 0; column < 20; column++) {
+				final Point point = pool.get(row, column);
+				assertEquals(new Point(row, column), point, "Pooled point has the coordinates asked for");
+				assertSame(point, pool.get(row, column), "Pool gives the same instance every time");
+			}
+		}
+		assertSame(pool, PointPool.forDimensions(new MapDimensionsImpl(10, 20, 1)),
+				"Maps of the same size share a pool");
+		assertSame(pool.get(9, 19), PointPool.forDimensions(new MapDimensionsImpl(10, 20, 2)).get(9, 19),
+				"Pooled points are shared between maps of the same size");
+		final PointPool other = PointPool.forDimensions(new MapDimensionsImpl(20, 10, 2));
+		assertNotSame(pool, other, "Maps of different sizes have different pools");
+		assertEquals(pool.get(5, 5), other.get(5, 5), "Points from different pools are still equal");
+	}
+
+	/**
+	 * Test that points outside the pool's map are still handed out, as new
+	 * instances, and are equal to any other point with the same coordinates.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testPointsOutsidePool() {
+		final PointPool pool = PointPool.forDimensions(new MapDimensionsImpl(5, 5, 2));
+		for (final Point expected : new Point[]{Point.INVALID_POINT, new Point(-1, 3), new Point(3, -1),
+				new Point(5, 0), new Point(0, 5), new Point(5, 5), new Point(1000, 1000)}) {
+			final Point first = pool.get(expected.row(), expected.column());
+			final Point second = pool.get(expected.row(), expected.column());
+			assertEquals(expected, first, "Point outside the map has the coordinates asked for");
+			assertEquals(expected.hashCode(), first.hashCode(), "Point outside the map hashes as usual");
+			assertNotSame(first, second, "Points outside the map are not pooled");
+		}
+		assertSame(pool.get(4, 4), pool.get(4, 4), "The last location in the map is pooled");
+	}
+}
@@ -0,0 +1,90 @@
+package legacy.map;
+
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.terrain.Forest;
+import org.javatuples.Pair;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link ILegacyMap#fixturesWithin} and {@link ILegacyMap#nearestFixtures}.
+ */
+public final class TestSpatialIndex {
+	private static final MapDimensions DIMENSIONS = new MapDimensionsImpl(20, 30, 2);
+
+	private static Stream<LegacyMapFactory> factories() {
+		return Stream.of(LegacyMap::new, DenseLegacyMap::new);
+	}
+
+	private static List<Point> locations(final List<? extends Pair<Point, ?>> found) {
+		return found.stream().map(Pair::getValue0).toList();
+	}
+
+	@SuppressWarnings("MagicNumber")
+	private static IMutableLegacyMap populate(final LegacyMapFactory factory) {
+		final IMutableLegacyMap map = factory.create(DIMENSIONS, new LegacyPlayerCollection(), 0);
+		map.addFixture(new Point(0, 0), new Forest("elm", false, 1));
+		map.addFixture(new Point(19, 29), new Forest("oak", false, 2));
+		map.addFixture(new Point(10, 15), new Forest("pine", false, 3));
+		map.addFixture(new Point(3, 4), new Forest("ash", false, 4));
+		map.addFixture(new Point(1, 1), new AnimalImpl("skunk", false, "wild", 5));
+		return map;
+	}
+
+	/**
+	 * Test that queries find fixtures of only the requested type, measuring
+	 * distance around the edges of the map.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@ParameterizedTest
+	@MethodSource("factories")
+	public void testQueries(final LegacyMapFactory factory) {
+		final ILegacyMap map = populate(factory);
+		assertEquals(List.of(new Point(0, 0), new Point(19, 29)),
+				locations(map.fixturesWithin(Forest.class, new Point(0, 0), 2)),
+				"Search wraps around the edges of the map, nearest first");
+		assertEquals(List.of(new Point(0, 0), new Point(19, 29), new Point(3, 4)),
+				locations(map.fixturesWithin(Forest.class, new Point(0, 0), 5)),
+				"Fixtures exactly at the radius are included");
+		assertEquals(List.of(new Point(1, 1)), locations(map.fixturesWithin(AnimalImpl.class, new Point(0, 0), 5)),
+				"Only fixtures of the requested type are found");
+		assertEquals(List.of(new Point(10, 15)), locations(map.nearestFixtures(Forest.class, new Point(10, 14), 1)),
+				"Nearest fixture is found");
+		assertEquals(List.of(new Point(19, 29), new Point(0, 0)),
+				locations(map.nearestFixtures(Forest.class, new Point(18, 28), 2)),
+				"Nearest fixtures are found across the edge of the map");
+		assertEquals(4, map.nearestFixtures(Forest.class, new Point(5, 5), 10).size(),
+				"Asking for more fixtures than there are returns all of them");
+		assertTrue(map.fixturesWithin(Forest.class, Point.INVALID_POINT, 5).isEmpty(),
+				"Nothing is near a point outside the map");
+	}
+
+	/**
+	 * Test that the index follows fixtures being added, removed, and replaced.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@ParameterizedTest
+	@MethodSource("factories")
+	public void testIndexFollowsChanges(final LegacyMapFactory factory) {
+		final IMutableLegacyMap map = populate(factory);
+		assertEquals(1, map.fixturesWithin(Forest.class, new Point(0, 0), 1).size(), "Index built");
+		final Forest added = new Forest("birch", false, 6);
+		map.addFixture(new Point(0, 1), added);
+		assertEquals(List.of(new Point(0, 0), new Point(0, 1)),
+				locations(map.fixturesWithin(Forest.class, new Point(0, 0), 1)),
+				"Fixture added after the index was built is found");
+		map.removeFixture(new Point(0, 0), new Forest("elm", false, 1));
+		assertEquals(List.of(new Point(0, 1)), locations(map.fixturesWithin(Forest.class, new Point(0, 0), 1)),
+				"Removed fixture is no longer found");
+		final Forest replacement = new Forest("maple", false, 7);
+		map.replace(new Point(0, 1), added, replacement);
+		assertEquals(List.of(Pair.with(new Point(0, 1), replacement)),
+				map.fixturesWithin(Forest.class, new Point(0, 0), 1), "Replacement is found");
+	}
+}
@@ -39,6 +39,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.StringReader;
 import java.util.NoSuchElementException;
@@ -129,6 +130,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.regex.Pattern;
@@ -178,9 +180,10 @@ public final class TestXMLIO {
 	 * have to maintain separate names for the same objects.
 	 */
 	private final List<ISPReader> spReaders = List.of(TestReaderFactory.getOldSPReader(),
-			TestReaderFactory.getNewSPReader());
+			TestReaderFactory.getFluidSPReader(), TestReaderFactory.getNewSPReader());
 	private static final List<IMapReader> MAP_READERS = List.of(TestReaderFactory.getOldMapReader(),
-			TestReaderFactory.getNewMapReader());
+			TestReaderFactory.getFluidMapReader(), TestReaderFactory.getNewMapReader(),
+			TestReaderFactory.getDenseMapReader());
 
 	/**
 	 * Assert that the given XML will produce the given kind of warning and
@@ -2406,4 +2409,33 @@ public final class TestXMLIO {
 		// TODO: Verify that they actually set the mountain in the map,
 		// and it is not set by default
 	}
+
+	/**
+	 * Test that writing a map to a file, plain or compressed, produces the
+	 * same XML as writing it to a stream, and that it reads back correctly.
+	 */
+	@Test
+	public void testFileSerialization(@TempDir final Path tempDir)
+			throws SPFormatException, XMLStreamException, IOException {
+		final IMutableLegacyMap map = createSimpleMap(new Point(2, 2), Pair.with(new Point(0, 0), TileType.Steppe),
+				Pair.with(new Point(1, 1), TileType.Jungle));
+		final Player player = new PlayerImpl(1, "Player & \"friends\"");
+		map.addPlayer(player);
+		map.setCurrentPlayer(player);
+		final Unit unit = new Unit(player, "explorer", "<Scouts> 'A'", 1);
+		unit.setOrders(-1, "Go east & report back; don't <stop>.");
+		map.addFixture(new Point(0, 0), unit);
+		map.addFixture(new Point(1, 1), new Forest("elm", false, 2));
+		map.addFixture(new Point(1, 1), new TextFixture("Some \"text\" here", 5));
+		final Path plain = tempDir.resolve("map.xml");
+		final Path compressed = tempDir.resolve("map.xml.gz");
+		MapIOHelper.writeMap(plain, map);
+		MapIOHelper.writeMap(compressed, map);
+		assertEquals(createSerializedForm(map, MapIOHelper.WRITER), Files.readString(plain),
+				"Writing to a file produces the same XML as writing to a stream");
+		assertTrue(Files.size(compressed) < Files.size(plain), "Compressed file is smaller");
+		assertEquals(map, MapIOHelper.readMap(plain, Warning.DIE), "Plain XML file reads back correctly");
+		assertEquals(map, MapIOHelper.readMap(compressed, Warning.DIE),
+				"Compressed XML file reads back correctly");
+	}
 }
@@ -0,0 +1,96 @@
+package report;
+
+import lovelace.util.DelayedRemovalMap;
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A view of a {@link DelayedRemovalMap} with {@link Integer} keys that
+ * records removals instead of passing them on, so that several tabular
+ * report generators can work from the same collection at once without
+ * changing it. Keys removed through the view no longer appear to be in it;
+ * {@link #coalesce} does nothing, and {@link #applyTo} hands the recorded
+ * removals on to the underlying collection once every view of it is
+ * finished with.
+ *
+ * The underlying collection must not be changed while the view is in use.
+ */
+/* package */ final class DeferredRemovalView<Item> extends AbstractMap<Integer, Item>
+		implements DelayedRemovalMap<Integer, Item> {
+	private final DelayedRemovalMap<Integer, Item> backing;
+	private final Set<Integer> removed = new HashSet<>();
+
+	public DeferredRemovalView(final DelayedRemovalMap<Integer, Item> backing) {
+		this.backing = backing;
+	}
+
+	/**
+	 * Does nothing; the removals are applied to the underlying collection by {@link #applyTo}.
+	 */
+	@Override
+	public void coalesce() {
+	}
+
+	/**
+	 * Schedule removal, from the given collection (the one this is a view
+	 * of), of everything removed through this view.
+	 */
+	public void applyTo(final DelayedRemovalMap<Integer, Item> map) {
+		removed.forEach(map::remove);
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		//noinspection SuspiciousMethodCalls This "suspicious" idiom is the point of this class
+		return !removed.contains(key) && backing.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Item get(final Object key) {
+		//noinspection SuspiciousMethodCalls This "suspicious" idiom is the point of this class
+		if (removed.contains(key)) {
+			return null;
+		} else {
+			return backing.get(key);
+		}
+	}
+
+	/**
+	 * Not supported; tabular report generators only ever remove.
+	 */
+	@Override
+	public Item put(final Integer key, final Item item) {
+		throw new UnsupportedOperationException("Deferred-removal view is read-only except for removal");
+	}
+
+	/**
+	 * Record the given key as removed. If it was already removed, or was
+	 * not in the collection, return null; otherwise, return the value that
+	 * had been associated with it.
+	 */
+	@Override
+	public @Nullable Item remove(final Object key) {
+		if (key instanceof final Integer k && containsKey(k)) {
+			removed.add(k);
+			return backing.get(k);
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<Integer, Item>> entrySet() {
+		return backing.entrySet().stream().filter(entry -> !removed.contains(entry.getKey()))
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+	@Override
+	public String toString() {
+		return "Deferred-removal view of " + backing;
+	}
+}
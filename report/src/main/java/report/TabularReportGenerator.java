@@ -53,6 +53,13 @@ import java.io.IOException;
 import java.text.NumberFormat;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * A collection of methods to produce tabular reports for players.
@@ -90,8 +97,9 @@ public final class TabularReportGenerator {
 				ReportGeneratorHelper.getFixtures(map);
 		final Map<Integer, Integer> parentMap = ReportGeneratorHelper.getParentMap(map);
 		final List<ITableGenerator<?>> generators = getTableGenerators(map, hq);
-		for (final ITableGenerator<?> generator : generators) {
-			generator.produceTable(source.apply(generator.getTableName()), fixtures, parentMap);
+		final List<String> tables = produceTables(generators, fixtures, parentMap);
+		for (int i = 0; i < generators.size(); i++) {
+			source.apply(generators.get(i).getTableName()).accept(tables.get(i));
 		}
 		for (final Pair<Point, IFixture> pair : fixtures.values()) {
 			final IFixture fixture = pair.getValue1();
@@ -105,7 +113,117 @@ public final class TabularReportGenerator {
 		}
 	}
 
-	private static List<ITableGenerator<?>> getTableGenerators(final ILegacyMap map,
+	/**
+	 * Produce the tables from the given generators, returning them in the
+	 * same order, with the same contents and the same fixtures removed from
+	 * the collection as if the generators had been run one after another.
+	 *
+	 * Every fixture is first classified, in a single pass, by which
+	 * generators can handle it. Two generators conflict if either can
+	 * handle a fixture that the other can handle, or that is inside one the
+	 * other can handle, since then a removal by the one could change what
+	 * the other sees; each generator is put in the stage after the latest
+	 * stage of any earlier generator it conflicts with. The generators in a
+	 * stage then run concurrently, each writing its table into its own
+	 * buffer and removing fixtures through its own view of the collection,
+	 * and their removals are applied once the whole stage has finished.
+	 */
+	/* package */ static List<String> produceTables(final List<ITableGenerator<?>> generators,
+	                                          final DelayedRemovalMap<Integer, Pair<Point, IFixture>> fixtures,
+	                                          final Map<Integer, Integer> parentMap) throws IOException {
+		final int count = generators.size();
+		final List<List<Map.Entry<Integer, Pair<Point, IFixture>>>> buckets = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			buckets.add(new ArrayList<>());
+		}
+		final Map<Integer, BitSet> handlers = new HashMap<>();
+		for (final Map.Entry<Integer, Pair<Point, IFixture>> entry : fixtures.entrySet()) {
+			final IFixture fixture = entry.getValue().getValue1();
+			for (int i = 0; i < count; i++) {
+				if (generators.get(i).canHandle(fixture)) {
+					buckets.get(i).add(entry);
+					handlers.computeIfAbsent(entry.getKey(), k -> new BitSet(count)).set(i);
+				}
+			}
+		}
+		final List<BitSet> conflicts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			conflicts.add(new BitSet(count));
+		}
+		for (int i = 0; i < count; i++) {
+			for (final Map.Entry<Integer, Pair<Point, IFixture>> entry : buckets.get(i)) {
+				for (@Nullable Integer key = entry.getKey(); Objects.nonNull(key); key = parentMap.get(key)) {
+					final BitSet others = handlers.get(key);
+					if (Objects.nonNull(others)) {
+						for (int j = others.nextSetBit(0); j >= 0; j = others.nextSetBit(j + 1)) {
+							if (j != i) {
+								conflicts.get(i).set(j);
+								conflicts.get(j).set(i);
+							}
+						}
+					}
+				}
+			}
+		}
+		final List<List<Integer>> stages = new ArrayList<>();
+		final int[] stageOf = new int[count];
+		for (int i = 0; i < count; i++) {
+			final BitSet earlier = conflicts.get(i).get(0, i);
+			int stage = 0;
+			for (int j = earlier.nextSetBit(0); j >= 0; j = earlier.nextSetBit(j + 1)) {
+				stage = Math.max(stage, stageOf[j] + 1);
+			}
+			stageOf[i] = stage;
+			if (stage == stages.size()) {
+				stages.add(new ArrayList<>());
+			}
+			stages.get(stage).add(i);
+		}
+		LovelaceLogger.debug("Producing %d tables in %d stages", count, stages.size());
+		final String[] retval = new String[count];
+		final int threads = Math.max(1, Math.min(count, Runtime.getRuntime().availableProcessors()));
+		try (final ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (final List<Integer> stage : stages) {
+				final List<DeferredRemovalView<Pair<Point, IFixture>>> views = new ArrayList<>(stage.size());
+				final List<Future<String>> futures = new ArrayList<>(stage.size());
+				for (final int index : stage) {
+					final ITableGenerator<?> generator = generators.get(index);
+					final List<Map.Entry<Integer, Pair<Point, IFixture>>> bucket = buckets.get(index);
+					final DeferredRemovalView<Pair<Point, IFixture>> view = new DeferredRemovalView<>(fixtures);
+					views.add(view);
+					futures.add(executor.submit(() -> {
+						final StringBuilder buffer = new StringBuilder();
+						generator.produceTable(buffer::append, view, bucket, parentMap);
+						return buffer.toString();
+					}));
+				}
+				for (int i = 0; i < stage.size(); i++) {
+					try {
+						retval[stage.get(i)] = futures.get(i).get();
+					} catch (final InterruptedException except) {
+						executor.shutdownNow();
+						Thread.currentThread().interrupt();
+						throw new IOException("Interrupted while producing tables", except);
+					} catch (final ExecutionException except) {
+						executor.shutdownNow();
+						switch (except.getCause()) {
+							case final IOException cause -> throw cause;
+							case final RuntimeException cause -> throw cause;
+							case final Error cause -> throw cause;
+							case null, default -> throw new IOException(except.getCause());
+						}
+					}
+				}
+				for (final DeferredRemovalView<Pair<Point, IFixture>> view : views) {
+					view.applyTo(fixtures);
+				}
+				fixtures.coalesce();
+			}
+		}
+		return Arrays.asList(retval);
+	}
+
+	/* package */ static List<ITableGenerator<?>> getTableGenerators(final ILegacyMap map,
 	                                                           final @Nullable Point hq) {
 		final Player player = map.getCurrentPlayer();
 		final MapDimensions dimensions = map.getDimensions();
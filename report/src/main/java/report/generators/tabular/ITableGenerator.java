@@ -1,6 +1,7 @@
 package report.generators.tabular;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 import lovelace.util.LovelaceLogger;
@@ -51,11 +52,27 @@ public interface ITableGenerator<T extends IFixture> {
 	default void produceTable(final ThrowingConsumer<String, IOException> ostream, final DelayedRemovalMap<Integer,
 			Pair<Point, IFixture>> fixtures, final Map<Integer, Integer> parentMap)
 			throws IOException {
-		final Iterable<Triplet<Integer, Point, T>> values = fixtures.entrySet().stream()
-				.filter(e -> canHandle(e.getValue().getValue1()))
+		produceTable(ostream, fixtures, fixtures.entrySet(), parentMap);
+	}
+
+	/**
+	 * Produce a tabular report on a particular category of fixtures in the
+	 * map, considering only the given candidate entries (which must
+	 * include every entry in the collection that this generator can
+	 * handle, but may include entries that have since been removed from
+	 * it), and remove all fixtures covered in the table from the
+	 * collection. Fixtures that compare equal are listed in order of their
+	 * keys.
+	 */
+	default void produceTable(final ThrowingConsumer<String, IOException> ostream, final DelayedRemovalMap<Integer,
+			Pair<Point, IFixture>> fixtures, final Collection<Map.Entry<Integer, Pair<Point, IFixture>>> candidates,
+			final Map<Integer, Integer> parentMap) throws IOException {
+		final Iterable<Triplet<Integer, Point, T>> values = candidates.stream()
+				.filter(e -> canHandle(e.getValue().getValue1()) && fixtures.containsKey(e.getKey()))
 				.map(e -> Triplet.with(e.getKey(), e.getValue().getValue0(),
 						getTableClass().cast(e.getValue().getValue1())))
-				.sorted(Comparator.comparing(Triplet::removeFrom0, comparePairs()))
+				.sorted(Comparator.comparing(Triplet<Integer, Point, T>::removeFrom0, comparePairs())
+						.thenComparing(Triplet::getValue0))
 				.collect(Collectors.toList());
 		writeRow(ostream, getHeaderRow().toArray(String[]::new));
 		for (final Triplet<Integer, Point, T> triplet : values) {
@@ -100,7 +117,10 @@ public interface ITableGenerator<T extends IFixture> {
 	 * Produce lines (usually only one line) of the tabular report. Returns
 	 * an empty iterable if not handled by this generator. Because not all
 	 * lines should remove items from the collection, implementations must
-	 * do that removal themselves.
+	 * do that removal themselves. They may remove the item and the fixtures
+	 * it contains, but nothing else; {@link
+	 * report.TabularReportGenerator#createTabularReports} relies on this to
+	 * produce tables concurrently.
 	 *
 	 * @param fixtures  The set of fixtures.
 	 * @param item      The item to base this line or these lines on.
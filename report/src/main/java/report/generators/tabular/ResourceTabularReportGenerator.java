@@ -23,6 +23,7 @@ import legacy.map.fixtures.IResourcePile;
 import legacy.map.fixtures.resources.CacheFixture;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -161,14 +162,14 @@ public final class ResourceTabularReportGenerator
 	@Override
 	public void produceTable(final ThrowingConsumer<String, IOException> ostream,
 	                         final DelayedRemovalMap<Integer, Pair<Point, IFixture>> fixtures,
+	                         final Collection<Map.Entry<Integer, Pair<Point, IFixture>>> candidates,
 	                         final Map<Integer, Integer> parentMap) throws IOException {
-		final Iterable<Triplet<Integer, Point, IFixture>> values = fixtures.entrySet().stream()
-				.filter(e -> e.getValue().getValue1() instanceof CacheFixture ||
-						e.getValue().getValue1() instanceof Implement ||
-						e.getValue().getValue1() instanceof IResourcePile)
+		final Iterable<Triplet<Integer, Point, IFixture>> values = candidates.stream()
+				.filter(e -> canHandle(e.getValue().getValue1()) && fixtures.containsKey(e.getKey()))
 				.map(e -> Triplet.with(e.getKey(), e.getValue().getValue0(),
 						e.getValue().getValue1()))
-				.sorted(Comparator.comparing(Triplet::removeFrom0, comparePairs()))
+				.sorted(Comparator.comparing(Triplet<Integer, Point, IFixture>::removeFrom0, comparePairs())
+						.thenComparing(Triplet::getValue0))
 				.collect(Collectors.toList());
 		writeRow(ostream, getHeaderRow().toArray(String[]::new));
 		final Map<Pair<Point, String>, Integer> implementCounts = new HashMap<>();
@@ -0,0 +1,156 @@
+package report;
+
+import common.map.fixtures.resources.FieldStatus;
+import common.map.fixtures.towns.TownSize;
+import common.map.fixtures.towns.TownStatus;
+import legacy.map.IFixture;
+import legacy.map.IMutableLegacyMap;
+import legacy.map.LegacyMap;
+import legacy.map.LegacyPlayerCollection;
+import legacy.map.MapDimensionsImpl;
+import legacy.map.Player;
+import legacy.map.PlayerImpl;
+import legacy.map.Point;
+import legacy.map.fixtures.Ground;
+import legacy.map.fixtures.TextFixture;
+import legacy.map.fixtures.explorable.Battlefield;
+import legacy.map.fixtures.explorable.Cave;
+import legacy.map.fixtures.mobile.AnimalImpl;
+import legacy.map.fixtures.mobile.Centaur;
+import legacy.map.fixtures.mobile.Dragon;
+import legacy.map.fixtures.mobile.Unit;
+import legacy.map.fixtures.mobile.Worker;
+import legacy.map.fixtures.mobile.worker.Job;
+import legacy.map.fixtures.mobile.worker.Skill;
+import legacy.map.fixtures.resources.CacheFixture;
+import legacy.map.fixtures.resources.CultivationStatus;
+import legacy.map.fixtures.resources.ExposureStatus;
+import legacy.map.fixtures.resources.Grove;
+import legacy.map.fixtures.resources.Meadow;
+import legacy.map.fixtures.resources.MineralVein;
+import legacy.map.fixtures.resources.Shrub;
+import legacy.map.fixtures.resources.StoneDeposit;
+import legacy.map.fixtures.resources.StoneKind;
+import legacy.map.fixtures.terrain.Forest;
+import legacy.map.fixtures.terrain.Hill;
+import legacy.map.fixtures.terrain.Oasis;
+import legacy.map.fixtures.towns.FortressImpl;
+import legacy.map.fixtures.towns.Town;
+import legacy.map.fixtures.towns.Village;
+import lovelace.util.DelayedRemovalMap;
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Test;
+import report.generators.tabular.ITableGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests that {@link TabularReportGenerator}'s staged, concurrent production
+ * of tables gives the same results as running the generators one after another.
+ */
+public final class TestTabularReportGenerator {
+	/**
+	 * A map with fixtures of every kind the tables cover, some nested inside
+	 * others and handled by more than one generator, and some that sort
+	 * equally, as well as fixtures no table covers.
+	 */
+	@SuppressWarnings("MagicNumber")
+	private static IMutableLegacyMap createMap() {
+		final Player player = new PlayerImpl(1, "player");
+		final Player other = new PlayerImpl(2, "other");
+		final IMutableLegacyMap map = new LegacyMap(new MapDimensionsImpl(10, 10, 2), new LegacyPlayerCollection(), 5);
+		map.addPlayer(player);
+		map.addPlayer(other);
+		map.setCurrentPlayer(player);
+
+		final FortressImpl hq = new FortressImpl(player, "HQ", 1, TownSize.Small);
+		final Unit garrison = new Unit(player, "guards", "Garrison", 2);
+		garrison.addMember(new Worker("Alice", "human", 3, new Job("soldier", 2, new Skill("sword", 1, 5))));
+		garrison.addMember(new Worker("Bob", "dwarf", 4, new Job("soldier", 1), new Job("miner", 3,
+				new Skill("pick", 2, 0))));
+		garrison.addMember(new AnimalImpl("horse", false, "domesticated", 5, 1, 2));
+		hq.addMember(garrison);
+		hq.addMember(new Unit(player, "scouts", "Pathfinders", 6));
+		map.addFixture(new Point(5, 5), hq);
+
+		final Unit explorers = new Unit(player, "explorers", "Explorers", 7);
+		explorers.addMember(new Worker("Carol", "elf", 8, new Job("explorer", 4, new Skill("tracking", 3, 1))));
+		explorers.addMember(new AnimalImpl("dog", false, "domesticated", 9, 3));
+		map.addFixture(new Point(2, 3), explorers);
+		final FortressImpl theirs = new FortressImpl(other, "Outpost", 10, TownSize.Medium);
+		theirs.addMember(new Unit(other, "raiders", "Raiders", 11));
+		map.addFixture(new Point(8, 1), theirs);
+		map.addFixture(new Point(8, 1), new Unit(other, "raiders", "Stragglers", 12));
+
+		// Animals that sort equally, so only their keys order them.
+		map.addFixture(new Point(3, 3), new AnimalImpl("deer", false, "wild", 20, -1, 4));
+		map.addFixture(new Point(3, 3), new AnimalImpl("deer", false, "wild", 21, -1, 4));
+		map.addFixture(new Point(7, 7), new AnimalImpl("deer", false, "wild", 22, -1, 4));
+
+		map.addFixture(new Point(1, 1), new Village(TownStatus.Active, "Hamlet", 30, player, "human"));
+		map.addFixture(new Point(1, 2), new Village(TownStatus.Abandoned, "Ruin", 31, other, "elf"));
+		map.addFixture(new Point(6, 2), new Town(TownStatus.Active, TownSize.Small, 10, "Burg", 32, other));
+
+		map.addFixture(new Point(4, 4), new MineralVein("iron", ExposureStatus.EXPOSED, 10, 40));
+		map.addFixture(new Point(4, 4), new MineralVein("iron", ExposureStatus.EXPOSED, 10, 41));
+		map.addFixture(new Point(4, 4), new StoneDeposit(StoneKind.Marble, 12, 42));
+		map.addFixture(new Point(4, 4), new Ground(43, "granite", ExposureStatus.HIDDEN));
+		map.addFixture(new Point(4, 4), new Forest("oak", false, 44));
+		map.addFixture(new Point(4, 4), new Hill(45));
+
+		map.addFixture(new Point(0, 9), new Grove(Grove.GroveType.ORCHARD, CultivationStatus.CULTIVATED, "apple",
+				50));
+		map.addFixture(new Point(0, 9), new Meadow("wheat", Meadow.MeadowType.FIELD, CultivationStatus.CULTIVATED,
+				51, FieldStatus.Growing));
+		map.addFixture(new Point(0, 9), new Shrub("berry", 52, 10));
+		map.addFixture(new Point(0, 9), new Shrub("berry", 53, 10));
+		map.addFixture(new Point(0, 9), new CacheFixture("gold", "coins", 54));
+		map.addFixture(new Point(9, 0), new Oasis(55));
+
+		map.addFixture(new Point(9, 9), new Cave(10, 60));
+		map.addFixture(new Point(9, 9), new Battlefield(15, 61));
+		map.addFixture(new Point(9, 8), new Centaur("forest", 62));
+		map.addFixture(new Point(9, 8), new Dragon("red", 63));
+		map.addFixture(new Point(9, 8), new TextFixture("a note", 3));
+		return map;
+	}
+
+	/**
+	 * Test that the tables and the leftover fixtures are the same whichever
+	 * way the tables are produced.
+	 */
+	@SuppressWarnings("MagicNumber")
+	@Test
+	public void testConcurrentMatchesSequential() throws IOException {
+		final IMutableLegacyMap map = createMap();
+		final Point hq = new Point(5, 5);
+		final Map<Integer, Integer> parentMap = ReportGeneratorHelper.getParentMap(map);
+
+		final DelayedRemovalMap<Integer, Pair<Point, IFixture>> sequentialFixtures =
+				ReportGeneratorHelper.getFixtures(map);
+		final List<String> sequential = new ArrayList<>();
+		for (final ITableGenerator<?> generator : TabularReportGenerator.getTableGenerators(map, hq)) {
+			final StringBuilder buffer = new StringBuilder();
+			generator.produceTable(buffer::append, sequentialFixtures, parentMap);
+			sequential.add(buffer.toString());
+		}
+
+		final DelayedRemovalMap<Integer, Pair<Point, IFixture>> concurrentFixtures =
+				ReportGeneratorHelper.getFixtures(map);
+		final List<String> concurrent = TabularReportGenerator.produceTables(
+				TabularReportGenerator.getTableGenerators(map, hq), concurrentFixtures, parentMap);
+
+		assertEquals(sequential, concurrent, "Tables are the same");
+		final Set<Integer> leftover = new TreeSet<>(sequentialFixtures.keySet());
+		assertEquals(leftover, new TreeSet<>(concurrentFixtures.keySet()), "The same fixtures are left over");
+		assertFalse(leftover.isEmpty(), "Some fixtures are covered by no table");
+	}
+}